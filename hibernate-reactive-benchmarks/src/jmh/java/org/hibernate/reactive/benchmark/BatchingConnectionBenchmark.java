@@ -0,0 +1,64 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.reactive.pool.BatchingConnection;
+import org.hibernate.reactive.pool.ReactiveConnection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
+/**
+ * Measures the overhead of {@link BatchingConnection} when
+ * accumulating and executing a batch of updates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BatchingConnectionBenchmark {
+
+	private static final String SQL = "update books set title=$1 where id=$2";
+	private static final ReactiveConnection.Expectation EXPECTATION = (rowCount, batchPosition, sql) -> {};
+
+	@Param({ "100" })
+	int updates;
+
+	@Param({ "1", "20", "100" })
+	int batchSize;
+
+	private InMemoryConnectionPool pool;
+	private List<Object[]> parameters;
+
+	@Setup
+	public void setup() {
+		pool = new InMemoryConnectionPool();
+		parameters = new ArrayList<>( updates );
+		for ( long id = 0; id < updates; id++ ) {
+			parameters.add( new Object[] { "Book #" + id, id } );
+		}
+	}
+
+	@Benchmark
+	public Void executeBatch() {
+		final ReactiveConnection connection = new InMemoryConnection( pool ).withBatchSize( batchSize );
+		return loop( parameters, values -> connection.update( SQL, values, true, EXPECTATION ) )
+				.thenCompose( v -> connection.executeBatch() )
+				.toCompletableFuture()
+				.join();
+	}
+}
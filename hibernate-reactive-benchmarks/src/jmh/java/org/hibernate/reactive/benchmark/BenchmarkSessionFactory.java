@@ -0,0 +1,52 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.hibernate.reactive.provider.ReactiveServiceRegistryBuilder;
+import org.hibernate.reactive.provider.Settings;
+
+/**
+ * Builds a {@link Mutiny.SessionFactory}, or a {@link SessionFactory}
+ * to be unwrapped, for the PostgreSQL dialect, backed by an
+ * {@link InMemoryConnectionPool}.
+ */
+final class BenchmarkSessionFactory {
+
+	private BenchmarkSessionFactory() {
+	}
+
+	static Mutiny.SessionFactory create(InMemoryConnectionPool pool, int batchSize) {
+		return create( pool, batchSize, Map.of() );
+	}
+
+	static Mutiny.SessionFactory create(InMemoryConnectionPool pool, int batchSize, Map<String, String> settings) {
+		return build( pool, batchSize, settings ).unwrap( Mutiny.SessionFactory.class );
+	}
+
+	static SessionFactory build(InMemoryConnectionPool pool, int batchSize, Map<String, String> settings) {
+		Configuration configuration = new Configuration();
+		configuration.addAnnotatedClass( Book.class );
+		configuration.setProperty( Settings.DIALECT, PostgreSQLDialect.class.getName() );
+		// there's no database to ask for its version
+		configuration.setProperty( "hibernate.temp.use_jdbc_metadata_defaults", "false" );
+		configuration.setProperty( Settings.HBM2DDL_AUTO, "none" );
+		configuration.setProperty( Settings.STATEMENT_BATCH_SIZE, String.valueOf( batchSize ) );
+		configuration.getProperties().put( Settings.SQL_CLIENT_POOL, pool );
+		settings.forEach( configuration::setProperty );
+
+		StandardServiceRegistry registry = new ReactiveServiceRegistryBuilder()
+				.applySettings( configuration.getProperties() )
+				.build();
+		return configuration.buildSessionFactory( registry );
+	}
+}
@@ -0,0 +1,115 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.reactive.blocking.Blocking;
+import org.hibernate.reactive.mutiny.Mutiny;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares the throughput of {@code find()} of an entity by id, in a
+ * new session, through {@link Blocking.SessionFactory} with the same
+ * operation through {@link Mutiny.SessionFactory}, awaited directly.
+ * Both factories are unwrapped from the same session factory.
+ * <p>
+ * On Java 21 and above, {@link #blockingOnVirtualThreads()} also runs
+ * the blocking {@code find()} on many virtual threads at once, which
+ * are parked while they wait. Thread.ofVirtual() is called reflectively,
+ * since the benchmarks are compiled for Java 11.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class BlockingBenchmark {
+
+	private static final int VIRTUAL_THREADS = 64;
+
+	@Param({ "0", "1" })
+	long latencyMillis;
+
+	private SessionFactory sessionFactory;
+	private Mutiny.SessionFactory reactiveSessionFactory;
+	private Blocking.SessionFactory blockingSessionFactory;
+	// null before Java 21
+	private ThreadFactory virtualThreadFactory;
+
+	@Setup
+	public void setup() {
+		InMemoryConnectionPool pool = new InMemoryConnectionPool();
+		pool.setRows( Book.COLUMNS, Book.rows( 1 ) );
+		pool.setLatencyMillis( latencyMillis );
+		sessionFactory = BenchmarkSessionFactory.build( pool, 0, Map.of() );
+		reactiveSessionFactory = sessionFactory.unwrap( Mutiny.SessionFactory.class );
+		blockingSessionFactory = sessionFactory.unwrap( Blocking.SessionFactory.class );
+		virtualThreadFactory = virtualThreadFactory();
+	}
+
+	private static ThreadFactory virtualThreadFactory() {
+		if ( Runtime.version().feature() < 21 ) {
+			return null;
+		}
+		try {
+			final Object builder = Thread.class.getMethod( "ofVirtual" ).invoke( null );
+			return (ThreadFactory) Class.forName( "java.lang.Thread$Builder" ).getMethod( "factory" ).invoke( builder );
+		}
+		catch (ReflectiveOperationException e) {
+			throw new IllegalStateException( "Could not create a virtual thread factory", e );
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public Book reactive() {
+		return reactiveSessionFactory
+				.withSession( session -> session.find( Book.class, 1L ) )
+				.await().indefinitely();
+	}
+
+	@Benchmark
+	public Book blocking() {
+		return blockingSessionFactory
+				.withSession( session -> session.find( Book.class, 1L ) );
+	}
+
+	@Benchmark
+	@Threads(1)
+	@OperationsPerInvocation(VIRTUAL_THREADS)
+	public void blockingOnVirtualThreads() throws InterruptedException {
+		if ( virtualThreadFactory == null ) {
+			throw new UnsupportedOperationException( "Virtual threads require Java 21 or above" );
+		}
+		final Thread[] threads = new Thread[VIRTUAL_THREADS];
+		for ( int i = 0; i < threads.length; i++ ) {
+			threads[i] = virtualThreadFactory.newThread( () -> blockingSessionFactory
+					.withSession( session -> session.find( Book.class, 1L ) ) );
+			threads[i].start();
+		}
+		for ( Thread thread : threads ) {
+			thread.join();
+		}
+	}
+}
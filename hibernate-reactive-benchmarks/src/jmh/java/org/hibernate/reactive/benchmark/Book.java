@@ -0,0 +1,48 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity(name = "Book")
+@Table(name = "books")
+public class Book {
+
+	/**
+	 * The columns selected by Hibernate when loading a {@code Book}.
+	 */
+	static final List<String> COLUMNS = List.of( "id", "title" );
+
+	@Id
+	Long id;
+
+	String title;
+
+	public Book() {
+	}
+
+	public Book(Long id, String title) {
+		this.id = id;
+		this.title = title;
+	}
+
+	/**
+	 * @return the values of the given number of rows of the
+	 *         {@code books} table
+	 */
+	static List<Object[]> rows(int count) {
+		final List<Object[]> rows = new ArrayList<>( count );
+		for ( long id = 1; id <= count; id++ ) {
+			rows.add( new Object[] { id, "Book #" + id } );
+		}
+		return rows;
+	}
+}
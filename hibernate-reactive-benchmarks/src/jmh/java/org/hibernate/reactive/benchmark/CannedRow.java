@@ -0,0 +1,37 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.List;
+
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.impl.ArrayTuple;
+
+/**
+ * A {@link Row} with fixed values, served by {@link InMemoryConnection}.
+ */
+final class CannedRow extends ArrayTuple implements Row {
+
+	private final List<String> columnNames;
+
+	CannedRow(List<String> columnNames, Object[] values) {
+		super( values.length );
+		this.columnNames = columnNames;
+		for ( Object value : values ) {
+			addValue( value );
+		}
+	}
+
+	@Override
+	public String getColumnName(int pos) {
+		return pos < 0 || pos >= columnNames.size() ? null : columnNames.get( pos );
+	}
+
+	@Override
+	public int getColumnIndex(String column) {
+		return columnNames.indexOf( column );
+	}
+}
@@ -0,0 +1,97 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import io.vertx.sqlclient.PropertyKind;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.desc.ColumnDescriptor;
+
+/**
+ * An immutable {@link RowSet}, served by {@link InMemoryConnection}
+ * in response to every query. It may be iterated any number of times.
+ */
+final class CannedRowSet implements RowSet<Row> {
+
+	static final CannedRowSet EMPTY = new CannedRowSet( Collections.emptyList(), Collections.emptyList() );
+
+	private final List<String> columnNames;
+	private final List<Row> rows;
+	private final List<Object[]> values;
+
+	CannedRowSet(List<String> columnNames, List<Object[]> values) {
+		this.columnNames = columnNames;
+		this.values = values;
+		this.rows = new ArrayList<>( values.size() );
+		for ( Object[] row : values ) {
+			rows.add( new CannedRow( columnNames, row ) );
+		}
+	}
+
+	/**
+	 * @return the values of each row
+	 */
+	List<Object[]> values() {
+		return values;
+	}
+
+	@Override
+	public RowIterator<Row> iterator() {
+		final Iterator<Row> iterator = rows.iterator();
+		return new RowIterator<>() {
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public Row next() {
+				return iterator.next();
+			}
+		};
+	}
+
+	@Override
+	public int rowCount() {
+		return rows.size();
+	}
+
+	@Override
+	public List<String> columnsNames() {
+		return columnNames;
+	}
+
+	@Override
+	public List<ColumnDescriptor> columnDescriptors() {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public int size() {
+		return rows.size();
+	}
+
+	@Override
+	public <V> V property(PropertyKind<V> propertyKind) {
+		return null;
+	}
+
+	@Override
+	public RowSet<Row> value() {
+		return this;
+	}
+
+	@Override
+	public RowSet<Row> next() {
+		return null;
+	}
+}
@@ -0,0 +1,97 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+import static org.hibernate.reactive.util.impl.CompletionStages.total;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * Measures the overhead of the asynchronous loops in
+ * {@link org.hibernate.reactive.util.impl.CompletionStages},
+ * when every iteration completes synchronously, as it does
+ * for most cascades and flushes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CompletionStagesBenchmark {
+
+	@Param({ "10", "1000" })
+	int size;
+
+	private Object[] array;
+	private List<Object> list;
+
+	@Setup
+	public void setup() {
+		array = new Object[size];
+		list = new ArrayList<>( size );
+		for ( int i = 0; i < size; i++ ) {
+			array[i] = i;
+			list.add( i );
+		}
+	}
+
+	@Benchmark
+	public Void loopOverArray(Blackhole blackhole) {
+		return loop( array, element -> {
+			blackhole.consume( element );
+			return voidFuture();
+		} ).toCompletableFuture().join();
+	}
+
+	@Benchmark
+	public Void loopOverList(Blackhole blackhole) {
+		return loop( list, element -> {
+			blackhole.consume( element );
+			return voidFuture();
+		} ).toCompletableFuture().join();
+	}
+
+	@Benchmark
+	public Void loopOverRange(Blackhole blackhole) {
+		return loop( 0, size, index -> {
+			blackhole.consume( index );
+			return voidFuture();
+		} ).toCompletableFuture().join();
+	}
+
+	/**
+	 * A baseline for {@link #loopOverRange}: minimal stages can't be
+	 * inspected, so every iteration goes through the trampoline, as
+	 * it would if the stage were still pending.
+	 */
+	@Benchmark
+	public Void loopOverRangeViaTrampoline(Blackhole blackhole) {
+		return loop( 0, size, index -> {
+			blackhole.consume( index );
+			return CompletableFuture.completedStage( null );
+		} ).toCompletableFuture().join();
+	}
+
+	@Benchmark
+	public Integer totalOverRange() {
+		return total( 0, size, index -> completedFuture( 1 ) )
+				.toCompletableFuture().join();
+	}
+}
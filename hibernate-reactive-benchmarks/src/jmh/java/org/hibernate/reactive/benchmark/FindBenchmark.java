@@ -0,0 +1,54 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.reactive.mutiny.Mutiny;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures {@code find()} of an entity by id, in a new session.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FindBenchmark {
+
+	@Param({ "0" })
+	long latencyMillis;
+
+	private Mutiny.SessionFactory sessionFactory;
+
+	@Setup
+	public void setup() {
+		InMemoryConnectionPool pool = new InMemoryConnectionPool();
+		pool.setRows( Book.COLUMNS, Book.rows( 1 ) );
+		pool.setLatencyMillis( latencyMillis );
+		sessionFactory = BenchmarkSessionFactory.create( pool, 0 );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public Book find() {
+		return sessionFactory
+				.withSession( session -> session.find( Book.class, 1L ) )
+				.await().indefinitely();
+	}
+}
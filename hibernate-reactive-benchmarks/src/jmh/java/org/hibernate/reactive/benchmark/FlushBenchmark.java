@@ -0,0 +1,72 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.reactive.mutiny.Mutiny;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures a flush of a number of inserts or updates, with and
+ * without JDBC-style batching.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FlushBenchmark {
+
+	@Param({ "10", "100" })
+	int entities;
+
+	@Param({ "0", "50" })
+	int batchSize;
+
+	private Mutiny.SessionFactory sessionFactory;
+	private Book[] books;
+
+	@Setup
+	public void setup() {
+		InMemoryConnectionPool pool = new InMemoryConnectionPool();
+		pool.setRows( Book.COLUMNS, Book.rows( entities ) );
+		sessionFactory = BenchmarkSessionFactory.create( pool, batchSize );
+		books = new Book[entities];
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public Void insert() {
+		for ( int i = 0; i < entities; i++ ) {
+			books[i] = new Book( (long) i + 1, "Book #" + i );
+		}
+		return sessionFactory
+				.withTransaction( session -> session.persistAll( (Object[]) books ) )
+				.await().indefinitely();
+	}
+
+	@Benchmark
+	public List<Book> update() {
+		return sessionFactory
+				.withTransaction( session -> session.createQuery( "from Book", Book.class )
+						.getResultList()
+						.invoke( list -> list.forEach( book -> book.title = book.title + " (revised)" ) ) )
+				.await().indefinitely();
+	}
+}
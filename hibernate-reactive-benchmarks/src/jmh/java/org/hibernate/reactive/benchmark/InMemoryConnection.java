@@ -0,0 +1,159 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.reactive.adaptor.impl.ResultSetAdaptor;
+import org.hibernate.reactive.pool.BatchingConnection;
+import org.hibernate.reactive.pool.ReactiveConnection;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
+
+/**
+ * A {@link ReactiveConnection} which never talks to a database.
+ * Every query returns the rows currently configured on the
+ * {@link InMemoryConnectionPool}, and every update affects
+ * exactly one row.
+ */
+public class InMemoryConnection implements ReactiveConnection {
+
+	private final InMemoryConnectionPool pool;
+
+	InMemoryConnection(InMemoryConnectionPool pool) {
+		this.pool = pool;
+	}
+
+	@Override
+	public CompletionStage<Void> execute(String sql) {
+		return pool.respond( null );
+	}
+
+	@Override
+	public CompletionStage<Void> executeOutsideTransaction(String sql) {
+		return pool.respond( null );
+	}
+
+	@Override
+	public CompletionStage<Void> executeUnprepared(String sql) {
+		return pool.respond( null );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql) {
+		return pool.respond( 1 );
+	}
+
+	@Override
+	public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+		return pool.respond( 1 );
+	}
+
+	@Override
+	public CompletionStage<Void> update(String sql, Object[] paramValues, boolean allowBatching, Expectation expectation) {
+		return pool.respond( null )
+				.thenAccept( v -> expectation.verifyOutcome( 1, -1, sql ) );
+	}
+
+	@Override
+	public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
+		final int[] rowCounts = new int[paramValues.size()];
+		Arrays.fill( rowCounts, 1 );
+		return pool.respond( rowCounts );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql) {
+		return pool.respond( new CannedResult( pool.getRowSet().values() ) );
+	}
+
+	@Override
+	public CompletionStage<Result> select(String sql, Object[] paramValues) {
+		return pool.respond( new CannedResult( pool.getRowSet().values() ) );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
+		return pool.respond( new ResultSetAdaptor( pool.getRowSet() ) );
+	}
+
+	@Override
+	public CompletionStage<ResultSet> selectJdbcOutsideTransaction(String sql, Object[] paramValues) {
+		return pool.respond( new ResultSetAdaptor( pool.getRowSet() ) );
+	}
+
+	@Override
+	public <T> CompletionStage<T> insertAndSelectIdentifier(String sql, Object[] paramValues, Class<T> idClass, String idColumnName) {
+		return failedFuture( new UnsupportedOperationException( "use assigned identifiers in benchmarks" ) );
+	}
+
+	@Override
+	public <T> CompletionStage<T> selectIdentifier(String sql, Object[] paramValues, Class<T> idClass) {
+		return failedFuture( new UnsupportedOperationException( "use assigned identifiers in benchmarks" ) );
+	}
+
+	@Override
+	public CompletionStage<Void> beginTransaction() {
+		return pool.respond( null );
+	}
+
+	@Override
+	public CompletionStage<Void> commitTransaction() {
+		return pool.respond( null );
+	}
+
+	@Override
+	public CompletionStage<Void> rollbackTransaction() {
+		return pool.respond( null );
+	}
+
+	@Override
+	public ReactiveConnection withBatchSize(int batchSize) {
+		return batchSize <= 1
+				? this
+				: new BatchingConnection( this, batchSize );
+	}
+
+	@Override
+	public CompletionStage<Void> executeBatch() {
+		return CompletableFuture.completedFuture( null );
+	}
+
+	@Override
+	public CompletionStage<Void> close() {
+		return CompletableFuture.completedFuture( null );
+	}
+
+	private static final class CannedResult implements Result {
+		private final Iterator<Object[]> iterator;
+		private final int size;
+
+		CannedResult(List<Object[]> values) {
+			this.iterator = values.iterator();
+			this.size = values.size();
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return iterator.hasNext();
+		}
+
+		@Override
+		public Object[] next() {
+			return iterator.next();
+		}
+	}
+}
@@ -0,0 +1,93 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.vertx.VertxInstance;
+import org.hibernate.service.spi.ServiceRegistryAwareService;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * A stand-in for the Vert.x connection pool, which serves
+ * {@link InMemoryConnection}s. It may be passed as the value
+ * of {@link org.hibernate.reactive.provider.Settings#SQL_CLIENT_POOL}.
+ * <p>
+ * Every query returns the rows configured via {@link #setRows},
+ * and every operation completes after the configured latency,
+ * or immediately if the latency is zero.
+ */
+public class InMemoryConnectionPool implements ReactiveConnectionPool, ServiceRegistryAwareService {
+
+	private VertxInstance vertxInstance;
+	private volatile CannedRowSet rowSet = CannedRowSet.EMPTY;
+	private volatile long latencyMillis;
+
+	@Override
+	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
+		vertxInstance = serviceRegistry.getService( VertxInstance.class );
+	}
+
+	/**
+	 * Set the rows returned by every query.
+	 *
+	 * @param columnNames the column names, in the order of the selected columns
+	 * @param rows the values of each row
+	 */
+	public void setRows(List<String> columnNames, List<Object[]> rows) {
+		this.rowSet = new CannedRowSet( columnNames, rows );
+	}
+
+	/**
+	 * Set a simulated round-trip time for every operation.
+	 */
+	public void setLatencyMillis(long latencyMillis) {
+		this.latencyMillis = latencyMillis;
+	}
+
+	CannedRowSet getRowSet() {
+		return rowSet;
+	}
+
+	<T> CompletionStage<T> respond(T result) {
+		final long latency = latencyMillis;
+		if ( latency <= 0 ) {
+			return CompletableFuture.completedFuture( result );
+		}
+		final CompletableFuture<T> response = new CompletableFuture<>();
+		vertxInstance.getVertx().setTimer( latency, id -> response.complete( result ) );
+		return response;
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection() {
+		return respond( new InMemoryConnection( this ) );
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection(String tenantId) {
+		return getConnection();
+	}
+
+	@Override
+	public ReactiveConnection getProxyConnection() {
+		return new InMemoryConnection( this );
+	}
+
+	@Override
+	public ReactiveConnection getProxyConnection(String tenantId) {
+		return getProxyConnection();
+	}
+
+	@Override
+	public CompletionStage<Void> getCloseFuture() {
+		return CompletableFuture.completedFuture( null );
+	}
+}
@@ -0,0 +1,71 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.hibernate.reactive.provider.Settings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures {@code find()} of a varying number of ids, with the ids
+ * bound as a single array parameter, and with an in-list padded to
+ * the next power of two.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MultiLoadBenchmark {
+
+	@Param({ "100" })
+	int maxIds;
+
+	@Param({ "array", "padding" })
+	String binding;
+
+	private Mutiny.SessionFactory sessionFactory;
+
+	@Setup
+	public void setup() {
+		InMemoryConnectionPool pool = new InMemoryConnectionPool();
+		pool.setRows( Book.COLUMNS, Book.rows( maxIds ) );
+		Map<String, String> settings = "array".equals( binding )
+				? Map.of( Settings.ARRAY_PARAMETER_IN_LIST, "true" )
+				: Map.of( AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, "true" );
+		sessionFactory = BenchmarkSessionFactory.create( pool, 0, settings );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Book> find() {
+		// a different batch size each time, as for batch fetching
+		final Object[] ids = new Object[ThreadLocalRandom.current().nextInt( 2, maxIds + 1 )];
+		for ( int i = 0; i < ids.length; i++ ) {
+			ids[i] = (long) i + 1;
+		}
+		return sessionFactory
+				.withSession( session -> session.find( Book.class, ids ) )
+				.await().indefinitely();
+	}
+}
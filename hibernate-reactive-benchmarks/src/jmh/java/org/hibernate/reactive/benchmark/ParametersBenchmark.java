@@ -0,0 +1,48 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.reactive.pool.impl.PostgresParameters;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the rewriting of JDBC-style parameter placeholders
+ * into PostgreSQL-style numbered parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParametersBenchmark {
+
+	@Param({ "1", "10", "100" })
+	int parameterCount;
+
+	private String sql;
+
+	@Setup
+	public void setup() {
+		StringBuilder builder = new StringBuilder( "select b1_0.id,b1_0.title from books b1_0 where b1_0.title='?' and b1_0.id in (" );
+		for ( int i = 0; i < parameterCount; i++ ) {
+			builder.append( i == 0 ? "?" : ",?" );
+		}
+		sql = builder.append( ")" ).toString();
+	}
+
+	@Benchmark
+	public String process() {
+		return PostgresParameters.INSTANCE.process( sql );
+	}
+}
@@ -0,0 +1,68 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.reactive.mutiny.Mutiny;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the execution of a HQL query returning a list of entities,
+ * for result sets of various sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QueryBenchmark {
+
+	@Param({ "1", "100", "10000" })
+	int rows;
+
+	@Param({ "0" })
+	long latencyMillis;
+
+	private Mutiny.SessionFactory sessionFactory;
+
+	@Setup
+	public void setup() {
+		InMemoryConnectionPool pool = new InMemoryConnectionPool();
+		pool.setRows( Book.COLUMNS, Book.rows( rows ) );
+		pool.setLatencyMillis( latencyMillis );
+		sessionFactory = BenchmarkSessionFactory.create( pool, 0 );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Book> list() {
+		return sessionFactory
+				.withSession( session -> session.createQuery( "from Book", Book.class ).getResultList() )
+				.await().indefinitely();
+	}
+
+	@Benchmark
+	public List<Book> listReadOnly() {
+		return sessionFactory
+				.withSession( session -> session.createQuery( "from Book", Book.class )
+						.setReadOnly( true )
+						.getResultList() )
+				.await().indefinitely();
+	}
+}
@@ -0,0 +1,73 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.reactive.mutiny.Mutiny;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Measures the cost of opening and closing a session which does no
+ * work, and of a session which runs the same query twice. Before the
+ * second query, the auto-flush finds the entities loaded by the first
+ * one, and so needs the action queue, even though the session only
+ * reads.
+ * <p>
+ * Run with {@code -PjmhProfilers=gc} to see the allocation of each
+ * {@code withSession()}, reported as {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SessionBenchmark {
+
+	private Mutiny.SessionFactory sessionFactory;
+
+	@Setup
+	public void setup() {
+		InMemoryConnectionPool pool = new InMemoryConnectionPool();
+		pool.setRows( Book.COLUMNS, Book.rows( 1 ) );
+		sessionFactory = BenchmarkSessionFactory.create( pool, 0 );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public Object withSession() {
+		return sessionFactory
+				.withSession( session -> Uni.createFrom().nullItem() )
+				.await().indefinitely();
+	}
+
+	@Benchmark
+	public Object withSessionQueries() {
+		return sessionFactory
+				.withSession( session -> session.createQuery( "from Book", Book.class ).getResultList()
+						.chain( () -> session.createQuery( "from Book", Book.class ).getResultList() ) )
+				.await().indefinitely();
+	}
+
+	@Benchmark
+	public Object withStatelessSession() {
+		return sessionFactory
+				.withStatelessSession( session -> Uni.createFrom().nullItem() )
+				.await().indefinitely();
+	}
+}
@@ -28,8 +28,11 @@
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.function.Function;
 
 import org.hibernate.engine.jdbc.BlobProxy;
@@ -51,6 +54,11 @@ public class ResultSetAdaptor implements ResultSet {
 	private final RowSet<Row> rows;
 	private Row row;
 	private boolean wasNull;
+	// the labels resolved so far, and their column indexes, in arrays
+	// which are scanned linearly, since there are only a few columns
+	private String[] columnLabels;
+	private int[] columnIndexes;
+	private int resolvedCount;
 
 	public ResultSetAdaptor(RowSet<Row> rows) {
 		this.iterator = rows.iterator();
@@ -178,14 +186,14 @@ public InputStream getBinaryStream(int columnIndex) {
 
 	@Override
 	public String getString(String columnLabel) {
-		String string = row.getString( columnLabel );
+		String string = row.getString( column( columnLabel ) );
 		return ( wasNull = string == null ) ? null : string;
 	}
 
 	@Override
 	public boolean getBoolean(String columnLabel) {
 		try {
-			Boolean bool = row.getBoolean( columnLabel );
+			Boolean bool = row.getBoolean( column( columnLabel ) );
 			wasNull = bool == null;
 			return !wasNull && bool;
 		}
@@ -205,42 +213,42 @@ public boolean getBoolean(String columnLabel) {
 
 	@Override
 	public byte getByte(String columnLabel) {
-		Integer integer = row.getInteger( columnLabel );
+		Integer integer = row.getInteger( column( columnLabel ) );
 		wasNull = integer == null;
 		return wasNull ? 0 : integer.byteValue();
 	}
 
 	@Override
 	public short getShort(String columnLabel) {
-		Short aShort = row.getShort( columnLabel );
+		Short aShort = row.getShort( column( columnLabel ) );
 		wasNull = aShort == null;
 		return wasNull ? 0 : aShort;
 	}
 
 	@Override
 	public int getInt(String columnLabel) {
-		Integer integer = row.getInteger( columnLabel );
+		Integer integer = row.getInteger( column( columnLabel ) );
 		wasNull = integer == null;
 		return wasNull ? 0 : integer;
 	}
 
 	@Override
 	public long getLong(String columnLabel) {
-		Long aLong = row.getLong( columnLabel );
+		Long aLong = row.getLong( column( columnLabel ) );
 		wasNull = aLong == null;
 		return wasNull ? 0 : aLong;
 	}
 
 	@Override
 	public float getFloat(String columnLabel) {
-		Float real = row.getFloat( columnLabel );
+		Float real = row.getFloat( column( columnLabel ) );
 		wasNull = real == null;
 		return wasNull ? 0 : real;
 	}
 
 	@Override
 	public double getDouble(String columnLabel) {
-		Double real = row.getDouble( columnLabel );
+		Double real = row.getDouble( column( columnLabel ) );
 		wasNull = real == null;
 		return wasNull ? 0 : real;
 	}
@@ -252,38 +260,38 @@ public BigDecimal getBigDecimal(String columnLabel, int scale) {
 
 	@Override
 	public byte[] getBytes(String columnLabel) {
-		Buffer buffer = row.getBuffer( columnLabel );
+		Buffer buffer = row.getBuffer( column( columnLabel ) );
 		wasNull = buffer == null;
 		return wasNull ? null : buffer.getBytes();
 	}
 
 	@Override
 	public Date getDate(String columnLabel) {
-		LocalDate localDate = row.getLocalDate( columnLabel );
+		LocalDate localDate = row.getLocalDate( column( columnLabel ) );
 		return ( wasNull = localDate == null ) ? null : Date.valueOf( localDate );
 	}
 
 	@Override
 	public Time getTime(String columnLabel) {
-		LocalTime localTime = row.getLocalTime( columnLabel );
+		LocalTime localTime = row.getLocalTime( column( columnLabel ) );
 		return ( wasNull = localTime == null ) ? null : Time.valueOf( localTime );
 	}
 
 	@Override
 	public Time getTime(String columnLabel, Calendar cal) {
-		LocalTime localTime = row.getLocalTime( columnLabel );
+		LocalTime localTime = row.getLocalTime( column( columnLabel ) );
 		return ( wasNull = localTime == null ) ? null : Time.valueOf( localTime );
 	}
 
 	@Override
 	public Timestamp getTimestamp(String columnLabel) {
-		Object rawValue = row.getValue( columnLabel );
+		Object rawValue = row.getValue( column( columnLabel ) );
 		return ( wasNull = rawValue == null ) ? null : Timestamp.valueOf( toLocalDateTime( rawValue ) );
 	}
 
 	@Override
 	public Timestamp getTimestamp(String columnLabel, Calendar cal) {
-		Object rawValue = row.getValue( columnLabel );
+		Object rawValue = row.getValue( column( columnLabel ) );
 		return ( wasNull = rawValue == null ) ? null : Timestamp.from( toOffsetDateTime( rawValue, cal ).toInstant() );
 	}
 
@@ -329,7 +337,7 @@ public <T> T getObject(int columnIndex, Class<T> type) {
 
 	@Override
 	public <T> T getObject(String columnLabel, Class<T> type) {
-		T object = row.get( type, row.getColumnIndex( columnLabel ) );
+		T object = row.get( type, column( columnLabel ) );
 		return ( wasNull = object == null ) ? null : object;
 	}
 
@@ -488,14 +496,75 @@ public Object getObject(int columnIndex) {
 
 	@Override
 	public Object getObject(String columnLabel) {
-		Object object = row.getValue( columnLabel );
+		Object object = row.getValue( column( columnLabel ) );
 		return ( wasNull = object == null ) ? null : object;
 	}
 
 	@Override
 	public int findColumn(String columnLabel) {
-		return rows.columnsNames().indexOf( columnLabel ) + 1;
-//		return row.getColumnIndex( columnLabel );
+		return columnIndex( columnLabel ) + 1;
+	}
+
+	/**
+	 * The index, counting from 0, of the column with the given label.
+	 *
+	 * @throws NoSuchElementException if there's no such column
+	 */
+	private int column(String columnLabel) {
+		int index = columnIndex( columnLabel );
+		if ( index < 0 ) {
+			throw new NoSuchElementException( "Column " + columnLabel + " does not exist" );
+		}
+		return index;
+	}
+
+	/**
+	 * The index, counting from 0, of the column with the given label, or
+	 * {@code -1} if there's no such column. Each label is only resolved
+	 * against the column names of the {@code RowSet} the first time it's
+	 * read, rather than once per row.
+	 */
+	private int columnIndex(String columnLabel) {
+		for ( int i = 0; i < resolvedCount; i++ ) {
+			// the same label is usually passed as the same string instance
+			if ( columnLabels[i] == columnLabel ) {
+				return columnIndexes[i];
+			}
+		}
+		for ( int i = 0; i < resolvedCount; i++ ) {
+			if ( columnLabels[i].equals( columnLabel ) ) {
+				return columnIndexes[i];
+			}
+		}
+		final int index = resolveColumnIndex( columnLabel );
+		if ( columnLabels == null ) {
+			final int columnCount = Math.max( rows.columnsNames().size(), 1 );
+			columnLabels = new String[columnCount];
+			columnIndexes = new int[columnCount];
+		}
+		else if ( resolvedCount == columnLabels.length ) {
+			// unknown labels, or the same column under different cases
+			columnLabels = Arrays.copyOf( columnLabels, resolvedCount * 2 );
+			columnIndexes = Arrays.copyOf( columnIndexes, resolvedCount * 2 );
+		}
+		columnLabels[resolvedCount] = columnLabel;
+		columnIndexes[resolvedCount] = index;
+		resolvedCount++;
+		return index;
+	}
+
+	private int resolveColumnIndex(String columnLabel) {
+		List<String> columnNames = rows.columnsNames();
+		int index = columnNames.indexOf( columnLabel );
+		if ( index < 0 ) {
+			// column labels are case-insensitive in JDBC
+			for ( int i = 0; i < columnNames.size(); i++ ) {
+				if ( columnNames.get( i ).equalsIgnoreCase( columnLabel ) ) {
+					return i;
+				}
+			}
+		}
+		return index;
 	}
 
 	@Override
@@ -506,7 +575,7 @@ public BigDecimal getBigDecimal(int columnIndex) {
 
 	@Override
 	public BigDecimal getBigDecimal(String columnLabel) {
-		BigDecimal decimal = row.getBigDecimal( columnLabel );
+		BigDecimal decimal = row.getBigDecimal( column( columnLabel ) );
 		return ( wasNull = decimal == null ) ? null : decimal;
 	}
 
@@ -731,7 +800,8 @@ public Ref getRef(String columnLabel) {
 
 	@Override
 	public Blob getBlob(String columnLabel) {
-		Blob blob = blob( row -> row.getValue( columnLabel ), row -> row.getBuffer( columnLabel ) );
+		int column = column( columnLabel );
+		Blob blob = blob( row -> row.getValue( column ), row -> row.getBuffer( column ) );
 		wasNull = blob == null;
 		return blob;
 	}
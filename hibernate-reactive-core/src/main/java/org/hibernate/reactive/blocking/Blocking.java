@@ -0,0 +1,463 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.blocking;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.hibernate.LockMode;
+import org.hibernate.reactive.stage.Stage;
+
+/**
+ * A synchronous API for Hibernate Reactive, for imperative code which
+ * runs on virtual threads.
+ * <p>
+ * Each operation of a {@link Session} or {@link StatelessSession} is
+ * executed by the non-blocking reactive session on the Vert.x context
+ * of the session, and the calling thread waits for it to complete. A
+ * virtual thread is parked while it waits, releasing its carrier thread,
+ * so many concurrent sessions are served by a few threads, as with the
+ * {@link Stage} and {@link org.hibernate.reactive.mutiny.Mutiny} APIs.
+ * <p>
+ * A blocking session must never be used from a thread with a Vert.x
+ * context, neither an event loop thread, since the operation it would
+ * wait for would need that same thread, nor a worker thread, for example
+ * in {@code executeBlocking()}. Other platform threads may also use a
+ * blocking session, but each of them is then blocked while it waits.
+ */
+public interface Blocking {
+
+	/**
+	 * A synchronous counterpart to {@link Stage.Session}.
+	 *
+	 * @see Stage.Session
+	 */
+	interface Session extends AutoCloseable {
+
+		/**
+		 * Obtain the persistent instance with the given identifier of
+		 * the given entity class, or null if there is no such persistent
+		 * instance.
+		 *
+		 * @see Stage.Session#find(Class, Object)
+		 */
+		<T> T find(Class<T> entityClass, Object id);
+
+		/**
+		 * Obtain the persistent instance with the given identifier,
+		 * requesting the given {@link LockMode}.
+		 *
+		 * @see Stage.Session#find(Class, Object, LockMode)
+		 */
+		<T> T find(Class<T> entityClass, Object id, LockMode lockMode);
+
+		/**
+		 * Obtain the persistent instances with the given identifiers,
+		 * in the order of the identifiers.
+		 *
+		 * @see Stage.Session#find(Class, Object...)
+		 */
+		<T> List<T> find(Class<T> entityClass, Object... ids);
+
+		/**
+		 * Obtain a reference to the persistent instance with the given
+		 * identifier, without initializing it.
+		 *
+		 * @see Stage.Session#getReference(Class, Object)
+		 */
+		<T> T getReference(Class<T> entityClass, Object id);
+
+		/**
+		 * Make a transient instance persistent.
+		 *
+		 * @see Stage.Session#persist(Object)
+		 */
+		void persist(Object entity);
+
+		/**
+		 * Make the given transient instances persistent.
+		 *
+		 * @see Stage.Session#persist(Object...)
+		 */
+		void persist(Object... entities);
+
+		/**
+		 * Copy the state of the given object onto the persistent instance
+		 * with the same identifier.
+		 *
+		 * @return the persistent instance
+		 *
+		 * @see Stage.Session#merge(Object)
+		 */
+		<T> T merge(T entity);
+
+		/**
+		 * Remove a persistent instance.
+		 *
+		 * @see Stage.Session#remove(Object)
+		 */
+		void remove(Object entity);
+
+		/**
+		 * Re-read the state of the given instance from the database.
+		 *
+		 * @see Stage.Session#refresh(Object)
+		 */
+		void refresh(Object entity);
+
+		/**
+		 * Obtain the specified lock level upon the given object.
+		 *
+		 * @see Stage.Session#lock(Object, LockMode)
+		 */
+		void lock(Object entity, LockMode lockMode);
+
+		/**
+		 * Force this session to flush.
+		 *
+		 * @see Stage.Session#flush()
+		 */
+		void flush();
+
+		/**
+		 * Fetch an association that's configured for lazy loading.
+		 *
+		 * @return the fetched association
+		 *
+		 * @see Stage.Session#fetch(Object)
+		 */
+		<T> T fetch(T association);
+
+		/**
+		 * Determine if the given instance belongs to this session.
+		 *
+		 * @see Stage.Session#contains(Object)
+		 */
+		boolean contains(Object entity);
+
+		/**
+		 * Remove the given instance from the persistence context.
+		 *
+		 * @see Stage.Session#detach(Object)
+		 */
+		void detach(Object entity);
+
+		/**
+		 * Completely clear the persistence context.
+		 *
+		 * @see Stage.Session#clear()
+		 */
+		void clear();
+
+		/**
+		 * Create a query for the given HQL selection query.
+		 *
+		 * @see Stage.Session#createQuery(String, Class)
+		 */
+		<R> Query<R> createQuery(String queryString, Class<R> resultType);
+
+		/**
+		 * Create a query for the given HQL update or delete statement.
+		 *
+		 * @see Stage.Session#createQuery(String)
+		 */
+		<R> Query<R> createQuery(String queryString);
+
+		/**
+		 * Create a query for the given named query.
+		 *
+		 * @see Stage.Session#createNamedQuery(String, Class)
+		 */
+		<R> Query<R> createNamedQuery(String queryName, Class<R> resultType);
+
+		/**
+		 * Create a query for the given native SQL query.
+		 *
+		 * @see Stage.Session#createNativeQuery(String, Class)
+		 */
+		<R> Query<R> createNativeQuery(String queryString, Class<R> resultType);
+
+		/**
+		 * Perform the given work in a transaction, which is committed
+		 * once the work returns, after flushing the session, or rolled
+		 * back if the work throws an exception.
+		 *
+		 * @see Stage.Session#withTransaction(Function)
+		 */
+		<T> T withTransaction(Function<Transaction, T> work);
+
+		/**
+		 * @return false if {@link #close()} has been called
+		 */
+		boolean isOpen();
+
+		/**
+		 * Close the session and release its connection.
+		 */
+		@Override
+		void close();
+	}
+
+	/**
+	 * A synchronous counterpart to {@link Stage.StatelessSession}.
+	 *
+	 * @see Stage.StatelessSession
+	 */
+	interface StatelessSession extends AutoCloseable {
+
+		/**
+		 * Retrieve a row.
+		 *
+		 * @see Stage.StatelessSession#get(Class, Object)
+		 */
+		<T> T get(Class<T> entityClass, Object id);
+
+		/**
+		 * Retrieve a row, obtaining the given lock.
+		 *
+		 * @see Stage.StatelessSession#get(Class, Object, LockMode)
+		 */
+		<T> T get(Class<T> entityClass, Object id, LockMode lockMode);
+
+		/**
+		 * Insert a row.
+		 *
+		 * @see Stage.StatelessSession#insert(Object)
+		 */
+		void insert(Object entity);
+
+		/**
+		 * Insert multiple rows using the specified batch size.
+		 *
+		 * @see Stage.StatelessSession#insert(int, Object...)
+		 */
+		void insert(int batchSize, Object... entities);
+
+		/**
+		 * Update a row.
+		 *
+		 * @see Stage.StatelessSession#update(Object)
+		 */
+		void update(Object entity);
+
+		/**
+		 * Update multiple rows using the specified batch size.
+		 *
+		 * @see Stage.StatelessSession#update(int, Object...)
+		 */
+		void update(int batchSize, Object... entities);
+
+		/**
+		 * Delete a row.
+		 *
+		 * @see Stage.StatelessSession#delete(Object)
+		 */
+		void delete(Object entity);
+
+		/**
+		 * Delete multiple rows using the specified batch size.
+		 *
+		 * @see Stage.StatelessSession#delete(int, Object...)
+		 */
+		void delete(int batchSize, Object... entities);
+
+		/**
+		 * Insert a row or, if there's already a row with the same primary
+		 * key, update it.
+		 *
+		 * @see Stage.StatelessSession#upsert(Object)
+		 */
+		void upsert(Object entity);
+
+		/**
+		 * Refresh the entity instance state from the database.
+		 *
+		 * @see Stage.StatelessSession#refresh(Object)
+		 */
+		void refresh(Object entity);
+
+		/**
+		 * Fetch an association that's configured for lazy loading.
+		 *
+		 * @see Stage.StatelessSession#fetch(Object)
+		 */
+		<T> T fetch(T association);
+
+		/**
+		 * Create a query for the given HQL selection query.
+		 *
+		 * @see Stage.StatelessSession#createQuery(String, Class)
+		 */
+		<R> Query<R> createQuery(String queryString, Class<R> resultType);
+
+		/**
+		 * Create a query for the given HQL update or delete statement.
+		 *
+		 * @see Stage.StatelessSession#createQuery(String)
+		 */
+		<R> Query<R> createQuery(String queryString);
+
+		/**
+		 * Create a query for the given native SQL query.
+		 *
+		 * @see Stage.StatelessSession#createNativeQuery(String, Class)
+		 */
+		<R> Query<R> createNativeQuery(String queryString, Class<R> resultType);
+
+		/**
+		 * Perform the given work in a transaction, which is committed
+		 * once the work returns, or rolled back if the work throws an
+		 * exception.
+		 *
+		 * @see Stage.StatelessSession#withTransaction(Function)
+		 */
+		<T> T withTransaction(Function<Transaction, T> work);
+
+		/**
+		 * @return false if {@link #close()} has been called
+		 */
+		boolean isOpen();
+
+		/**
+		 * Close the session and release its connection.
+		 */
+		@Override
+		void close();
+	}
+
+	/**
+	 * A synchronous counterpart to {@link Stage.Query}.
+	 *
+	 * @see Stage.Query
+	 */
+	interface Query<R> {
+
+		Query<R> setParameter(String name, Object value);
+
+		Query<R> setParameter(int position, Object value);
+
+		Query<R> setMaxResults(int maxResults);
+
+		Query<R> setFirstResult(int startPosition);
+
+		Query<R> setReadOnly(boolean readOnly);
+
+		/**
+		 * @see Stage.SelectionQuery#getResultList()
+		 */
+		List<R> getResultList();
+
+		/**
+		 * @see Stage.SelectionQuery#getSingleResult()
+		 */
+		R getSingleResult();
+
+		/**
+		 * @see Stage.SelectionQuery#getSingleResultOrNull()
+		 */
+		R getSingleResultOrNull();
+
+		/**
+		 * @return the number of affected rows
+		 *
+		 * @see Stage.MutationQuery#executeUpdate()
+		 */
+		int executeUpdate();
+	}
+
+	/**
+	 * Allows code within {@link Session#withTransaction(Function)} to mark
+	 * the transaction for rollback.
+	 *
+	 * @see Stage.Transaction
+	 */
+	interface Transaction {
+		/**
+		 * Mark the current transaction for rollback.
+		 */
+		void markForRollback();
+		/**
+		 * Is the current transaction marked for rollback.
+		 */
+		boolean isMarkedForRollback();
+	}
+
+	/**
+	 * Factory for {@link Session blocking sessions}, which may be obtained
+	 * from a reactive {@link org.hibernate.SessionFactory} as follows:
+	 *
+	 * <pre>
+	 * Blocking.SessionFactory sessionFactory =
+	 * 			createEntityManagerFactory("example")
+	 * 				.unwrap(Blocking.SessionFactory.class);
+	 * </pre>
+	 */
+	interface SessionFactory extends AutoCloseable {
+
+		/**
+		 * Open a new session, which must be closed by the caller.
+		 */
+		Session openSession();
+
+		/**
+		 * Open a new stateless session, which must be closed by the caller.
+		 */
+		StatelessSession openStatelessSession();
+
+		/**
+		 * Perform the given work with a new session, which is closed
+		 * when the work returns.
+		 */
+		<T> T withSession(Function<Session, T> work);
+
+		/**
+		 * Perform the given work with a new session, in a transaction.
+		 *
+		 * @see Session#withTransaction(Function)
+		 */
+		<T> T withTransaction(BiFunction<Session, Transaction, T> work);
+
+		/**
+		 * Perform the given work with a new session, in a transaction.
+		 *
+		 * @see #withTransaction(BiFunction)
+		 */
+		default <T> T withTransaction(Function<Session, T> work) {
+			return withTransaction( (session, transaction) -> work.apply( session ) );
+		}
+
+		/**
+		 * Perform the given work with a new stateless session, which is
+		 * closed when the work returns.
+		 */
+		<T> T withStatelessSession(Function<StatelessSession, T> work);
+
+		/**
+		 * Perform the given work with a new stateless session, in a
+		 * transaction.
+		 *
+		 * @see StatelessSession#withTransaction(Function)
+		 */
+		<T> T withStatelessTransaction(BiFunction<StatelessSession, Transaction, T> work);
+
+		/**
+		 * Perform the given work with a new stateless session, in a
+		 * transaction.
+		 *
+		 * @see #withStatelessTransaction(BiFunction)
+		 */
+		default <T> T withStatelessTransaction(Function<StatelessSession, T> work) {
+			return withStatelessTransaction( (session, transaction) -> work.apply( session ) );
+		}
+
+		/**
+		 * Destroy the session factory and clean up its connection pool.
+		 */
+		@Override
+		void close();
+	}
+}
@@ -0,0 +1,77 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.blocking.impl;
+
+import java.util.List;
+
+import org.hibernate.reactive.blocking.Blocking;
+import org.hibernate.reactive.stage.Stage;
+
+/**
+ * Implements the {@link Blocking.Query} API, delegating to a
+ * {@link Stage.Query}. The query is only executed on the Vert.x
+ * context of its session.
+ */
+public class BlockingQueryImpl<R> implements Blocking.Query<R> {
+
+	private final Stage.Query<R> delegate;
+	private final ContextDispatcher dispatcher;
+
+	BlockingQueryImpl(Stage.Query<R> delegate, ContextDispatcher dispatcher) {
+		this.delegate = delegate;
+		this.dispatcher = dispatcher;
+	}
+
+	@Override
+	public Blocking.Query<R> setParameter(String name, Object value) {
+		delegate.setParameter( name, value );
+		return this;
+	}
+
+	@Override
+	public Blocking.Query<R> setParameter(int position, Object value) {
+		delegate.setParameter( position, value );
+		return this;
+	}
+
+	@Override
+	public Blocking.Query<R> setMaxResults(int maxResults) {
+		delegate.setMaxResults( maxResults );
+		return this;
+	}
+
+	@Override
+	public Blocking.Query<R> setFirstResult(int startPosition) {
+		delegate.setFirstResult( startPosition );
+		return this;
+	}
+
+	@Override
+	public Blocking.Query<R> setReadOnly(boolean readOnly) {
+		delegate.setReadOnly( readOnly );
+		return this;
+	}
+
+	@Override
+	public List<R> getResultList() {
+		return dispatcher.await( delegate::getResultList );
+	}
+
+	@Override
+	public R getSingleResult() {
+		return dispatcher.await( delegate::getSingleResult );
+	}
+
+	@Override
+	public R getSingleResultOrNull() {
+		return dispatcher.await( delegate::getSingleResultOrNull );
+	}
+
+	@Override
+	public int executeUpdate() {
+		return dispatcher.await( delegate::executeUpdate );
+	}
+}
@@ -0,0 +1,75 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.blocking.impl;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.reactive.blocking.Blocking;
+import org.hibernate.reactive.context.Context;
+import org.hibernate.reactive.stage.Stage;
+import org.hibernate.reactive.stage.impl.StageSessionFactoryImpl;
+
+/**
+ * Implementation of {@link Blocking.SessionFactory}.
+ * <p>
+ * Each session is opened, used, and closed on its own Vert.x context,
+ * obtained from the {@link Context} service.
+ */
+public class BlockingSessionFactoryImpl implements Blocking.SessionFactory {
+
+	private final StageSessionFactoryImpl delegate;
+	private final Context context;
+
+	public BlockingSessionFactoryImpl(SessionFactoryImpl delegate) {
+		this.delegate = new StageSessionFactoryImpl( delegate );
+		this.context = delegate.getServiceRegistry().getService( Context.class );
+	}
+
+	@Override
+	public Blocking.Session openSession() {
+		final ContextDispatcher dispatcher = new ContextDispatcher( context );
+		final Stage.Session session = dispatcher.await( delegate::openSession );
+		return new BlockingSessionImpl( session, dispatcher );
+	}
+
+	@Override
+	public Blocking.StatelessSession openStatelessSession() {
+		final ContextDispatcher dispatcher = new ContextDispatcher( context );
+		final Stage.StatelessSession session = dispatcher.await( delegate::openStatelessSession );
+		return new BlockingStatelessSessionImpl( session, dispatcher );
+	}
+
+	@Override
+	public <T> T withSession(Function<Blocking.Session, T> work) {
+		try ( Blocking.Session session = openSession() ) {
+			return work.apply( session );
+		}
+	}
+
+	@Override
+	public <T> T withTransaction(BiFunction<Blocking.Session, Blocking.Transaction, T> work) {
+		return withSession( session -> session.withTransaction( transaction -> work.apply( session, transaction ) ) );
+	}
+
+	@Override
+	public <T> T withStatelessSession(Function<Blocking.StatelessSession, T> work) {
+		try ( Blocking.StatelessSession session = openStatelessSession() ) {
+			return work.apply( session );
+		}
+	}
+
+	@Override
+	public <T> T withStatelessTransaction(BiFunction<Blocking.StatelessSession, Blocking.Transaction, T> work) {
+		return withStatelessSession( session -> session.withTransaction( transaction -> work.apply( session, transaction ) ) );
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+}
@@ -0,0 +1,141 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.blocking.impl;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.hibernate.LockMode;
+import org.hibernate.reactive.blocking.Blocking;
+import org.hibernate.reactive.stage.Stage;
+
+/**
+ * Implements the {@link Blocking.Session} API, delegating to a
+ * {@link Stage.Session}, on the Vert.x context of the session.
+ */
+public class BlockingSessionImpl implements Blocking.Session {
+
+	private final Stage.Session delegate;
+	private final ContextDispatcher dispatcher;
+
+	BlockingSessionImpl(Stage.Session delegate, ContextDispatcher dispatcher) {
+		this.delegate = delegate;
+		this.dispatcher = dispatcher;
+	}
+
+	@Override
+	public <T> T find(Class<T> entityClass, Object id) {
+		return dispatcher.await( () -> delegate.find( entityClass, id ) );
+	}
+
+	@Override
+	public <T> T find(Class<T> entityClass, Object id, LockMode lockMode) {
+		return dispatcher.await( () -> delegate.find( entityClass, id, lockMode ) );
+	}
+
+	@Override
+	public <T> List<T> find(Class<T> entityClass, Object... ids) {
+		return dispatcher.await( () -> delegate.find( entityClass, ids ) );
+	}
+
+	@Override
+	public <T> T getReference(Class<T> entityClass, Object id) {
+		return dispatcher.call( () -> delegate.getReference( entityClass, id ) );
+	}
+
+	@Override
+	public void persist(Object entity) {
+		dispatcher.await( () -> delegate.persist( entity ) );
+	}
+
+	@Override
+	public void persist(Object... entities) {
+		dispatcher.await( () -> delegate.persist( entities ) );
+	}
+
+	@Override
+	public <T> T merge(T entity) {
+		return dispatcher.await( () -> delegate.merge( entity ) );
+	}
+
+	@Override
+	public void remove(Object entity) {
+		dispatcher.await( () -> delegate.remove( entity ) );
+	}
+
+	@Override
+	public void refresh(Object entity) {
+		dispatcher.await( () -> delegate.refresh( entity ) );
+	}
+
+	@Override
+	public void lock(Object entity, LockMode lockMode) {
+		dispatcher.await( () -> delegate.lock( entity, lockMode ) );
+	}
+
+	@Override
+	public void flush() {
+		dispatcher.await( delegate::flush );
+	}
+
+	@Override
+	public <T> T fetch(T association) {
+		return dispatcher.await( () -> delegate.fetch( association ) );
+	}
+
+	@Override
+	public boolean contains(Object entity) {
+		return dispatcher.call( () -> delegate.contains( entity ) );
+	}
+
+	@Override
+	public void detach(Object entity) {
+		dispatcher.call( () -> delegate.detach( entity ) );
+	}
+
+	@Override
+	public void clear() {
+		dispatcher.call( delegate::clear );
+	}
+
+	@Override
+	public <R> Blocking.Query<R> createQuery(String queryString, Class<R> resultType) {
+		return new BlockingQueryImpl<>( dispatcher.call( () -> delegate.createQuery( queryString, resultType ) ), dispatcher );
+	}
+
+	@Override
+	public <R> Blocking.Query<R> createQuery(String queryString) {
+		return new BlockingQueryImpl<>( dispatcher.call( () -> delegate.<R>createQuery( queryString ) ), dispatcher );
+	}
+
+	@Override
+	public <R> Blocking.Query<R> createNamedQuery(String queryName, Class<R> resultType) {
+		return new BlockingQueryImpl<>( dispatcher.call( () -> delegate.createNamedQuery( queryName, resultType ) ), dispatcher );
+	}
+
+	@Override
+	public <R> Blocking.Query<R> createNativeQuery(String queryString, Class<R> resultType) {
+		return new BlockingQueryImpl<>( dispatcher.call( () -> delegate.createNativeQuery( queryString, resultType ) ), dispatcher );
+	}
+
+	@Override
+	public <T> T withTransaction(Function<Blocking.Transaction, T> work) {
+		return dispatcher.inTransaction(
+				delegate::withTransaction,
+				(Stage.Transaction transaction) -> work.apply( new BlockingTransactionImpl( transaction ) )
+		);
+	}
+
+	@Override
+	public boolean isOpen() {
+		return delegate.isOpen();
+	}
+
+	@Override
+	public void close() {
+		dispatcher.await( delegate::close );
+	}
+}
@@ -0,0 +1,115 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.blocking.impl;
+
+import java.util.function.Function;
+
+import org.hibernate.LockMode;
+import org.hibernate.reactive.blocking.Blocking;
+import org.hibernate.reactive.stage.Stage;
+
+/**
+ * Implements the {@link Blocking.StatelessSession} API, delegating to a
+ * {@link Stage.StatelessSession}, on the Vert.x context of the session.
+ */
+public class BlockingStatelessSessionImpl implements Blocking.StatelessSession {
+
+	private final Stage.StatelessSession delegate;
+	private final ContextDispatcher dispatcher;
+
+	BlockingStatelessSessionImpl(Stage.StatelessSession delegate, ContextDispatcher dispatcher) {
+		this.delegate = delegate;
+		this.dispatcher = dispatcher;
+	}
+
+	@Override
+	public <T> T get(Class<T> entityClass, Object id) {
+		return dispatcher.await( () -> delegate.get( entityClass, id ) );
+	}
+
+	@Override
+	public <T> T get(Class<T> entityClass, Object id, LockMode lockMode) {
+		return dispatcher.await( () -> delegate.get( entityClass, id, lockMode ) );
+	}
+
+	@Override
+	public void insert(Object entity) {
+		dispatcher.await( () -> delegate.insert( entity ) );
+	}
+
+	@Override
+	public void insert(int batchSize, Object... entities) {
+		dispatcher.await( () -> delegate.insert( batchSize, entities ) );
+	}
+
+	@Override
+	public void update(Object entity) {
+		dispatcher.await( () -> delegate.update( entity ) );
+	}
+
+	@Override
+	public void update(int batchSize, Object... entities) {
+		dispatcher.await( () -> delegate.update( batchSize, entities ) );
+	}
+
+	@Override
+	public void delete(Object entity) {
+		dispatcher.await( () -> delegate.delete( entity ) );
+	}
+
+	@Override
+	public void delete(int batchSize, Object... entities) {
+		dispatcher.await( () -> delegate.delete( batchSize, entities ) );
+	}
+
+	@Override
+	public void upsert(Object entity) {
+		dispatcher.await( () -> delegate.upsert( entity ) );
+	}
+
+	@Override
+	public void refresh(Object entity) {
+		dispatcher.await( () -> delegate.refresh( entity ) );
+	}
+
+	@Override
+	public <T> T fetch(T association) {
+		return dispatcher.await( () -> delegate.fetch( association ) );
+	}
+
+	@Override
+	public <R> Blocking.Query<R> createQuery(String queryString, Class<R> resultType) {
+		return new BlockingQueryImpl<>( dispatcher.call( () -> delegate.createQuery( queryString, resultType ) ), dispatcher );
+	}
+
+	@Override
+	public <R> Blocking.Query<R> createQuery(String queryString) {
+		return new BlockingQueryImpl<>( dispatcher.call( () -> delegate.<R>createQuery( queryString ) ), dispatcher );
+	}
+
+	@Override
+	public <R> Blocking.Query<R> createNativeQuery(String queryString, Class<R> resultType) {
+		return new BlockingQueryImpl<>( dispatcher.call( () -> delegate.createNativeQuery( queryString, resultType ) ), dispatcher );
+	}
+
+	@Override
+	public <T> T withTransaction(Function<Blocking.Transaction, T> work) {
+		return dispatcher.inTransaction(
+				delegate::withTransaction,
+				(Stage.Transaction transaction) -> work.apply( new BlockingTransactionImpl( transaction ) )
+		);
+	}
+
+	@Override
+	public boolean isOpen() {
+		return delegate.isOpen();
+	}
+
+	@Override
+	public void close() {
+		dispatcher.await( delegate::close );
+	}
+}
@@ -0,0 +1,32 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.blocking.impl;
+
+import org.hibernate.reactive.blocking.Blocking;
+import org.hibernate.reactive.stage.Stage;
+
+/**
+ * Implements the {@link Blocking.Transaction} API, delegating to a
+ * {@link Stage.Transaction}.
+ */
+final class BlockingTransactionImpl implements Blocking.Transaction {
+
+	private final Stage.Transaction delegate;
+
+	BlockingTransactionImpl(Stage.Transaction delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public void markForRollback() {
+		delegate.markForRollback();
+	}
+
+	@Override
+	public boolean isMarkedForRollback() {
+		return delegate.isMarkedForRollback();
+	}
+}
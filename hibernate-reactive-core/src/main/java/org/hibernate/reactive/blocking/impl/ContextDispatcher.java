@@ -0,0 +1,146 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.blocking.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.hibernate.reactive.context.Context;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+
+import io.vertx.core.Vertx;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.rethrow;
+
+/**
+ * Runs the operations of a blocking session on the Vert.x context of
+ * the session, and waits for them to complete on the calling thread.
+ * <p>
+ * The context is obtained from the {@link Context} service when the
+ * session is opened, and every later operation of the session runs on
+ * that same context, since a reactive session must always be used from
+ * the thread which created it.
+ * <p>
+ * Waiting never holds a monitor, so a virtual thread which waits for an
+ * operation is parked, and its carrier thread is released.
+ */
+final class ContextDispatcher implements Executor {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Context context;
+	private volatile io.vertx.core.Context vertxContext;
+
+	ContextDispatcher(Context context) {
+		this.context = context;
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		final io.vertx.core.Context sessionContext = vertxContext;
+		if ( sessionContext != null ) {
+			sessionContext.runOnContext( v -> command.run() );
+		}
+		else {
+			context.execute( () -> {
+				vertxContext = Vertx.currentContext();
+				command.run();
+			} );
+		}
+	}
+
+	/**
+	 * Run the given operation on the context of the session, and wait
+	 * for the stage it returns to complete.
+	 */
+	<T> T await(Supplier<? extends CompletionStage<T>> operation) {
+		return join( dispatch( operation ) );
+	}
+
+	/**
+	 * Run the given synchronous operation on the context of the session,
+	 * and wait for it to return.
+	 */
+	<T> T call(Supplier<T> operation) {
+		return await( () -> CompletableFuture.completedFuture( operation.get() ) );
+	}
+
+	/**
+	 * Run the given work on the calling thread, in a transaction begun and
+	 * ended on the context of the session by the given function.
+	 *
+	 * @param transaction a function which runs the work it's given inside a
+	 *                    transaction, like {@code withTransaction()} of a
+	 *                    reactive session
+	 * @param work the work to be run on the calling thread
+	 */
+	<X, T> T inTransaction(
+			Function<Function<X, CompletionStage<T>>, CompletionStage<T>> transaction,
+			Function<X, T> work) {
+		final CompletableFuture<X> begun = new CompletableFuture<>();
+		final CompletableFuture<T> done = new CompletableFuture<>();
+		final CompletableFuture<T> ended = dispatch( () -> transaction.apply( tx -> {
+			begun.complete( tx );
+			// the transaction is ended on the context of the session
+			return done.thenApplyAsync( Function.identity(), this );
+		} ) );
+		// the transaction fails before the work starts if it can't be begun
+		join( CompletableFuture.anyOf( begun, ended ) );
+		try {
+			done.complete( work.apply( begun.join() ) );
+		}
+		catch (Throwable e) {
+			done.completeExceptionally( e );
+		}
+		return join( ended );
+	}
+
+	private <T> CompletableFuture<T> dispatch(Supplier<? extends CompletionStage<T>> operation) {
+		// on a worker thread, the operation would run on the context of
+		// the worker, instead of on a context of its own
+		if ( Vertx.currentContext() != null ) {
+			throw LOG.blockingSessionOnVertxThread( Thread.currentThread().getName() );
+		}
+		final CompletableFuture<T> result = new CompletableFuture<>();
+		execute( () -> {
+			try {
+				operation.get().whenComplete( (value, failure) -> {
+					if ( failure != null ) {
+						result.completeExceptionally( failure );
+					}
+					else {
+						result.complete( value );
+					}
+				} );
+			}
+			catch (Throwable failure) {
+				result.completeExceptionally( failure );
+			}
+		} );
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T join(CompletableFuture<?> future) {
+		try {
+			return (T) future.join();
+		}
+		catch (CompletionException e) {
+			// rethrow the exception of the reactive session itself
+			Throwable cause = e;
+			while ( cause instanceof CompletionException && cause.getCause() != null ) {
+				cause = cause.getCause();
+			}
+			return rethrow( cause );
+		}
+	}
+}
@@ -0,0 +1,7 @@
+/**
+ * A synchronous API for Hibernate Reactive, for imperative code
+ * running on virtual threads.
+ *
+ * @see org.hibernate.reactive.blocking.Blocking
+ */
+package org.hibernate.reactive.blocking;
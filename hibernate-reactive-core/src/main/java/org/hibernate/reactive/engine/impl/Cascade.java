@@ -6,9 +6,15 @@
 package org.hibernate.reactive.engine.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
 import org.hibernate.CacheMode;
@@ -24,11 +30,14 @@
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.spi.DeleteContext;
 import org.hibernate.event.spi.EventSource;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.persister.collection.impl.ReactiveAbstractCollectionPersister;
 import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.type.AssociationType;
 import org.hibernate.type.CollectionType;
@@ -103,6 +112,139 @@ public static CompletionStage<?> fetchLazyAssociationsBeforeCascade(
 		return beforeDelete;
 	}
 
+	/**
+	 * Initialize, using one batch load per collection role or entity
+	 * name, the uninitialized proxies among the given entities, and then
+	 * the uninitialized associations to which the given action cascades.
+	 * After this, {@link #fetchLazyAssociationsBeforeCascade(CascadingAction, EntityPersister, Object, EventSource)}
+	 * usually has nothing left to fetch for these entities.
+	 */
+	public static CompletionStage<Void> batchFetchLazyAssociationsBeforeCascade(
+			CascadingAction<?> action,
+			Collection<?> entities,
+			EventSource session) {
+		final LazyAssociations proxies = new LazyAssociations();
+		entities.forEach( proxies::add );
+		return proxies.fetch( session )
+				.thenCompose( v -> {
+					final LazyAssociations associations = new LazyAssociations();
+					for ( Object entity : entities ) {
+						associations.addCascaded( action, loadedEntity( entity, session ), session );
+					}
+					return associations.fetch( session );
+				} );
+	}
+
+	/**
+	 * The children of the given entity to which the given action
+	 * cascades, that is, the targets of its cascaded associations,
+	 * which must already be initialized.
+	 */
+	public static List<Object> cascadedChildren(
+			CascadingAction<?> action,
+			EntityPersister persister,
+			Object entity) {
+		final List<Object> children = new ArrayList<>();
+		if ( persister.hasCascades() ) {
+			final CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
+			final Type[] types = persister.getPropertyTypes();
+			final Object[] state = persister.getPropertyValues( entity );
+			for ( int i = 0; i < cascadeStyles.length; i++ ) {
+				if ( cascadeStyles[i].doCascade( action.delegate() ) && Hibernate.isInitialized( state[i] ) ) {
+					if ( types[i].isCollectionType() ) {
+						if ( state[i] != null ) {
+							( (CollectionType) types[i] ).getElementsIterator( state[i] ).forEachRemaining( children::add );
+						}
+					}
+					else if ( types[i].isEntityType() && state[i] != null ) {
+						children.add( state[i] );
+					}
+				}
+			}
+		}
+		return children;
+	}
+
+	private static Object loadedEntity(Object entity, EventSource session) {
+		final LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer( entity );
+		if ( lazyInitializer == null ) {
+			return entity;
+		}
+		else if ( !lazyInitializer.isUninitialized() ) {
+			return lazyInitializer.getImplementation();
+		}
+		else {
+			// the entity might have been loaded without initializing the proxy
+			final EntityPersister persister = session.getFactory().getMappingMetamodel()
+					.getEntityDescriptor( lazyInitializer.getEntityName() );
+			return session.getPersistenceContextInternal()
+					.getEntity( session.generateEntityKey( lazyInitializer.getInternalIdentifier(), persister ) );
+		}
+	}
+
+	/**
+	 * Uninitialized collections grouped by role, and uninitialized
+	 * proxies grouped by entity name.
+	 */
+	private static final class LazyAssociations {
+		private final Map<String, List<PersistentCollection<?>>> collectionsByRole = new LinkedHashMap<>();
+		private final Map<String, Set<Object>> idsByEntityName = new LinkedHashMap<>();
+
+		void add(Object value) {
+			if ( value instanceof PersistentCollection ) {
+				final PersistentCollection<?> collection = (PersistentCollection<?>) value;
+				if ( !collection.wasInitialized() && collection.getRole() != null && collection.getKey() != null ) {
+					collectionsByRole.computeIfAbsent( collection.getRole(), role -> new ArrayList<>() )
+							.add( collection );
+				}
+			}
+			else {
+				final LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer( value );
+				if ( lazyInitializer != null && lazyInitializer.isUninitialized() ) {
+					idsByEntityName.computeIfAbsent( lazyInitializer.getEntityName(), name -> new LinkedHashSet<>() )
+							.add( lazyInitializer.getInternalIdentifier() );
+				}
+			}
+		}
+
+		void addCascaded(CascadingAction<?> action, Object entity, EventSource session) {
+			final EntityEntry entry = entity == null ? null : session.getPersistenceContextInternal().getEntry( entity );
+			if ( entry != null && entry.getPersister().hasCascades() ) {
+				final EntityPersister persister = entry.getPersister();
+				final CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
+				final Object[] state = persister.getPropertyValues( entity );
+				for ( int i = 0; i < cascadeStyles.length; i++ ) {
+					if ( cascadeStyles[i].doCascade( action.delegate() ) ) {
+						add( state[i] );
+					}
+				}
+			}
+		}
+
+		/**
+		 * Batch load every group with more than one member, leaving
+		 * single associations to be fetched in the usual way
+		 */
+		CompletionStage<Void> fetch(EventSource session) {
+			final MappingMetamodelImplementor metamodel = session.getFactory().getMappingMetamodel();
+			final ReactiveSession reactiveSession = session.unwrap( ReactiveSession.class );
+			return loop(
+					collectionsByRole.entrySet(),
+					entry -> entry.getValue().size() > 1,
+					entry -> ( (ReactiveAbstractCollectionPersister) metamodel.getCollectionDescriptor( entry.getKey() ) )
+							.getCollectionBatchLoader()
+							.load( entry.getValue(), session )
+			).thenCompose( v -> loop(
+					idsByEntityName.entrySet(),
+					entry -> entry.getValue().size() > 1,
+					entry -> reactiveSession.reactiveFind(
+							metamodel.getEntityDescriptor( entry.getKey() ).getMappedClass(),
+							entry.getValue().toArray()
+					)
+			) );
+		}
+	}
+
 	/**
 	 * Cascade an action from the parent entity instance to all its children.
 	 *
@@ -5,20 +5,38 @@
  */
 package org.hibernate.reactive.engine.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
+import org.hibernate.Hibernate;
+import org.hibernate.MappingException;
 import org.hibernate.TransientObjectException;
 import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.engine.internal.ManagedTypeHelper;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
+import org.hibernate.engine.spi.CascadeStyle;
 import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.Assigned;
+import org.hibernate.id.CompositeNestedGeneratedValueGenerator;
+import org.hibernate.id.ForeignGenerator;
+import org.hibernate.id.IdentifierGenerator;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.reactive.session.impl.ReactiveSessionFactoryImpl;
+import org.hibernate.type.CollectionType;
 import org.hibernate.type.CompositeType;
 import org.hibernate.type.EntityType;
 import org.hibernate.type.Type;
@@ -228,6 +246,227 @@ private CompletionStage<Boolean> isNullifiable(final String entityName, Object o
 		}
 	}
 
+	/**
+	 * Collects entities whose transience can only be determined by
+	 * fetching a snapshot from the database, so that the snapshots
+	 * may be fetched with one query per entity type, instead of one
+	 * query per entity. The snapshots are cached in the persistence
+	 * context, where {@link #isTransient} will find them.
+	 * <p>
+	 * A batch spans a whole cascade: the references of every entity
+	 * reached by the cascade are collected before anything is fetched.
+	 * Only entities with assigned identifiers, and no version, ever
+	 * need a snapshot, so the cascade isn't walked at all when there
+	 * are no such entity types, and a query is only issued for an
+	 * entity type with at least two candidates, since a single one
+	 * costs the same query when {@link #isTransient} fetches it.
+	 */
+	public static class SnapshotBatch {
+		private final SessionImplementor session;
+		private final Set<Object> cascaded = Collections.newSetFromMap( new IdentityHashMap<>() );
+		private final Map<Object, String> references = new IdentityHashMap<>();
+		private Map<EntityPersister, List<Object>> idsByPersister;
+
+		public SnapshotBatch(SessionImplementor session) {
+			this.session = session;
+		}
+
+		/**
+		 * Fetch the snapshots needed to determine if the entities referenced
+		 * by the given entities, or by any entity reachable from them through
+		 * associations to which the given action cascades, are transient.
+		 */
+		public static CompletionStage<Void> prefetch(
+				CascadingAction<?> action,
+				Collection<?> entities,
+				SessionImplementor session) {
+			if ( !isNeeded( session.getFactory() ) ) {
+				return voidFuture();
+			}
+			final SnapshotBatch batch = new SnapshotBatch( session );
+			for ( Object entity : entities ) {
+				try {
+					batch.addCascade( action, null, entity );
+				}
+				catch (MappingException e) {
+					// not an entity, which the operation itself will report
+				}
+			}
+			return batch.fetch();
+		}
+
+		/**
+		 * Could any entity type of the given factory need a snapshot?
+		 */
+		public static boolean isNeeded(SessionFactoryImplementor factory) {
+			return !( factory instanceof ReactiveSessionFactoryImpl )
+					|| ( (ReactiveSessionFactoryImpl) factory ).hasSnapshotCandidates();
+		}
+
+		/**
+		 * Could {@link EntityPersister#isTransient} be unable to determine
+		 * whether an instance of the given entity type is transient? That
+		 * is, does the entity type have an assigned identifier, instead of
+		 * a generated one whose unsaved value is {@code null}, and no
+		 * version?
+		 */
+		public static boolean isCandidate(EntityPersister persister) {
+			if ( persister.isVersioned() ) {
+				return false;
+			}
+			final IdentifierGenerator generator = persister.getIdentifierGenerator();
+			return generator == null
+					|| generator instanceof Assigned
+					|| generator instanceof ForeignGenerator
+					|| generator instanceof CompositeNestedGeneratedValueGenerator;
+		}
+
+		/**
+		 * Collect the references of the given entity, and of every entity
+		 * reachable from it through associations to which the given action
+		 * cascades, which are checked by a {@link Nullifier} or, if the action
+		 * {@linkplain CascadingAction#requiresNoCascadeChecking() requires it},
+		 * by {@link CascadingAction#noCascade}.
+		 */
+		public void addCascade(CascadingAction<?> action, String entityName, Object entity) {
+			if ( entity == null || entity == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+				return;
+			}
+			final LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer( entity );
+			if ( lazyInitializer != null ) {
+				if ( lazyInitializer.isUninitialized() ) {
+					// nothing is cascaded to an uninitialized proxy
+					return;
+				}
+				entity = lazyInitializer.getImplementation();
+			}
+			if ( !cascaded.add( entity ) ) {
+				return;
+			}
+			final EntityPersister persister = session.getEntityPersister( entityName, entity );
+			final Type[] types = persister.getPropertyTypes();
+			final CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
+			final Object[] values = persister.getPropertyValues( entity );
+			for ( int i = 0; i < types.length; i++ ) {
+				final Object value = values[i];
+				if ( value == null || value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+					continue;
+				}
+				if ( cascadeStyles[i].doCascade( action.delegate() ) ) {
+					addCascadedChildren( action, types[i], value );
+				}
+				else {
+					addReferences( action, types[i], value );
+				}
+			}
+		}
+
+		private void addCascadedChildren(CascadingAction<?> action, Type type, Object value) {
+			final SessionFactoryImplementor factory = session.getFactory();
+			if ( type.isEntityType() ) {
+				addCascade( action, ( (EntityType) type ).getAssociatedEntityName( factory ), value );
+			}
+			else if ( type.isCollectionType() && Hibernate.isInitialized( value ) ) {
+				final CollectionType collectionType = (CollectionType) type;
+				final Type elementType = collectionType.getElementType( factory );
+				if ( elementType.isEntityType() ) {
+					final String elementEntityName = ( (EntityType) elementType ).getAssociatedEntityName( factory );
+					collectionType.getElementsIterator( value )
+							.forEachRemaining( element -> addCascade( action, elementEntityName, element ) );
+				}
+			}
+		}
+
+		/**
+		 * Follows the logic of {@link Nullifier#isNullifiable(String, Object)}
+		 */
+		private void addReferences(CascadingAction<?> action, Type type, Object value) {
+			if ( type.isEntityType() ) {
+				final EntityType entityType = (EntityType) type;
+				// the Nullifier ignores one-to-one associations, but the no-cascade checks don't
+				if ( !entityType.isOneToOne() || action.requiresNoCascadeChecking() ) {
+					addReference( entityType.getAssociatedEntityName( session.getFactory() ), value );
+				}
+			}
+			else if ( type.isAnyType() ) {
+				addReference( null, value );
+			}
+			else if ( type.isComponentType() ) {
+				final CompositeType compositeType = (CompositeType) type;
+				final Object[] values = compositeType.getPropertyValues( value, session );
+				final Type[] subtypes = compositeType.getSubtypes();
+				for ( int i = 0; i < subtypes.length; i++ ) {
+					if ( values[i] != null ) {
+						addReferences( action, subtypes[i], values[i] );
+					}
+				}
+			}
+		}
+
+		private void addReference(String entityName, Object entity) {
+			final LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer( entity );
+			if ( lazyInitializer != null ) {
+				entity = lazyInitializer.getImplementation( session );
+			}
+			if ( entity != null && ( entityName == null || isCandidate( entityName ) ) ) {
+				references.putIfAbsent( entity, entityName );
+			}
+		}
+
+		private boolean isCandidate(String entityName) {
+			return SnapshotBatch.isCandidate( session.getFactory().getMappingMetamodel().getEntityDescriptor( entityName ) );
+		}
+
+		/**
+		 * Add the given entity to the batch, if {@link #isTransient}
+		 * would need a snapshot to determine whether it's transient
+		 * when there's no assumed value.
+		 */
+		public void add(String entityName, Object entity) {
+			if ( entity == LazyPropertyInitializer.UNFETCHED_PROPERTY
+					|| entity instanceof HibernateProxy
+					|| session.getPersistenceContextInternal().isEntryFor( entity )
+					|| session.getInterceptor().isTransient( entity ) != null ) {
+				return;
+			}
+			final EntityPersister persister = session.getEntityPersister( entityName, entity );
+			if ( !isCandidate( persister ) || persister.isTransient( entity, session ) != null ) {
+				return;
+			}
+			final Object id = persister.getIdentifier( entity, session );
+			if ( id != null ) {
+				if ( idsByPersister == null ) {
+					idsByPersister = new LinkedHashMap<>();
+				}
+				idsByPersister.computeIfAbsent( persister, p -> new ArrayList<>() ).add( id );
+			}
+		}
+
+		/**
+		 * Fetch the snapshots of the entities in the batch, including
+		 * the references collected from a cascade, except for entities
+		 * reached by the cascade itself.
+		 */
+		public CompletionStage<Void> fetch() {
+			references.forEach( (entity, entityName) -> {
+				if ( !cascaded.contains( entity ) ) {
+					add( entityName, entity );
+				}
+			} );
+			references.clear();
+			if ( idsByPersister == null ) {
+				return voidFuture();
+			}
+			// a single snapshot is fetched by isTransient() itself
+			idsByPersister.values().removeIf( ids -> ids.size() < 2 );
+			final ReactivePersistenceContextAdapter persistenceContext =
+					(ReactivePersistenceContextAdapter) session.getPersistenceContextInternal();
+			return loop( idsByPersister.entrySet(),
+					entry -> persistenceContext.reactivePrefetchDatabaseSnapshots( entry.getValue(), entry.getKey() )
+			);
+		}
+	}
+
 	/**
 	 * Is this instance persistent or detached?
 	 * <p/>
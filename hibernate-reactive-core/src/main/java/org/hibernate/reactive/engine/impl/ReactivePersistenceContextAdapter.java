@@ -6,21 +6,31 @@
 package org.hibernate.reactive.engine.impl;
 
 import org.hibernate.HibernateException;
+import org.hibernate.LockMode;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
+import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
 import org.hibernate.reactive.session.ReactiveSession;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
+import static java.util.Collections.emptySet;
 import static org.hibernate.pretty.MessageHelper.infoString;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
@@ -32,6 +42,10 @@ public class ReactivePersistenceContextAdapter extends StatefulPersistenceContex
 
 	private HashMap<Serializable, Object[]> entitySnapshotsByKey;
 
+	// the entities which a flush might write, since they were managed
+	// at the last flush, or have been added since then
+	private Set<String> touchedEntityNames;
+
 	/**
 	 * Constructs a PersistentContext, bound to the given session.
 	 *
@@ -98,6 +112,95 @@ public CompletionStage<Object[]> reactiveGetDatabaseSnapshot(Object id, EntityPe
 		}
 	}
 
+	/**
+	 * Fetch the snapshots of the given entities which aren't already
+	 * cached, with one query per batch of ids, and cache them for
+	 * subsequent calls to {@link #reactiveGetDatabaseSnapshot}.
+	 */
+	public CompletionStage<Void> reactivePrefetchDatabaseSnapshots(List<Object> ids, EntityPersister persister) {
+		final SessionImplementor session = (SessionImplementor) getSession();
+		final Map<EntityKey, Object> missingIds = new LinkedHashMap<>();
+		for ( Object id : ids ) {
+			final EntityKey key = session.generateEntityKey( id, persister );
+			if ( entitySnapshotsByKey == null || !entitySnapshotsByKey.containsKey( key ) ) {
+				missingIds.putIfAbsent( key, id );
+			}
+		}
+		if ( missingIds.isEmpty() ) {
+			return voidFuture();
+		}
+		final List<EntityKey> missingKeys = new ArrayList<>( missingIds.keySet() );
+		return ( (ReactiveEntityPersister) persister )
+				.reactiveGetDatabaseSnapshots( missingIds.values().toArray(), session )
+				.thenAccept( snapshots -> {
+					if ( entitySnapshotsByKey == null ) {
+						entitySnapshotsByKey = new HashMap<>( 8 );
+					}
+					for ( int i = 0; i < snapshots.length; i++ ) {
+						entitySnapshotsByKey.put( missingKeys.get( i ), snapshots[i] == null ? NO_ROW : snapshots[i] );
+					}
+				} );
+	}
+
+	/**
+	 * Every entity which is persisted, merged, loaded or reattached is
+	 * added to the persistence context by this method.
+	 */
+	@Override
+	public EntityEntry addEntry(
+			Object entity,
+			Status status,
+			Object[] loadedState,
+			Object rowId,
+			Object id,
+			Object version,
+			LockMode lockMode,
+			boolean existsInDatabase,
+			EntityPersister persister,
+			boolean disableVersionIncrement) {
+		touchEntity( persister.getEntityName() );
+		return super.addEntry(
+				entity,
+				status,
+				loadedState,
+				rowId,
+				id,
+				version,
+				lockMode,
+				existsInDatabase,
+				persister,
+				disableVersionIncrement
+		);
+	}
+
+	/**
+	 * Record that a flush might write an entity of the given type.
+	 */
+	public void touchEntity(String entityName) {
+		if ( touchedEntityNames == null ) {
+			touchedEntityNames = new HashSet<>();
+		}
+		touchedEntityNames.add( entityName );
+	}
+
+	/**
+	 * Forget the entities recorded by {@link #touchEntity(String)}, at
+	 * the start of a flush, which records the entities still managed.
+	 */
+	public void clearTouchedEntities() {
+		if ( touchedEntityNames != null ) {
+			touchedEntityNames.clear();
+		}
+	}
+
+	/**
+	 * @return the names of the entities which a flush might write,
+	 *         without iterating the entries of the persistence context
+	 */
+	public Set<String> getTouchedEntityNames() {
+		return touchedEntityNames == null ? emptySet() : touchedEntityNames;
+	}
+
 	//All below methods copy/pasted from superclass because entitySnapshotsByKey is private:
 
 	@Override
@@ -116,6 +219,7 @@ public Object[] getCachedDatabaseSnapshot(EntityKey key) {
 	public void clear() {
 		super.clear();
 		entitySnapshotsByKey = null;
+		touchedEntityNames = null;
 	}
 
 	@Override
@@ -5,6 +5,10 @@
  */
 package org.hibernate.reactive.event.impl;
 
+import static org.hibernate.reactive.tracing.ReactiveTracer.SpanKind.FLUSH_EXECUTE;
+import static org.hibernate.reactive.tracing.ReactiveTracer.SpanKind.FLUSH_PREPARE;
+import static org.hibernate.reactive.tracing.impl.Tracing.trace;
+import static org.hibernate.reactive.tracing.impl.Tracing.tracer;
 import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
@@ -30,10 +34,12 @@
 import org.hibernate.reactive.engine.ReactiveActionQueue;
 import org.hibernate.reactive.engine.impl.Cascade;
 import org.hibernate.reactive.engine.impl.CascadingActions;
+import org.hibernate.reactive.engine.impl.ForeignKeys.SnapshotBatch;
 import org.hibernate.reactive.engine.impl.QueuedOperationCollectionAction;
 import org.hibernate.reactive.engine.impl.ReactiveCollectionRecreateAction;
 import org.hibernate.reactive.engine.impl.ReactiveCollectionRemoveAction;
 import org.hibernate.reactive.engine.impl.ReactiveCollectionUpdateAction;
+import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.session.ReactiveSession;
@@ -61,7 +67,7 @@ protected CompletionStage<Void> performExecutions(EventSource session) {
 					// we need to lock the collection caches before executing entity inserts/updates in order to
 					// account for bi-directional associations
 					actionQueue( session ).prepareActions();
-					return actionQueue( session ).executeActions();
+					return trace( tracer( session.getFactory() ), FLUSH_EXECUTE, null, actionQueue( session )::executeActions );
 				} )
 				.whenComplete( (v, x) -> {
 					session.getPersistenceContext().setFlushing( false );
@@ -90,27 +96,27 @@ protected CompletionStage<Void> flushEverythingToExecutions(FlushEvent event) th
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 		session.getInterceptor().preFlush( persistenceContext.managedEntitiesIterator() );
 
-		return prepareEntityFlushes(session, persistenceContext)
-				.thenAccept( v -> {
-					// we could move this inside if we wanted to
-					// tolerate collection initializations during
-					// collection dirty checking:
-					prepareCollectionFlushes( persistenceContext );
-					// now, any collections that are initialized
-					// inside this block do not get updated - they
-					// are ignored until the next flush
-					persistenceContext.setFlushing(true);
-					try {
-						int entityCount = flushEntities(event, persistenceContext);
-						int collectionCount = flushCollections(session, persistenceContext);
-
-						event.setNumberOfEntitiesProcessed(entityCount);
-						event.setNumberOfCollectionsProcessed(collectionCount);
-					}
-					finally {
-						persistenceContext.setFlushing(false);
-					}
-				} );
+		return trace( tracer( session.getFactory() ), FLUSH_PREPARE, null, () -> prepareEntityFlushes( session, persistenceContext )
+					.thenAccept( v -> {
+						// we could move this inside if we wanted to
+						// tolerate collection initializations during
+						// collection dirty checking:
+						prepareCollectionFlushes( persistenceContext );
+						// now, any collections that are initialized
+						// inside this block do not get updated - they
+						// are ignored until the next flush
+						persistenceContext.setFlushing(true);
+						try {
+							int entityCount = flushEntities(event, persistenceContext);
+							int collectionCount = flushCollections(session, persistenceContext);
+
+							event.setNumberOfEntitiesProcessed(entityCount);
+							event.setNumberOfCollectionsProcessed(collectionCount);
+						}
+						finally {
+							persistenceContext.setFlushing(false);
+						}
+					} ) );
 
 		//some statistics
 //		logFlushResults( event );
@@ -128,10 +134,19 @@ private CompletionStage<Void> prepareEntityFlushes(EventSource session, Persiste
 		PersistContext context = PersistContext.create();
 		//safe from concurrent modification because of how concurrentEntries() is implemented on IdentityMap
 		Map.Entry<Object, EntityEntry>[] entries = persistenceContext.reentrantSafeEntityEntries();
-		return loop(
+		// fetch the snapshots needed by the checks of every cascade up front
+		final SnapshotBatch snapshots = new SnapshotBatch( session );
+		if ( SnapshotBatch.isNeeded( session.getFactory() ) ) {
+			for ( Map.Entry<Object, EntityEntry> entry : entries ) {
+				if ( flushable( entry.getValue() ) ) {
+					snapshots.addCascade( CascadingActions.PERSIST_ON_FLUSH, entry.getValue().getEntityName(), entry.getKey() );
+				}
+			}
+		}
+		return snapshots.fetch().thenCompose( v -> loop(
 				entries,
 				index -> flushable( entries[index].getValue() ),
-				index -> cascadeOnFlush( session, entries[index].getValue().getPersister(), entries[index].getKey(), context ) );
+				index -> cascadeOnFlush( session, entries[index].getValue().getPersister(), entries[index].getKey(), context ) ) );
 	}
 
 	private static boolean flushable(EntityEntry entry) {
@@ -179,6 +194,12 @@ private int flushEntities(final FlushEvent event, final PersistenceContext persi
 		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
 		final int count = entityEntries.length;
 
+		// the entities which the next flush might write are the ones still
+		// managed after this flush, and the ones added to the session later
+		final ReactivePersistenceContextAdapter reactivePersistenceContext =
+				(ReactivePersistenceContextAdapter) persistenceContext;
+		reactivePersistenceContext.clearTouchedEntities();
+
 		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
 
 			// Update the status of the object and if necessary, schedule an update
@@ -186,6 +207,10 @@ private int flushEntities(final FlushEvent event, final PersistenceContext persi
 			EntityEntry entry = me.getValue();
 			Status status = entry.getStatus();
 
+			if ( status != Status.DELETED && status != Status.GONE ) {
+				reactivePersistenceContext.touchEntity( entry.getEntityName() );
+			}
+
 			if ( status != Status.LOADING && status != Status.GONE ) {
 				final FlushEntityEvent entityEvent = new FlushEntityEvent( source, me.getKey(), entry );
 				for ( FlushEntityEventListener listener : flushListeners ) {
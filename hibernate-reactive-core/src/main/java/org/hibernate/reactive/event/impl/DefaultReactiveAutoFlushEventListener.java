@@ -5,30 +5,67 @@
  */
 package org.hibernate.reactive.event.impl;
 
+import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.event.spi.AutoFlushEvent;
 import org.hibernate.event.spi.AutoFlushEventListener;
 import org.hibernate.event.spi.EventSource;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.reactive.engine.ReactiveActionQueue;
+import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
 import org.hibernate.reactive.event.ReactiveAutoFlushEventListener;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.session.ReactiveSession;
 import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.AnyType;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.ComponentType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
 
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
+/**
+ * Flushes the session before a query if the query might see the changes.
+ * <p>
+ * When {@link Settings#QUERY_SPACE_AUTO_FLUSH} is enabled, the flush is
+ * skipped without dirty-checking the session when no managed entity or
+ * collection could possibly write to the tables read by the query,
+ * including via cascades. Rather than every entity in the session, only
+ * the entity types managed at the last flush, or added since then, are
+ * checked, as {@linkplain ReactivePersistenceContextAdapter#getTouchedEntityNames()
+ * recorded by the persistence context}.
+ */
 public class DefaultReactiveAutoFlushEventListener extends AbstractReactiveFlushingEventListener
 		implements ReactiveAutoFlushEventListener, AutoFlushEventListener {
 
 	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	// The tables a flush might write to because of a managed entity or collection,
+	// by entity name or collection role: this listener belongs to a single factory
+	private final Map<String, AffectedSpaces> affectedSpacesByEntityName = new ConcurrentHashMap<>();
+	private final Map<String, AffectedSpaces> affectedSpacesByRole = new ConcurrentHashMap<>();
+	private volatile Boolean querySpaceAutoFlush;
+
 	@Override
 	public CompletionStage<Void> reactiveOnAutoFlush(AutoFlushEvent event) throws HibernateException {
 		final EventSource source = event.getSession();
@@ -36,7 +73,7 @@ public CompletionStage<Void> reactiveOnAutoFlush(AutoFlushEvent event) throws Hi
 
 		eventListenerManager.partialFlushStart();
 		CompletionStage<Void> autoFlushStage = voidFuture();
-		if ( flushMightBeNeeded( source ) ) {
+		if ( flushMightBeNeeded( source ) && flushMightAffectQuery( event, source ) ) {
 			// Need to get the number of collection removals before flushing to executions
 			// (because flushing to executions can add collection removal actions to the action queue).
 			final ReactiveActionQueue actionQueue = reactiveActionQueue( event );
@@ -95,6 +132,183 @@ private boolean flushMightBeNeeded(final EventSource source) {
 				|| persistenceContext.getCollectionEntriesSize() > 0 );
 	}
 
+	/**
+	 * @return {@code false} if no flush could possibly write to the
+	 *         query spaces of the event, so the dirty-check can be skipped
+	 */
+	private boolean flushMightAffectQuery(AutoFlushEvent event, EventSource source) {
+		final Set<String> querySpaces = event.getQuerySpaces();
+		if ( !isQuerySpaceAutoFlush( source )
+				|| source.getHibernateFlushMode() == FlushMode.ALWAYS
+				// a native query without synchronized query spaces might read any table
+				|| querySpaces == null || querySpaces.isEmpty()
+				|| reactiveActionQueue( source ).areTablesToBeUpdated( querySpaces ) ) {
+			return true;
+		}
+
+		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
+		final MappingMetamodel metamodel = source.getFactory().getRuntimeMetamodels().getMappingMetamodel();
+		// only the types of the entities managed at the last flush, or added since then,
+		// rather than every entity in the session
+		final Set<String> entityNames = ( (ReactivePersistenceContextAdapter) persistenceContext ).getTouchedEntityNames();
+		for ( String entityName : entityNames ) {
+			if ( affectedSpaces( entityName, metamodel ).intersects( querySpaces ) ) {
+				return true;
+			}
+		}
+
+		final boolean[] affected = { false };
+		persistenceContext.forEachCollectionEntry( (collection, entry) -> {
+			if ( !affected[0] ) {
+				affected[0] = affectedSpaces( entry, metamodel ).intersects( querySpaces );
+			}
+		}, false );
+		if ( !affected[0] ) {
+			LOG.tracef( "Skipping auto-flush, since the session can't write to %s", querySpaces );
+		}
+		return affected[0];
+	}
+
+	private boolean isQuerySpaceAutoFlush(EventSource source) {
+		Boolean enabled = querySpaceAutoFlush;
+		if ( enabled == null ) {
+			enabled = source.getFactory().getServiceRegistry().getService( ConfigurationService.class )
+					.getSetting( Settings.QUERY_SPACE_AUTO_FLUSH, StandardConverters.BOOLEAN, false );
+			querySpaceAutoFlush = enabled;
+		}
+		return enabled;
+	}
+
+	private AffectedSpaces affectedSpaces(String entityName, MappingMetamodel metamodel) {
+		final AffectedSpaces affectedSpaces = affectedSpacesByEntityName.get( entityName );
+		if ( affectedSpaces != null ) {
+			return affectedSpaces;
+		}
+		final AffectedSpaces newAffectedSpaces = new AffectedSpaces( metamodel );
+		newAffectedSpaces.addEntity( entityName );
+		affectedSpacesByEntityName.put( entityName, newAffectedSpaces );
+		return newAffectedSpaces;
+	}
+
+	private AffectedSpaces affectedSpaces(CollectionEntry entry, MappingMetamodel metamodel) {
+		final CollectionPersister persister = entry.getLoadedPersister() != null
+				? entry.getLoadedPersister()
+				: entry.getCurrentPersister();
+		if ( persister == null ) {
+			return AffectedSpaces.ANY;
+		}
+		final AffectedSpaces affectedSpaces = affectedSpacesByRole.get( persister.getRole() );
+		if ( affectedSpaces != null ) {
+			return affectedSpaces;
+		}
+		final AffectedSpaces newAffectedSpaces = new AffectedSpaces( metamodel );
+		newAffectedSpaces.addCollection( persister.getRole() );
+		affectedSpacesByRole.put( persister.getRole(), newAffectedSpaces );
+		return newAffectedSpaces;
+	}
+
+	/**
+	 * The tables which a flush might write to because of an entity
+	 * or collection: its own tables, and the tables of every entity
+	 * and collection reachable from it via associations, since new
+	 * instances might be persisted by cascade, and orphans removed.
+	 */
+	private static final class AffectedSpaces {
+		static final AffectedSpaces ANY = new AffectedSpaces( null );
+
+		private final MappingMetamodel metamodel;
+		private final Set<String> spaces = new HashSet<>();
+		private final Set<String> entityNames = new HashSet<>();
+		private final Set<String> roles = new HashSet<>();
+		private final Deque<Type> pendingTypes = new ArrayDeque<>();
+		private boolean any;
+
+		private AffectedSpaces(MappingMetamodel metamodel) {
+			this.metamodel = metamodel;
+			this.any = metamodel == null;
+		}
+
+		boolean intersects(Set<String> querySpaces) {
+			if ( any ) {
+				return true;
+			}
+			for ( String querySpace : querySpaces ) {
+				if ( spaces.contains( querySpace ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		void addEntity(String entityName) {
+			pendingTypes.clear();
+			visitEntity( entityName );
+			visitPendingTypes();
+		}
+
+		void addCollection(String role) {
+			pendingTypes.clear();
+			visitCollection( role );
+			visitPendingTypes();
+		}
+
+		private void visitPendingTypes() {
+			while ( !any && !pendingTypes.isEmpty() ) {
+				final Type type = pendingTypes.pop();
+				if ( type instanceof AnyType ) {
+					// the associated entity could be of any type
+					any = true;
+				}
+				else if ( type instanceof EntityType ) {
+					visitEntity( ( (EntityType) type ).getAssociatedEntityName() );
+				}
+				else if ( type instanceof CollectionType ) {
+					visitCollection( ( (CollectionType) type ).getRole() );
+				}
+				else if ( type instanceof ComponentType ) {
+					for ( Type subtype : ( (ComponentType) type ).getSubtypes() ) {
+						pendingTypes.push( subtype );
+					}
+				}
+			}
+			// the intermediate state isn't needed anymore
+			entityNames.clear();
+			roles.clear();
+		}
+
+		private void visitEntity(String entityName) {
+			final EntityPersister persister = metamodel.getEntityDescriptor( entityName );
+			// an association might refer to an instance of any subclass
+			for ( String subclassEntityName : persister.getEntityMetamodel().getSubclassEntityNames() ) {
+				if ( entityNames.add( subclassEntityName ) ) {
+					final EntityPersister subclassPersister = metamodel.getEntityDescriptor( subclassEntityName );
+					addSpaces( subclassPersister.getPropertySpaces() );
+					pendingTypes.push( subclassPersister.getIdentifierType() );
+					for ( Type propertyType : subclassPersister.getPropertyTypes() ) {
+						pendingTypes.push( propertyType );
+					}
+				}
+			}
+		}
+
+		private void visitCollection(String role) {
+			if ( roles.add( role ) ) {
+				final CollectionPersister persister = metamodel.getCollectionDescriptor( role );
+				addSpaces( persister.getCollectionSpaces() );
+				pendingTypes.push( persister.getElementType() );
+				if ( persister.hasIndex() ) {
+					pendingTypes.push( persister.getIndexType() );
+				}
+			}
+		}
+
+		private void addSpaces(Serializable[] tableNames) {
+			for ( Serializable tableName : tableNames ) {
+				spaces.add( (String) tableName );
+			}
+		}
+	}
+
 	@Override
 	public void onAutoFlush(AutoFlushEvent event) throws HibernateException {
 		throw new UnsupportedOperationException("use reactiveOnAutoFlush instead");
@@ -6,6 +6,8 @@
 package org.hibernate.reactive.event.impl;
 
 import static org.hibernate.pretty.MessageHelper.infoString;
+import static org.hibernate.reactive.engine.impl.Cascade.batchFetchLazyAssociationsBeforeCascade;
+import static org.hibernate.reactive.engine.impl.Cascade.cascadedChildren;
 import static org.hibernate.reactive.engine.impl.Cascade.fetchLazyAssociationsBeforeCascade;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
@@ -424,6 +426,12 @@ protected CompletionStage<Void> cascadeBeforeDelete(
 			DeleteContext transientEntities) throws HibernateException {
 		// cascade-delete to collections BEFORE the collection owner is deleted
 		return fetchLazyAssociationsBeforeCascade( CascadingActions.DELETE, persister, entity, session )
+				// fetch the associations of all the children at once, instead of child by child
+				.thenCompose( v -> batchFetchLazyAssociationsBeforeCascade(
+						CascadingActions.DELETE,
+						cascadedChildren( CascadingActions.DELETE, persister, entity ),
+						session
+				) )
 				.thenCompose(
 						v -> new Cascade<DeleteContext>(
 								CascadingActions.DELETE,
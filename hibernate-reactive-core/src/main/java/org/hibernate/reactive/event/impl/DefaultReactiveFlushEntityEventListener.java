@@ -171,13 +171,55 @@ else if ( !mightBeDirty && loadedState != null ) {
 			checkId( entity, persister, entry.getId(), session );
 
 			// grab its current state
-			values = persister.getValues( entity );
+			final Object[] trackedValues = loadedState == null ? null : trackedValues( entity, persister, loadedState );
+			values = trackedValues == null ? persister.getValues( entity ) : trackedValues;
 
 			checkNaturalId( persister, entity, entry, values, loadedState, session );
 		}
 		return values;
 	}
 
+	/**
+	 * With bytecode-enhanced dirty tracking, only the attributes the
+	 * entity reports as dirty, and the attributes of mutable types,
+	 * might differ from the loaded state, so only those are read from
+	 * the entity.
+	 *
+	 * @return the current state of the entity, or {@code null} if the
+	 *         entity doesn't track its dirty attributes
+	 */
+	private static Object[] trackedValues(Object entity, EntityPersister persister, Object[] loadedState) {
+		if ( !ManagedTypeHelper.isSelfDirtinessTracker( entity ) || isUninitializedProxy( entity ) ) {
+			return null;
+		}
+		final Type[] types = persister.getPropertyTypes();
+		final boolean[] tracked = new boolean[types.length];
+		for ( String attributeName : ManagedTypeHelper.asSelfDirtinessTracker( entity ).$$_hibernate_getDirtyAttributes() ) {
+			// a change to an embeddable is tracked as a change to its path
+			final int dot = attributeName.indexOf( '.' );
+			final Integer index = persister.getEntityMetamodel()
+					.getPropertyIndexOrNull( dot < 0 ? attributeName : attributeName.substring( 0, dot ) );
+			if ( index == null ) {
+				return null;
+			}
+			tracked[index] = true;
+		}
+		final Object[] values = loadedState.clone();
+		for ( int i = 0; i < types.length; i++ ) {
+			// an unfetched lazy attribute is only read if it was set
+			if ( tracked[i] || types[i].isMutable() && loadedState[i] != LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+				values[i] = persister.getPropertyValue( entity, i );
+			}
+		}
+		return values;
+	}
+
+	private static boolean isUninitializedProxy(Object entity) {
+		return entity instanceof PersistentAttributeInterceptable
+				&& ( (PersistentAttributeInterceptable) entity ).$$_hibernate_getInterceptor()
+						instanceof EnhancementAsProxyLazinessInterceptor;
+	}
+
 	/*
 	 * see DefaultFlushEntityEventListener#wrapCollections
 	 */
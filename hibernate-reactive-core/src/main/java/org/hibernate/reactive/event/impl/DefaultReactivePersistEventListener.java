@@ -27,10 +27,12 @@
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.reactive.engine.impl.CascadingAction;
 import org.hibernate.reactive.engine.impl.CascadingActions;
+import org.hibernate.reactive.engine.impl.ForeignKeys.SnapshotBatch;
 import org.hibernate.reactive.event.ReactivePersistEventListener;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 
+import static java.util.Collections.singletonList;
 import static org.hibernate.pretty.MessageHelper.infoString;
 import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
@@ -60,7 +62,9 @@ public void onPersist(PersistEvent event) throws HibernateException {
 	 */
 	@Override
 	public CompletionStage<Void> reactiveOnPersist(PersistEvent event) {
-		return reactiveOnPersist( event, PersistContext.create() );
+		// fetch the snapshots needed by the whole cascade up front
+		return SnapshotBatch.prefetch( CascadingActions.PERSIST, singletonList( event.getObject() ), event.getSession() )
+				.thenCompose( v -> reactiveOnPersist( event, PersistContext.create() ) );
 	}
 
 	@Override
@@ -6,17 +6,23 @@
 package org.hibernate.reactive.loader.ast.internal;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.LockOptions;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.loader.ast.internal.LoaderSqlAstCreationState;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.sqm.ComparisonOperator;
@@ -33,6 +39,7 @@
 import org.hibernate.sql.ast.tree.from.TableGroup;
 import org.hibernate.sql.ast.tree.from.TableReference;
 import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
+import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.select.QuerySpec;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.internal.BaseExecutionContext;
@@ -48,23 +55,45 @@
 
 import org.jboss.logging.Logger;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
 /**
  * @see org.hibernate.loader.ast.internal.DatabaseSnapshotExecutor
  */
 class DatabaseSnapshotExecutor {
 	private static final Logger log = Logger.getLogger( DatabaseSnapshotExecutor.class );
 
+	/**
+	 * The maximum number of ids in the {@code in} list of a query
+	 * which fetches several snapshots at once. The number of ids in
+	 * each query is rounded up to a power of two, so that there's
+	 * only a handful of distinct queries for each entity.
+	 */
+	private static final int MAX_BATCH_SIZE = 64;
+
 	private final EntityMappingType entityDescriptor;
+	private final SessionFactoryImplementor sessionFactory;
 
-	private final JdbcOperationQuerySelect jdbcSelect;
-	private final List<JdbcParameter> jdbcParameters;
+	private final SnapshotSelect singleIdSelect;
+	private final Map<Integer, SnapshotSelect> multiIdSelects = new ConcurrentHashMap<>();
 
 	DatabaseSnapshotExecutor(
 			EntityMappingType entityDescriptor,
 			SessionFactoryImplementor sessionFactory) {
 		this.entityDescriptor = entityDescriptor;
-		this.jdbcParameters = new ArrayList<>(
-				entityDescriptor.getIdentifierMapping().getJdbcTypeCount()
+		this.sessionFactory = sessionFactory;
+		this.singleIdSelect = createSelect( 1 );
+	}
+
+	/**
+	 * A query for the snapshots of the given number of entities.
+	 * When there's more than one id, the id is selected in place of
+	 * the literal, so that each row may be matched to its entity.
+	 */
+	private SnapshotSelect createSelect(int idCount) {
+		final EntityIdentifierMapping identifierMapping = entityDescriptor.getIdentifierMapping();
+		final List<JdbcParameter> jdbcParameters = new ArrayList<>(
+				identifierMapping.getJdbcTypeCount() * idCount
 		);
 
 		final QuerySpec rootQuerySpec = new QuerySpec( true );
@@ -100,36 +129,52 @@ class DatabaseSnapshotExecutor {
 
 		final SqlExpressionResolver sqlExpressionResolver = state.getSqlExpressionResolver();
 
-		// We just need a literal to have a result set
-		domainResults.add(
-				new QueryLiteral<>(
-						null,
-						sessionFactory.getTypeConfiguration()
-								.getBasicTypeRegistry()
-								.resolve( StandardBasicTypes.INTEGER )
-				).createDomainResult( null, state )
-		);
-		final NavigablePath idNavigablePath = rootPath.append( entityDescriptor.getIdentifierMapping().getNavigableRole().getNavigableName() );
-		entityDescriptor.getIdentifierMapping().forEachSelectable(
+		final NavigablePath idNavigablePath = rootPath.append( identifierMapping.getNavigableRole().getNavigableName() );
+		if ( idCount == 1 ) {
+			// We just need a literal to have a result set
+			domainResults.add(
+					new QueryLiteral<>(
+							null,
+							sessionFactory.getTypeConfiguration()
+									.getBasicTypeRegistry()
+									.resolve( StandardBasicTypes.INTEGER )
+					).createDomainResult( null, state )
+			);
+		}
+		else {
+			domainResults.add( identifierMapping.createDomainResult( idNavigablePath, rootTableGroup, null, state ) );
+		}
+		identifierMapping.forEachSelectable(
 				(columnIndex, selection) -> {
 					final TableReference tableReference = rootTableGroup.resolveTableReference(
 							idNavigablePath,
 							selection.getContainingTableExpression()
 					);
 
-					final JdbcParameter jdbcParameter = new JdbcParameterImpl( selection.getJdbcMapping() );
-					jdbcParameters.add( jdbcParameter );
-
 					final ColumnReference columnReference = (ColumnReference) sqlExpressionResolver
 							.resolveSqlExpression( tableReference, selection );
 
-					rootQuerySpec.applyPredicate(
-							new ComparisonPredicate(
-									columnReference,
-									ComparisonOperator.EQUAL,
-									jdbcParameter
-							)
-					);
+					if ( idCount == 1 ) {
+						final JdbcParameter jdbcParameter = new JdbcParameterImpl( selection.getJdbcMapping() );
+						jdbcParameters.add( jdbcParameter );
+						rootQuerySpec.applyPredicate(
+								new ComparisonPredicate(
+										columnReference,
+										ComparisonOperator.EQUAL,
+										jdbcParameter
+								)
+						);
+					}
+					else {
+						// Only used for single-column ids
+						final InListPredicate predicate = new InListPredicate( columnReference );
+						for ( int i = 0; i < idCount; i++ ) {
+							final JdbcParameter jdbcParameter = new JdbcParameterImpl( selection.getJdbcMapping() );
+							jdbcParameters.add( jdbcParameter );
+							predicate.addExpression( jdbcParameter );
+						}
+						rootQuerySpec.applyPredicate( predicate );
+					}
 				}
 		);
 
@@ -154,8 +199,10 @@ class DatabaseSnapshotExecutor {
 		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
 		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
 
-		this.jdbcSelect = sqlAstTranslatorFactory.buildSelectTranslator( sessionFactory, selectStatement )
+		final JdbcOperationQuerySelect jdbcSelect = sqlAstTranslatorFactory
+				.buildSelectTranslator( sessionFactory, selectStatement )
 				.translate( null, QueryOptions.NONE );
+		return new SnapshotSelect( jdbcSelect, jdbcParameters );
 	}
 
 	private static ImmutableFetchList visitEmptyFetchList(FetchParent fetchParent, LoaderSqlAstCreationState creationState) {
@@ -174,14 +221,14 @@ CompletionStage<Object[]> loadDatabaseSnapshot(Object id, SharedSessionContractI
 		int offset = jdbcParameterBindings.registerParametersForEachJdbcValue(
 				id,
 				entityDescriptor.getIdentifierMapping(),
-				jdbcParameters,
+				singleIdSelect.jdbcParameters,
 				session
 		);
-		assert offset == jdbcParameters.size();
+		assert offset == singleIdSelect.jdbcParameters.size();
 
 		// FIXME: use JdbcServices
 		return StandardReactiveSelectExecutor.INSTANCE
-				.list( jdbcSelect, jdbcParameterBindings, new BaseExecutionContext( session ), RowTransformerDatabaseSnapshotImpl.instance(), ReactiveListResultsConsumer.UniqueSemantic.FILTER  )
+				.list( singleIdSelect.jdbcSelect, jdbcParameterBindings, new BaseExecutionContext( session ), RowTransformerDatabaseSnapshotImpl.instance(), ReactiveListResultsConsumer.UniqueSemantic.FILTER  )
 				.thenApply( list -> {
 					assert list != null;
 					final int size = list.size();
@@ -191,16 +238,106 @@ CompletionStage<Object[]> loadDatabaseSnapshot(Object id, SharedSessionContractI
 						return null;
 					}
 
-					final Object[] entitySnapshot = (Object[]) list.get( 0 );
-					// The result of this method is treated like the entity state array which doesn't include the id
-					// So we must exclude it from the array
-					if ( entitySnapshot.length == 1 ) {
-						return ArrayHelper.EMPTY_OBJECT_ARRAY;
-					}
+					return state( (Object[]) list.get( 0 ) );
+				} );
+	}
+
+	/**
+	 * Load the snapshots of several entities of this type, using one
+	 * query for every {@value #MAX_BATCH_SIZE} ids.
+	 *
+	 * @return the snapshots, in the same order as the given ids, with
+	 *         {@code null} for each entity with no row in the database
+	 */
+	CompletionStage<Object[][]> loadDatabaseSnapshots(Object[] ids, SharedSessionContractImplementor session) {
+		final Object[][] snapshots = new Object[ids.length][];
+		if ( entityDescriptor.getIdentifierMapping() instanceof BasicEntityIdentifierMapping ) {
+			final int batchCount = ( ids.length + MAX_BATCH_SIZE - 1 ) / MAX_BATCH_SIZE;
+			return loop( 0, batchCount, batch -> loadDatabaseSnapshots(
+						ids,
+						batch * MAX_BATCH_SIZE,
+						Math.min( ids.length, ( batch + 1 ) * MAX_BATCH_SIZE ),
+						snapshots,
+						session
+					) )
+					.thenApply( v -> snapshots );
+		}
+		else {
+			// An in list of tuples isn't supported everywhere, so
+			// we load entities with composite ids one at a time
+			return loop( 0, ids.length, i -> loadDatabaseSnapshot( ids[i], session )
+							.thenAccept( snapshot -> snapshots[i] = snapshot ) )
+					.thenApply( v -> snapshots );
+		}
+	}
+
+	private CompletionStage<Void> loadDatabaseSnapshots(
+			Object[] ids,
+			int start,
+			int end,
+			Object[][] snapshots,
+			SharedSessionContractImplementor session) {
+		if ( log.isTraceEnabled() ) {
+			log.tracef( "Getting current persistent state for %d instances of `%s`", end - start, entityDescriptor.getEntityName() );
+		}
+
+		final int idCount = Integer.highestOneBit( end - start - 1 ) << 1;
+		final SnapshotSelect select = multiIdSelects.computeIfAbsent( Math.max( idCount, 2 ), this::createSelect );
+		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( select.jdbcParameters.size() );
+		int offset = 0;
+		while ( offset < select.jdbcParameters.size() ) {
+			// repeat the last id to pad out the list
+			final Object id = ids[ Math.min( start + offset, end - 1 ) ];
+			offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+					id,
+					offset,
+					entityDescriptor.getIdentifierMapping(),
+					select.jdbcParameters,
+					session
+			);
+		}
 
-					final Object[] state = new Object[entitySnapshot.length - 1];
-					System.arraycopy( entitySnapshot, 1, state, 0, state.length );
-					return state;
+		return StandardReactiveSelectExecutor.INSTANCE
+				.list( select.jdbcSelect, jdbcParameterBindings, new BaseExecutionContext( session ), RowTransformerDatabaseSnapshotImpl.instance(), ReactiveListResultsConsumer.UniqueSemantic.NONE )
+				.thenAccept( list -> {
+					// Use entity keys to match rows to ids, since the
+					// Java type of the id might not implement equals()
+					final Map<EntityKey, Object[]> snapshotsByKey = new HashMap<>( list.size() * 2 );
+					for ( Object row : list ) {
+						final Object[] entitySnapshot = (Object[]) row;
+						snapshotsByKey.put( entityKey( entitySnapshot[0], session ), state( entitySnapshot ) );
+					}
+					for ( int i = start; i < end; i++ ) {
+						snapshots[i] = snapshotsByKey.get( entityKey( ids[i], session ) );
+					}
 				} );
 	}
+
+	private EntityKey entityKey(Object id, SharedSessionContractImplementor session) {
+		return session.generateEntityKey( id, entityDescriptor.getEntityPersister() );
+	}
+
+	/**
+	 * The result of this method is treated like the entity state array
+	 * which doesn't include the id, so we must exclude the first element
+	 */
+	private static Object[] state(Object[] entitySnapshot) {
+		if ( entitySnapshot.length == 1 ) {
+			return ArrayHelper.EMPTY_OBJECT_ARRAY;
+		}
+
+		final Object[] state = new Object[entitySnapshot.length - 1];
+		System.arraycopy( entitySnapshot, 1, state, 0, state.length );
+		return state;
+	}
+
+	private static class SnapshotSelect {
+		private final JdbcOperationQuerySelect jdbcSelect;
+		private final List<JdbcParameter> jdbcParameters;
+
+		private SnapshotSelect(JdbcOperationQuerySelect jdbcSelect, List<JdbcParameter> jdbcParameters) {
+			this.jdbcSelect = jdbcSelect;
+			this.jdbcParameters = jdbcParameters;
+		}
+	}
 }
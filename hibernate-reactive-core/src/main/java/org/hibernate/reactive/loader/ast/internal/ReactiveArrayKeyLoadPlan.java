@@ -0,0 +1,222 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.loader.ast.internal;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.dialect.CockroachDialect;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.DialectDelegateWrapper;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
+import org.hibernate.metamodel.mapping.CollectionPart;
+import org.hibernate.metamodel.mapping.EntityCollectionPart;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.sql.exec.internal.StandardReactiveSelectExecutor;
+import org.hibernate.reactive.sql.results.spi.ReactiveListResultsConsumer;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
+
+/**
+ * Loads the rows for any number of single-column keys by binding
+ * the keys as one array parameter, {@code where key = any($1)},
+ * instead of an in-list with a parameter per key. The loader then
+ * executes the same SQL string for every batch, whatever its size,
+ * so the statement is prepared once and the database can reuse its
+ * plan.
+ * <p>
+ * Only used on PostgreSQL and CockroachDB, for keys mapped to a
+ * {@code Short}, {@code Integer}, {@code Long}, {@code String} or
+ * {@code UUID} column value.
+ *
+ * @see Settings#ARRAY_PARAMETER_IN_LIST
+ */
+public final class ReactiveArrayKeyLoadPlan {
+
+	// PostgreSQL renders native markers, CockroachDB renders JDBC markers
+	private static final Pattern PARAMETER = Pattern.compile( "\\$\\d+|\\?" );
+
+	private static final Set<Class<?>> ELEMENT_TYPES = Set.of(
+			Short.class,
+			Integer.class,
+			Long.class,
+			String.class,
+			UUID.class
+	);
+
+	private final JdbcOperationQuerySelect jdbcSelect;
+	private final JdbcParameter keyParameter;
+	private final JdbcMapping keyJdbcMapping;
+
+	private ReactiveArrayKeyLoadPlan(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameter keyParameter,
+			JdbcMapping keyJdbcMapping) {
+		this.jdbcSelect = jdbcSelect;
+		this.keyParameter = keyParameter;
+		this.keyJdbcMapping = keyJdbcMapping;
+	}
+
+	/**
+	 * Is array binding enabled, and does the dialect support it?
+	 */
+	static boolean isEnabled(SessionFactoryImplementor factory) {
+		final boolean enabled = factory.getServiceRegistry().getService( ConfigurationService.class )
+				.getSetting( Settings.ARRAY_PARAMETER_IN_LIST, StandardConverters.BOOLEAN, false );
+		if ( !enabled ) {
+			return false;
+		}
+		final Dialect dialect = DialectDelegateWrapper.extractRealDialect( factory.getJdbcServices().getDialect() );
+		return dialect instanceof PostgreSQLDialect || dialect instanceof CockroachDialect;
+	}
+
+	/**
+	 * Can the plan be built once and reused by every session, because
+	 * the given influencers don't change the SQL?
+	 */
+	static boolean isReusable(LoadQueryInfluencers influencers) {
+		return !influencers.hasEnabledFilters()
+				&& !influencers.hasEnabledFetchProfiles()
+				&& influencers.getEnabledCascadingFetchProfile() == null
+				&& influencers.getEffectiveEntityGraph().getSemantic() == null;
+	}
+
+	/**
+	 * Can the given lock options be obtained by the plan?
+	 */
+	static boolean supports(LockOptions lockOptions) {
+		return !lockOptions.getLockMode().greaterThan( LockMode.READ );
+	}
+
+	/**
+	 * Would loading the elements of the collection register subselect
+	 * fetches? They can't be registered for a select with an array
+	 * parameter.
+	 */
+	static boolean hasSubselectFetches(PluralAttributeMapping attributeMapping) {
+		final CollectionPart elementDescriptor = attributeMapping.getElementDescriptor();
+		return elementDescriptor instanceof EntityCollectionPart
+				&& ( (EntityCollectionPart) elementDescriptor ).getEntityMappingType()
+						.getEntityPersister().hasSubselectLoadableCollections();
+	}
+
+	/**
+	 * Build a plan from a select which loads a single key.
+	 *
+	 * @param sqlAst a select statement created for exactly one key
+	 * @param jdbcParameters the parameters for the key
+	 * @param keyPart the restricted part of the select
+	 *
+	 * @return the plan, or {@code null} if the key can't be bound as
+	 *         an array
+	 */
+	static ReactiveArrayKeyLoadPlan create(
+			SelectStatement sqlAst,
+			List<JdbcParameter> jdbcParameters,
+			ModelPart keyPart,
+			SessionFactoryImplementor factory) {
+		if ( jdbcParameters.size() != 1 || !( keyPart instanceof BasicValuedModelPart ) ) {
+			return null;
+		}
+		final JdbcMapping keyJdbcMapping = ( (BasicValuedModelPart) keyPart ).getJdbcMapping();
+		if ( !ELEMENT_TYPES.contains( keyJdbcMapping.getJdbcJavaType().getJavaTypeClass() ) ) {
+			return null;
+		}
+
+		final JdbcOperationQuerySelect jdbcSelect = factory.getJdbcServices().getJdbcEnvironment()
+				.getSqlAstTranslatorFactory()
+				.buildSelectTranslator( factory, sqlAst )
+				.translate( null, QueryOptions.NONE );
+
+		final JdbcParameter keyParameter = jdbcParameters.get( 0 );
+		final List<JdbcParameterBinder> binders = new ArrayList<>( jdbcSelect.getParameterBinders() );
+		final int index = binders.indexOf( keyParameter );
+		if ( index < 0 ) {
+			return null;
+		}
+		final String sql = arrayRestriction( jdbcSelect.getSqlString(), index );
+		if ( sql == null ) {
+			return null;
+		}
+		binders.set( index, (statement, position, bindings, executionContext) -> statement
+				.setObject( position, bindings.getBinding( keyParameter ).getBindValue() ) );
+
+		return new ReactiveArrayKeyLoadPlan(
+				new JdbcOperationQuerySelect(
+						sql,
+						binders,
+						jdbcSelect.getJdbcValuesMappingProducer(),
+						jdbcSelect.getAffectedTableNames(),
+						jdbcSelect.getFilterJdbcParameters()
+				),
+				keyParameter,
+				keyJdbcMapping
+		);
+	}
+
+	/**
+	 * Replace the restriction {@code key=?} on the parameter with the
+	 * given index by {@code key=any(?)}.
+	 *
+	 * @return the new SQL, or {@code null} if the parameter is not
+	 *         used in an equality restriction
+	 */
+	private static String arrayRestriction(String sql, int index) {
+		final Matcher matcher = PARAMETER.matcher( sql );
+		for ( int i = 0; matcher.find(); i++ ) {
+			if ( i == index ) {
+				final String restriction = sql.substring( 0, matcher.start() ).stripTrailing();
+				if ( !restriction.endsWith( "=" ) ) {
+					return null;
+				}
+				return restriction + "any(" + matcher.group() + ")" + sql.substring( matcher.end() );
+			}
+		}
+		return null;
+	}
+
+	<R> CompletionStage<List<R>> load(List<?> keys, ExecutionContext executionContext) {
+		final Object array = Array.newInstance( keyJdbcMapping.getJdbcJavaType().getJavaTypeClass(), keys.size() );
+		for ( int i = 0; i < keys.size(); i++ ) {
+			Array.set( array, i, keyJdbcMapping.convertToRelationalValue( keys.get( i ) ) );
+		}
+		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( 1 );
+		// the binder of the key parameter ignores the type of the binding
+		jdbcParameterBindings.addBinding( keyParameter, new JdbcParameterBindingImpl( null, array ) );
+
+		return StandardReactiveSelectExecutor.INSTANCE.list(
+				jdbcSelect,
+				jdbcParameterBindings,
+				executionContext,
+				RowTransformerStandardImpl.instance(),
+				ReactiveListResultsConsumer.UniqueSemantic.FILTER
+		);
+	}
+}
@@ -0,0 +1,243 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.loader.ast.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.LockOptions;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.SubselectFetch;
+import org.hibernate.loader.ast.internal.LoaderSelectBuilder;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.reactive.sql.exec.internal.StandardReactiveSelectExecutor;
+import org.hibernate.reactive.sql.results.spi.ReactiveListResultsConsumer;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.results.internal.ResultsHelper;
+import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
+
+import org.jboss.logging.Logger;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
+/**
+ * Initializes several uninitialized collections of the same role,
+ * using one query for every {@value #MAX_BATCH_SIZE} collections,
+ * whether or not the collection is mapped for batch fetching.
+ * <p>
+ * The collections must already be registered with the persistence
+ * context, as they are for the uninitialized collections of managed
+ * entities.
+ * <p>
+ * The number of keys of each query is rounded up to a power of two,
+ * padding out the list by repeating the last key, so that only a few
+ * distinct selects are ever needed, and each is translated once, and
+ * then reused by every session whose influencers don't change the SQL.
+ *
+ * @see ReactiveCollectionLoaderBatchKey
+ */
+public final class ReactiveCollectionBatchLoader {
+
+	private static final Logger log = Logger.getLogger( ReactiveCollectionBatchLoader.class );
+
+	private static final int MAX_BATCH_SIZE = 64;
+
+	private final CollectionPersister collectionDescriptor;
+	private final Map<Integer, BatchSelect> batchSelects = new ConcurrentHashMap<>();
+	private volatile ReactiveArrayKeyLoadPlan arrayKeyLoadPlan;
+	private volatile boolean arrayKeyLoadPlanEnabled = true;
+
+	/**
+	 * @param collectionDescriptor the persister of the collections, whose
+	 *                             attribute mapping may not be available yet
+	 */
+	public ReactiveCollectionBatchLoader(CollectionPersister collectionDescriptor) {
+		this.collectionDescriptor = collectionDescriptor;
+	}
+
+	public CompletionStage<Void> load(List<PersistentCollection<?>> collections, SharedSessionContractImplementor session) {
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Batch loading %d collections [%s]", collections.size(), collectionDescriptor.getRole() );
+		}
+
+		final int batchCount = ( collections.size() + MAX_BATCH_SIZE - 1 ) / MAX_BATCH_SIZE;
+		return loop( 0, batchCount, batch -> loadBatch(
+				collections.subList( batch * MAX_BATCH_SIZE, Math.min( collections.size(), ( batch + 1 ) * MAX_BATCH_SIZE ) ),
+				session
+		) );
+	}
+
+	private CompletionStage<Void> loadBatch(List<PersistentCollection<?>> collections, SharedSessionContractImplementor session) {
+		final PluralAttributeMapping attributeMapping = collectionDescriptor.getAttributeMapping();
+		final SessionFactoryImplementor sessionFactory = session.getFactory();
+		final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+		final boolean reusable = ReactiveArrayKeyLoadPlan.isReusable( influencers );
+
+		final ReactiveArrayKeyLoadPlan plan = arrayKeyLoadPlan( reusable, influencers, sessionFactory );
+		if ( plan != null ) {
+			final List<Object> keys = new ArrayList<>( collections.size() );
+			collections.forEach( collection -> keys.add( collection.getKey() ) );
+			return plan.load( keys, new ExecutionContextWithSubselectFetchHandler( session, null ) )
+					.thenAccept( list -> collections.forEach( c -> initializeEmptyCollection( attributeMapping, c, session ) ) );
+		}
+
+		final int keyCount = Math.max( Integer.highestOneBit( collections.size() - 1 ) << 1, 1 );
+		final BatchSelect select = reusable
+				? batchSelects.computeIfAbsent( keyCount, count -> createSelect( count, influencers, sessionFactory ) )
+				: createSelect( keyCount, influencers, sessionFactory );
+
+		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( select.jdbcParameters.size() );
+		int offset = 0;
+		for ( int i = 0; offset < select.jdbcParameters.size(); i++ ) {
+			// repeat the last key to pad out the list
+			offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+					collections.get( Math.min( i, collections.size() - 1 ) ).getKey(),
+					offset,
+					attributeMapping.getKeyDescriptor(),
+					select.jdbcParameters,
+					session
+			);
+		}
+		assert offset == select.jdbcParameters.size();
+
+		final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler = SubselectFetch
+				.createRegistrationHandler(
+						session.getPersistenceContext().getBatchFetchQueue(),
+						select.sqlAst,
+						Collections.emptyList(),
+						jdbcParameterBindings
+				);
+
+		return StandardReactiveSelectExecutor.INSTANCE
+				.list(
+						select.jdbcSelect,
+						jdbcParameterBindings,
+						new ExecutionContextWithSubselectFetchHandler( session, subSelectFetchableKeysHandler ),
+						RowTransformerStandardImpl.instance(),
+						ReactiveListResultsConsumer.UniqueSemantic.FILTER
+				)
+				.thenAccept( list -> collections.forEach( c -> initializeEmptyCollection( attributeMapping, c, session ) ) );
+	}
+
+	private ReactiveArrayKeyLoadPlan arrayKeyLoadPlan(
+			boolean reusable,
+			LoadQueryInfluencers influencers,
+			SessionFactoryImplementor sessionFactory) {
+		if ( !arrayKeyLoadPlanEnabled ) {
+			return null;
+		}
+		if ( reusable && arrayKeyLoadPlan != null ) {
+			return arrayKeyLoadPlan;
+		}
+		if ( !ReactiveArrayKeyLoadPlan.isEnabled( sessionFactory )
+				|| ReactiveArrayKeyLoadPlan.hasSubselectFetches( collectionDescriptor.getAttributeMapping() ) ) {
+			arrayKeyLoadPlanEnabled = false;
+			return null;
+		}
+		if ( !reusable ) {
+			return createArrayKeyLoadPlan( influencers, sessionFactory );
+		}
+		if ( arrayKeyLoadPlan == null ) {
+			arrayKeyLoadPlan = createArrayKeyLoadPlan( influencers, sessionFactory );
+			// if the key can't be bound as an array, don't try again
+			arrayKeyLoadPlanEnabled = arrayKeyLoadPlan != null;
+		}
+		return arrayKeyLoadPlan;
+	}
+
+	private ReactiveArrayKeyLoadPlan createArrayKeyLoadPlan(
+			LoadQueryInfluencers influencers,
+			SessionFactoryImplementor sessionFactory) {
+		final PluralAttributeMapping attributeMapping = collectionDescriptor.getAttributeMapping();
+		final List<JdbcParameter> keyParameters = new ArrayList<>( 1 );
+		final SelectStatement keySqlAst = LoaderSelectBuilder.createSelect(
+				attributeMapping,
+				null,
+				attributeMapping.getKeyDescriptor(),
+				null,
+				1,
+				influencers,
+				LockOptions.NONE,
+				keyParameters::add,
+				sessionFactory
+		);
+		return ReactiveArrayKeyLoadPlan
+				.create( keySqlAst, keyParameters, attributeMapping.getKeyDescriptor(), sessionFactory );
+	}
+
+	private BatchSelect createSelect(
+			int keyCount,
+			LoadQueryInfluencers influencers,
+			SessionFactoryImplementor sessionFactory) {
+		final PluralAttributeMapping attributeMapping = collectionDescriptor.getAttributeMapping();
+		final List<JdbcParameter> jdbcParameters = new ArrayList<>();
+		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
+				attributeMapping,
+				// null here means to select everything
+				null,
+				attributeMapping.getKeyDescriptor(),
+				null,
+				keyCount,
+				influencers,
+				LockOptions.NONE,
+				jdbcParameters::add,
+				sessionFactory
+		);
+
+		final JdbcEnvironment jdbcEnvironment = sessionFactory.getJdbcServices().getJdbcEnvironment();
+		final JdbcOperationQuerySelect jdbcSelect = jdbcEnvironment.getSqlAstTranslatorFactory()
+				.buildSelectTranslator( sessionFactory, sqlAst )
+				.translate( null, QueryOptions.NONE );
+		return new BatchSelect( sqlAst, jdbcSelect, jdbcParameters );
+	}
+
+	/**
+	 * A collection with no rows doesn't get initialized by the query
+	 */
+	private static void initializeEmptyCollection(
+			PluralAttributeMapping attributeMapping,
+			PersistentCollection<?> collection,
+			SharedSessionContractImplementor session) {
+		if ( !collection.wasInitialized() ) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			collection.initializeEmptyCollection( attributeMapping.getCollectionDescriptor() );
+			ResultsHelper.finalizeCollectionLoading(
+					persistenceContext,
+					attributeMapping.getCollectionDescriptor(),
+					collection,
+					collection.getKey(),
+					true
+			);
+		}
+	}
+
+	private static class BatchSelect {
+		private final SelectStatement sqlAst;
+		private final JdbcOperationQuerySelect jdbcSelect;
+		private final List<JdbcParameter> jdbcParameters;
+
+		private BatchSelect(SelectStatement sqlAst, JdbcOperationQuerySelect jdbcSelect, List<JdbcParameter> jdbcParameters) {
+			this.sqlAst = sqlAst;
+			this.jdbcSelect = jdbcSelect;
+			this.jdbcParameters = jdbcParameters;
+		}
+	}
+}
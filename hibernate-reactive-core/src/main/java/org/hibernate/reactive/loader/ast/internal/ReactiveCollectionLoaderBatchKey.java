@@ -6,6 +6,7 @@
 package org.hibernate.reactive.loader.ast.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
@@ -54,6 +55,9 @@ public class ReactiveCollectionLoaderBatchKey implements ReactiveCollectionLoade
 	private SelectStatement batchSizeSqlAst;
 	private List<JdbcParameter> batchSizeJdbcParameters;
 
+	private boolean arrayKeyLoadPlanEnabled;
+	private ReactiveArrayKeyLoadPlan arrayKeyLoadPlan;
+
 	public ReactiveCollectionLoaderBatchKey(
 			PluralAttributeMapping attributeMapping,
 			int batchSize,
@@ -76,6 +80,9 @@ public ReactiveCollectionLoaderBatchKey(
 				batchSizeJdbcParameters::add,
 				sessionFactory
 		);
+
+		this.arrayKeyLoadPlanEnabled = ReactiveArrayKeyLoadPlan.isEnabled( sessionFactory )
+				&& !ReactiveArrayKeyLoadPlan.hasSubselectFetches( attributeMapping );
 	}
 
 	@Override
@@ -136,9 +143,52 @@ private CompletionStage<Void> batchLoad(
 			log.debugf( "Batch loading collection [%s] : %s", getLoadable().getCollectionDescriptor().getRole(), batchIds );
 		}
 
+		if ( arrayKeyLoadPlanEnabled ) {
+			final ReactiveArrayKeyLoadPlan plan = arrayKeyLoadPlan( session );
+			if ( plan != null ) {
+				return plan
+						.load(
+								Arrays.asList( batchIds ).subList( 0, numberOfIds ),
+								new ExecutionContextWithSubselectFetchHandler( session, null )
+						)
+						.thenCompose( CompletionStages::voidFuture );
+			}
+		}
+
 		return whileLoop( batchIds, numberOfIds, session, 0, 0, voidFuture() );
 	}
 
+	private ReactiveArrayKeyLoadPlan arrayKeyLoadPlan(SharedSessionContractImplementor session) {
+		final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+		if ( !ReactiveArrayKeyLoadPlan.isReusable( influencers ) ) {
+			return createArrayKeyLoadPlan( influencers, session.getFactory() );
+		}
+		if ( arrayKeyLoadPlan == null ) {
+			arrayKeyLoadPlan = createArrayKeyLoadPlan( influencers, session.getFactory() );
+			// if the key can't be bound as an array, don't try again
+			arrayKeyLoadPlanEnabled = arrayKeyLoadPlan != null;
+		}
+		return arrayKeyLoadPlan;
+	}
+
+	private ReactiveArrayKeyLoadPlan createArrayKeyLoadPlan(
+			LoadQueryInfluencers influencers,
+			SessionFactoryImplementor sessionFactory) {
+		final List<JdbcParameter> jdbcParameters = new ArrayList<>( keyJdbcCount );
+		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
+				attributeMapping,
+				null,
+				attributeMapping.getKeyDescriptor(),
+				null,
+				1,
+				influencers,
+				LockOptions.NONE,
+				jdbcParameters::add,
+				sessionFactory
+		);
+		return ReactiveArrayKeyLoadPlan.create( sqlAst, jdbcParameters, attributeMapping.getKeyDescriptor(), sessionFactory );
+	}
+
 	// FIXME: Review this later: should I use the trampoline?
 	private CompletionStage<Void> whileLoop(
 			Object[] batchIds,
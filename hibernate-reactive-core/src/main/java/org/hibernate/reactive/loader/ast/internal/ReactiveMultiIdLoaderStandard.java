@@ -67,6 +67,9 @@
 
 	private final int idJdbcTypeCount;
 
+	private boolean arrayKeyLoadPlanEnabled;
+	private ReactiveArrayKeyLoadPlan arrayKeyLoadPlan;
+
 	public ReactiveMultiIdLoaderStandard(
 			EntityPersister entityDescriptor,
 			PersistentClass bootDescriptor,
@@ -74,6 +77,7 @@ public ReactiveMultiIdLoaderStandard(
 		this.entityDescriptor = entityDescriptor;
 		this.idJdbcTypeCount = bootDescriptor.getIdentifier().getColumnSpan();
 		this.sessionFactory = sessionFactory;
+		this.arrayKeyLoadPlanEnabled = ReactiveArrayKeyLoadPlan.isEnabled( sessionFactory );
 		assert idJdbcTypeCount > 0;
 	}
 
@@ -229,6 +233,15 @@ private CompletionStage<List<T>> loadEntitiesById(List<Object> idsInBatch, LockO
 			LOG.tracef( "#loadEntitiesById(`%s`, `%s`, ..)", entityDescriptor.getEntityName(), numberOfIdsInBatch );
 		}
 
+		if ( arrayKeyLoadPlanEnabled
+				&& ReactiveArrayKeyLoadPlan.supports( lockOptions )
+				&& !entityDescriptor.hasSubselectLoadableCollections() ) {
+			final ReactiveArrayKeyLoadPlan plan = arrayKeyLoadPlan( lockOptions, session.getLoadQueryInfluencers() );
+			if ( plan != null ) {
+				return plan.load( idsInBatch, new ExecutionContextWithSubselectFetchHandler( session, null ) );
+			}
+		}
+
 		final List<JdbcParameter> jdbcParameters = new ArrayList<>( numberOfIdsInBatch * idJdbcTypeCount);
 
 		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
@@ -290,6 +303,35 @@ private CompletionStage<List<T>> loadEntitiesById(List<Object> idsInBatch, LockO
 		);
 	}
 
+	private ReactiveArrayKeyLoadPlan arrayKeyLoadPlan(LockOptions lockOptions, LoadQueryInfluencers influencers) {
+		if ( !ReactiveArrayKeyLoadPlan.isReusable( influencers ) ) {
+			return createArrayKeyLoadPlan( lockOptions, influencers );
+		}
+		if ( arrayKeyLoadPlan == null ) {
+			arrayKeyLoadPlan = createArrayKeyLoadPlan( lockOptions, influencers );
+			// if the key can't be bound as an array, don't try again
+			arrayKeyLoadPlanEnabled = arrayKeyLoadPlan != null;
+		}
+		return arrayKeyLoadPlan;
+	}
+
+	private ReactiveArrayKeyLoadPlan createArrayKeyLoadPlan(LockOptions lockOptions, LoadQueryInfluencers influencers) {
+		final List<JdbcParameter> jdbcParameters = new ArrayList<>( idJdbcTypeCount );
+		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
+				getLoadable(),
+				// null here means to select everything
+				null,
+				getLoadable().getIdentifierMapping(),
+				null,
+				1,
+				influencers,
+				lockOptions,
+				jdbcParameters::add,
+				sessionFactory
+		);
+		return ReactiveArrayKeyLoadPlan.create( sqlAst, jdbcParameters, getLoadable().getIdentifierMapping(), sessionFactory );
+	}
+
 	private CompletionStage<List<T>> performSingleMultiLoad(Object id, LockOptions lockOptions, SharedSessionContractImplementor session) {
 		return ( (ReactiveEntityPersister) entityDescriptor )
 				.reactiveLoad( id, null, lockOptions, session )
@@ -6,6 +6,7 @@
 package org.hibernate.reactive.loader.ast.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 
@@ -14,6 +15,7 @@
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
@@ -53,6 +55,9 @@
 
 	private DatabaseSnapshotExecutor databaseSnapshotExecutor;
 
+	private boolean arrayKeyLoadPlanEnabled;
+	private ReactiveArrayKeyLoadPlan arrayKeyLoadPlan;
+
 	private final EntityMappingType entityDescriptor;
 
 	protected final SessionFactoryImplementor sessionFactory;
@@ -65,6 +70,7 @@ public ReactiveSingleIdEntityLoaderDynamicBatch(
 		this.entityDescriptor = entityDescriptor;
 		this.sessionFactory = sessionFactory;
 		this.maxBatchSize = maxBatchSize;
+		this.arrayKeyLoadPlanEnabled = ReactiveArrayKeyLoadPlan.isEnabled( sessionFactory );
 	}
 
 	@Override
@@ -74,11 +80,19 @@ public EntityMappingType getLoadable() {
 
 	@Override
 	public CompletionStage<Object[]> reactiveLoadDatabaseSnapshot(Object id, SharedSessionContractImplementor session) {
+		return databaseSnapshotExecutor().loadDatabaseSnapshot( id, session );
+	}
+
+	@Override
+	public CompletionStage<Object[][]> reactiveLoadDatabaseSnapshots(Object[] ids, SharedSessionContractImplementor session) {
+		return databaseSnapshotExecutor().loadDatabaseSnapshots( ids, session );
+	}
+
+	private DatabaseSnapshotExecutor databaseSnapshotExecutor() {
 		if ( databaseSnapshotExecutor == null ) {
 			databaseSnapshotExecutor = new DatabaseSnapshotExecutor( entityDescriptor, sessionFactory );
 		}
-
-		return databaseSnapshotExecutor.loadDatabaseSnapshot( id, session );
+		return databaseSnapshotExecutor;
 	}
 
 	@Override
@@ -120,6 +134,42 @@ public CompletionStage<T> load(
 			log.debugf( "Batch loading entity [%s] : %s", getLoadable().getEntityName(), idsToLoad );
 		}
 
+		return batchLoad( idsToLoad, pkValue, entityInstance, lockOptions, readOnly, session )
+				.thenApply( results -> {
+					//noinspection ForLoopReplaceableByForEach
+					for ( int i = 0; i < idsToLoad.length; i++ ) {
+						final Object id = idsToLoad[i];
+						// found or not, remove the key from the batch-fetch queue
+						BatchFetchQueueHelper.removeBatchLoadableEntityKey( id, getLoadable(), session );
+					}
+
+					final EntityKey entityKey = session.generateEntityKey( pkValue, getLoadable().getEntityPersister() );
+					//noinspection unchecked
+					return (T) session.getPersistenceContext().getEntity( entityKey );
+				} );
+	}
+
+	private CompletionStage<List<Object>> batchLoad(
+			Object[] idsToLoad,
+			Object pkValue,
+			Object entityInstance,
+			LockOptions lockOptions,
+			Boolean readOnly,
+			SharedSessionContractImplementor session) {
+		final int numberOfIds = idsToLoad.length;
+
+		if ( arrayKeyLoadPlanEnabled
+				&& ReactiveArrayKeyLoadPlan.supports( lockOptions )
+				&& !getLoadable().getEntityPersister().hasSubselectLoadableCollections() ) {
+			final ReactiveArrayKeyLoadPlan plan = arrayKeyLoadPlan( lockOptions, session.getLoadQueryInfluencers() );
+			if ( plan != null ) {
+				return plan.load(
+						Arrays.asList( idsToLoad ),
+						getExecutionContext( pkValue, entityInstance, readOnly, lockOptions, session, null )
+				);
+			}
+		}
+
 		final List<JdbcParameter> jdbcParameters = new ArrayList<>();
 
 		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
@@ -180,20 +230,36 @@ public CompletionStage<T> load(
 				),
 				RowTransformerStandardImpl.instance(),
 				ReactiveListResultsConsumer.UniqueSemantic.FILTER
-		)
-		.thenApply( results -> {
-			//noinspection ForLoopReplaceableByForEach
-			for ( int i = 0; i < idsToLoad.length; i++ ) {
-				final Object id = idsToLoad[i];
-				// found or not, remove the key from the batch-fetch queue
-				BatchFetchQueueHelper.removeBatchLoadableEntityKey( id, getLoadable(), session );
-			}
+		);
+	}
 
-			final EntityKey entityKey = session.generateEntityKey( pkValue, getLoadable().getEntityPersister() );
-			//noinspection unchecked
-			return (T) session.getPersistenceContext().getEntity( entityKey );
+	private ReactiveArrayKeyLoadPlan arrayKeyLoadPlan(LockOptions lockOptions, LoadQueryInfluencers influencers) {
+		if ( !ReactiveArrayKeyLoadPlan.isReusable( influencers ) ) {
+			return createArrayKeyLoadPlan( lockOptions, influencers );
+		}
+		if ( arrayKeyLoadPlan == null ) {
+			arrayKeyLoadPlan = createArrayKeyLoadPlan( lockOptions, influencers );
+			// if the key can't be bound as an array, don't try again
+			arrayKeyLoadPlanEnabled = arrayKeyLoadPlan != null;
+		}
+		return arrayKeyLoadPlan;
+	}
 
-		} );
+	private ReactiveArrayKeyLoadPlan createArrayKeyLoadPlan(LockOptions lockOptions, LoadQueryInfluencers influencers) {
+		final List<JdbcParameter> jdbcParameters = new ArrayList<>( 1 );
+		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
+				getLoadable(),
+				// null here means to select everything
+				null,
+				getLoadable().getIdentifierMapping(),
+				null,
+				1,
+				influencers,
+				lockOptions,
+				jdbcParameters::add,
+				sessionFactory
+		);
+		return ReactiveArrayKeyLoadPlan.create( sqlAst, jdbcParameters, getLoadable().getIdentifierMapping(), sessionFactory );
 	}
 
 	private void initializeSingleIdLoaderIfNeeded(SharedSessionContractImplementor session) {
@@ -268,7 +334,9 @@ public LockOptions getLockOptions() {
 
 		@Override
 		public void registerLoadingEntityEntry(EntityKey entityKey, LoadingEntityEntry entry) {
-			subSelectFetchableKeysHandler.addKey( entityKey, entry );
+			if ( subSelectFetchableKeysHandler != null ) {
+				subSelectFetchableKeysHandler.addKey( entityKey, entry );
+			}
 		}
 	}
 }
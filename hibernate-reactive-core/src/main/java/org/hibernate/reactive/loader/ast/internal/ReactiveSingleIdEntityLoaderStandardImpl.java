@@ -62,11 +62,19 @@ public EntityMappingType getLoadable() {
 
 	@Override
 	public CompletionStage<Object[]> reactiveLoadDatabaseSnapshot(Object id, SharedSessionContractImplementor session) {
+		return databaseSnapshotExecutor().loadDatabaseSnapshot( id, session );
+	}
+
+	@Override
+	public CompletionStage<Object[][]> reactiveLoadDatabaseSnapshots(Object[] ids, SharedSessionContractImplementor session) {
+		return databaseSnapshotExecutor().loadDatabaseSnapshots( ids, session );
+	}
+
+	private DatabaseSnapshotExecutor databaseSnapshotExecutor() {
 		if ( databaseSnapshotExecutor == null ) {
 			databaseSnapshotExecutor = new DatabaseSnapshotExecutor( entityDescriptor, sessionFactory );
 		}
-
-		return databaseSnapshotExecutor.loadDatabaseSnapshot( id, session );
+		return databaseSnapshotExecutor;
 	}
 
 	@Override
@@ -10,6 +10,8 @@
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.ast.spi.SingleIdEntityLoader;
 
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
 /**
  * Reactive version of {@link SingleIdEntityLoader}.
  * @param <T> the entity class
@@ -26,4 +28,18 @@ default Object[] loadDatabaseSnapshot(Object id, SharedSessionContractImplemento
 	}
 
 	CompletionStage<Object[]> reactiveLoadDatabaseSnapshot(Object id, SharedSessionContractImplementor session);
+
+	/**
+	 * Load the database snapshots of several entities, by default
+	 * one at a time.
+	 *
+	 * @return the snapshots, in the same order as the given ids, with
+	 *         {@code null} for each entity with no row in the database
+	 */
+	default CompletionStage<Object[][]> reactiveLoadDatabaseSnapshots(Object[] ids, SharedSessionContractImplementor session) {
+		final Object[][] snapshots = new Object[ids.length][];
+		return loop( 0, ids.length, i -> reactiveLoadDatabaseSnapshot( ids[i], session )
+						.thenAccept( snapshot -> snapshots[i] = snapshot ) )
+				.thenApply( v -> snapshots );
+	}
 }
@@ -242,6 +242,45 @@ public interface Log extends BasicLogger {
 	@Message(id = 78, value = "Unable to bind parameters for post-insert id selection query: %1$s")
 	HibernateException bindParametersForPostInsertIdSelectQueryError(String selectSQL, @Cause Throwable e);
 
+	@LogMessage(level = INFO)
+	@Message(id = 79, value = "Slow query took %1$d milliseconds [%2$s]")
+	void slowQuery(long milliseconds, String sql);
+
+	@LogMessage(level = INFO)
+	@Message(id = 80, value = "Connection pool warm-up opened %1$d of %2$d connections")
+	void connectionPoolWarmedUp(int openedCount, int warmUpSize);
+
+	@LogMessage(level = WARN)
+	@Message(id = 81, value = "Unable to open connection when warming up the connection pool")
+	void unableToWarmUpConnection(@Cause Throwable cause);
+
+	@LogMessage(level = INFO)
+	@Message(id = 82, value = "Connection pool minimum idle connections: %1$d")
+	void connectionPoolMinIdle(int minIdle);
+
+	@LogMessage(level = INFO)
+	@Message(id = 83, value = "Connection pool sharded between %1$d event loops, sharing %2$d connections")
+	void connectionPoolEventLoopShards(int shardCount, int maxSize);
+
+	@Message(id = 84, value = "Unable to create connection pool for tenant '%1$s': all %2$d tenant connection pools have connections in use")
+	HibernateException allTenantPoolsInUse(String tenantId, int maxPoolCount);
+
+	@Message(id = 85, value = "Upsert is not supported for entity '%1$s': the entity must be mapped to a single table, with an assigned identifier and no version")
+	HibernateException upsertNotSupported(String entityName);
+
+	@Message(id = 86, value = "Upsert is not supported by dialect '%1$s'")
+	HibernateException upsertNotSupportedByDialect(String dialectName);
+
+	@Message(id = 87, value = "Cannot upsert an instance of entity '%1$s' with a null identifier")
+	HibernateException upsertWithNullIdentifier(String entityName);
+
+	@Message(id = 88, value = "A blocking session may not be used from a thread with a Vert.x context, such as an event loop or worker thread: '%1$s'")
+	IllegalStateException blockingSessionOnVertxThread(String threadName);
+
+	@LogMessage(level = WARN)
+	@Message(id = 89, value = "Tenant connection pool size %1$d exceeds the maximum number of tenant connections, using a pool size of %2$d")
+	void tenantPoolSizeExceedsMaxConnections(int tenantPoolSize, int tenantMaxConnections);
+
 	// Same method that exists in CoreMessageLogger
 	@LogMessage(level = WARN)
 	@Message(id = 104, value = "firstResult/maxResults specified with collection fetch; applying in memory!" )
@@ -51,9 +51,11 @@
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.session.impl.ReactiveQueryExecutorLookup;
+import org.hibernate.reactive.stat.SqlExecutionStatistics;
 import org.hibernate.stat.Statistics;
 import org.hibernate.type.BasicTypeReference;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.CacheRetrieveMode;
@@ -1433,6 +1435,24 @@ default Uni<Void> lock(Object entity, LockModeType lockModeType) {
 			return lock( entity, convertToLockMode( lockModeType ) );
 		}
 
+		/**
+		 * Obtain the specified lock level upon several objects at once.
+		 * For {@link LockMode#PESSIMISTIC_READ}, {@link LockMode#PESSIMISTIC_WRITE},
+		 * {@link LockMode#UPGRADE_NOWAIT}, and {@link LockMode#UPGRADE_SKIPLOCKED},
+		 * the rows of instances of the same entity hierarchy are locked, and
+		 * their versions checked, using a single {@code select ... for update}
+		 * statement, instead of one statement per instance. Other lock modes
+		 * are obtained one instance at a time.
+		 *
+		 * @param lockMode the lock level
+		 * @param entities managed persistent instances
+		 *
+		 * @throws IllegalArgumentException if a given instance is not managed
+		 *
+		 * @see #lock(Object, LockMode)
+		 */
+		Uni<Void> lockAll(LockMode lockMode, Object... entities);
+
 		/**
 		 * Force this session to flush asynchronously. Must be called at the
 		 * end of a unit of work, before committing the transaction and closing
@@ -2173,6 +2193,44 @@ default <T> Uni<T> get(Class<T> entityClass, Object id, LockModeType lockModeTyp
 		 */
 		Uni<Void> insertAll(int batchSize, Object... entities);
 
+		/**
+		 * Insert the rows of a stream of entities, consuming the stream in
+		 * chunks of the specified batch size and executing each chunk as a
+		 * single batch, so that only one chunk is held in memory at a time.
+		 * <p>
+		 * Nothing happens until the returned stream is subscribed. Entities
+		 * are requested from the given stream as each chunk completes.
+		 *
+		 * @param batchSize the batch size, and the size of each chunk
+		 * @param entities a stream of new transient instances
+		 * @return a stream emitting the number of entities in each chunk,
+		 *         once the chunk has been executed
+		 *
+		 * @see org.hibernate.StatelessSession#insert(Object)
+		 */
+		Multi<Integer> insertAll(int batchSize, Multi<?> entities);
+
+		/**
+		 * Insert a row or, if there's already a row with the same primary
+		 * key, update it, using a single statement.
+		 * <p>
+		 * The entity must be mapped to a single table, must not have a
+		 * version, and its identifier must already be assigned.
+		 *
+		 * @param entity a new transient instance or a detached instance
+		 */
+		Uni<Void> upsert(Object entity);
+
+		/**
+		 * Insert or update multiple rows using the specified batch size.
+		 *
+		 * @param batchSize the batch size
+		 * @param entities new transient instances or detached instances
+		 *
+		 * @see #upsert(Object)
+		 */
+		Uni<Void> upsertAll(int batchSize, Object... entities);
+
 		/**
 		 * Delete a row.
 		 *
@@ -2201,6 +2259,23 @@ default <T> Uni<T> get(Class<T> entityClass, Object id, LockModeType lockModeTyp
 		 */
 		Uni<Void> deleteAll(int batchSize, Object... entities);
 
+		/**
+		 * Delete the rows of a stream of entities, consuming the stream in
+		 * chunks of the specified batch size and executing each chunk as a
+		 * single batch, so that only one chunk is held in memory at a time.
+		 * <p>
+		 * Nothing happens until the returned stream is subscribed. Entities
+		 * are requested from the given stream as each chunk completes.
+		 *
+		 * @param batchSize the batch size, and the size of each chunk
+		 * @param entities a stream of detached entity instances
+		 * @return a stream emitting the number of entities in each chunk,
+		 *         once the chunk has been executed
+		 *
+		 * @see org.hibernate.StatelessSession#delete(Object)
+		 */
+		Multi<Integer> deleteAll(int batchSize, Multi<?> entities);
+
 		/**
 		 * Update a row.
 		 *
@@ -2229,6 +2304,23 @@ default <T> Uni<T> get(Class<T> entityClass, Object id, LockModeType lockModeTyp
 		 */
 		Uni<Void> updateAll(int batchSize, Object... entities);
 
+		/**
+		 * Update the rows of a stream of entities, consuming the stream in
+		 * chunks of the specified batch size and executing each chunk as a
+		 * single batch, so that only one chunk is held in memory at a time.
+		 * <p>
+		 * Nothing happens until the returned stream is subscribed. Entities
+		 * are requested from the given stream as each chunk completes.
+		 *
+		 * @param batchSize the batch size, and the size of each chunk
+		 * @param entities a stream of detached entity instances
+		 * @return a stream emitting the number of entities in each chunk,
+		 *         once the chunk has been executed
+		 *
+		 * @see org.hibernate.StatelessSession#update(Object)
+		 */
+		Multi<Integer> updateAll(int batchSize, Multi<?> entities);
+
 		/**
 		 * Refresh the entity instance state from the database.
 		 *
@@ -2711,6 +2803,14 @@ default <T> Uni<T> withStatelessTransaction(Function<StatelessSession, Uni<T>> w
 		 */
 		Statistics getStatistics();
 
+		/**
+		 * Obtain the {@link SqlExecutionStatistics} object exposing
+		 * timings and row counts of the SQL statements executed.
+		 *
+		 * @see org.hibernate.reactive.provider.Settings#SQL_STATISTICS
+		 */
+		SqlExecutionStatistics getSqlExecutionStatistics();
+
 		/**
 		 * Destroy the session factory and clean up its connection pool.
 		 */
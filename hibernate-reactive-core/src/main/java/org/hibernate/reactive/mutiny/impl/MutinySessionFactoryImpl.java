@@ -15,6 +15,7 @@
 import jakarta.persistence.metamodel.Metamodel;
 
 import org.hibernate.Cache;
+import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.internal.SessionCreationOptions;
 import org.hibernate.internal.SessionFactoryImpl;
 import org.hibernate.reactive.common.spi.Implementor;
@@ -29,12 +30,16 @@
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
 import org.hibernate.reactive.session.impl.ReactiveSessionImpl;
 import org.hibernate.reactive.session.impl.ReactiveStatelessSessionImpl;
+import org.hibernate.reactive.session.impl.SessionCreationOptionsCache;
+import org.hibernate.reactive.stat.SqlExecutionStatistics;
+import org.hibernate.reactive.stat.spi.SqlExecutionStatisticsImplementor;
 import org.hibernate.service.ServiceRegistry;
 
 import io.smallrye.mutiny.Uni;
 import org.hibernate.stat.Statistics;
 
 import static org.hibernate.reactive.common.InternalStateAssertions.assertUseOnEventLoop;
+import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 
 /**
  * Implementation of {@link Mutiny.SessionFactory}.
@@ -48,6 +53,7 @@ public class MutinySessionFactoryImpl implements Mutiny.SessionFactory, Implemen
 	private final SessionFactoryImpl delegate;
 	private final ReactiveConnectionPool connectionPool;
 	private final Context context;
+	private final SessionCreationOptionsCache sessionCreationOptions;
 
 	/**
 	 * We store the current sessions in the Context for simplified use;
@@ -63,6 +69,7 @@ public MutinySessionFactoryImpl(SessionFactoryImpl delegate) {
 		this.delegate = delegate;
 		context = delegate.getServiceRegistry().getService( Context.class );
 		connectionPool = delegate.getServiceRegistry().getService( ReactiveConnectionPool.class );
+		sessionCreationOptions = new SessionCreationOptionsCache( delegate );
 		contextKeyForSession = new BaseKey<>( Mutiny.Session.class, delegate.getUuid() );
 		contextKeyForStatelessSession = new BaseKey<>( Mutiny.StatelessSession.class, delegate.getUuid() );
 	}
@@ -164,16 +171,19 @@ public Uni<Mutiny.StatelessSession> openStatelessSession(String tenantId) {
 	}
 
 	private SessionCreationOptions options() {
-		return new SessionFactoryImpl.SessionBuilderImpl( delegate );
+		return sessionCreationOptions.options();
 	}
 
 	private SessionCreationOptions options(String tenantIdentifier) {
-		return (SessionCreationOptions) new SessionFactoryImpl.SessionBuilderImpl( delegate )
-				.tenantIdentifier( tenantIdentifier );
+		return sessionCreationOptions.options( tenantIdentifier );
 	}
 
 	private CompletionStage<ReactiveConnection> connection(String tenantId) {
 		assertUseOnEventLoop();
+		if ( connectionPool.getConnectionReleaseMode() != ConnectionReleaseMode.ON_CLOSE ) {
+			// the connection is obtained when needed, and released early
+			return completedFuture( proxyConnection( tenantId ) );
+		}
 		return tenantId == null
 				? connectionPool.getConnection()
 				: connectionPool.getConnection( tenantId );
@@ -302,6 +312,11 @@ public Statistics getStatistics() {
 		return delegate.getStatistics();
 	}
 
+	@Override
+	public SqlExecutionStatistics getSqlExecutionStatistics() {
+		return delegate.getServiceRegistry().getService( SqlExecutionStatisticsImplementor.class );
+	}
+
 	@Override
 	public void close() {
 		delegate.close();
@@ -217,7 +217,7 @@ public Uni<Void> persist(Object entity) {
 
 	@Override
 	public Uni<Void> persistAll(Object... entity) {
-		return uni( () -> applyToAll( delegate::reactivePersist, entity ) );
+		return uni( () -> delegate.reactivePersistAll( entity ) );
 	}
 
 	@Override
@@ -227,7 +227,7 @@ public Uni<Void> remove(Object entity) {
 
 	@Override
 	public Uni<Void> removeAll(Object... entity) {
-		return uni( () -> applyToAll( delegate::reactiveRemove, entity ) );
+		return uni( () -> delegate.reactiveRemoveAll( entity ) );
 	}
 
 	@Override
@@ -271,6 +271,11 @@ public Uni<Void> lock(Object entity, LockMode lockMode) {
 		return uni( () -> delegate.reactiveLock( entity, new LockOptions( lockMode ) ) );
 	}
 
+	@Override
+	public Uni<Void> lockAll(LockMode lockMode, Object... entities) {
+		return uni( () -> delegate.reactiveLockAll( new LockOptions( lockMode ), entities ) );
+	}
+
 	@Override
 	public Uni<Void> lock(Object entity, LockModeType lockModeType) {
 		return Mutiny.Session.super.lock( entity, lockModeType );
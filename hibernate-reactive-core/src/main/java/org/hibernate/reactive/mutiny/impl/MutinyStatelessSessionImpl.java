@@ -18,6 +18,7 @@
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.session.ReactiveStatelessSession;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.persistence.EntityGraph;
 
@@ -46,6 +47,18 @@ <T> Uni<T> uni(Supplier<CompletionStage<T>> stageSupplier) {
 		return factory.uni( stageSupplier );
 	}
 
+	/**
+	 * Split the given stream into chunks of the given size, and apply
+	 * the operation to each chunk in turn, emitting the chunk size.
+	 */
+	private Multi<Integer> chunks(int batchSize, Multi<?> entities, Function<Object[], CompletionStage<Void>> operation) {
+		return entities.group().intoLists().of( batchSize )
+				.onItem().transformToUniAndConcatenate( chunk -> {
+					final Object[] array = chunk.toArray();
+					return uni( () -> operation.apply( array ) ).replaceWith( array.length );
+				} );
+	}
+
 	@Override
 	public <T> Uni<T> get(Class<T> entityClass, Object id) {
 		return uni( () -> delegate.reactiveGet( entityClass, id ) );
@@ -117,6 +130,21 @@ public Uni<Void> insertAll(int batchSize, Object... entities) {
 		return uni( () -> delegate.reactiveInsertAll( batchSize, entities ) );
 	}
 
+	@Override
+	public Uni<Void> upsert(Object entity) {
+		return uni( () -> delegate.reactiveUpsert( entity ) );
+	}
+
+	@Override
+	public Uni<Void> upsertAll(int batchSize, Object... entities) {
+		return uni( () -> delegate.reactiveUpsertAll( batchSize, entities ) );
+	}
+
+	@Override
+	public Multi<Integer> insertAll(int batchSize, Multi<?> entities) {
+		return chunks( batchSize, entities, chunk -> delegate.reactiveInsertAll( batchSize, chunk ) );
+	}
+
 	@Override
 	public Uni<Void> delete(Object entity) {
 		return uni( () -> delegate.reactiveDelete( entity ) );
@@ -132,6 +160,11 @@ public Uni<Void> deleteAll(int batchSize, Object... entities) {
 		return uni( () -> delegate.reactiveDeleteAll( entities ) );
 	}
 
+	@Override
+	public Multi<Integer> deleteAll(int batchSize, Multi<?> entities) {
+		return chunks( batchSize, entities, chunk -> delegate.reactiveDeleteAll( batchSize, chunk ) );
+	}
+
 	@Override
 	public Uni<Void> update(Object entity) {
 		return uni( () -> delegate.reactiveUpdate( entity ) );
@@ -147,6 +180,11 @@ public Uni<Void> updateAll(int batchSize, Object... entities) {
 		return uni( () -> delegate.reactiveUpdateAll( batchSize, entities ) );
 	}
 
+	@Override
+	public Multi<Integer> updateAll(int batchSize, Multi<?> entities) {
+		return chunks( batchSize, entities, chunk -> delegate.reactiveUpdateAll( batchSize, chunk ) );
+	}
+
 	@Override
 	public Uni<Void> refresh(Object entity) {
 		return uni( () -> delegate.reactiveRefresh( entity ) );
@@ -19,6 +19,7 @@
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.loader.ast.spi.CollectionLoader;
 import org.hibernate.reactive.adaptor.impl.PreparedStatementAdaptor;
+import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionBatchLoader;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoaderBatchKey;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoaderSingleKey;
 import org.hibernate.reactive.logging.impl.Log;
@@ -38,6 +39,12 @@ default ReactiveConnection getReactiveConnection(SharedSessionContractImplemento
         return ( (ReactiveConnectionSupplier) session ).getReactiveConnection();
     }
 
+    /**
+     * The loader used to initialize several collections of this role
+     * with one query, whether or not it's mapped for batch fetching.
+     */
+    ReactiveCollectionBatchLoader getCollectionBatchLoader();
+
     default CollectionLoader createReactiveCollectionLoader(LoadQueryInfluencers loadQueryInfluencers) {
         final int batchSize = getBatchSize();
         if ( batchSize > 1 ) {
@@ -19,6 +19,7 @@
 import org.hibernate.mapping.Collection;
 import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
 import org.hibernate.persister.collection.BasicCollectionPersister;
+import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionBatchLoader;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoader;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoaderSubSelectFetch;
 import org.hibernate.reactive.persister.collection.mutation.ReactiveDeleteRowsCoordinator;
@@ -48,6 +49,7 @@ public class ReactiveBasicCollectionPersister extends BasicCollectionPersister i
 	private final ReactiveUpdateRowsCoordinator updateRowsCoordinator;
 	private final ReactiveDeleteRowsCoordinator deleteRowsCoordinator;
 	private final ReactiveRemoveCoordinator removeCoordinator;
+	private final ReactiveCollectionBatchLoader collectionBatchLoader;
 
 	private Parameters parameters() {
 		return Parameters.instance( getFactory().getJdbcServices().getDialect() );
@@ -63,6 +65,7 @@ public ReactiveBasicCollectionPersister(
 		this.updateRowsCoordinator = buildUpdateRowCoordinator();
 		this.deleteRowsCoordinator = buildDeleteRowCoordinator();
 		this.removeCoordinator = buildDeleteAllCoordinator();
+		this.collectionBatchLoader = new ReactiveCollectionBatchLoader( this );
 	}
 
 
@@ -201,6 +204,11 @@ public ReactiveRemoveCoordinator getRemoveCoordinator() {
 		return removeCoordinator;
 	}
 
+	@Override
+	public ReactiveCollectionBatchLoader getCollectionBatchLoader() {
+		return collectionBatchLoader;
+	}
+
 	@Override
 	protected ReactiveDeleteRowsCoordinator getRemoveEntryCoordinator() {
 		return deleteRowsCoordinator;
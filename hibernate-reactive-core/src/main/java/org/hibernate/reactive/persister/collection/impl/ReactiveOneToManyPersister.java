@@ -27,6 +27,7 @@
 import org.hibernate.persister.collection.OneToManyPersister;
 import org.hibernate.persister.collection.mutation.RowMutationOperations;
 import org.hibernate.reactive.engine.jdbc.env.internal.ReactiveMutationExecutor;
+import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionBatchLoader;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoader;
 import org.hibernate.reactive.loader.ast.internal.ReactiveCollectionLoaderSubSelectFetch;
 import org.hibernate.reactive.persister.collection.mutation.ReactiveDeleteRowsCoordinator;
@@ -62,6 +63,7 @@ public class ReactiveOneToManyPersister extends OneToManyPersister
 	private final ReactiveUpdateRowsCoordinator updateRowsCoordinator;
 	private final ReactiveDeleteRowsCoordinator deleteRowsCoordinator;
 	private final ReactiveRemoveCoordinator removeCoordinator;
+	private final ReactiveCollectionBatchLoader collectionBatchLoader;
 
 	public ReactiveOneToManyPersister(
 			Collection collectionBinding,
@@ -73,6 +75,7 @@ public ReactiveOneToManyPersister(
 		this.updateRowsCoordinator = buildUpdateCoordinator();
 		this.deleteRowsCoordinator = buildDeleteCoordinator();
 		this.removeCoordinator = buildDeleteAllCoordinator();
+		this.collectionBatchLoader = new ReactiveCollectionBatchLoader( this );
 	}
 
 	@Override
@@ -95,6 +98,11 @@ public ReactiveRemoveCoordinator getRemoveCoordinator() {
 		return removeCoordinator;
 	}
 
+	@Override
+	public ReactiveCollectionBatchLoader getCollectionBatchLoader() {
+		return collectionBatchLoader;
+	}
+
 	private ReactiveInsertRowsCoordinator buildInsertCoordinator() {
 		if ( isInverse() || !isRowInsertEnabled() ) {
 			if ( MODEL_MUTATION_LOGGER_DEBUG_ENABLED ) {
@@ -5,12 +5,15 @@
  */
 package org.hibernate.reactive.persister.collection.mutation;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
 import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
 import org.hibernate.engine.jdbc.mutation.spi.MutationExecutorService;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
@@ -34,6 +37,8 @@ public class ReactiveDeleteRowsCoordinatorStandard extends DeleteRowsCoordinator
 	private final boolean deleteByIndex;
 	private MutationOperationGroupSingle operationGroup;
 	private final BasicBatchKey batchKey;
+	private SetBasedRowMutation setBasedMutation;
+	private boolean setBasedMutationResolved;
 
 	public ReactiveDeleteRowsCoordinatorStandard(CollectionMutationTarget mutationTarget, RowMutationOperations rowMutationOperations, boolean deleteByIndex) {
 		super( mutationTarget, rowMutationOperations, deleteByIndex );
@@ -70,6 +75,19 @@ public CompletionStage<Void> reactiveDeleteRows(PersistentCollection<?> collecti
 
 					final RowMutationOperations.Restrictions restrictions = rowMutationOperations.getDeleteRowRestrictions();
 
+					final SetBasedRowMutation setBased = setBasedMutation( session );
+					if ( setBased != null ) {
+						final PreparedStatementDetails statementDetails = mutationExecutor
+								.getPreparedStatementDetails( operationGroup.getSingleOperation().getTableDetails().getTableName() );
+						final List<Object[]> rows = new ArrayList<>();
+						while ( deletes.hasNext() ) {
+							restrictions.applyRestrictions( collection, key, deletes.next(), rows.size(), session, jdbcValueBindings );
+							rows.add( setBased.bindRow( statementDetails, jdbcValueBindings, session ) );
+						}
+						return setBased.execute( rows, session )
+								.thenAccept( ignore -> MODEL_MUTATION_LOGGER.debugf( "Done deleting `%s` collection rows : %s", rows.size(), getMutationTarget().getRolePath() ) );
+					}
+
 					return loop( deletes, (removal, integer) -> {
 						restrictions.applyRestrictions(
 								collection,
@@ -97,6 +115,16 @@ private ReactiveMutationExecutor reactiveMutationExecutor(SharedSessionContractI
 				.createExecutor( this::getBatchKey, operationGroup, session );
 	}
 
+	private SetBasedRowMutation setBasedMutation(SharedSessionContractImplementor session) {
+		if ( !setBasedMutationResolved ) {
+			setBasedMutation = SetBasedRowMutation.isEnabled( session )
+					? SetBasedRowMutation.create( MutationType.DELETE, rowMutationOperations.getDeleteRowOperation(), session.getJdbcServices().getDialect() )
+					: null;
+			setBasedMutationResolved = true;
+		}
+		return setBasedMutation;
+	}
+
 	private MutationOperationGroupSingle createOperationGroup() {
 		assert getMutationTarget().getTargetPart() != null;
 		assert getMutationTarget().getTargetPart().getKeyDescriptor() != null;
@@ -6,12 +6,15 @@
 package org.hibernate.reactive.persister.collection.mutation;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
 import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
 import org.hibernate.engine.jdbc.mutation.spi.MutationExecutorService;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
@@ -46,6 +49,9 @@ public class ReactiveInsertRowsCoordinatorStandard implements ReactiveInsertRows
 
 	private MutationOperationGroupSingle operationGroup;
 
+	private SetBasedRowMutation setBasedMutation;
+	private boolean setBasedMutationResolved;
+
 	public ReactiveInsertRowsCoordinatorStandard(CollectionMutationTarget mutationTarget, RowMutationOperations rowMutationOperations) {
 		this.mutationTarget = mutationTarget;
 		this.rowMutationOperations = rowMutationOperations;
@@ -89,6 +95,13 @@ public CompletionStage<Void> reactiveInsertRows(PersistentCollection<?> collecti
 		final ReactiveMutationExecutor mutationExecutor = reactiveMutationExecutor( session, operationGroup );
 		final JdbcValueBindings jdbcValueBindings = mutationExecutor.getJdbcValueBindings();
 
+		final SetBasedRowMutation setBased = setBasedMutation( session );
+		if ( setBased != null ) {
+			return voidFuture()
+					.thenCompose( v -> insertRowsSetBased( setBased, collection, id, entries, entryChecker, mutationExecutor, session ) )
+					.whenComplete( (unused, throwable) -> mutationExecutor.release() );
+		}
+
 		// It's just a counter, this way I don't have to use an Object, and I can pass it to a lambda
 		final int[] counter = { 0 };
 		final RowMutationOperations.Values insertRowValues = rowMutationOperations.getInsertRowValues();
@@ -108,6 +121,43 @@ public CompletionStage<Void> reactiveInsertRows(PersistentCollection<?> collecti
 				.whenComplete( (unused, throwable) -> mutationExecutor.release() );
 	}
 
+	private CompletionStage<Void> insertRowsSetBased(
+			SetBasedRowMutation setBased,
+			PersistentCollection<?> collection,
+			Object id,
+			Iterator<?> entries,
+			EntryFilter entryChecker,
+			ReactiveMutationExecutor mutationExecutor,
+			SharedSessionContractImplementor session) {
+		final PluralAttributeMapping pluralAttribute = mutationTarget.getTargetPart();
+		final JdbcValueBindings jdbcValueBindings = mutationExecutor.getJdbcValueBindings();
+		final PreparedStatementDetails statementDetails = mutationExecutor
+				.getPreparedStatementDetails( operationGroup.getSingleOperation().getTableDetails().getTableName() );
+		final RowMutationOperations.Values insertRowValues = rowMutationOperations.getInsertRowValues();
+		final List<Object[]> rows = new ArrayList<>();
+		int entryCount = 0;
+		while ( entries.hasNext() ) {
+			final Object entry = entries.next();
+			if ( entryChecker == null || entryChecker.include( entry, entryCount, collection, pluralAttribute ) ) {
+				insertRowValues.applyValues( collection, id, entry, entryCount, session, jdbcValueBindings );
+				rows.add( setBased.bindRow( statementDetails, jdbcValueBindings, session ) );
+			}
+			entryCount++;
+		}
+		return setBased.execute( rows, session )
+				.thenAccept( unused -> MODEL_MUTATION_LOGGER.debugf( "Done inserting `%s` collection rows : %s", rows.size(), mutationTarget.getRolePath() ) );
+	}
+
+	private SetBasedRowMutation setBasedMutation(SharedSessionContractImplementor session) {
+		if ( !setBasedMutationResolved ) {
+			setBasedMutation = SetBasedRowMutation.isEnabled( session )
+					? SetBasedRowMutation.create( MutationType.INSERT, rowMutationOperations.getInsertRowOperation(), session.getJdbcServices().getDialect() )
+					: null;
+			setBasedMutationResolved = true;
+		}
+		return setBasedMutation;
+	}
+
 	private BasicBatchKey getBatchKey() {
 		return batchKey;
 	}
@@ -0,0 +1,307 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.persister.collection.mutation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.regex.Pattern;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.ParameterUsage;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.jdbc.TooManyRowsAffectedException;
+import org.hibernate.reactive.adaptor.impl.PrepareStatementDetailsAdaptor;
+import org.hibernate.reactive.adaptor.impl.PreparedStatementAdaptor;
+import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.session.ReactiveConnectionSupplier;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.hibernate.sql.model.MutationType;
+import org.hibernate.sql.model.ast.ColumnValueParameter;
+import org.hibernate.sql.model.jdbc.JdbcMutationOperation;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+
+/**
+ * Executes the row inserts or row deletes of a collection as a few
+ * set-based statements, instead of one statement per row:
+ * <ul>
+ * <li>{@code insert into tab (owner, elem) values (?,?),(?,?),...}
+ * <li>{@code delete from tab where owner=? and elem in (?,?,...)}
+ * </ul>
+ * The statements are built from the table and columns of the row
+ * operation, and only when the row statement generated by Hibernate
+ * ORM is the standard one, so a collection mapped with custom SQL is
+ * never written this way.
+ * The row count of each statement is verified against the number of
+ * rows it writes, with the same exceptions as for a single row.
+ *
+ * @see Settings#SET_BASED_COLLECTION_MUTATIONS
+ */
+final class SetBasedRowMutation {
+
+	private static final Pattern WHITESPACE = Pattern.compile( "\\s+" );
+
+	// Keep each statement within the bind parameter limits of every supported database
+	private static final int MAX_PARAMETERS = 2000;
+	private static final int MAX_ROWS = 1000;
+
+	private final MutationType mutationType;
+	private final String rowSql;
+	private final String tableName;
+	private final String[] columnNames;
+	private final Expectation expectation;
+
+	private SetBasedRowMutation(
+			MutationType mutationType,
+			String rowSql,
+			String tableName,
+			String[] columnNames,
+			Expectation expectation) {
+		this.mutationType = mutationType;
+		this.rowSql = rowSql;
+		this.tableName = tableName;
+		this.columnNames = columnNames;
+		this.expectation = expectation;
+	}
+
+	static boolean isEnabled(SharedSessionContractImplementor session) {
+		return session.getFactory().getServiceRegistry().getService( ConfigurationService.class )
+				.getSetting( Settings.SET_BASED_COLLECTION_MUTATIONS, StandardConverters.BOOLEAN, false );
+	}
+
+	/**
+	 * @return a {@code SetBasedRowMutation} for the given row operation,
+	 *         or {@code null} if it isn't the standard row statement
+	 */
+	static SetBasedRowMutation create(MutationType mutationType, JdbcMutationOperation operation, Dialect dialect) {
+		final ParameterUsage usage;
+		switch ( mutationType ) {
+			case INSERT:
+				if ( !dialect.supportsValuesListForInsert() ) {
+					return null;
+				}
+				usage = ParameterUsage.SET;
+				break;
+			case DELETE:
+				usage = ParameterUsage.RESTRICT;
+				break;
+			default:
+				return null;
+		}
+
+		final List<JdbcParameterBinder> parameterBinders = operation.getParameterBinders();
+		if ( parameterBinders.isEmpty() ) {
+			return null;
+		}
+		final String[] columnNames = new String[parameterBinders.size()];
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			final JdbcParameterBinder binder = parameterBinders.get( i );
+			if ( !( binder instanceof ColumnValueParameter )
+					|| ( (ColumnValueParameter) binder ).getUsage() != usage ) {
+				return null;
+			}
+			columnNames[i] = ( (ColumnValueParameter) binder ).getColumnReference().getColumnExpression();
+		}
+
+		final SetBasedRowMutation mutation = new SetBasedRowMutation(
+				mutationType,
+				operation.getSqlString(),
+				operation.getTableDetails().getTableName(),
+				columnNames,
+				operation.getExpectation()
+		);
+		// Custom SQL, or a column write expression, makes the row statement
+		// differ from the one built from the table and columns
+		return mutation.isStandardRowSql() ? mutation : null;
+	}
+
+	private boolean isStandardRowSql() {
+		final StringBuilder sql = new StringBuilder();
+		if ( mutationType == MutationType.INSERT ) {
+			sql.append( "insert into " ).append( tableName )
+					.append( " (" ).append( String.join( ",", columnNames ) ).append( ") values (" )
+					.append( String.join( ",", Collections.nCopies( columnNames.length, "?" ) ) ).append( ')' );
+		}
+		else {
+			sql.append( "delete from " ).append( tableName ).append( " where " );
+			for ( int i = 0; i < columnNames.length; i++ ) {
+				sql.append( i == 0 ? "" : " and " ).append( columnNames[i] ).append( "=?" );
+			}
+		}
+		return normalize( sql.toString() ).equals( normalize( rowSql ) );
+	}
+
+	/**
+	 * Strip a leading comment, added when {@code use_sql_comments} is
+	 * enabled, and any formatting.
+	 */
+	private static String normalize(String sql) {
+		String statement = sql.trim();
+		if ( statement.startsWith( "/*" ) ) {
+			final int end = statement.indexOf( "*/" );
+			statement = end < 0 ? statement : statement.substring( end + 2 );
+		}
+		return WHITESPACE.matcher( statement ).replaceAll( "" ).toLowerCase( Locale.ROOT );
+	}
+
+	/**
+	 * Collect the values currently bound for a row, and reset the
+	 * bindings for the next row.
+	 */
+	Object[] bindRow(
+			PreparedStatementDetails statementDetails,
+			JdbcValueBindings valueBindings,
+			SharedSessionContractImplementor session) {
+		final Object[] row = PreparedStatementAdaptor.bind( statement -> valueBindings.beforeStatement(
+				new PrepareStatementDetailsAdaptor( statementDetails, statement, session.getJdbcServices() )
+		) );
+		valueBindings.afterStatement( statementDetails.getMutatingTableDetails() );
+		return row;
+	}
+
+	CompletionStage<Void> execute(List<Object[]> rows, SharedSessionContractImplementor session) {
+		final ReactiveConnection connection = ( (ReactiveConnectionSupplier) session ).getReactiveConnection();
+		final int rowsPerStatement = Math.max( 1, Math.min( MAX_ROWS, MAX_PARAMETERS / columnNames.length ) );
+		final int statementCount = ( rows.size() + rowsPerStatement - 1 ) / rowsPerStatement;
+		return loop( 0, statementCount, index -> execute(
+				connection,
+				rows.subList( index * rowsPerStatement, Math.min( rows.size(), ( index + 1 ) * rowsPerStatement ) )
+		) );
+	}
+
+	private CompletionStage<Void> execute(ReactiveConnection connection, List<Object[]> rows) {
+		for ( Object[] row : rows ) {
+			if ( row.length != columnNames.length ) {
+				// the bindings don't match the template
+				return executeRowByRow( connection, rows );
+			}
+		}
+		final boolean[] varying = varyingColumns( rows );
+		if ( rows.size() == 1 || mutationType == MutationType.DELETE && !contains( varying ) ) {
+			return executeRowByRow( connection, rows );
+		}
+
+		final List<Object> parameters = new ArrayList<>( rows.size() * columnNames.length );
+		final String sql = mutationType == MutationType.INSERT
+				? insertSql( rows, parameters )
+				: deleteSql( rows, varying, parameters );
+		return connection.update( sql, parameters.toArray() )
+				.thenAccept( rowCount -> verifyOutcome( rowCount, rows.size(), sql ) );
+	}
+
+	private CompletionStage<Void> executeRowByRow(ReactiveConnection connection, List<Object[]> rows) {
+		return loop( rows, row -> connection.update( rowSql, row )
+				.thenAccept( rowCount -> verifyOutcome( rowCount, 1, rowSql ) ) );
+	}
+
+	private String insertSql(List<Object[]> rows, List<Object> parameters) {
+		final String placeholders = "(" + String.join( ",", Collections.nCopies( columnNames.length, "?" ) ) + ")";
+		final StringBuilder sql = new StringBuilder( "insert into " )
+				.append( tableName )
+				.append( " (" )
+				.append( String.join( ",", columnNames ) )
+				.append( ") values " );
+		for ( int i = 0; i < rows.size(); i++ ) {
+			if ( i > 0 ) {
+				sql.append( ',' );
+			}
+			sql.append( placeholders );
+			parameters.addAll( Arrays.asList( rows.get( i ) ) );
+		}
+		return sql.toString();
+	}
+
+	private String deleteSql(List<Object[]> rows, boolean[] varying, List<Object> parameters) {
+		final StringBuilder sql = new StringBuilder( "delete from " )
+				.append( tableName )
+				.append( " where " );
+		// a restriction with the same value for every row, usually
+		// the owner key, is rendered just once
+		final List<Integer> varyingColumns = new ArrayList<>();
+		for ( int column = 0; column < columnNames.length; column++ ) {
+			if ( varying[column] ) {
+				varyingColumns.add( column );
+			}
+			else {
+				sql.append( columnNames[column] ).append( "=? and " );
+				parameters.add( rows.get( 0 )[column] );
+			}
+		}
+		if ( varyingColumns.size() == 1 ) {
+			final int column = varyingColumns.get( 0 );
+			sql.append( columnNames[column] ).append( " in (" );
+			for ( int i = 0; i < rows.size(); i++ ) {
+				sql.append( i == 0 ? "?" : ",?" );
+				parameters.add( rows.get( i )[column] );
+			}
+			sql.append( ')' );
+		}
+		else {
+			sql.append( '(' );
+			for ( int i = 0; i < rows.size(); i++ ) {
+				sql.append( i == 0 ? "(" : " or (" );
+				for ( int j = 0; j < varyingColumns.size(); j++ ) {
+					final int column = varyingColumns.get( j );
+					sql.append( j == 0 ? "" : " and " ).append( columnNames[column] ).append( "=?" );
+					parameters.add( rows.get( i )[column] );
+				}
+				sql.append( ')' );
+			}
+			sql.append( ')' );
+		}
+		return sql.toString();
+	}
+
+	private boolean[] varyingColumns(List<Object[]> rows) {
+		final boolean[] varying = new boolean[columnNames.length];
+		for ( int column = 0; column < columnNames.length; column++ ) {
+			final Object first = rows.get( 0 )[column];
+			for ( int i = 1; i < rows.size() && !varying[column]; i++ ) {
+				varying[column] = !Objects.deepEquals( first, rows.get( i )[column] );
+			}
+		}
+		return varying;
+	}
+
+	private static boolean contains(boolean[] varying) {
+		for ( boolean value : varying ) {
+			if ( value ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * The same checks as {@link Expectation#verifyOutcome}, but for a
+	 * statement writing several rows
+	 */
+	private void verifyOutcome(int rowCount, int expectedRowCount, String sql) {
+		if ( expectation != Expectations.NONE ) {
+			if ( rowCount < expectedRowCount ) {
+				throw new StaleStateException( "Unexpected row count: " + rowCount + "; expected: " + expectedRowCount
+						+ "; statement executed: " + sql );
+			}
+			if ( rowCount > expectedRowCount ) {
+				throw new TooManyRowsAffectedException( "Unexpected row count: " + rowCount + "; expected: " + expectedRowCount
+						+ "; statement executed: " + sql, expectedRowCount, rowCount );
+			}
+		}
+	}
+}
@@ -29,6 +29,7 @@
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.internal.ManagedTypeHelper;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
@@ -151,6 +152,40 @@ default String generateUpdateLockString(LockOptions lockOptions) {
 		return parameters().process( update.toStatementString() );
 	}
 
+	default String generateSelectLockAllString(LockOptions lockOptions, int count) {
+		final SessionFactoryImplementor factory = getFactory();
+		final Dialect dialect = factory.getJdbcServices().getDialect();
+		final String[] idColumnNames = getRootTableIdentifierColumnNames();
+		final StringBuilder sql = new StringBuilder();
+		if ( factory.getSessionFactoryOptions().isCommentsEnabled() ) {
+			sql.append( "/* " ).append( lockOptions.getLockMode() ).append( " lock " ).append( getEntityName() ).append( " */ " );
+		}
+		sql.append( "select " ).append( idColumnNames[0] )
+				.append( " from " ).append( dialect.appendLockHint( lockOptions, getRootTableName() ) )
+				.append( " where " );
+		if ( idColumnNames.length == 1 && !isVersioned() ) {
+			sql.append( idColumnNames[0] ).append( " in (" );
+			for ( int i = 0; i < count; i++ ) {
+				sql.append( i == 0 ? "?" : ",?" );
+			}
+			sql.append( ')' );
+		}
+		else {
+			for ( int i = 0; i < count; i++ ) {
+				sql.append( i == 0 ? "(" : " or (" );
+				for ( int j = 0; j < idColumnNames.length; j++ ) {
+					sql.append( j == 0 ? "" : " and " ).append( idColumnNames[j] ).append( "=?" );
+				}
+				if ( isVersioned() ) {
+					sql.append( " and " ).append( getVersionColumnName() ).append( "=?" );
+				}
+				sql.append( ')' );
+			}
+		}
+		sql.append( dialect.getForUpdateString( lockOptions ) );
+		return parameters().process( sql.toString() );
+	}
+
 	@Override
 	default CompletionStage<Void> reactiveLock(
 			Object id,
@@ -227,6 +262,31 @@ default CompletionStage<Void> reactiveLock(
 				.whenComplete( (r, e) -> logSqlException( e, () -> "could not lock: " + infoString( this, id, getFactory() ), sql ) );
 	}
 
+	@Override
+	default CompletionStage<Integer> reactiveLockAll(
+			Object[] ids,
+			Object[] versions,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		final String sql = generateSelectLockAllString( lockOptions, ids.length );
+		final Object[] arguments = PreparedStatementAdaptor.bind( statement -> {
+			int offset = 1;
+			for ( int i = 0; i < ids.length; i++ ) {
+				getIdentifierType().nullSafeSet( statement, ids[i], offset, session );
+				offset += getIdentifierType().getColumnSpan( getFactory() );
+				if ( isVersioned() ) {
+					getVersionType().nullSafeSet( statement, versions[i], offset, session );
+					offset++;
+				}
+			}
+		} );
+
+		return getReactiveConnection( session )
+				.select( sql, arguments )
+				.thenApply( ReactiveConnection.Result::size )
+				.whenComplete( (r, e) -> logSqlException( e, () -> "could not lock: " + getEntityName(), sql ) );
+	}
+
 	private CompletionStage<Boolean> writeLock(SharedSessionContractImplementor session, String sql, boolean writeLock, Object[] arguments) {
 		return writeLock
 				? getReactiveConnection( session ).update( sql, arguments ).thenApply( affected -> affected > 0 )
@@ -273,6 +333,11 @@ default CompletionStage<Object[]> reactiveGetDatabaseSnapshot(Object id, SharedS
 		return getReactiveSingleIdEntityLoader().reactiveLoadDatabaseSnapshot( id, session );
 	}
 
+	@Override
+	default CompletionStage<Object[][]> reactiveGetDatabaseSnapshots(Object[] ids, SharedSessionContractImplementor session) {
+		return getReactiveSingleIdEntityLoader().reactiveLoadDatabaseSnapshots( ids, session );
+	}
+
 	ReactiveSingleIdEntityLoader<?> getReactiveSingleIdEntityLoader();
 
 	/**
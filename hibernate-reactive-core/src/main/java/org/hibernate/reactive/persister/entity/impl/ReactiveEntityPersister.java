@@ -74,6 +74,20 @@ CompletionStage<Void> reactiveLock(
 			LockOptions lockOptions,
 			SharedSessionContractImplementor session);
 
+	/**
+	 * Obtain a pessimistic lock on the rows of several instances with
+	 * a single {@code select}, checking the version of each row
+	 *
+	 * @return the number of rows which were locked, which is less than
+	 *         the number of ids if a row was deleted or its version
+	 *         doesn't match
+	 */
+	CompletionStage<Integer> reactiveLockAll(
+			Object[] ids,
+			Object[] versions,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session);
+
 	<K> CompletionStage<? extends List<?>> reactiveMultiLoad(
 			K[] ids,
 			EventSource session,
@@ -141,6 +155,16 @@ CompletionStage<Void> reactiveProcessUpdateGenerated(
 	 */
 	CompletionStage<Object[]> reactiveGetDatabaseSnapshot(Object id, SharedSessionContractImplementor session);
 
+	/**
+	 * Get the current database state of several objects, in the form
+	 * returned by {@link #reactiveGetDatabaseSnapshot}, using as few
+	 * queries as possible
+	 *
+	 * @return the snapshots, in the same order as the given ids, with
+	 *         null for each object with no row in the database
+	 */
+	CompletionStage<Object[][]> reactiveGetDatabaseSnapshots(Object[] ids, SharedSessionContractImplementor session);
+
 	default <E, T> CompletionStage<T> reactiveInitializeLazyProperty(
 			Attribute<E, T> field,
 			E entity,
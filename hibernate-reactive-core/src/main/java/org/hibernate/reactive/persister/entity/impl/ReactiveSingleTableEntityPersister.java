@@ -6,7 +6,9 @@
 package org.hibernate.reactive.persister.entity.impl;
 
 import java.sql.PreparedStatement;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
 import org.hibernate.HibernateException;
@@ -14,6 +16,7 @@
 import org.hibernate.LockOptions;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventSource;
@@ -22,6 +25,7 @@
 import org.hibernate.loader.ast.internal.SingleIdArrayLoadPlan;
 import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.loader.ast.spi.SingleUniqueKeyEntityLoader;
+import org.hibernate.mapping.Column;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.metamodel.mapping.NaturalIdMapping;
 import org.hibernate.metamodel.mapping.SingularAttributeMapping;
@@ -42,7 +46,9 @@
 import org.hibernate.reactive.metamodel.mapping.internal.ReactiveToOneAttributeMapping;
 import org.hibernate.reactive.persister.entity.mutation.ReactiveDeleteCoordinator;
 import org.hibernate.reactive.persister.entity.mutation.ReactiveInsertCoordinator;
+import org.hibernate.reactive.persister.entity.mutation.ReactiveInsertStatement;
 import org.hibernate.reactive.persister.entity.mutation.ReactiveUpdateCoordinator;
+import org.hibernate.reactive.persister.entity.mutation.ReactiveUpsertRewriter;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.spi.NavigablePath;
 import org.hibernate.sql.ast.tree.from.TableGroup;
@@ -58,6 +64,12 @@ public class ReactiveSingleTableEntityPersister extends SingleTableEntityPersist
 
 	private final ReactiveAbstractPersisterDelegate reactiveDelegate;
 
+	// the columns with an explicit SQL type, which insert statements need
+	private final Set<String> columnsWithDefinition;
+	private volatile boolean insertStatementResolved;
+	private ReactiveInsertStatement insertStatement;
+	private ReactiveUpsertRewriter upsertRewriter;
+
 	public ReactiveSingleTableEntityPersister(
 			final PersistentClass persistentClass,
 			final EntityDataAccess cacheAccessStrategy,
@@ -65,6 +77,17 @@ public ReactiveSingleTableEntityPersister(
 			final RuntimeModelCreationContext creationContext) throws HibernateException {
 		super( persistentClass, cacheAccessStrategy, naturalIdRegionAccessStrategy, creationContext );
 		reactiveDelegate = new ReactiveAbstractPersisterDelegate( this, persistentClass, creationContext );
+		columnsWithDefinition = columnsWithDefinition( persistentClass, creationContext.getSessionFactory().getJdbcServices().getDialect() );
+	}
+
+	private static Set<String> columnsWithDefinition(PersistentClass persistentClass, Dialect dialect) {
+		final Set<String> columnNames = new HashSet<>();
+		for ( Column column : persistentClass.getTable().getColumns() ) {
+			if ( column.getSqlType() != null ) {
+				columnNames.add( column.getQuotedName( dialect ) );
+			}
+		}
+		return columnNames;
 	}
 
 	@Override
@@ -88,6 +111,38 @@ protected DeleteCoordinator buildDeleteCoordinator() {
 		return ReactiveCoordinatorFactory.buildDeleteCoordinator( this, getFactory() );
 	}
 
+	/**
+	 * The static insert statement of this entity, from which inserts of
+	 * many rows and upserts are built, resolved the first time it's
+	 * needed.
+	 *
+	 * @return the insert statement, or {@code null} if it can't be
+	 *         rewritten
+	 */
+	public ReactiveInsertStatement getInsertStatement() {
+		resolveInsertStatement();
+		return insertStatement;
+	}
+
+	/**
+	 * The rewriter of the insert statement of this entity as an upsert.
+	 *
+	 * @return the rewriter, or {@code null} if the insert can't be
+	 *         rewritten as an upsert
+	 */
+	public ReactiveUpsertRewriter getUpsertRewriter() {
+		resolveInsertStatement();
+		return upsertRewriter;
+	}
+
+	private void resolveInsertStatement() {
+		if ( !insertStatementResolved ) {
+			insertStatement = ReactiveInsertStatement.create( this, columnsWithDefinition );
+			upsertRewriter = ReactiveUpsertRewriter.create( insertStatement, getFactory().getJdbcServices().getDialect() );
+			insertStatementResolved = true;
+		}
+	}
+
 	@Override
 	public Generator getGenerator() throws HibernateException {
 		return reactiveDelegate.reactive( super.getGenerator() );
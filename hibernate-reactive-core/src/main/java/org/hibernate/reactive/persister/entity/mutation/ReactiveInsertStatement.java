@@ -0,0 +1,165 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.persister.entity.mutation;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.hibernate.Internal;
+import org.hibernate.engine.jdbc.mutation.ParameterUsage;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.hibernate.sql.model.MutationOperation;
+import org.hibernate.sql.model.MutationOperationGroup;
+import org.hibernate.sql.model.ast.ColumnValueParameter;
+import org.hibernate.sql.model.jdbc.JdbcMutationOperation;
+
+/**
+ * The static insert statement of an entity mapped to a single table,
+ * along with its table and columns, taken from the mutation model of
+ * the persister, from which the insert may be rewritten as an insert
+ * of many rows or as an upsert.
+ * <p>
+ * Only an insert whose values are all parameters can be rewritten, so
+ * there's no {@code ReactiveInsertStatement} for an insert with custom
+ * SQL or with a column write expression.
+ */
+@Internal
+public final class ReactiveInsertStatement {
+
+	private static final Pattern WHITESPACE = Pattern.compile( "\\s+" );
+
+	private final String sql;
+	private final String tableName;
+	private final List<String> columnNames;
+	private final int[] sqlTypeCodes;
+	private final List<String> keyColumnNames;
+
+	private ReactiveInsertStatement(
+			String sql,
+			String tableName,
+			List<String> columnNames,
+			int[] sqlTypeCodes,
+			List<String> keyColumnNames) {
+		this.sql = sql;
+		this.tableName = tableName;
+		this.columnNames = columnNames;
+		this.sqlTypeCodes = sqlTypeCodes;
+		this.keyColumnNames = keyColumnNames;
+	}
+
+	/**
+	 * @param persister the persister of an entity mapped to a single table
+	 * @param columnsWithDefinition the columns with an explicit SQL type,
+	 *        whose type isn't known from their JDBC type
+	 *
+	 * @return the insert statement of the entity, or {@code null} if it
+	 *         has no static insert, or if the insert isn't the standard one
+	 */
+	public static ReactiveInsertStatement create(AbstractEntityPersister persister, Set<String> columnsWithDefinition) {
+		final MutationOperationGroup group = persister.getInsertCoordinator().getStaticInsertGroup();
+		if ( group == null ) {
+			return null;
+		}
+		final List<MutationOperation> operations = new ArrayList<>( 1 );
+		group.forEachOperation( (position, operation) -> operations.add( operation ) );
+		if ( operations.size() != 1 || !( operations.get( 0 ) instanceof JdbcMutationOperation ) ) {
+			return null;
+		}
+
+		final JdbcMutationOperation operation = (JdbcMutationOperation) operations.get( 0 );
+		final List<JdbcParameterBinder> parameterBinders = operation.getParameterBinders();
+		final List<String> columnNames = new ArrayList<>( parameterBinders.size() );
+		final int[] sqlTypeCodes = new int[parameterBinders.size()];
+		for ( JdbcParameterBinder binder : parameterBinders ) {
+			if ( !( binder instanceof ColumnValueParameter )
+					|| ( (ColumnValueParameter) binder ).getUsage() != ParameterUsage.SET ) {
+				return null;
+			}
+			final String columnName = ( (ColumnValueParameter) binder ).getColumnReference().getColumnExpression();
+			sqlTypeCodes[columnNames.size()] = columnsWithDefinition.contains( columnName )
+					? Types.OTHER
+					: ( (ColumnValueParameter) binder ).getColumnReference().getJdbcMapping().getJdbcType()
+							.getDefaultSqlTypeCode();
+			columnNames.add( columnName );
+		}
+		final List<String> keyColumnNames = List.of( persister.getIdentifierColumnNames() );
+		final String tableName = operation.getTableDetails().getTableName();
+
+		final String standardSql = "insert into " + tableName + " (" + String.join( ",", columnNames ) + ") values ("
+				+ String.join( ",", Collections.nCopies( columnNames.size(), "?" ) ) + ")";
+		// custom SQL, or a column write expression, makes the insert
+		// differ from the one built from the table and columns
+		return normalize( standardSql ).equals( normalize( operation.getSqlString() ) )
+				? new ReactiveInsertStatement(
+						operation.getSqlString(),
+						tableName,
+						List.copyOf( columnNames ),
+						sqlTypeCodes,
+						keyColumnNames
+				)
+				: null;
+	}
+
+	/**
+	 * Strip a leading comment, added when {@code use_sql_comments} is
+	 * enabled, and any formatting.
+	 */
+	private static String normalize(String sql) {
+		String statement = sql.trim();
+		if ( statement.startsWith( "/*" ) ) {
+			final int end = statement.indexOf( "*/" );
+			statement = end < 0 ? statement : statement.substring( end + 2 );
+		}
+		return WHITESPACE.matcher( statement ).replaceAll( "" ).toLowerCase( Locale.ROOT );
+	}
+
+	/**
+	 * Is the given SQL this insert statement?
+	 */
+	public boolean isStatement(String sql) {
+		return this.sql.equals( sql );
+	}
+
+	/**
+	 * The SQL of the insert, as executed by the insert coordinator.
+	 */
+	public String getSql() {
+		return sql;
+	}
+
+	public String getTableName() {
+		return tableName;
+	}
+
+	/**
+	 * The inserted columns, in the order of the parameters of the insert.
+	 */
+	public List<String> getColumnNames() {
+		return columnNames;
+	}
+
+	/**
+	 * The JDBC type code of the given column, or {@link Types#OTHER} if
+	 * the column has an explicit SQL type.
+	 */
+	public int getSqlTypeCode(int column) {
+		return sqlTypeCodes[column];
+	}
+
+	/**
+	 * The primary key columns, which are also inserted columns, unless
+	 * the identifier is generated on execution.
+	 */
+	public List<String> getKeyColumnNames() {
+		return keyColumnNames;
+	}
+}
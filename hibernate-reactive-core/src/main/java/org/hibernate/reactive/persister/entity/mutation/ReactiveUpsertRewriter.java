@@ -0,0 +1,205 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.persister.entity.mutation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.Internal;
+import org.hibernate.dialect.CockroachDialect;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.DialectDelegateWrapper;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.OracleDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.dialect.SQLServerDialect;
+
+/**
+ * Rewrites the insert statement of an entity mapped to a single table
+ * as an upsert, which inserts the row or, if there's already a row with
+ * the same primary key, updates it, using:
+ * <ul>
+ * <li>{@code insert ... on conflict ... do update} on PostgreSQL and
+ *     CockroachDB,
+ * <li>{@code insert ... on duplicate key update} on MySQL and MariaDB,
+ *     and
+ * <li>{@code merge} on SQL Server and Oracle.
+ * </ul>
+ * The upsert is built once, from the table and columns of the
+ * {@linkplain ReactiveInsertStatement insert statement}. Its parameters
+ * are the same, and in the same order, as the parameters of the insert,
+ * so the values bound by the insert coordinator can be used as they are.
+ */
+@Internal
+public final class ReactiveUpsertRewriter {
+
+	private enum Syntax { ON_CONFLICT, ON_DUPLICATE_KEY, MERGE_VALUES, MERGE_DUAL }
+
+	private final ReactiveInsertStatement insert;
+	private final List<String> keyColumns;
+	private final String upsert;
+
+	private ReactiveUpsertRewriter(ReactiveInsertStatement insert, Syntax syntax) {
+		this.insert = insert;
+		this.keyColumns = insert.getKeyColumnNames();
+		this.upsert = upsert( syntax );
+	}
+
+	/**
+	 * @param insert the insert statement of the entity, or {@code null}
+	 *               if it can't be rewritten
+	 *
+	 * @return the rewriter, or {@code null} if the insert can't be
+	 *         rewritten as an upsert on the given dialect
+	 */
+	public static ReactiveUpsertRewriter create(ReactiveInsertStatement insert, Dialect dialect) {
+		final Syntax syntax = syntax( dialect );
+		return syntax == null || insert == null || !insert.getColumnNames().containsAll( insert.getKeyColumnNames() )
+				? null
+				: new ReactiveUpsertRewriter( insert, syntax );
+	}
+
+	private static Syntax syntax(Dialect dialect) {
+		final Dialect realDialect = DialectDelegateWrapper.extractRealDialect( dialect );
+		if ( realDialect instanceof PostgreSQLDialect || realDialect instanceof CockroachDialect ) {
+			return Syntax.ON_CONFLICT;
+		}
+		if ( realDialect instanceof MySQLDialect ) {
+			return Syntax.ON_DUPLICATE_KEY;
+		}
+		if ( realDialect instanceof SQLServerDialect ) {
+			return Syntax.MERGE_VALUES;
+		}
+		if ( realDialect instanceof OracleDialect ) {
+			return Syntax.MERGE_DUAL;
+		}
+		return null;
+	}
+
+	/**
+	 * Does the given dialect support upserts?
+	 */
+	public static boolean isSupported(Dialect dialect) {
+		return syntax( dialect ) != null;
+	}
+
+	/**
+	 * Is the given SQL the insert statement of the entity?
+	 */
+	public boolean isInsert(String sql) {
+		return insert.isStatement( sql );
+	}
+
+	/**
+	 * The SQL of the upsert.
+	 */
+	public String getUpsert() {
+		return upsert;
+	}
+
+	private String upsert(Syntax syntax) {
+		final String table = insert.getTableName();
+		final List<String> columns = insert.getColumnNames();
+		final List<String> updatedColumns = new ArrayList<>( columns );
+		updatedColumns.removeAll( keyColumns );
+
+		switch ( syntax ) {
+			case ON_CONFLICT:
+				return onConflict( insert.getSql(), updatedColumns );
+			case ON_DUPLICATE_KEY:
+				return onDuplicateKey( insert.getSql(), updatedColumns );
+			case MERGE_VALUES:
+				return merge( table, "(values (" + parameters( columns.size() ) + ")) as s (" + String.join( ",", columns ) + ")", columns, updatedColumns )
+						// SQL Server requires the semicolon
+						+ ";";
+			case MERGE_DUAL:
+				return merge( table, "(select " + aliasedParameters( columns ) + " from dual) s", columns, updatedColumns );
+			default:
+				throw new AssertionError( "Unknown upsert syntax: " + syntax );
+		}
+	}
+
+	private String onConflict(String insert, List<String> updatedColumns) {
+		final StringBuilder sql = new StringBuilder( insert )
+				.append( " on conflict (" ).append( String.join( ",", keyColumns ) ).append( ") do " );
+		if ( updatedColumns.isEmpty() ) {
+			return sql.append( "nothing" ).toString();
+		}
+		sql.append( "update set " );
+		for ( int i = 0; i < updatedColumns.size(); i++ ) {
+			final String column = updatedColumns.get( i );
+			if ( i > 0 ) {
+				sql.append( ',' );
+			}
+			sql.append( column ).append( "=excluded." ).append( column );
+		}
+		return sql.toString();
+	}
+
+	private String onDuplicateKey(String insert, List<String> updatedColumns) {
+		final StringBuilder sql = new StringBuilder( insert ).append( " on duplicate key update " );
+		if ( updatedColumns.isEmpty() ) {
+			// there has to be an assignment
+			final String column = keyColumns.get( 0 );
+			return sql.append( column ).append( '=' ).append( column ).toString();
+		}
+		for ( int i = 0; i < updatedColumns.size(); i++ ) {
+			final String column = updatedColumns.get( i );
+			if ( i > 0 ) {
+				sql.append( ',' );
+			}
+			sql.append( column ).append( "=values(" ).append( column ).append( ')' );
+		}
+		return sql.toString();
+	}
+
+	private String merge(String table, String source, List<String> columns, List<String> updatedColumns) {
+		final StringBuilder sql = new StringBuilder( "merge into " ).append( table )
+				.append( " t using " ).append( source ).append( " on (" );
+		for ( int i = 0; i < keyColumns.size(); i++ ) {
+			final String column = keyColumns.get( i );
+			if ( i > 0 ) {
+				sql.append( " and " );
+			}
+			sql.append( "t." ).append( column ).append( "=s." ).append( column );
+		}
+		sql.append( ')' );
+		if ( !updatedColumns.isEmpty() ) {
+			sql.append( " when matched then update set " );
+			for ( int i = 0; i < updatedColumns.size(); i++ ) {
+				final String column = updatedColumns.get( i );
+				if ( i > 0 ) {
+					sql.append( ',' );
+				}
+				sql.append( "t." ).append( column ).append( "=s." ).append( column );
+			}
+		}
+		sql.append( " when not matched then insert (" ).append( String.join( ",", columns ) ).append( ") values (" );
+		for ( int i = 0; i < columns.size(); i++ ) {
+			if ( i > 0 ) {
+				sql.append( ',' );
+			}
+			sql.append( "s." ).append( columns.get( i ) );
+		}
+		return sql.append( ')' ).toString();
+	}
+
+	private static String parameters(int count) {
+		return String.join( ",", Collections.nCopies( count, "?" ) );
+	}
+
+	private static String aliasedParameters(List<String> columns) {
+		final StringBuilder select = new StringBuilder();
+		for ( int i = 0; i < columns.size(); i++ ) {
+			if ( i > 0 ) {
+				select.append( ',' );
+			}
+			select.append( "? " ).append( columns.get( i ) );
+		}
+		return select.toString();
+	}
+}
@@ -11,6 +11,8 @@
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 
+import org.hibernate.reactive.persister.entity.mutation.ReactiveInsertStatement;
+import org.hibernate.reactive.persister.entity.mutation.ReactiveUpsertRewriter;
 
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
@@ -26,6 +28,10 @@
  * and the {@link org.hibernate.engine.jdbc.batch.spi.Batch} interface.
  * However, the model used there is not easily adaptable to the reactive
  * paradigm.
+ * <p>
+ * On PostgreSQL and CockroachDB, a batch of {@linkplain #withUnnestInserts
+ * inserts} may be executed as a single insert of arrays of column values.
+ * Inserts may also be {@linkplain #withUpserts executed as upserts}.
  *
  * @author Gavin King
  */
@@ -38,6 +44,9 @@ public class BatchingConnection implements ReactiveConnection {
 	private Expectation batchedExpectation;
 	private List<Object[]> batchParamValues;
 
+	private ReactiveInsertStatement unnestInsert;
+	private ReactiveUpsertRewriter upsertRewriter;
+
 	public BatchingConnection(ReactiveConnection delegate, int batchSize) {
 		this.delegate = delegate;
 		this.batchSize = batchSize;
@@ -54,6 +63,58 @@ public ReactiveConnection withBatchSize(int batchSize) {
 		}
 	}
 
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Set the batch size, even to a size which disables batching,
+	 * for example, to restore the size in effect before a call to
+	 * {@link #withBatchSize(int)}.
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Discard the statements of the current batch without executing
+	 * them, for example, after a failure while building the batch.
+	 */
+	public void discardBatch() {
+		batchedSql = null;
+		batchParamValues = null;
+		batchedExpectation = null;
+	}
+
+	/**
+	 * Execute a batch of the given insert as a single
+	 * {@code insert ... select * from unnest(...)}, with one array
+	 * parameter per column, when the values allow it, or stop doing
+	 * so if the insert is {@code null}. Must only be enabled on
+	 * PostgreSQL and CockroachDB.
+	 */
+	public BatchingConnection withUnnestInserts(ReactiveInsertStatement insert) {
+		this.unnestInsert = insert;
+		return this;
+	}
+
+	/**
+	 * Execute the insert of the given rewriter as an upsert, or stop
+	 * doing so if the rewriter is {@code null}.
+	 * <p>
+	 * An upsert is reported as affecting a single row, whatever the
+	 * database says, since, for example, MySQL reports two rows for
+	 * an update, and none if the row didn't change.
+	 */
+	public BatchingConnection withUpserts(ReactiveUpsertRewriter upsertRewriter) {
+		this.upsertRewriter = upsertRewriter;
+		return this;
+	}
+
+	private boolean isUpsert(String sql) {
+		return upsertRewriter != null && upsertRewriter.isInsert( sql );
+	}
+
 	@Override
 	public CompletionStage<Void> executeBatch() {
 		if ( !hasBatch() ) {
@@ -67,12 +128,25 @@ public CompletionStage<Void> executeBatch() {
 			batchParamValues = null;
 			batchedExpectation = null;
 
-			if ( paramValues.size() == 1 ) {
-				return update( sql, paramValues.get( 0 ) )
+			final UnnestInsert unnest = unnestInsert != null && paramValues.size() > 1 && unnestInsert.isStatement( sql )
+					? UnnestInsert.rewrite( unnestInsert, paramValues )
+					: null;
+			if ( unnest != null ) {
+				return delegate.update( unnest.sql, unnest.arrays )
+						.thenAccept( rowCount -> {
+							// a row count different from the number of rows is reported as a failed row
+							final int rowCountPerRow = rowCount == paramValues.size() ? 1 : 0;
+							for ( int i = 0; i < paramValues.size(); i++ ) {
+								expectation.verifyOutcome( rowCountPerRow, i, unnest.sql );
+							}
+						} );
+			}
+			else if ( paramValues.size() == 1 ) {
+				return delegate.update( sql, paramValues.get( 0 ) )
 						.thenAccept( rowCount -> expectation.verifyOutcome( rowCount, -1, sql ) );
 			}
 			else {
-				return update( sql, paramValues )
+				return delegate.update( sql, paramValues )
 						.thenAccept( rowCounts -> {
 							for ( int i = 0; i < rowCounts.length; i++ ) {
 								expectation.verifyOutcome( rowCounts[i], i, sql );
@@ -83,8 +157,18 @@ public CompletionStage<Void> executeBatch() {
 	}
 
 	public CompletionStage<Void> update(
-			String sql, Object[] paramValues,
-			boolean allowBatching, Expectation expectation) {
+			String insertOrUpdate, Object[] paramValues,
+			boolean allowBatching, Expectation expectedOutcome) {
+		final String sql;
+		final Expectation expectation;
+		if ( isUpsert( insertOrUpdate ) ) {
+			sql = upsertRewriter.getUpsert();
+			expectation = (rowCount, batchPosition, upsert) -> expectedOutcome.verifyOutcome( 1, batchPosition, upsert );
+		}
+		else {
+			sql = insertOrUpdate;
+			expectation = expectedOutcome;
+		}
 		if ( allowBatching && batchSize > 0 ) {
 			if ( !hasBatch() ) {
 				newBatch( sql, paramValues, expectation );
@@ -138,11 +222,25 @@ public CompletionStage<Integer> update(String sql) {
 
 	@Override
 	public CompletionStage<Integer> update(String sql, Object[] paramValues) {
+		if ( isUpsert( sql ) ) {
+			final String upsert = upsertRewriter.getUpsert();
+			return ( hasBatch()
+					? executeBatch().thenCompose( v -> delegate.update( upsert, paramValues ) )
+					: delegate.update( upsert, paramValues ) )
+					.thenApply( rowCount -> 1 );
+		}
 		return hasBatch() ?
 				executeBatch().thenCompose( v -> delegate.update( sql, paramValues ) ) :
 				delegate.update( sql, paramValues );
 	}
 
+	@Override
+	public CompletionStage<Integer> update(String sql, Object[] paramValues, int timeoutMillis) {
+		return hasBatch() ?
+				executeBatch().thenCompose( v -> delegate.update( sql, paramValues, timeoutMillis ) ) :
+				delegate.update( sql, paramValues, timeoutMillis );
+	}
+
 	public CompletionStage<int[]> update(String sql, List<Object[]> paramValues) {
 		return hasBatch() ?
 				executeBatch().thenCompose( v -> delegate.update( sql, paramValues ) ) :
@@ -173,6 +271,13 @@ public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
 				delegate.selectJdbc( sql, paramValues );
 	}
 
+	@Override
+	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues, int timeoutMillis) {
+		return hasBatch() ?
+				executeBatch().thenCompose( v -> delegate.selectJdbc( sql, paramValues, timeoutMillis ) ) :
+				delegate.selectJdbc( sql, paramValues, timeoutMillis );
+	}
+
 	@Override
 	public CompletionStage<ResultSet> selectJdbcOutsideTransaction(String sql, Object[] paramValues) {
 		return delegate.selectJdbcOutsideTransaction( sql, paramValues );
@@ -10,6 +10,7 @@
 import java.sql.ResultSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -47,6 +48,18 @@ interface Expectation {
 
 	CompletionStage<Integer> update(String sql, Object[] paramValues);
 
+	/**
+	 * Execute the given update, failing with a
+	 * {@link org.hibernate.QueryTimeoutException} if it does not
+	 * complete within the given timeout.
+	 *
+	 * @param timeoutMillis the timeout in milliseconds, or zero
+	 *                      for no timeout
+	 */
+	default CompletionStage<Integer> update(String sql, Object[] paramValues, int timeoutMillis) {
+		return update( sql, paramValues );
+	}
+
 	CompletionStage<Void> update(String sql, Object[] paramValues, boolean allowBatching, Expectation expectation);
 
 	CompletionStage<int[]> update(String sql, List<Object[]> paramValues);
@@ -57,6 +70,18 @@ interface Expectation {
 
 	CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues);
 
+	/**
+	 * Execute the given query, failing with a
+	 * {@link org.hibernate.QueryTimeoutException} if it does not
+	 * complete within the given timeout.
+	 *
+	 * @param timeoutMillis the timeout in milliseconds, or zero
+	 *                      for no timeout
+	 */
+	default CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues, int timeoutMillis) {
+		return selectJdbc( sql, paramValues );
+	}
+
 	/**
 	 * This method is intended to be used only for queries returning
 	 * a ResultSet that must be executed outside of any "current"
@@ -78,8 +103,112 @@ interface Expectation {
 
 	<T> CompletionStage<T> selectIdentifier(String sql, Object[] paramValues, Class<T> idClass);
 
+	/**
+	 * The rows returned by a query, which may be read either as arrays
+	 * of column values, using {@link #next()}, or in place, using the
+	 * {@link #cursor()}, which doesn't copy the values of each row when
+	 * the implementation supports it.
+	 */
 	interface Result extends Iterator<Object[]> {
 		int size();
+
+		/**
+		 * A {@link Cursor} over the remaining rows of this result. The
+		 * default implementation reads the arrays returned by
+		 * {@link #next()}.
+		 */
+		default Cursor cursor() {
+			return cursor( this );
+		}
+
+		/**
+		 * A {@link Cursor} over the given rows, for implementations of
+		 * {@link Result} which only provide the rows as arrays of column
+		 * values.
+		 */
+		static Cursor cursor(Iterator<Object[]> rows) {
+			return new Cursor() {
+				private Object[] row;
+
+				@Override
+				public boolean nextRow() {
+					row = rows.hasNext() ? rows.next() : null;
+					return row != null;
+				}
+
+				private Object[] row() {
+					if ( row == null ) {
+						throw new NoSuchElementException( "No current row" );
+					}
+					return row;
+				}
+
+				@Override
+				public int getColumnCount() {
+					return row().length;
+				}
+
+				@Override
+				public Object getValue(int column) {
+					return row()[column];
+				}
+			};
+		}
+	}
+
+	/**
+	 * Reads the rows of a {@link Result} in place, by moving to each row
+	 * with {@link #nextRow()} and reading its columns with the typed
+	 * accessors.
+	 */
+	interface Cursor {
+		/**
+		 * Move to the next row, whose columns may then be read using
+		 * the accessors of this cursor.
+		 *
+		 * @return {@code false} if there are no more rows
+		 */
+		boolean nextRow();
+
+		/**
+		 * @return the number of columns of the current row
+		 */
+		int getColumnCount();
+
+		/**
+		 * @param column the column of the current row, counting from 0
+		 * @return the value of the column
+		 */
+		Object getValue(int column);
+
+		/**
+		 * @param type the Java type of the value
+		 * @param column the column of the current row, counting from 0
+		 * @return the value of the column, converted to the given type
+		 */
+		default <T> T get(Class<T> type, int column) {
+			return type.cast( getValue( column ) );
+		}
+
+		default Long getLong(int column) {
+			return get( Long.class, column );
+		}
+
+		default Integer getInteger(int column) {
+			return get( Integer.class, column );
+		}
+
+		default Double getDouble(int column) {
+			return get( Double.class, column );
+		}
+
+		default Boolean getBoolean(int column) {
+			return get( Boolean.class, column );
+		}
+
+		default String getString(int column) {
+			return get( String.class, column );
+		}
 	}
 
 	CompletionStage<Void> beginTransaction();
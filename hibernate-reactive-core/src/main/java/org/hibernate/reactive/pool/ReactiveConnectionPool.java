@@ -5,6 +5,7 @@
  */
 package org.hibernate.reactive.pool;
 
+import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.Incubating;
 import org.hibernate.reactive.provider.ReactiveServiceRegistryBuilder;
 import org.hibernate.service.Service;
@@ -62,6 +63,20 @@ public interface ReactiveConnectionPool extends Service {
 	 */
 	ReactiveConnection getProxyConnection(String tenantId);
 
+	/**
+	 * When are the connections obtained by a session released?
+	 * Unless {@link ConnectionReleaseMode#ON_CLOSE}, every session
+	 * uses a {@linkplain #getProxyConnection() proxy connection},
+	 * which obtains a connection when it's needed and, for
+	 * {@link ConnectionReleaseMode#AFTER_STATEMENT}, releases it
+	 * after each operation outside a transaction.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CONNECTION_HANDLING
+	 */
+	default ConnectionReleaseMode getConnectionReleaseMode() {
+		return ConnectionReleaseMode.ON_CLOSE;
+	}
+
 	/**
 	 * The shutdown of the pool is actually asynchronous but the
 	 * core service registry won't return the {@link CompletionStage}.
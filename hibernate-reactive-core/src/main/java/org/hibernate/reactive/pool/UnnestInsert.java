@@ -0,0 +1,184 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool;
+
+import java.lang.reflect.Array;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.reactive.adaptor.impl.JdbcNull;
+import org.hibernate.reactive.persister.entity.mutation.ReactiveInsertStatement;
+import org.hibernate.type.SqlTypes;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Rewrites a batch of single-row inserts,
+ * {@code insert into t (a,b) values (?,?)}, as one insert of
+ * all the rows, {@code insert into t (a,b) select * from
+ * unnest($1::int4[],$2::text[])}, with one array parameter per
+ * column. Only for PostgreSQL and CockroachDB.
+ * <p>
+ * The table and columns come from the {@link ReactiveInsertStatement},
+ * and the array type of each column from its JDBC type. The rewrite is
+ * only possible when every column has a JDBC type with a matching array
+ * type, and no explicit SQL type, such as {@code jsonb}, {@code inet},
+ * or an enumerated type, and when every value of a column is of the Java
+ * type bound for its JDBC type.
+ */
+final class UnnestInsert {
+
+	/**
+	 * The array element type for a JDBC type, and the Java type of the
+	 * values bound for it.
+	 */
+	private static final class ElementType {
+		private final String name;
+		private final Class<?> javaType;
+
+		private ElementType(String name, Class<?> javaType) {
+			this.name = name;
+			this.javaType = javaType;
+		}
+	}
+
+	private static final ElementType BOOL = new ElementType( "bool", Boolean.class );
+	private static final ElementType INT2 = new ElementType( "int2", Short.class );
+	private static final ElementType INT4 = new ElementType( "int4", Integer.class );
+	private static final ElementType INT8 = new ElementType( "int8", Long.class );
+	private static final ElementType FLOAT4 = new ElementType( "float4", Float.class );
+	private static final ElementType FLOAT8 = new ElementType( "float8", Double.class );
+	private static final ElementType TEXT = new ElementType( "text", String.class );
+	private static final ElementType UUID_TYPE = new ElementType( "uuid", UUID.class );
+	private static final ElementType DATE = new ElementType( "date", LocalDate.class );
+	private static final ElementType TIME = new ElementType( "time", LocalTime.class );
+	private static final ElementType TIMESTAMP = new ElementType( "timestamp", LocalDateTime.class );
+	private static final ElementType TIMESTAMPTZ = new ElementType( "timestamptz", OffsetDateTime.class );
+	// binary values are bound as instances of an implementation of Buffer
+	private static final ElementType BYTEA = new ElementType( "bytea", Buffer.class );
+
+	final String sql;
+	final Object[] arrays;
+
+	private UnnestInsert(String sql, Object[] arrays) {
+		this.sql = sql;
+		this.arrays = arrays;
+	}
+
+	/**
+	 * @param insert the insert statement executed for every row
+	 * @param rows the values of the parameters of the insert, for each row
+	 *
+	 * @return the rewritten insert, or {@code null} if the given values
+	 *         can't be rewritten
+	 */
+	static UnnestInsert rewrite(ReactiveInsertStatement insert, List<Object[]> rows) {
+		final List<String> columnNames = insert.getColumnNames();
+		final int columnCount = columnNames.size();
+		for ( Object[] row : rows ) {
+			if ( row.length != columnCount ) {
+				return null;
+			}
+		}
+		final StringBuilder unnest = new StringBuilder( "insert into " )
+				.append( insert.getTableName() )
+				.append( " (" ).append( String.join( ",", columnNames ) ).append( ") select * from unnest(" );
+		final Object[] arrays = new Object[columnCount];
+		for ( int column = 0; column < columnCount; column++ ) {
+			final ElementType elementType = elementType( insert.getSqlTypeCode( column ) );
+			if ( elementType == null ) {
+				return null;
+			}
+			final Object array = array( elementType.javaType, rows, column );
+			if ( array == null ) {
+				return null;
+			}
+			arrays[column] = array;
+			if ( column > 0 ) {
+				unnest.append( ',' );
+			}
+			unnest.append( '$' ).append( column + 1 )
+					.append( "::" ).append( elementType.name ).append( "[]" );
+		}
+		unnest.append( ')' );
+		return new UnnestInsert( unnest.toString(), arrays );
+	}
+
+	/**
+	 * The values of the given column as an array of the given type.
+	 *
+	 * @return the array, or {@code null} if a value isn't an instance
+	 *         of the given type
+	 */
+	private static Object array(Class<?> javaType, List<Object[]> rows, int column) {
+		final Object array = Array.newInstance( javaType, rows.size() );
+		for ( int row = 0; row < rows.size(); row++ ) {
+			final Object value = rows.get( row )[column];
+			if ( value == null ) {
+				return null;
+			}
+			if ( !( value instanceof JdbcNull ) ) {
+				if ( !javaType.isInstance( value ) ) {
+					return null;
+				}
+				Array.set( array, row, value );
+			}
+		}
+		return array;
+	}
+
+	/**
+	 * @return the element type for the given JDBC type, or {@code null}
+	 *         if there's no matching array type
+	 */
+	private static ElementType elementType(int sqlTypeCode) {
+		switch ( sqlTypeCode ) {
+			case Types.BOOLEAN:
+			case Types.BIT:
+				return BOOL;
+			case Types.TINYINT:
+			case Types.SMALLINT:
+				return INT2;
+			case Types.INTEGER:
+				return INT4;
+			case Types.BIGINT:
+				return INT8;
+			case Types.REAL:
+				return FLOAT4;
+			case Types.FLOAT:
+			case Types.DOUBLE:
+				return FLOAT8;
+			case Types.CHAR:
+			case Types.NCHAR:
+			case Types.VARCHAR:
+			case Types.NVARCHAR:
+			case Types.LONGVARCHAR:
+			case Types.LONGNVARCHAR:
+				return TEXT;
+			case SqlTypes.UUID:
+				return UUID_TYPE;
+			case Types.DATE:
+				return DATE;
+			case Types.TIME:
+				return TIME;
+			case Types.TIMESTAMP:
+				return TIMESTAMP;
+			case Types.TIMESTAMP_WITH_TIMEZONE:
+				return TIMESTAMPTZ;
+			case Types.BINARY:
+			case Types.VARBINARY:
+			case Types.LONGVARBINARY:
+				return BYTEA;
+			default:
+				return null;
+		}
+	}
+}
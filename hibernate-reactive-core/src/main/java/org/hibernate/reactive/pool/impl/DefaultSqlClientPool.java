@@ -7,12 +7,29 @@
 
 import java.lang.invoke.MethodHandles;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.HibernateError;
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
@@ -21,22 +38,31 @@
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stat.spi.SqlExecutionStatisticsImplementor;
+import org.hibernate.reactive.tracing.ReactiveTracer;
 import org.hibernate.reactive.vertx.VertxInstance;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
 import org.hibernate.service.spi.Configurable;
 import org.hibernate.service.spi.ServiceRegistryAwareService;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.service.spi.Startable;
 import org.hibernate.service.spi.Stoppable;
 
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.SqlConnectOptions;
+import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.spi.Driver;
 
 import static java.util.Collections.singletonList;
+import static org.hibernate.reactive.util.impl.CompletionStages.failedFuture;
 
 /**
  * A pool of reactive connections backed by a Vert.x {@link Pool}.
@@ -62,6 +88,9 @@ public class DefaultSqlClientPool extends SqlClientPool
 
 	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final int DEFAULT_CLEANER_PERIOD = 1000;
+	private static final int DEFAULT_WARM_UP_TIMEOUT = 30_000;
+
 	private enum VertxDriver {
 		DB2( "io.vertx.db2client.spi.DB2Driver", "db2" ),
 		MYSQL( "io.vertx.mysqlclient.spi.MySQLDriver", "mysql", "mariadb" ),
@@ -110,9 +139,31 @@ public static VertxDriver findByClassName(String className) {
 
 	private Pool pools;
 	private SqlStatementLogger sqlStatementLogger;
+	private SqlExecutionStatisticsImplementor sqlExecutionStatistics;
+	private ReactiveTracer tracer;
+	private int defaultQueryTimeout;
 	private URI uri;
 	private ServiceRegistryImplementor serviceRegistry;
 	private Parameters parameters;
+	private boolean prepareOnConnect;
+	private final Set<String> statementsToPrepare = ConcurrentHashMap.newKeySet();
+	private int warmUpSize;
+	private int warmUpTimeout;
+	private int poolSize;
+	private int minIdle;
+	private int minIdlePeriod;
+	// the connections of the pool currently leased by sessions
+	private final AtomicInteger leasedCount = new AtomicInteger();
+	private Vertx vertx;
+	private long minIdleTimerId = -1;
+	private final AtomicBoolean openingIdleConnections = new AtomicBoolean();
+	private int eventLoopShards;
+	private EventLoopPools eventLoopPools;
+	private TenantConnectOptionsResolver tenantConnectOptionsResolver;
+	private int tenantPoolSize;
+	private int tenantMaxConnections;
+	private TenantPools tenantPools;
+	private ConnectionReleaseMode connectionReleaseMode = ConnectionReleaseMode.ON_CLOSE;
 
 	//Asynchronous shutdown promise: we can't return it from #close as we implement a
 	//blocking interface.
@@ -124,6 +175,8 @@ public DefaultSqlClientPool() {}
 	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 		this.serviceRegistry = serviceRegistry;
 		this.sqlStatementLogger = serviceRegistry.getService(JdbcServices.class).getSqlStatementLogger();
+		this.sqlExecutionStatistics = serviceRegistry.getService( SqlExecutionStatisticsImplementor.class );
+		this.tracer = serviceRegistry.getService( ReactiveTracer.class );
 		final Dialect dialect = serviceRegistry.getService( JdbcEnvironment.class ).getDialect();
 		parameters = Parameters.instance( dialect );
 	}
@@ -131,23 +184,344 @@ public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 	@Override
 	public void configure(Map configuration) {
 		uri = jdbcUrl( configuration );
+		defaultQueryTimeout = ConfigurationHelper.getInt( Settings.DEFAULT_QUERY_TIMEOUT, configuration, 0 );
+		prepareOnConnect = ConfigurationHelper
+				.getBoolean( Settings.PREPARED_STATEMENT_CACHE_PREPARE_ON_CONNECT, configuration, false );
+		// holding more connections than the pool allows would never complete
+		poolSize = ConfigurationHelper
+				.getInt( Settings.POOL_SIZE, configuration, DefaultSqlClientPoolConfiguration.DEFAULT_POOL_SIZE );
+		warmUpSize = Math.min( ConfigurationHelper.getInt( Settings.POOL_WARM_UP_SIZE, configuration, 0 ), poolSize );
+		warmUpTimeout = ConfigurationHelper.getInt( Settings.POOL_CONNECT_TIMEOUT, configuration, DEFAULT_WARM_UP_TIMEOUT );
+		minIdle = Math.min( ConfigurationHelper.getInt( Settings.POOL_MIN_IDLE, configuration, 0 ), poolSize );
+		minIdlePeriod = ConfigurationHelper.getInt( Settings.POOL_CLEANER_PERIOD, configuration, DEFAULT_CLEANER_PERIOD );
+		eventLoopShards = ConfigurationHelper.getInt( Settings.POOL_EVENT_LOOP_SHARDS, configuration, 0 );
+		final Object tenantResolver = configuration.get( Settings.POOL_TENANT_CONNECT_OPTIONS_RESOLVER );
+		if ( tenantResolver != null ) {
+			tenantConnectOptionsResolver = serviceRegistry.getService( StrategySelector.class )
+					.resolveStrategy( TenantConnectOptionsResolver.class, tenantResolver );
+		}
+		tenantPoolSize = ConfigurationHelper.getInt( Settings.POOL_TENANT_POOL_SIZE, configuration, poolSize );
+		tenantMaxConnections = ConfigurationHelper.getInt( Settings.POOL_TENANT_MAX_CONNECTIONS, configuration, 0 );
+		if ( tenantMaxConnections > 0 && tenantPoolSize > tenantMaxConnections ) {
+			// otherwise a single tenant pool would exceed the maximum
+			LOG.tenantPoolSizeExceedsMaxConnections( tenantPoolSize, tenantMaxConnections );
+			tenantPoolSize = tenantMaxConnections;
+		}
+		// only an explicit setting changes the release mode, since the
+		// default mode in Hibernate ORM releases after each transaction
+		final PhysicalConnectionHandlingMode connectionHandlingMode =
+				PhysicalConnectionHandlingMode.interpret( configuration.get( AvailableSettings.CONNECTION_HANDLING ) );
+		if ( connectionHandlingMode != null ) {
+			connectionReleaseMode = connectionHandlingMode.getReleaseMode();
+		}
 	}
 
 	@Override
 	public void start() {
-		if ( pools == null ) {
-			pools = createPool( uri );
+		if ( pools == null && eventLoopPools == null ) {
+			if ( eventLoopShards > 0 ) {
+				eventLoopPools = createEventLoopPools();
+				final Future<Integer> warmUp = eventLoopPools
+						.createShards( serviceRegistry.getService( VertxInstance.class ).getVertx() );
+				if ( warmUpSize > 0 ) {
+					awaitWarmUp( warmUp );
+				}
+			}
+			else {
+				pools = createPool( uri );
+				initPool( pools );
+				if ( warmUpSize > 0 ) {
+					awaitWarmUp( openConnections( pools, warmUpSize, LOG::unableToWarmUpConnection ) );
+				}
+			}
+			if ( tenantConnectOptionsResolver != null ) {
+				tenantPools = createTenantPools();
+			}
+			if ( minIdle > 0 ) {
+				LOG.connectionPoolMinIdle( minIdle );
+				vertx = serviceRegistry.getService( VertxInstance.class ).getVertx();
+				minIdleTimerId = vertx.setPeriodic( minIdlePeriod, id -> openIdleConnections() );
+			}
+		}
+	}
+
+	private void initPool(Pool pool) {
+		if ( sqlExecutionStatistics.getPreparedStatementCacheStatistics().isEnabled() ) {
+			pool.connectHandler( this::connectionOpened );
 		}
 	}
 
+	/**
+	 * Create the pools of at most {@link Settings#POOL_EVENT_LOOP_SHARDS}
+	 * shards, sharing the maximum size, warm-up size, and minimum idle
+	 * size of the pool between them.
+	 */
+	private EventLoopPools createEventLoopPools() {
+		final SqlClientPoolConfiguration configuration = serviceRegistry.getService( SqlClientPoolConfiguration.class );
+		final Vertx vertx = serviceRegistry.getService( VertxInstance.class ).getVertx();
+		final SqlConnectOptions connectOptions = configuration.connectOptions( uri );
+		final PoolOptions poolOptions = configuration.poolOptions();
+		final EventLoopPools eventLoopPools = new EventLoopPools(
+				shardSize -> {
+					final Pool pool = createPool( uri, connectOptions, new PoolOptions( poolOptions ).setMaxSize( shardSize ), vertx );
+					initPool( pool );
+					return pool;
+				},
+				(pool, shardWarmUpSize) -> openConnections( pool, shardWarmUpSize, LOG::unableToWarmUpConnection ),
+				eventLoopShards,
+				poolOptions.getMaxSize(),
+				warmUpSize,
+				minIdle
+		);
+		LOG.connectionPoolEventLoopShards( eventLoopPools.getShardCount(), poolOptions.getMaxSize() );
+		return eventLoopPools;
+	}
+
+	/**
+	 * Create the registry of tenant pools, each connecting with the
+	 * options given by the {@link TenantConnectOptionsResolver}.
+	 */
+	private TenantPools createTenantPools() {
+		final SqlClientPoolConfiguration configuration = serviceRegistry.getService( SqlClientPoolConfiguration.class );
+		final Vertx vertx = serviceRegistry.getService( VertxInstance.class ).getVertx();
+		final SqlConnectOptions connectOptions = configuration.connectOptions( uri );
+		final PoolOptions poolOptions = new PoolOptions( configuration.poolOptions() ).setMaxSize( tenantPoolSize );
+		final int maxPoolCount = tenantMaxConnections > 0 ? tenantMaxConnections / tenantPoolSize : 0;
+		return new TenantPools(
+				tenantId -> {
+					final SqlConnectOptions tenantConnectOptions = tenantConnectOptionsResolver
+							.resolve( tenantId, new SqlConnectOptions( connectOptions ) );
+					final Pool pool = createPool( uri, tenantConnectOptions, poolOptions, vertx );
+					initPool( pool );
+					return pool;
+				},
+				maxPoolCount
+		);
+	}
+
+	/**
+	 * Wait for the warm-up opening {@link Settings#POOL_WARM_UP_SIZE}
+	 * connections concurrently, unless we're on a Vert.x thread, where
+	 * we must not block.
+	 */
+	private void awaitWarmUp(Future<Integer> warmUp) {
+		warmUp.onSuccess( openedCount -> LOG.connectionPoolWarmedUp( openedCount, warmUpSize ) );
+		if ( !Context.isOnVertxThread() ) {
+			try {
+				warmUp.toCompletionStage().toCompletableFuture().get( warmUpTimeout, TimeUnit.MILLISECONDS );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			catch (ExecutionException | TimeoutException e) {
+				LOG.unableToWarmUpConnection( e );
+			}
+		}
+	}
+
+	/**
+	 * Open a connection in every pool holding fewer than
+	 * {@link Settings#POOL_MIN_IDLE} idle connections, replacing those
+	 * closed by the pool cleaner.
+	 */
+	private void openIdleConnections() {
+		if ( openingIdleConnections.compareAndSet( false, true ) ) {
+			final List<Future> opened = new ArrayList<>();
+			if ( eventLoopPools == null ) {
+				opened.add( openIdleConnection( pools, minIdle, poolSize, leasedCount.get(), null ) );
+			}
+			else {
+				eventLoopPools.forEachShard( shard -> opened.add( openIdleConnection(
+						shard.getPool(),
+						shard.getMinIdle(),
+						shard.getMaxSize(),
+						shard.getLeasedCount(),
+						shard.getContext()
+				) ) );
+			}
+			CompositeFuture.join( opened ).onComplete( ar -> openingIdleConnections.set( false ) );
+		}
+	}
+
+	/**
+	 * Open one connection, if the given pool holds fewer than
+	 * {@code minIdle} idle connections, on the given context if any,
+	 * so that it's bound to its event loop.
+	 * <p>
+	 * The pool can only be made to open a connection by asking it for
+	 * one more connection than it has idle, so the idle connections are
+	 * held until the new one is open. Opening a single connection each
+	 * period keeps them from being held for longer than one connect,
+	 * while sessions might be waiting for them.
+	 *
+	 * @param leasedCount the number of connections leased by sessions
+	 */
+	private Future<Integer> openIdleConnection(Pool pool, int minIdle, int maxSize, int leasedCount, Context context) {
+		final int size = pool.size();
+		final int idleCount = Math.max( 0, size - leasedCount );
+		if ( idleCount >= minIdle || size >= maxSize ) {
+			return Future.succeededFuture( 0 );
+		}
+		if ( context == null ) {
+			return openConnections( pool, idleCount + 1, DefaultSqlClientPool::idleConnectionFailed );
+		}
+		final Promise<Integer> opened = Promise.promise();
+		context.runOnContext( v -> openConnections( pool, idleCount + 1, DefaultSqlClientPool::idleConnectionFailed )
+				.onComplete( opened ) );
+		return opened.future();
+	}
+
+	private static void idleConnectionFailed(Throwable failure) {
+		LOG.debugf( failure, "Unable to open idle connection" );
+	}
+
+	/**
+	 * Obtain the given number of connections from the pool at once,
+	 * forcing the pool to open any it doesn't already hold, and then
+	 * release them all.
+	 *
+	 * @return the number of connections obtained
+	 */
+	private Future<Integer> openConnections(Pool pool, int count, Consumer<Throwable> failureHandler) {
+		final List<Future<SqlConnection>> connections = new ArrayList<>( count );
+		for ( int i = 0; i < count; i++ ) {
+			connections.add( pool.getConnection() );
+		}
+		return CompositeFuture.join( new ArrayList<>( connections ) )
+				.transform( ar -> {
+					int openedCount = 0;
+					for ( Future<SqlConnection> connection : connections ) {
+						if ( connection.succeeded() ) {
+							openedCount++;
+							connection.result().close();
+						}
+						else {
+							failureHandler.accept( connection.cause() );
+						}
+					}
+					return Future.succeededFuture( openedCount );
+				} );
+	}
+
+	/**
+	 * Add statements to be prepared on every connection opened from
+	 * now on, if {@link Settings#PREPARED_STATEMENT_CACHE_PREPARE_ON_CONNECT}
+	 * is enabled.
+	 */
+	void addStatementsToPrepare(Collection<String> statements) {
+		statementsToPrepare.addAll( statements );
+	}
+
+	/**
+	 * Called by the Vert.x pool with every new connection, before the
+	 * connection is used. Prepares the static statements, and then
+	 * releases the connection to the pool.
+	 */
+	private void connectionOpened(SqlConnection connection) {
+		prepareStatements( connection, statementsToPrepare().iterator(), 0 )
+				.onComplete( ar -> {
+					sqlExecutionStatistics.connectionOpened( ar.succeeded() ? ar.result() : 0 );
+					connection.close();
+				} );
+	}
+
+	private List<String> statementsToPrepare() {
+		if ( !prepareOnConnect ) {
+			return List.of();
+		}
+		final Set<String> statements = new LinkedHashSet<>();
+		for ( String sql : statementsToPrepare ) {
+			statements.add( parameters.process( sql ) );
+		}
+		// preparing more statements than the cache holds would evict the first ones
+		final List<String> list = new ArrayList<>( statements );
+		final int maxSize = sqlExecutionStatistics.getPreparedStatementCacheStatistics().getMaxSize();
+		return list.size() > maxSize ? list.subList( 0, maxSize ) : list;
+	}
+
+	private Future<Integer> prepareStatements(SqlConnection connection, Iterator<String> statements, int preparedCount) {
+		if ( !statements.hasNext() ) {
+			return Future.succeededFuture( preparedCount );
+		}
+		final String sql = statements.next();
+		// a cached statement stays in the cache once its handle is closed
+		return connection.prepare( sql )
+				.compose( statement -> statement.close().map( preparedCount + 1 ) )
+				.otherwise( failure -> {
+					LOG.debugf( failure, "Could not prepare statement on new connection: %s", sql );
+					return preparedCount;
+				} )
+				.compose( count -> prepareStatements( connection, statements, count ) );
+	}
+
 	@Override
 	public CompletionStage<Void> getCloseFuture() {
 		return closeFuture.toCompletionStage();
 	}
 
+	@Override
+	public ConnectionReleaseMode getConnectionReleaseMode() {
+		return connectionReleaseMode;
+	}
+
 	@Override
 	protected Pool getPool() {
-		return pools;
+		return eventLoopPools != null ? eventLoopPools.getPool() : pools;
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection() {
+		if ( eventLoopPools == null ) {
+			leasedCount.incrementAndGet();
+			return getConnectionFromPool( pools, null, leasedCount::decrementAndGet );
+		}
+		final EventLoopPools.Shard shard = eventLoopPools.leaseShard();
+		return getConnectionFromPool( shard.getPool(), null, shard::release );
+	}
+
+	@Override
+	public CompletionStage<ReactiveConnection> getConnection(String tenantId) {
+		if ( tenantPools == null ) {
+			return super.getConnection( tenantId );
+		}
+		return tenantPools.leasePool( tenantId ).toCompletionStage()
+				.thenCompose( pool -> getConnectionFromPool( pool.getPool(), tenantId, pool::release ) );
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The pool is not leased, so it may be closed when the tenant pools
+	 * reach the {@linkplain Settings#POOL_TENANT_MAX_CONNECTIONS maximum
+	 * number of connections}. Statements should be executed using
+	 * {@link #withTenantPool(String, Function)} instead.
+	 */
+	@Override
+	protected Pool getTenantPool(String tenantId) {
+		return tenantPools == null ? super.getTenantPool( tenantId ) : tenantPools.getPool( tenantId );
+	}
+
+	/**
+	 * Lease the pool of the tenant until the statements complete, so
+	 * that it's not closed to make room for the pool of another tenant.
+	 */
+	@Override
+	protected <T> CompletionStage<T> withTenantPool(String tenantId, Function<Pool, CompletionStage<T>> statements) {
+		if ( tenantPools == null ) {
+			return super.withTenantPool( tenantId, statements );
+		}
+		return tenantPools.leasePool( tenantId ).toCompletionStage()
+				.thenCompose( pool -> {
+					final CompletionStage<T> stage;
+					try {
+						stage = statements.apply( pool.getPool() );
+					}
+					catch (RuntimeException e) {
+						pool.release();
+						return failedFuture( e );
+					}
+					return stage.whenComplete( (result, failure) -> pool.release() );
+				} );
 	}
 
 	@Override
@@ -160,6 +534,21 @@ protected SqlStatementLogger getSqlStatementLogger() {
 		return sqlStatementLogger;
 	}
 
+	@Override
+	protected SqlExecutionStatisticsImplementor getSqlExecutionStatistics() {
+		return sqlExecutionStatistics;
+	}
+
+	@Override
+	protected ReactiveTracer getTracer() {
+		return tracer;
+	}
+
+	@Override
+	protected int getDefaultQueryTimeout() {
+		return defaultQueryTimeout;
+	}
+
 	/**
 	 * Create a new {@link Pool} for the given JDBC URL or database URI,
 	 * using the {@link VertxInstance} service to obtain an instance of
@@ -251,9 +640,20 @@ private boolean matchesScheme(String driverName, String scheme) {
 
 	@Override
 	public void stop() {
+		if ( minIdleTimerId >= 0 ) {
+			vertx.cancelTimer( minIdleTimerId );
+			minIdleTimerId = -1;
+		}
 		if ( pools != null ) {
 			this.closeFuture = pools.close();
 		}
+		if ( eventLoopPools != null ) {
+			this.closeFuture = eventLoopPools.close();
+		}
+		if ( tenantPools != null ) {
+			final Future<Void> closed = this.closeFuture;
+			this.closeFuture = tenantPools.close().compose( v -> closed );
+		}
 	}
 
 	public static URI parse(String url) {
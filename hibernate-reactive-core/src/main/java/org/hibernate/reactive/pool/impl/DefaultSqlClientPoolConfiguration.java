@@ -37,7 +37,7 @@ public class DefaultSqlClientPoolConfiguration implements SqlClientPoolConfigura
 
 	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	private static final int DEFAULT_POOL_SIZE = 5;
+	static final int DEFAULT_POOL_SIZE = 5;
 
 	private int poolSize;
 	private Integer maxWaitQueueSize;
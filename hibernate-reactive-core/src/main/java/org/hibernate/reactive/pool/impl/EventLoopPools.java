@@ -0,0 +1,333 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Pool;
+
+/**
+ * The Vert.x pools of a {@link DefaultSqlClientPool}, sharded by
+ * event loop, so that a connection is always used from the event
+ * loop which opened it, and I/O completions don't hop threads.
+ * <p>
+ * There are never more shards than connections, and the maximum size,
+ * warm-up size, and minimum idle size of the pool are split between
+ * the shards, the first shards getting one more connection than the
+ * others when the sizes don't divide evenly, so that the shards never
+ * hold more connections than the pool allows.
+ * <p>
+ * The shards are {@linkplain #createShards created up front}, each
+ * owned by an event loop. An event loop which doesn't own a shard is
+ * assigned its own the first time it asks for a connection, if there
+ * are fewer shards than configured.
+ * When all the connections of the local shard are in use, or there
+ * is no local shard, a connection is borrowed from another shard,
+ * creating a spare shard if there's room for one.
+ * When every shard is exhausted, the request waits in the queue of
+ * the local shard.
+ *
+ * @see org.hibernate.reactive.provider.Settings#POOL_EVENT_LOOP_SHARDS
+ */
+final class EventLoopPools {
+
+	/**
+	 * A Vert.x pool, along with the number of its connections in use.
+	 */
+	static final class Shard {
+		private final Pool pool;
+		private final int maxSize;
+		private final int minIdle;
+		private final Future<Integer> warmUp;
+		private final AtomicInteger leasedCount = new AtomicInteger();
+		private volatile Context context;
+
+		private Shard(Pool pool, int maxSize, int minIdle, Future<Integer> warmUp) {
+			this.pool = pool;
+			this.maxSize = maxSize;
+			this.minIdle = minIdle;
+			this.warmUp = warmUp;
+		}
+
+		Pool getPool() {
+			return pool;
+		}
+
+		int getMaxSize() {
+			return maxSize;
+		}
+
+		int getMinIdle() {
+			return minIdle;
+		}
+
+		/**
+		 * @return the number of connections currently leased from the
+		 *         pool of this shard
+		 */
+		int getLeasedCount() {
+			return leasedCount.get();
+		}
+
+		/**
+		 * @return the context of the event loop which owns this shard,
+		 *         or {@code null} if it's not owned by an event loop yet
+		 */
+		Context getContext() {
+			return context;
+		}
+
+		private boolean tryLease() {
+			int count;
+			do {
+				count = leasedCount.get();
+				if ( count >= maxSize ) {
+					return false;
+				}
+			}
+			while ( !leasedCount.compareAndSet( count, count + 1 ) );
+			return true;
+		}
+
+		/**
+		 * Release a connection leased by {@link EventLoopPools#leaseShard()}.
+		 */
+		void release() {
+			leasedCount.decrementAndGet();
+		}
+	}
+
+	private final IntFunction<Pool> poolFactory;
+	private final BiFunction<Pool, Integer, Future<Integer>> warmUp;
+	private final int maxShardCount;
+	private final int maxSize;
+	private final int warmUpSize;
+	private final int minIdle;
+	private final Map<Thread, Shard> shardsByEventLoop = new ConcurrentHashMap<>();
+	private final List<Shard> shards = new CopyOnWriteArrayList<>();
+	// a shard created off an event loop, or to lend connections to a busy
+	// event loop, and claimed by the next event loop without a shard
+	private Shard unownedShard;
+	private volatile Vertx vertx;
+	// the verticle whose instances created the shards
+	private volatile String deploymentId;
+
+	/**
+	 * @param poolFactory creates the Vert.x pool of a shard, given its
+	 *        maximum size
+	 * @param warmUp opens the given number of connections of the pool
+	 *        of a new shard, returning the number of connections opened
+	 * @param shardCount the number of shards, which is reduced to the
+	 *        maximum size of the pool if it's larger
+	 * @param maxSize the maximum size of the whole pool
+	 * @param warmUpSize the number of connections opened by the warm-up
+	 *        of the whole pool
+	 * @param minIdle the minimum number of idle connections of the whole
+	 *        pool
+	 */
+	EventLoopPools(
+			IntFunction<Pool> poolFactory,
+			BiFunction<Pool, Integer, Future<Integer>> warmUp,
+			int shardCount,
+			int maxSize,
+			int warmUpSize,
+			int minIdle) {
+		this.poolFactory = poolFactory;
+		this.warmUp = warmUp;
+		this.maxShardCount = Math.max( 1, Math.min( shardCount, maxSize ) );
+		this.maxSize = maxSize;
+		this.warmUpSize = warmUpSize;
+		this.minIdle = minIdle;
+	}
+
+	/**
+	 * @return the number of shards, never more than the maximum size
+	 *         of the pool
+	 */
+	int getShardCount() {
+		return maxShardCount;
+	}
+
+	/**
+	 * The share of the given total of the shard with the given index,
+	 * such that the shares of all the shards add up to the total.
+	 */
+	static int share(int total, int shardCount, int index) {
+		return total / shardCount + ( index < total % shardCount ? 1 : 0 );
+	}
+
+	/**
+	 * Create every shard, each owned by the event loop of a new context,
+	 * and warmed up on that event loop, so that no event loop has to
+	 * wait for the creation of its shard when it first needs it.
+	 * <p>
+	 * The only public way to obtain contexts on distinct event loops is
+	 * to deploy several instances of a verticle, which Vert.x assigns
+	 * to event loops in turn, so each shard is created by an instance of
+	 * a verticle which stays deployed until the pools are closed.
+	 *
+	 * @return the number of connections opened by the warm-ups
+	 */
+	Future<Integer> createShards(Vertx vertx) {
+		this.vertx = vertx;
+		final List<Future<Integer>> warmUps = new CopyOnWriteArrayList<>();
+		return vertx
+				.deployVerticle( () -> new ShardVerticle( warmUps ), new DeploymentOptions().setInstances( maxShardCount ) )
+				.onSuccess( id -> deploymentId = id )
+				.compose( id -> CompositeFuture.join( new ArrayList<>( warmUps ) ) )
+				.transform( ar -> {
+					int openedCount = 0;
+					for ( Future<Integer> warmUp : warmUps ) {
+						if ( warmUp.succeeded() ) {
+							openedCount += warmUp.result();
+						}
+					}
+					return Future.succeededFuture( openedCount );
+				} );
+	}
+
+	/**
+	 * Creates the shard of the event loop it's deployed on.
+	 */
+	private final class ShardVerticle extends AbstractVerticle {
+		private final List<Future<Integer>> warmUps;
+
+		private ShardVerticle(List<Future<Integer>> warmUps) {
+			this.warmUps = warmUps;
+		}
+
+		@Override
+		public void start() {
+			// there may be fewer event loops than shards
+			final boolean owned = shardsByEventLoop.containsKey( Thread.currentThread() );
+			final Shard shard = newShard( Thread.currentThread() );
+			warmUps.add( owned || shard == null ? Future.succeededFuture( 0 ) : shard.warmUp );
+		}
+	}
+
+	/**
+	 * Choose the shard from which to obtain a connection, and count
+	 * the connection as in use until {@link Shard#release()} is called.
+	 */
+	Shard leaseShard() {
+		final Shard localShard = localShard();
+		if ( localShard != null && localShard.tryLease() ) {
+			return localShard;
+		}
+		for ( Shard shard : shards ) {
+			if ( shard != localShard && shard.tryLease() ) {
+				return shard;
+			}
+		}
+		final Shard spareShard = unownedShard();
+		if ( spareShard != null && spareShard.tryLease() ) {
+			return spareShard;
+		}
+		final Shard shard = localShard != null ? localShard : fallbackShard();
+		shard.leasedCount.incrementAndGet();
+		return shard;
+	}
+
+	/**
+	 * @return the pool of the shard of the current event loop, or of
+	 *         another shard if the current thread doesn't have one
+	 */
+	Pool getPool() {
+		final Shard localShard = localShard();
+		return localShard != null ? localShard.pool : fallbackShard().pool;
+	}
+
+	void forEachShard(Consumer<Shard> action) {
+		shards.forEach( action );
+	}
+
+	Future<Void> close() {
+		final List<Future> closed = new ArrayList<>( shards.size() );
+		for ( Shard shard : shards ) {
+			closed.add( shard.pool.close() );
+		}
+		if ( deploymentId != null ) {
+			closed.add( vertx.undeploy( deploymentId ) );
+		}
+		return CompositeFuture.join( closed ).mapEmpty();
+	}
+
+	private Shard localShard() {
+		if ( !Context.isOnEventLoopThread() ) {
+			return null;
+		}
+		final Shard shard = shardsByEventLoop.get( Thread.currentThread() );
+		return shard != null || shardsByEventLoop.size() >= maxShardCount
+				? shard
+				: newShard( Thread.currentThread() );
+	}
+
+	private Shard fallbackShard() {
+		return shards.isEmpty()
+				? unownedShard()
+				: shards.get( Math.floorMod( Thread.currentThread().hashCode(), shards.size() ) );
+	}
+
+	/**
+	 * @return the shard not owned by any event loop, created if there
+	 *         is room for another shard, or {@code null}
+	 */
+	private synchronized Shard unownedShard() {
+		if ( unownedShard == null && shards.size() < maxShardCount ) {
+			unownedShard = createShard();
+			shards.add( unownedShard );
+		}
+		return unownedShard;
+	}
+
+	private synchronized Shard newShard(Thread eventLoop) {
+		Shard shard = shardsByEventLoop.get( eventLoop );
+		if ( shard == null ) {
+			if ( unownedShard != null ) {
+				shard = unownedShard;
+				unownedShard = null;
+			}
+			else if ( shards.size() < maxShardCount ) {
+				shard = createShard();
+				shards.add( shard );
+			}
+			else {
+				return null;
+			}
+			shard.context = Vertx.currentContext();
+			shardsByEventLoop.put( eventLoop, shard );
+		}
+		return shard;
+	}
+
+	private Shard createShard() {
+		// called while holding the lock, before the shard is added
+		final int index = shards.size();
+		final int shardSize = share( maxSize, maxShardCount, index );
+		final int shardWarmUpSize = share( warmUpSize, maxShardCount, index );
+		final Pool pool = poolFactory.apply( shardSize );
+		return new Shard(
+				pool,
+				shardSize,
+				share( minIdle, maxShardCount, index ),
+				shardWarmUpSize > 0 ? warmUp.apply( pool, shardWarmUpSize ) : Future.succeededFuture( 0 )
+		);
+	}
+}
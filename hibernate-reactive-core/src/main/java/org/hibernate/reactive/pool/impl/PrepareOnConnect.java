@@ -0,0 +1,159 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.hibernate.LockOptions;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.loader.ast.internal.LoaderSelectBuilder;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.query.internal.QueryParameterBindingsImpl;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.model.MutationOperationGroup;
+import org.hibernate.sql.model.jdbc.JdbcMutationOperation;
+
+/**
+ * Once the {@link SessionFactory} is created, hands the static SQL of
+ * the mapped entities, including the select which loads an entity by
+ * id, and of the named queries to the built-in connection pool, which
+ * prepares it on every new connection.
+ * <p>
+ * A named HQL query is translated as if none of its parameters were
+ * bound to a list, and without any filter or fetch profile enabled,
+ * so its SQL might not match the SQL of every execution.
+ *
+ * @see org.hibernate.reactive.provider.Settings#PREPARED_STATEMENT_CACHE_PREPARE_ON_CONNECT
+ */
+public class PrepareOnConnect implements SessionFactoryObserver {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// Named and JPA-style ordinal parameters aren't processed for a native query executed this way
+	private static final Pattern UNPROCESSED_PARAMETER = Pattern.compile( ":\\w|\\?\\d" );
+
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
+		final ReactiveConnectionPool pool = sessionFactory.getServiceRegistry().getService( ReactiveConnectionPool.class );
+		if ( pool instanceof DefaultSqlClientPool ) {
+			( (DefaultSqlClientPool) pool ).addStatementsToPrepare( staticStatements( sessionFactory ) );
+		}
+	}
+
+	private static Set<String> staticStatements(SessionFactoryImplementor sessionFactory) {
+		final Set<String> statements = new LinkedHashSet<>();
+		sessionFactory.getMappingMetamodel().forEachEntityDescriptor( persister -> {
+			if ( persister instanceof AbstractEntityPersister ) {
+				final AbstractEntityPersister entityPersister = (AbstractEntityPersister) persister;
+				addStatements( entityPersister.getInsertCoordinator().getStaticInsertGroup(), statements );
+				addStatements( entityPersister.getUpdateCoordinator().getStaticUpdateGroup(), statements );
+				addStatements( entityPersister.getDeleteCoordinator().getStaticDeleteGroup(), statements );
+				statements.add( loadStatement( entityPersister, sessionFactory ) );
+			}
+		} );
+		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
+		queryEngine.getNamedObjectRepository().visitSqmQueryMementos( memento -> {
+			try {
+				final String sql = selectStatement( memento.getHqlString(), sessionFactory );
+				if ( sql != null ) {
+					statements.add( sql );
+				}
+			}
+			catch (RuntimeException e) {
+				LOG.debugf( e, "Could not translate named query: %s", memento.getRegistrationName() );
+			}
+		} );
+		sessionFactory.getQueryEngine().getNamedObjectRepository().visitNativeQueryMementos( memento -> {
+			final String sql = memento.getSqlString();
+			if ( !UNPROCESSED_PARAMETER.matcher( sql ).find() ) {
+				statements.add( sql );
+			}
+		} );
+		return statements;
+	}
+
+	/**
+	 * The select which loads an entity by id, as built by the reactive
+	 * single id loader when there's no lock.
+	 */
+	private static String loadStatement(AbstractEntityPersister persister, SessionFactoryImplementor sessionFactory) {
+		final List<JdbcParameter> jdbcParameters = new ArrayList<>();
+		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
+				persister,
+				null,
+				persister.getIdentifierMapping(),
+				null,
+				1,
+				new LoadQueryInfluencers( sessionFactory ),
+				LockOptions.NONE,
+				jdbcParameters::add,
+				sessionFactory
+		);
+		return translate( sqlAst, sessionFactory );
+	}
+
+	/**
+	 * The SQL of the given HQL query, if it's a select.
+	 */
+	private static String selectStatement(String hql, SessionFactoryImplementor sessionFactory) {
+		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
+		final HqlInterpretation interpretation = queryEngine.getInterpretationCache().resolveHqlInterpretation(
+				hql,
+				null,
+				s -> queryEngine.getHqlTranslator().translate( hql, null )
+		);
+		if ( !( interpretation.getSqmStatement() instanceof SqmSelectStatement ) ) {
+			return null;
+		}
+		final SelectStatement sqlAst = queryEngine.getSqmTranslatorFactory()
+				.createSelectTranslator(
+						(SqmSelectStatement<?>) interpretation.getSqmStatement(),
+						QueryOptions.NONE,
+						interpretation.getDomainParameterXref(),
+						QueryParameterBindingsImpl.from( interpretation.getParameterMetadata(), sessionFactory ),
+						new LoadQueryInfluencers( sessionFactory ),
+						sessionFactory,
+						true
+				)
+				.translate()
+				.getSqlAst();
+		return translate( sqlAst, sessionFactory );
+	}
+
+	private static String translate(SelectStatement sqlAst, SessionFactoryImplementor sessionFactory) {
+		return sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
+				.buildSelectTranslator( sessionFactory, sqlAst )
+				.translate( null, QueryOptions.NONE )
+				.getSqlString();
+	}
+
+	private static void addStatements(MutationOperationGroup group, Set<String> statements) {
+		if ( group != null ) {
+			group.forEachOperation( (position, operation) -> {
+				if ( operation instanceof JdbcMutationOperation ) {
+					statements.add( ( (JdbcMutationOperation) operation ).getSqlString() );
+				}
+			} );
+		}
+	}
+}
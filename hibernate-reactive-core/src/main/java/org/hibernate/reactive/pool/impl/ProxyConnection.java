@@ -12,17 +12,26 @@
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
+import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
+import static java.util.function.Function.identity;
 import static org.hibernate.reactive.common.InternalStateAssertions.assertUseOnEventLoop;
+import static org.hibernate.reactive.util.impl.CompletionStages.rethrow;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
 /**
  * A proxy {@link ReactiveConnection} that initializes the
  * underlying connection lazily.
+ * <p>
+ * Depending on the {@link ConnectionReleaseMode}, the underlying
+ * connection is returned to the pool at the end of a transaction
+ * or, outside a transaction, after each operation, and obtained
+ * again for the next operation.
  */
 final class ProxyConnection implements ReactiveConnection {
 
@@ -34,20 +43,30 @@ final class ProxyConnection implements ReactiveConnection {
 	private boolean connected;
 	private boolean closed;
 	private final String tenantId;
+	private final ConnectionReleaseMode releaseMode;
+	private Integer batchSize;
+	private boolean inTransaction;
+	private boolean batchPending;
 
-	public ProxyConnection(ReactiveConnectionPool sqlClientPool, Parameters parameters) {
-		this.sqlClientPool = sqlClientPool;
-		this.sqlCleaner = parameters;
-		this.tenantId = null;
+	public ProxyConnection(ReactiveConnectionPool sqlClientPool, Parameters parameters, ConnectionReleaseMode releaseMode) {
+		this( sqlClientPool, null, parameters, releaseMode );
 	}
 
-	public ProxyConnection(ReactiveConnectionPool sqlClientPool, String tenantId, Parameters parameters) {
+	public ProxyConnection(ReactiveConnectionPool sqlClientPool, String tenantId, Parameters parameters, ConnectionReleaseMode releaseMode) {
 		this.sqlClientPool = sqlClientPool;
 		this.tenantId = tenantId;
 		this.sqlCleaner = parameters;
+		this.releaseMode = releaseMode;
 	}
 
 	private <T> CompletionStage<T> withConnection(Function<ReactiveConnection, CompletionStage<T>> operation) {
+		final CompletionStage<T> stage = useConnection( operation );
+		return releaseMode == ConnectionReleaseMode.AFTER_STATEMENT
+				? releaseAfter( stage )
+				: stage;
+	}
+
+	private <T> CompletionStage<T> useConnection(Function<ReactiveConnection, CompletionStage<T>> operation) {
 		assertUseOnEventLoop();
 		if ( closed ) {
 			CompletableFuture<T> ret = new CompletableFuture<>();
@@ -58,7 +77,7 @@ private <T> CompletionStage<T> withConnection(Function<ReactiveConnection, Compl
 			connected = true; // we're not allowed to fetch two connections!
 			CompletionStage<ReactiveConnection> connection =
 					tenantId == null ? sqlClientPool.getConnection() : sqlClientPool.getConnection( tenantId );
-			return connection.thenApply( newConnection -> this.connection = newConnection )
+			return connection.thenApply( this::connected )
 					.thenCompose( operation );
 		}
 		else {
@@ -73,6 +92,37 @@ private <T> CompletionStage<T> withConnection(Function<ReactiveConnection, Compl
 		}
 	}
 
+	private ReactiveConnection connected(ReactiveConnection newConnection) {
+		connection = batchSize == null ? newConnection : newConnection.withBatchSize( batchSize );
+		return connection;
+	}
+
+	/**
+	 * Return the connection to the pool once the given operation
+	 * completes, unless there's a transaction or a batch in progress.
+	 */
+	private <T> CompletionStage<T> releaseAfter(CompletionStage<T> stage) {
+		return stage
+				.handle( (result, failure) -> release()
+						.handle( (v, releaseFailure) -> {
+							if ( releaseFailure != null ) {
+								LOG.debugf( releaseFailure, "Failed to release connection" );
+							}
+							return failure == null ? result : rethrow( failure );
+						} ) )
+				.thenCompose( identity() );
+	}
+
+	private CompletionStage<Void> release() {
+		if ( connection == null || inTransaction || batchPending || closed ) {
+			return voidFuture();
+		}
+		final ReactiveConnection released = connection;
+		connection = null;
+		connected = false;
+		return released.close();
+	}
+
 	@Override
 	public CompletionStage<Void> execute(String sql) {
 		final String processedSql = sqlCleaner.process( sql );
@@ -103,6 +153,12 @@ public CompletionStage<Integer> update(String sql, Object[] paramValues) {
 		return withConnection( conn -> conn.update( processedSql, paramValues ) );
 	}
 
+	@Override
+	public CompletionStage<Integer> update(String sql, Object[] paramValues, int timeoutMillis) {
+		final String processedSql = sqlCleaner.process( sql );
+		return withConnection( conn -> conn.update( processedSql, paramValues, timeoutMillis ) );
+	}
+
 	@Override
 	public CompletionStage<Void> update(
 			String sql,
@@ -110,6 +166,10 @@ public CompletionStage<Void> update(
 			boolean allowBatching,
 			Expectation expectation) {
 		final String processedSql = sqlCleaner.process( sql );
+		if ( allowBatching && batchSize != null && batchSize > 1 ) {
+			// the statement might be held in a batch until executeBatch()
+			batchPending = true;
+		}
 		return withConnection( conn -> conn.update( processedSql, paramValues, allowBatching, expectation ) );
 	}
 
@@ -143,6 +203,12 @@ public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
 		return withConnection( conn -> conn.selectJdbc( processedSql, paramValues ) );
 	}
 
+	@Override
+	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues, int timeoutMillis) {
+		final String processedSql = sqlCleaner.process( sql );
+		return withConnection( conn -> conn.selectJdbc( processedSql, paramValues, timeoutMillis ) );
+	}
+
 	@Override
 	public CompletionStage<ResultSet> selectJdbcOutsideTransaction(String sql, Object[] paramValues) {
 		final String processedSql = sqlCleaner.process( sql );
@@ -157,28 +223,43 @@ public <T> CompletionStage<T> selectIdentifier(String sql, Object[] paramValues,
 
 	@Override
 	public CompletionStage<Void> beginTransaction() {
-		return withConnection( ReactiveConnection::beginTransaction );
+		return withConnection( conn -> conn.beginTransaction().thenAccept( v -> inTransaction = true ) );
 	}
 
 	@Override
 	public CompletionStage<Void> commitTransaction() {
-		return withConnection( ReactiveConnection::commitTransaction );
+		return endTransaction( ReactiveConnection::commitTransaction );
 	}
 
 	@Override
 	public CompletionStage<Void> rollbackTransaction() {
-		return withConnection( ReactiveConnection::rollbackTransaction );
+		return endTransaction( ReactiveConnection::rollbackTransaction );
+	}
+
+	private CompletionStage<Void> endTransaction(Function<ReactiveConnection, CompletionStage<Void>> operation) {
+		final CompletionStage<Void> stage = useConnection( conn -> operation.apply( conn )
+				.whenComplete( (v, failure) -> inTransaction = false ) );
+		return releaseMode == ConnectionReleaseMode.ON_CLOSE
+				? stage
+				: releaseAfter( stage );
 	}
 
 	@Override
 	public ReactiveConnection withBatchSize(int batchSize) {
-		connection = connection.withBatchSize( batchSize );
+		this.batchSize = batchSize;
+		if ( connection != null ) {
+			connection = connection.withBatchSize( batchSize );
+		}
 		return this;
 	}
 
 	@Override
 	public CompletionStage<Void> executeBatch() {
-		return withConnection( ReactiveConnection::executeBatch );
+		if ( !connected && !batchPending ) {
+			// there's nothing to execute, so don't obtain a connection
+			return voidFuture();
+		}
+		return withConnection( conn -> conn.executeBatch().whenComplete( (v, failure) -> batchPending = false ) );
 	}
 
 	@Override
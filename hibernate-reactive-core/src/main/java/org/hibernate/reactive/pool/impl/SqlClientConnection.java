@@ -9,11 +9,16 @@
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.SQLTimeoutException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
+import org.hibernate.QueryTimeoutException;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.reactive.adaptor.impl.JdbcNull;
@@ -24,8 +29,13 @@
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.pool.BatchingConnection;
 import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.stat.spi.SqlExecutionStatisticsImplementor;
+import org.hibernate.reactive.tracing.ReactiveTracer;
 import org.hibernate.reactive.util.impl.CompletionStages;
 
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.sqlclient.Pool;
@@ -40,6 +50,8 @@
 import io.vertx.sqlclient.Transaction;
 import io.vertx.sqlclient.Tuple;
 
+import static org.hibernate.reactive.tracing.ReactiveTracer.SpanKind.STATEMENT;
+import static org.hibernate.reactive.tracing.impl.Tracing.trace;
 import static org.hibernate.reactive.util.impl.CompletionStages.rethrow;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
 
@@ -56,18 +68,35 @@ public class SqlClientConnection implements ReactiveConnection {
 	private final static PropertyKind<Row> ORACLE_GENERATED_KEYS = PropertyKind.create( "generated-keys", Row.class );
 
 	private final SqlStatementLogger sqlStatementLogger;
+	private final SqlExecutionStatisticsImplementor statistics;
+	private final ReactiveTracer tracer;
 
 	private final Pool pool;
 	private final SqlConnection connection;
 	private final Parameters sqlCleaner;
+	private final int defaultTimeoutMillis;
+	// the context which obtained the connection, for timers armed
+	// by a thread which has no context of its own
+	private final Context connectionContext;
 	private Transaction transaction;
+	private Runnable releaseHandler;
+	// obtained before the first statement with a timeout
+	private Future<StatementCancellation> cancellation;
+	// a statement which timed out, but couldn't be cancelled
+	private Future<?> uncancelledStatement;
 
 	SqlClientConnection(SqlConnection connection, Pool pool, SqlStatementLogger sqlStatementLogger,
-						Parameters parameters) {
+						Parameters parameters, SqlExecutionStatisticsImplementor statistics, ReactiveTracer tracer,
+						int defaultTimeoutMillis, Runnable releaseHandler) {
 		this.pool = pool;
+		this.releaseHandler = releaseHandler;
+		this.defaultTimeoutMillis = defaultTimeoutMillis;
 		this.sqlStatementLogger = sqlStatementLogger;
+		this.statistics = statistics;
+		this.tracer = tracer;
 		this.connection = connection;
 		this.sqlCleaner = parameters;
+		this.connectionContext = Vertx.currentContext();
 		LOG.tracef( "Connection created: %s", connection );
 	}
 
@@ -77,6 +106,13 @@ public CompletionStage<Integer> update(String sql, Object[] paramValues) {
 		return update( sql, Tuple.wrap( paramValues ) );
 	}
 
+	@Override
+	public CompletionStage<Integer> update(String sql, Object[] paramValues, int timeoutMillis) {
+		translateNulls( paramValues );
+		return preparedQuery( sql, Tuple.wrap( paramValues ), timeoutMillis )
+				.thenApply( SqlResult::rowCount );
+	}
+
 	@Override
 	public CompletionStage<int[]> update(String sql, List<Object[]> batchParamValues) {
 		final List<Tuple> tuples = new ArrayList<>( batchParamValues.size() );
@@ -101,10 +137,8 @@ public <T> CompletionStage<T> selectIdentifier(String sql, Object[] paramValues,
 		return preparedQuery( readySql, Tuple.wrap( paramValues ) )
 				.handle( (rows, throwable) -> convertException( rows, readySql, throwable ) )
 				.thenApply( rowSet -> {
-					for (Row row: rowSet) {
-						return row.get(idClass, 0);
-					}
-					return null;
+					final Cursor cursor = new RowSetResult( rowSet ).cursor();
+					return cursor.nextRow() ? cursor.get( idClass, 0 ) : null;
 				} );
 	}
 
@@ -128,6 +162,13 @@ public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues) {
 				.thenApply( ResultSetAdaptor::new );
 	}
 
+	@Override
+	public CompletionStage<ResultSet> selectJdbc(String sql, Object[] paramValues, int timeoutMillis) {
+		translateNulls( paramValues );
+		return preparedQuery( sql, Tuple.wrap( paramValues ), timeoutMillis )
+				.thenApply( ResultSetAdaptor::new );
+	}
+
 	@Override
 	public CompletionStage<ResultSet> selectJdbcOutsideTransaction(String sql, Object[] paramValues) {
 		return preparedQueryOutsideTransaction( sql, Tuple.wrap( paramValues ) )
@@ -143,12 +184,131 @@ public CompletionStage<Void> execute(String sql) {
 	@Override
 	public CompletionStage<Void> executeUnprepared(String sql) {
 		final String readySql = sqlCleaner.process( sql );
-		feedback( readySql );
-		return client().query( readySql ).execute().toCompletionStage()
-				.handle( (rows, throwable) -> convertException( rows, readySql, throwable ) )
+		return executeStatement( readySql, defaultTimeoutMillis, () -> client().query( readySql ).execute() )
 				.thenCompose( CompletionStages::voidFuture );
 	}
 
+	/**
+	 * Execute the given statement as a prepared statement, which
+	 * the connection caches.
+	 */
+	private CompletionStage<RowSet<Row>> executePreparedStatement(String readySql, int timeoutMillis, Supplier<Future<RowSet<Row>>> statement) {
+		statistics.statementPrepared( readySql );
+		return executeStatement( readySql, timeoutMillis, statement );
+	}
+
+	/**
+	 * Log, trace, and time the given statement, and fail with a
+	 * {@link QueryTimeoutException} if it does not complete within
+	 * the given timeout.
+	 */
+	private CompletionStage<RowSet<Row>> executeStatement(String readySql, int timeoutMillis, Supplier<Future<RowSet<Row>>> statement) {
+		feedback( readySql );
+		final long startTime = startTime();
+		return trace( tracer, STATEMENT, readySql, () -> withTimeout( readySql, timeoutMillis, statement ) )
+				.handle( (rows, throwable) -> afterExecution( rows, readySql, startTime, throwable ) );
+	}
+
+	/**
+	 * Arm a Vert.x timer which, if the statement has not completed
+	 * when it fires, fails the returned stage and asks the database
+	 * to cancel the statement.
+	 * <p>
+	 * The timer is armed on the current context or, failing that, on
+	 * the context which obtained the connection. If there's neither,
+	 * the statement is executed without a timeout.
+	 */
+	private <T> CompletionStage<T> withTimeout(String sql, int timeoutMillis, Supplier<Future<T>> statement) {
+		if ( timeoutMillis <= 0 ) {
+			return statement.get().toCompletionStage();
+		}
+		final Context currentContext = Vertx.currentContext();
+		final Context context = currentContext == null ? connectionContext : currentContext;
+		if ( context == null ) {
+			LOG.debugf( "No Vert.x context for the timeout of statement: %s", sql );
+			return statement.get().toCompletionStage();
+		}
+		return cancellation().toCompletionStage()
+				.thenCompose( cancellation -> withTimeout( sql, timeoutMillis, context, cancellation, statement.get() ) );
+	}
+
+	private Future<StatementCancellation> cancellation() {
+		if ( cancellation == null ) {
+			cancellation = StatementCancellation.create( connection, pool );
+		}
+		return cancellation;
+	}
+
+	private <T> CompletionStage<T> withTimeout(
+			String sql,
+			int timeoutMillis,
+			Context context,
+			StatementCancellation cancellation,
+			Future<T> statement) {
+		final Vertx vertx = context.owner();
+		final CompletableFuture<T> result = new CompletableFuture<>();
+		final long timerId = vertx.setTimer( timeoutMillis, id -> {
+			final QueryTimeoutException timeout = new QueryTimeoutException(
+					"statement timed out after " + timeoutMillis + " milliseconds",
+					new SQLTimeoutException( "Statement timed out", cancellation.sqlState() ),
+					sql
+			);
+			if ( result.completeExceptionally( timeout ) ) {
+				LOG.debugf( "Statement timed out after %d milliseconds: %s", timeoutMillis, sql );
+				if ( !cancellation.cancel() ) {
+					// the statement keeps running on the connection
+					uncancelledStatement = statement;
+				}
+			}
+		} );
+		statement.onComplete( ar -> {
+			vertx.cancelTimer( timerId );
+			if ( ar.succeeded() ) {
+				result.complete( ar.result() );
+			}
+			else {
+				result.completeExceptionally( ar.cause() );
+			}
+		} );
+		return result;
+	}
+
+	/**
+	 * @return the current time, if anything is interested in the
+	 *         execution time of statements
+	 */
+	private long startTime() {
+		return statistics.isRecording() ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * Report the execution of a statement started at the given
+	 * time, and convert any resulting exception.
+	 */
+	private <T extends SqlResult<?>> T afterExecution(T result, String sql, long startTime, Throwable throwable) {
+		if ( statistics.isRecording() ) {
+			if ( throwable == null ) {
+				statistics.statementExecuted( sql, startTime, rowCount( result ) );
+			}
+			else {
+				statistics.statementFailed( sql, startTime );
+			}
+		}
+		return convertException( result, sql, throwable );
+	}
+
+	/**
+	 * The number of rows returned or affected, summed over all
+	 * the results of a batch.
+	 */
+	private static long rowCount(SqlResult<?> result) {
+		long rowCount = 0;
+		for ( SqlResult<?> next = result; next != null; next = next.next() ) {
+			rowCount += next.rowCount();
+		}
+		return rowCount;
+	}
+
 	/**
 	 * Similar to {@link org.hibernate.exception.internal.SQLExceptionTypeDelegate#convert(SQLException, String, String)}
 	 */
@@ -231,45 +391,45 @@ public <T> CompletionStage<T> insertAndSelectIdentifier(String sql, Tuple parame
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql, Tuple parameters) {
+		return preparedQuery( sql, parameters, defaultTimeoutMillis );
+	}
+
+	public CompletionStage<RowSet<Row>> preparedQuery(String sql, Tuple parameters, int timeoutMillis) {
 		final String readySql = sqlCleaner.process( sql );
-		feedback( readySql );
-		return client().preparedQuery( readySql ).execute( parameters ).toCompletionStage()
-				.handle( (rows, throwable) -> convertException( rows, readySql, throwable ) );
+		return executePreparedStatement( readySql, timeoutMillis, () -> client().preparedQuery( readySql ).execute( parameters ) );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql, Tuple parameters, PrepareOptions options) {
 		final String readySql = sqlCleaner.process( sql );
-		feedback( readySql );
-		return client().preparedQuery( readySql, options ).execute( parameters ).toCompletionStage()
-				.handle( (rows, throwable) -> convertException( rows, readySql, throwable ) );
+		return executePreparedStatement( readySql, defaultTimeoutMillis, () -> client().preparedQuery( readySql, options ).execute( parameters ) );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQueryBatch(String sql, List<Tuple> parameters) {
 		final String readySql = sqlCleaner.process( sql );
-		feedback( readySql );
-		return client().preparedQuery( readySql ).executeBatch( parameters ).toCompletionStage()
-				.handle( (rows, throwable) -> convertException( rows, readySql, throwable ) );
+		return executePreparedStatement( readySql, defaultTimeoutMillis, () -> client().preparedQuery( readySql ).executeBatch( parameters ) );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQuery(String sql) {
 		final String readySql = sqlCleaner.process( sql );
-		feedback( readySql );
-		return client().preparedQuery( readySql ).execute().toCompletionStage()
-				.handle( (rows, throwable) -> convertException( rows, readySql, throwable ) );
+		return executePreparedStatement( readySql, defaultTimeoutMillis, () -> client().preparedQuery( readySql ).execute() );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQueryOutsideTransaction(String sql) {
 		final String readySql = sqlCleaner.process( sql );
-		feedback( readySql );
-		return pool.preparedQuery( readySql ).execute().toCompletionStage()
-				.handle( (rows, throwable) -> convertException( rows, readySql, throwable ) );
+		return executeOutsideTransaction( readySql, () -> pool.preparedQuery( readySql ).execute() );
 	}
 
 	public CompletionStage<RowSet<Row>> preparedQueryOutsideTransaction(String sql, Tuple parameters) {
 		final String readySql = sqlCleaner.process( sql );
-		feedback( readySql );
-		return pool.preparedQuery( readySql ).execute( parameters ).toCompletionStage()
-				.handle( (rows, throwable) -> convertException( rows, readySql, throwable ) );
+		return executeOutsideTransaction( readySql, () -> pool.preparedQuery( readySql ).execute( parameters ) );
+	}
+
+	private CompletionStage<RowSet<Row>> executeOutsideTransaction(String readySql, Supplier<Future<RowSet<Row>>> statement) {
+		// not subject to the timeout, since we can't cancel a statement
+		// executed on a connection we don't hold, and not counted as an
+		// execution of a prepared statement, since it's the pool which
+		// prepares it on some connection
+		return executeStatement( readySql, 0, statement );
 	}
 
 	private void feedback(String sql) {
@@ -312,9 +472,30 @@ public CompletionStage<Void> rollbackTransaction() {
 
 	@Override
 	public CompletionStage<Void> close() {
+		final Future<?> statement = uncancelledStatement;
+		if ( statement != null && !statement.isComplete() ) {
+			// the database can't cancel the statement, so the connection
+			// is only returned to the pool once the statement completes
+			LOG.debugf( "Connection will be closed once its timed out statement completes: %s", connection );
+			statement.onComplete( ar -> closeConnection() );
+			return voidFuture();
+		}
+		return closeConnection().toCompletionStage();
+	}
+
+	private Future<Void> closeConnection() {
 		return connection.close()
 				.onSuccess( event -> LOG.tracef( "Connection closed: %s", connection ) )
-				.toCompletionStage();
+				.onComplete( ar -> release() );
+	}
+
+	private void release() {
+		// the connection is released only once, even if it's closed twice
+		final Runnable handler = releaseHandler;
+		releaseHandler = null;
+		if ( handler != null ) {
+			handler.run();
+		}
 	}
 
 	@SuppressWarnings("unchecked")
@@ -333,9 +514,14 @@ private static <T> T getLastInsertedId(RowSet<Row> rows, Class<T> idClass, Strin
 		return null;
 	}
 
-	private static class RowSetResult implements Result {
+	/**
+	 * A {@link Result} which is also its own {@link Cursor}, reading
+	 * the values of each row directly from the Vert.x {@link Row}.
+	 */
+	private static class RowSetResult implements Result, Cursor {
 		private final RowSet<Row> rowset;
 		private final RowIterator<Row> it;
+		private Row row;
 
 		public RowSetResult(RowSet<Row> rowset) {
 			this.rowset = rowset;
@@ -354,13 +540,71 @@ public boolean hasNext() {
 
 		@Override
 		public Object[] next() {
-			Row row = it.next();
+			row = it.next();
 			Object[] result = new Object[row.size()];
 			for ( int i = 0; i < result.length; i++ ) {
 				result[i] = row.getValue( i );
 			}
 			return result;
 		}
+
+		@Override
+		public Cursor cursor() {
+			return this;
+		}
+
+		@Override
+		public boolean nextRow() {
+			row = it.hasNext() ? it.next() : null;
+			return row != null;
+		}
+
+		private Row row() {
+			if ( row == null ) {
+				throw new NoSuchElementException( "No current row" );
+			}
+			return row;
+		}
+
+		@Override
+		public int getColumnCount() {
+			return row().size();
+		}
+
+		@Override
+		public Object getValue(int column) {
+			return row().getValue( column );
+		}
+
+		@Override
+		public <T> T get(Class<T> type, int column) {
+			return row().get( type, column );
+		}
+
+		@Override
+		public Long getLong(int column) {
+			return row().getLong( column );
+		}
+
+		@Override
+		public Integer getInteger(int column) {
+			return row().getInteger( column );
+		}
+
+		@Override
+		public Double getDouble(int column) {
+			return row().getDouble( column );
+		}
+
+		@Override
+		public Boolean getBoolean(int column) {
+			return row().getBoolean( column );
+		}
+
+		@Override
+		public String getString(int column) {
+			return row().getString( column );
+		}
 	}
 
 	@Override
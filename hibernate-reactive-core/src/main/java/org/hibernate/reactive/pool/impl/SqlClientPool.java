@@ -6,14 +6,22 @@
 package org.hibernate.reactive.pool.impl;
 
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
+import org.hibernate.reactive.stat.impl.SqlExecutionStatisticsImpl;
+import org.hibernate.reactive.stat.spi.SqlExecutionStatisticsImplementor;
+import org.hibernate.reactive.tracing.ReactiveTracer;
+import org.hibernate.reactive.tracing.impl.NoopTracer;
 
 import io.vertx.sqlclient.Pool;
 import io.vertx.sqlclient.SqlConnection;
 
+import static org.hibernate.reactive.tracing.ReactiveTracer.SpanKind.CONNECTION;
+import static org.hibernate.reactive.tracing.impl.Tracing.trace;
+
 /**
  * A pool of reactive connections backed by a supplier of
  * Vert.x {@link Pool} instances.
@@ -33,6 +41,8 @@
  */
 public abstract class SqlClientPool implements ReactiveConnectionPool {
 
+	private static final Runnable NO_RELEASE_HANDLER = () -> {};
+
 	/**
 	 * @return the underlying Vert.x {@link Pool} for the current context.
 	 */
@@ -50,6 +60,32 @@ public abstract class SqlClientPool implements ReactiveConnectionPool {
 	 */
 	protected abstract SqlStatementLogger getSqlStatementLogger();
 
+	/**
+	 * @return the {@link SqlExecutionStatisticsImplementor} to which
+	 *         connections report the execution of SQL statements
+	 */
+	protected SqlExecutionStatisticsImplementor getSqlExecutionStatistics() {
+		return SqlExecutionStatisticsImpl.DISABLED;
+	}
+
+	/**
+	 * @return the {@link ReactiveTracer} notified when connections are
+	 *         obtained and SQL statements are executed
+	 */
+	protected ReactiveTracer getTracer() {
+		return NoopTracer.INSTANCE;
+	}
+
+	/**
+	 * @return the default timeout in milliseconds for SQL statements,
+	 *         or zero if statements never time out
+	 *
+	 * @see org.hibernate.reactive.provider.Settings#DEFAULT_QUERY_TIMEOUT
+	 */
+	protected int getDefaultQueryTimeout() {
+		return 0;
+	}
+
 	/**
 	 * Get a {@link Pool} for the specified tenant.
 	 * <p>
@@ -61,38 +97,88 @@ public abstract class SqlClientPool implements ReactiveConnectionPool {
 	 * @throws UnsupportedOperationException if multitenancy is not supported
 	 *
 	 * @see ReactiveConnectionPool#getConnection(String)
+	 * @see #withTenantPool(String, Function)
 	 */
 	protected Pool getTenantPool(String tenantId) {
 		throw new UnsupportedOperationException("multitenancy not supported by built-in SqlClientPool");
 	}
 
+	/**
+	 * Execute statements directly on the {@link Pool} of the specified
+	 * tenant, without first obtaining a connection.
+	 * <p>
+	 * Unlike the pool returned by {@link #getTenantPool(String)}, the
+	 * pool may not be closed until the returned stage completes, even
+	 * by subclasses which close the pools of idle tenants.
+	 *
+	 * @param tenantId the id of the tenant
+	 * @param statements executes the statements on the given pool
+	 */
+	protected <T> CompletionStage<T> withTenantPool(String tenantId, Function<Pool, CompletionStage<T>> statements) {
+		return statements.apply( getTenantPool( tenantId ) );
+	}
+
 	@Override
 	public CompletionStage<ReactiveConnection> getConnection() {
-		return getConnectionFromPool( getPool() );
+		return getConnectionFromPool( getPool(), null );
 	}
 
 	@Override
 	public CompletionStage<ReactiveConnection> getConnection(String tenantId) {
-		return getConnectionFromPool( getTenantPool( tenantId ) );
+		return getConnectionFromPool( getTenantPool( tenantId ), tenantId );
 	}
 
-	private CompletionStage<ReactiveConnection> getConnectionFromPool(Pool pool) {
-		return pool.getConnection()
-				.toCompletionStage().thenApply( this::newConnection );
+	/**
+	 * Obtain a connection from the given {@link Pool}, which might not
+	 * be the pool for the current context.
+	 *
+	 * @param pool the pool
+	 * @param tenantId the id of the tenant, or {@code null}
+	 */
+	protected CompletionStage<ReactiveConnection> getConnectionFromPool(Pool pool, String tenantId) {
+		return getConnectionFromPool( pool, tenantId, NO_RELEASE_HANDLER );
+	}
+
+	/**
+	 * Obtain a connection from the given {@link Pool}, which might not
+	 * be the pool for the current context.
+	 *
+	 * @param pool the pool
+	 * @param tenantId the id of the tenant, or {@code null}
+	 * @param releaseHandler called once the connection is closed, or if
+	 *                       the connection could not be obtained
+	 */
+	protected CompletionStage<ReactiveConnection> getConnectionFromPool(Pool pool, String tenantId, Runnable releaseHandler) {
+		return trace( getTracer(), CONNECTION, tenantId, () -> pool.getConnection().toCompletionStage() )
+				.whenComplete( (connection, failure) -> {
+					if ( failure != null ) {
+						releaseHandler.run();
+					}
+				} )
+				.thenApply( connection -> newConnection( connection, releaseHandler ) );
 	}
 
-	private SqlClientConnection newConnection(SqlConnection connection) {
-		return new SqlClientConnection( connection, getPool(), getSqlStatementLogger(), getParameters() );
+	private SqlClientConnection newConnection(SqlConnection connection, Runnable releaseHandler) {
+		return new SqlClientConnection(
+				connection,
+				getPool(),
+				getSqlStatementLogger(),
+				getParameters(),
+				getSqlExecutionStatistics(),
+				getTracer(),
+				getDefaultQueryTimeout(),
+				releaseHandler
+		);
 	}
 
 	@Override
 	public ReactiveConnection getProxyConnection() {
-		return new ProxyConnection( this, getParameters() );
+		return new ProxyConnection( this, getParameters(), getConnectionReleaseMode() );
 	}
 
 	@Override
 	public ReactiveConnection getProxyConnection(String tenantId) {
-		return new ProxyConnection( this, tenantId, getParameters() );
+		return new ProxyConnection( this, tenantId, getParameters(), getConnectionReleaseMode() );
 	}
 
 }
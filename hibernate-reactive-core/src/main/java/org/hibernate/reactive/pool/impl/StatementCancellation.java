@@ -0,0 +1,179 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+
+import io.vertx.core.Future;
+import io.vertx.mysqlclient.MySQLConnection;
+import io.vertx.pgclient.PgConnection;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowIterator;
+import io.vertx.sqlclient.SqlConnection;
+
+/**
+ * Asks the database to cancel the statement currently executing
+ * on a connection:
+ * <ul>
+ * <li>the PostgreSQL client, which is also used for CockroachDB,
+ *     sends an out-of-band cancel request, and
+ * <li>on MySQL and MariaDB, {@code KILL QUERY} is executed on
+ *     another connection of the pool, using the id of the
+ *     connection, which is obtained before the first statement
+ *     with a timeout.
+ * </ul>
+ * Other databases have no way to cancel a statement, which keeps
+ * running, so the connection must not be returned to the pool
+ * until it completes.
+ * <p>
+ * Since the database clients are optional dependencies, each is
+ * only referenced from a nested class that's never loaded when
+ * the client is missing.
+ */
+abstract class StatementCancellation {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final boolean PG_CLIENT_PRESENT = isPresent( "io.vertx.pgclient.PgConnection" );
+	private static final boolean MYSQL_CLIENT_PRESENT = isPresent( "io.vertx.mysqlclient.MySQLConnection" );
+
+	/**
+	 * For databases which can't cancel a statement.
+	 */
+	private static final StatementCancellation UNSUPPORTED = new StatementCancellation() {
+		@Override
+		boolean cancel() {
+			return false;
+		}
+
+		@Override
+		String sqlState() {
+			return null;
+		}
+	};
+
+	/**
+	 * The cancellation of the statements executed on the given
+	 * connection.
+	 *
+	 * @param connection the connection executing the statements
+	 * @param pool a pool from which another connection may be
+	 *             obtained to cancel a statement
+	 */
+	static Future<StatementCancellation> create(SqlConnection connection, Pool pool) {
+		if ( PG_CLIENT_PRESENT && Postgres.isPostgres( connection ) ) {
+			return Future.succeededFuture( new Postgres( (PgConnection) connection ) );
+		}
+		if ( MYSQL_CLIENT_PRESENT && MySQL.isMySQL( connection ) ) {
+			return MySQL.create( connection, pool );
+		}
+		LOG.debugf( "Cancellation is not supported for connection: %s", connection );
+		return Future.succeededFuture( UNSUPPORTED );
+	}
+
+	/**
+	 * Cancel the statement executing on the connection.
+	 *
+	 * @return {@code true} if the cancellation was requested, or
+	 *         {@code false} if the statement keeps running
+	 */
+	abstract boolean cancel();
+
+	/**
+	 * The SQLState reported for a statement which was cancelled after
+	 * timing out.
+	 *
+	 * @return the SQLState the database reports for a cancelled
+	 *         statement, or {@code null} if the statement can't be
+	 *         cancelled, and so is still executing
+	 */
+	abstract String sqlState();
+
+	private static boolean isPresent(String className) {
+		try {
+			Class.forName( className, false, StatementCancellation.class.getClassLoader() );
+			return true;
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	private static final class Postgres extends StatementCancellation {
+		// query_canceled
+		private static final String QUERY_CANCELED = "57014";
+
+		private final PgConnection connection;
+
+		private Postgres(PgConnection connection) {
+			this.connection = connection;
+		}
+
+		static boolean isPostgres(SqlConnection connection) {
+			return connection instanceof PgConnection;
+		}
+
+		@Override
+		boolean cancel() {
+			connection.cancelRequest()
+					.onFailure( e -> LOG.debugf( e, "Cancel request failed for connection: %s", connection ) );
+			return true;
+		}
+
+		@Override
+		String sqlState() {
+			return QUERY_CANCELED;
+		}
+	}
+
+	private static final class MySQL extends StatementCancellation {
+		// ER_QUERY_INTERRUPTED
+		private static final String QUERY_INTERRUPTED = "70100";
+
+		private final Pool pool;
+		private final long connectionId;
+
+		private MySQL(Pool pool, long connectionId) {
+			this.pool = pool;
+			this.connectionId = connectionId;
+		}
+
+		static boolean isMySQL(SqlConnection connection) {
+			return connection instanceof MySQLConnection;
+		}
+
+		static Future<StatementCancellation> create(SqlConnection connection, Pool pool) {
+			return connection.query( "select connection_id()" ).execute()
+					.map( rows -> {
+						final RowIterator<Row> iterator = rows.iterator();
+						return iterator.hasNext()
+								? (StatementCancellation) new MySQL( pool, iterator.next().getLong( 0 ) )
+								: UNSUPPORTED;
+					} )
+					.otherwise( e -> {
+						LOG.debugf( e, "Could not obtain the id of connection: %s", connection );
+						return UNSUPPORTED;
+					} );
+		}
+
+		@Override
+		boolean cancel() {
+			// the connection is busy, so the statement must be killed from another one
+			pool.query( "kill query " + connectionId ).execute()
+					.onFailure( e -> LOG.debugf( e, "Kill query failed for connection id: %d", connectionId ) );
+			return true;
+		}
+
+		@Override
+		String sqlState() {
+			return QUERY_INTERRUPTED;
+		}
+	}
+}
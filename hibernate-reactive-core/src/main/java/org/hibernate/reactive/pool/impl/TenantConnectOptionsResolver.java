@@ -0,0 +1,31 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import io.vertx.sqlclient.SqlConnectOptions;
+
+/**
+ * A strategy for determining how {@link DefaultSqlClientPool} connects
+ * to the database of a tenant, when each tenant has its own database.
+ * <p>
+ * A strategy may be selected using the configuration property
+ * {@link org.hibernate.reactive.provider.Settings#POOL_TENANT_CONNECT_OPTIONS_RESOLVER}.
+ * The pool then creates a Vert.x {@link io.vertx.sqlclient.Pool} for
+ * a tenant when the tenant first needs a connection.
+ */
+@FunctionalInterface
+public interface TenantConnectOptionsResolver {
+	/**
+	 * The {@link SqlConnectOptions} for connecting to the database of
+	 * the given tenant.
+	 *
+	 * @param tenantId the tenant identifier
+	 * @param connectOptions a copy of the options used to connect when
+	 *                       there's no tenant, which may be modified
+	 *                       and returned
+	 */
+	SqlConnectOptions resolve(String tenantId, SqlConnectOptions connectOptions);
+}
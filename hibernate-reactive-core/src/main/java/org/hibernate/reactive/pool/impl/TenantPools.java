@@ -0,0 +1,191 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.pool.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.sqlclient.Pool;
+
+/**
+ * The Vert.x pools of the tenants of a {@link DefaultSqlClientPool},
+ * each created when the tenant first needs a connection.
+ * <p>
+ * When there are already as many tenant pools as the maximum number
+ * of connections allows, the least recently used pool with no
+ * connection in use is closed to make room for the new one.
+ * <p>
+ * The pool of a tenant is obtained without locking. The lock is only
+ * held to add a new pool, once it has been created.
+ *
+ * @see TenantConnectOptionsResolver
+ */
+final class TenantPools {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * The Vert.x pool of a tenant, along with the number of its
+	 * connections in use, and the time it was last used.
+	 */
+	static final class TenantPool {
+		private final Pool pool;
+		// -1 once the pool is closed, so that it can't be leased any more
+		private final AtomicInteger leasedCount = new AtomicInteger();
+		private volatile long lastUsed = System.nanoTime();
+
+		private TenantPool(Pool pool) {
+			this.pool = pool;
+		}
+
+		Pool getPool() {
+			return pool;
+		}
+
+		private boolean tryLease() {
+			int count;
+			do {
+				count = leasedCount.get();
+				if ( count < 0 ) {
+					return false;
+				}
+			}
+			while ( !leasedCount.compareAndSet( count, count + 1 ) );
+			lastUsed = System.nanoTime();
+			return true;
+		}
+
+		private boolean tryClose() {
+			return leasedCount.compareAndSet( 0, -1 );
+		}
+
+		/**
+		 * Release a connection leased by {@link TenantPools#leasePool(String)}.
+		 */
+		void release() {
+			leasedCount.decrementAndGet();
+		}
+	}
+
+	private final Function<String, Pool> poolFactory;
+	private final int maxPoolCount;
+	private final Map<String, TenantPool> pools = new ConcurrentHashMap<>();
+
+	/**
+	 * @param poolFactory creates the Vert.x pool of a tenant
+	 * @param maxPoolCount the maximum number of tenant pools, or zero
+	 *                     for no limit
+	 */
+	TenantPools(Function<String, Pool> poolFactory, int maxPoolCount) {
+		this.poolFactory = poolFactory;
+		this.maxPoolCount = maxPoolCount;
+	}
+
+	/**
+	 * Get the pool of the given tenant, creating it if necessary, and
+	 * count a connection as in use until {@link TenantPool#release()}
+	 * is called. A leased pool is never closed to make room for the
+	 * pool of another tenant.
+	 *
+	 * @return the leased pool, or a failed future if the pool could
+	 *         not be created
+	 */
+	Future<TenantPool> leasePool(String tenantId) {
+		final TenantPool pool = pools.get( tenantId );
+		if ( pool != null && pool.tryLease() ) {
+			return Future.succeededFuture( pool );
+		}
+		try {
+			return Future.succeededFuture( createPool( tenantId, true ) );
+		}
+		catch (RuntimeException e) {
+			return Future.failedFuture( e );
+		}
+	}
+
+	/**
+	 * Get the pool of the given tenant, creating it if necessary.
+	 * <p>
+	 * The pool is not leased, and so it may be closed to make room for
+	 * the pool of another tenant at any time. Prefer {@link #leasePool}
+	 * to execute statements.
+	 */
+	Pool getPool(String tenantId) {
+		final TenantPool pool = pools.get( tenantId );
+		return ( pool != null ? pool : createPool( tenantId, false ) ).pool;
+	}
+
+	/**
+	 * Create the pool of the given tenant without holding the lock,
+	 * since resolving the connect options of a tenant may be slow, and
+	 * discard it if another thread added a pool for the tenant first.
+	 */
+	private TenantPool createPool(String tenantId, boolean lease) {
+		final TenantPool created = new TenantPool( poolFactory.apply( tenantId ) );
+		final TenantPool pool = addPool( tenantId, created, lease );
+		if ( pool != created ) {
+			created.pool.close();
+		}
+		if ( pool == null ) {
+			throw LOG.allTenantPoolsInUse( tenantId, maxPoolCount );
+		}
+		return pool;
+	}
+
+	/**
+	 * @return the pool of the tenant, or {@code null} if every other
+	 *         pool has connections in use, and there's no room for it
+	 */
+	private synchronized TenantPool addPool(String tenantId, TenantPool created, boolean lease) {
+		// a pool is only closed, and removed, while we hold the lock
+		final TenantPool existing = pools.get( tenantId );
+		if ( existing != null && ( !lease || existing.tryLease() ) ) {
+			return existing;
+		}
+		if ( maxPoolCount > 0 && pools.size() >= maxPoolCount && !closeLeastRecentlyUsedPool() ) {
+			return null;
+		}
+		if ( lease ) {
+			created.tryLease();
+		}
+		pools.put( tenantId, created );
+		return created;
+	}
+
+	private boolean closeLeastRecentlyUsedPool() {
+		final List<Map.Entry<String, TenantPool>> entries = new ArrayList<>( pools.entrySet() );
+		entries.sort( Comparator.comparingLong( entry -> entry.getValue().lastUsed ) );
+		for ( Map.Entry<String, TenantPool> entry : entries ) {
+			if ( entry.getValue().tryClose() ) {
+				pools.remove( entry.getKey() );
+				LOG.debugf( "Closing connection pool of tenant '%s'", entry.getKey() );
+				entry.getValue().pool.close();
+				return true;
+			}
+		}
+		return false;
+	}
+
+	synchronized Future<Void> close() {
+		final List<Future> closed = new ArrayList<>( pools.size() );
+		for ( TenantPool pool : pools.values() ) {
+			closed.add( pool.pool.close() );
+		}
+		pools.clear();
+		return CompositeFuture.join( closed ).mapEmpty();
+	}
+}
@@ -29,6 +29,17 @@ public interface Settings extends AvailableSettings {
 	 */
 	String PREPARED_STATEMENT_CACHE_MAX_SIZE = "hibernate.vertx.prepared_statement_cache.max_size";
 
+	/**
+	 * When enabled, every connection opened by the built-in pool
+	 * prepares, before its first use, the insert, update, delete and
+	 * load by id statements of every entity, and the named queries, up
+	 * to the maximum size of the cache. Disabled by default. Has no
+	 * effect if the prepared statement cache is disabled.
+	 *
+	 * @see org.hibernate.reactive.stat.PreparedStatementCacheStatistics
+	 */
+	String PREPARED_STATEMENT_CACHE_PREPARE_ON_CONNECT = "hibernate.vertx.prepared_statement_cache.prepare_on_connect";
+
 	/**
 	 * Property for configuring the Vert.x connection pool.
 	 *
@@ -57,6 +68,61 @@ public interface Settings extends AvailableSettings {
 	 */
 	String POOL_CLEANER_PERIOD = "hibernate.vertx.pool.cleaner_period";
 
+	/**
+	 * The number of connections the Vert.x connection pool opens
+	 * concurrently when it is started, so that the first requests
+	 * don't wait for connections to be established. Defaults to
+	 * {@code 0}, so that connections are opened on demand.
+	 * <p>
+	 * If the {@code SessionFactory} is created on a Vert.x thread,
+	 * the connections are opened in the background.
+	 */
+	String POOL_WARM_UP_SIZE = "hibernate.vertx.pool.warm_up_size";
+
+	/**
+	 * The minimum number of idle connections kept open by the Vert.x
+	 * connection pool. Connections closed by the pool cleaner
+	 * after {@link #POOL_IDLE_TIMEOUT} are reopened in the background,
+	 * one every {@link #POOL_CLEANER_PERIOD}. Defaults to {@code 0}.
+	 */
+	String POOL_MIN_IDLE = "hibernate.vertx.pool.min_idle";
+
+	/**
+	 * The number of Vert.x event loops which get their own connection
+	 * pool, sharing the {@linkplain #POOL_SIZE pool size} between them.
+	 * A connection is then opened and used on the same event loop, and
+	 * is only borrowed by another event loop when every connection of
+	 * that event loop's pool is in use. Usually set to the number of
+	 * event loops, but never more than the pool size. Defaults to
+	 * {@code 0}, meaning a single pool shared by all event loops.
+	 */
+	String POOL_EVENT_LOOP_SHARDS = "hibernate.vertx.pool.event_loop_shards";
+
+	/**
+	 * Specifies a {@link org.hibernate.reactive.pool.impl.TenantConnectOptionsResolver}
+	 * class or instance, so that the built-in pool connects each tenant to
+	 * its own database, using a Vert.x connection pool per tenant.
+	 */
+	String POOL_TENANT_CONNECT_OPTIONS_RESOLVER = "hibernate.vertx.pool.tenant_connect_options_resolver";
+
+	/**
+	 * The maximum number of connections in the pool of each tenant,
+	 * when there's a {@link #POOL_TENANT_CONNECT_OPTIONS_RESOLVER}.
+	 * Defaults to the {@linkplain #POOL_SIZE pool size}, and is never
+	 * more than the {@linkplain #POOL_TENANT_MAX_CONNECTIONS maximum
+	 * number of connections across all tenant pools}.
+	 */
+	String POOL_TENANT_POOL_SIZE = "hibernate.vertx.pool.tenant_pool_size";
+
+	/**
+	 * The maximum number of connections across the pools of all tenants,
+	 * when there's a {@link #POOL_TENANT_CONNECT_OPTIONS_RESOLVER}. The
+	 * least recently used tenant pool with no connection in use is closed
+	 * when the pool of another tenant would exceed the maximum. Defaults
+	 * to {@code 0}, meaning no maximum.
+	 */
+	String POOL_TENANT_MAX_CONNECTIONS = "hibernate.vertx.pool.tenant_max_connections";
+
 	/**
 	 * Specifies a {@link org.hibernate.reactive.pool.impl.SqlClientPoolConfiguration} class.
 	 */
@@ -66,4 +132,93 @@ public interface Settings extends AvailableSettings {
 	 * Specifies a {@link org.hibernate.reactive.pool.ReactiveConnectionPool} class.
 	 */
 	String SQL_CLIENT_POOL = "hibernate.vertx.pool.class";
+
+	/**
+	 * Enable collection of per-statement SQL execution statistics.
+	 * Disabled by default.
+	 *
+	 * @see org.hibernate.reactive.stat.SqlExecutionStatistics
+	 */
+	String SQL_STATISTICS = "hibernate.reactive.sql_statistics";
+
+	/**
+	 * The maximum number of distinct SQL statements for which
+	 * execution statistics are collected. Defaults to 5000.
+	 *
+	 * @see #SQL_STATISTICS
+	 */
+	String SQL_STATISTICS_MAX_SIZE = "hibernate.reactive.sql_statistics.max_size";
+
+	/**
+	 * Specifies a {@link org.hibernate.reactive.tracing.ReactiveTracer},
+	 * either as an instance, a class, or the name of a class.
+	 * By default, nothing is traced.
+	 */
+	String TRACER = "hibernate.reactive.tracer";
+
+	/**
+	 * The default timeout, in milliseconds, for every SQL statement
+	 * executed by Hibernate Reactive, including the statements issued
+	 * during a flush. A timeout specified for an individual query
+	 * overrides this default. By default, statements never time out.
+	 * <p>
+	 * When a statement times out, the operation fails with a
+	 * {@link org.hibernate.QueryTimeoutException}, and the statement
+	 * is cancelled on PostgreSQL and CockroachDB, using a cancel
+	 * request, and on MySQL and MariaDB, using {@code KILL QUERY}.
+	 * <p>
+	 * On other databases, a statement can't be cancelled, and keeps
+	 * running after the timeout. Its connection is only returned to
+	 * the pool once the statement completes, so, until then, it's
+	 * not available to other sessions.
+	 */
+	String DEFAULT_QUERY_TIMEOUT = "hibernate.reactive.default_query_timeout";
+
+	/**
+	 * When enabled, the rows added to or removed from a collection
+	 * table during a flush are written using a few set-based
+	 * statements, that is, a multi-row {@code insert ... values} and a
+	 * {@code delete ... where ... in (...)}, instead of one statement
+	 * per row. Disabled by default.
+	 * <p>
+	 * Collections mapped with custom SQL are always written row by row.
+	 */
+	String SET_BASED_COLLECTION_MUTATIONS = "hibernate.reactive.set_based_collection_mutations";
+
+	/**
+	 * When enabled, on PostgreSQL and CockroachDB, batch fetching and
+	 * {@code find()} of multiple ids bind the ids as a single array
+	 * parameter, {@code where id = any($1)}, instead of an in-list with
+	 * a parameter per id, so that the same SQL is executed whatever the
+	 * size of the batch. Disabled by default.
+	 * <p>
+	 * Only ids and foreign keys mapped to a single numeric, string or
+	 * UUID column are bound this way.
+	 */
+	String ARRAY_PARAMETER_IN_LIST = "hibernate.reactive.array_parameter_in_list";
+
+	/**
+	 * When enabled, a session with {@link org.hibernate.FlushMode#AUTO}
+	 * skips the dirty-check before a query when none of the entities
+	 * and collections it manages could write to the tables the query
+	 * reads, directly or via an association. Disabled by default.
+	 * <p>
+	 * A native query which doesn't declare the tables it reads is always
+	 * preceded by a dirty-check.
+	 */
+	String QUERY_SPACE_AUTO_FLUSH = "hibernate.reactive.query_space_auto_flush";
+
+	/**
+	 * When enabled, on PostgreSQL and CockroachDB, {@code insertAll()} of
+	 * a stateless session with a batch size writes each batch of entities
+	 * of the same type with a single
+	 * {@code insert ... select * from unnest(...)}, binding one array of
+	 * values per column, instead of a batch of single-row inserts.
+	 * Disabled by default.
+	 * <p>
+	 * Only entities mapped to a single table are inserted this way, and
+	 * only when every column value is of a basic numeric, boolean, string,
+	 * UUID, date/time or binary type.
+	 */
+	String UNNEST_INSERT_ALL = "hibernate.reactive.unnest_insert_all";
 }
@@ -9,6 +9,8 @@
 
 import org.hibernate.boot.Metadata;
 import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.spi.EventType;
@@ -28,6 +30,8 @@
 import org.hibernate.reactive.event.impl.DefaultReactiveResolveNaturalIdEventListener;
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.pool.impl.PrepareOnConnect;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.service.spi.SessionFactoryServiceRegistry;
 
@@ -46,6 +50,15 @@ public class ReactiveIntegrator implements Integrator {
 	@Override
 	public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
 		attachEventContextManagingListenersIfRequired( sessionFactory.getServiceRegistry() );
+		if ( ReactiveModeCheck.isReactiveRegistry( sessionFactory.getServiceRegistry() )
+				&& isPrepareOnConnectEnabled( sessionFactory.getServiceRegistry() ) ) {
+			sessionFactory.addObserver( new PrepareOnConnect() );
+		}
+	}
+
+	private static boolean isPrepareOnConnectEnabled(ServiceRegistry serviceRegistry) {
+		return serviceRegistry.getService( ConfigurationService.class )
+				.getSetting( Settings.PREPARED_STATEMENT_CACHE_PREPARE_ON_CONNECT, StandardConverters.BOOLEAN, false );
 	}
 
 	@Override
@@ -39,6 +39,8 @@
 import org.hibernate.reactive.provider.service.ReactiveSessionFactoryBuilderInitiator;
 import org.hibernate.reactive.provider.service.ReactiveSqmMultiTableMutationStrategyProviderInitiator;
 import org.hibernate.reactive.provider.service.ReactiveValuesMappingProducerProviderInitiator;
+import org.hibernate.reactive.stat.impl.SqlExecutionStatisticsInitiator;
+import org.hibernate.reactive.tracing.impl.ReactiveTracerInitiator;
 import org.hibernate.reactive.vertx.impl.VertxInstanceInitiator;
 import org.hibernate.resource.beans.spi.ManagedBeanRegistryInitiator;
 import org.hibernate.resource.transaction.internal.TransactionCoordinatorBuilderInitiator;
@@ -176,6 +178,12 @@ private static List<StandardServiceInitiator<?>> buildInitialServiceInitiatorLis
 		// ReactiveConnectionPool - Exclusive to Hibernate Reactive:
 		serviceInitiators.add( ReactiveConnectionPoolInitiator.INSTANCE );
 
+		// SqlExecutionStatistics - Exclusive to Hibernate Reactive:
+		serviceInitiators.add( SqlExecutionStatisticsInitiator.INSTANCE );
+
+		// ReactiveTracer - Exclusive to Hibernate Reactive:
+		serviceInitiators.add( ReactiveTracerInitiator.INSTANCE );
+
 		// --- end of custom services.
 
 		serviceInitiators.trimToSize();
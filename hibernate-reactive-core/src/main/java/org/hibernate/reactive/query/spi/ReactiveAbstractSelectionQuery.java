@@ -37,6 +37,10 @@
 
 import jakarta.persistence.NoResultException;
 
+import static org.hibernate.reactive.tracing.ReactiveTracer.SpanKind.QUERY;
+import static org.hibernate.reactive.tracing.impl.Tracing.trace;
+import static org.hibernate.reactive.tracing.impl.Tracing.tracer;
+
 /**
  * Emulate {@link org.hibernate.query.spi.AbstractSelectionQuery}.
  * <p>
@@ -199,7 +203,7 @@ private LockOptions getLockOptions() {
 
 	public CompletionStage<List<R>> reactiveList() {
 		beforeQuery.run();
-		return doReactiveList()
+		return trace( tracer( getSession().getFactory() ), QUERY, getQueryString(), this::doReactiveList )
 				.handle( (list, error) -> {
 					handleException( error );
 					return list;
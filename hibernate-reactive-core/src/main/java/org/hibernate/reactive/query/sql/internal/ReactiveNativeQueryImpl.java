@@ -54,6 +54,10 @@
 import jakarta.persistence.TemporalType;
 import jakarta.persistence.metamodel.SingularAttribute;
 
+import static org.hibernate.reactive.tracing.ReactiveTracer.SpanKind.QUERY;
+import static org.hibernate.reactive.tracing.impl.Tracing.trace;
+import static org.hibernate.reactive.tracing.impl.Tracing.tracer;
+
 public class ReactiveNativeQueryImpl<R> extends NativeQueryImpl<R>
 		implements ReactiveNativeQueryImplementor<R>  {
 
@@ -152,7 +156,12 @@ public int executeUpdate() throws HibernateException {
 
 	@Override
 	public CompletionStage<Integer> executeReactiveUpdate() {
-		return reactiveNonSelectPlan().executeReactiveUpdate( this );
+		return trace(
+				tracer( getSession().getFactory() ),
+				QUERY,
+				getQueryString(),
+				() -> reactiveNonSelectPlan().executeReactiveUpdate( this )
+		);
 	}
 
 	@Override
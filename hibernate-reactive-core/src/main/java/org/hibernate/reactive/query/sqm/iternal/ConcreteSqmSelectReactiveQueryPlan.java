@@ -5,11 +5,17 @@
  */
 package org.hibernate.reactive.query.sqm.iternal;
 
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
 import org.hibernate.ScrollMode;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
@@ -19,6 +25,7 @@
 import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.query.Query;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterImplementor;
@@ -36,6 +43,8 @@
 import org.hibernate.reactive.query.sqm.spi.ReactiveSelectQueryPlan;
 import org.hibernate.reactive.sql.exec.internal.StandardReactiveSelectExecutor;
 import org.hibernate.reactive.sql.results.spi.ReactiveListResultsConsumer;
+import org.hibernate.reactive.stat.impl.SqlExecutionStatisticsImpl;
+import org.hibernate.reactive.stat.spi.SqlExecutionStatisticsImplementor;
 import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.spi.FromClauseAccess;
@@ -46,6 +55,8 @@
 import org.hibernate.sql.results.internal.TupleMetadata;
 import org.hibernate.sql.results.spi.RowTransformer;
 
+import jakarta.persistence.PessimisticLockScope;
+
 import static java.util.Collections.emptyList;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 
@@ -54,6 +65,11 @@
  * {@link Query} implementations, which means
  * HQL/JPQL or {@link jakarta.persistence.criteria.CriteriaQuery}
  *
+ * <p>
+ * The translation to SQL depends on the limit, offset, and lock options
+ * of the query, so a few translations are cached, one for each
+ * combination of options.
+ *
  * @see org.hibernate.query.sqm.internal.ConcreteSqmSelectQueryPlan
  */
 public class ConcreteSqmSelectReactiveQueryPlan<R> extends ConcreteSqmSelectQueryPlan<R>
@@ -65,7 +81,15 @@
 	private final SqmSelectStatement<?> sqm;
 	private final DomainParameterXref domainParameterXref;
 
-	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
+	/**
+	 * The maximum number of translations cached by a plan.
+	 */
+	private static final int MAX_CACHED_INTERPRETATIONS = 8;
+
+	private final Map<InterpretationKey, CacheableSqmInterpretation> cacheableSqmInterpretations =
+			new ConcurrentHashMap<>( 4 );
+
+	private volatile SqlExecutionStatisticsImplementor statistics;
 
 	public ConcreteSqmSelectReactiveQueryPlan(
 			SqmSelectStatement<?> sqm,
@@ -123,41 +147,36 @@ public CompletionStage<List<R>> reactivePerformList(DomainQueryExecutionContext
 	}
 
 	private <T, X> CompletionStage<T> withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
-		// NOTE : VERY IMPORTANT - intentional double-lock checking
-		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
-		//		to protect access.  However, synchronized is much simpler here.  We will verify
-		// 		during throughput testing whether this is an issue and consider changes then
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
+		final InterpretationKey key = new InterpretationKey( queryOptions );
 
-		CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
+		CacheableSqmInterpretation localCopy = cacheableSqmInterpretations.get( key );
 		JdbcParameterBindings jdbcParameterBindings = null;
 
-		if ( localCopy == null ) {
-			synchronized ( this ) {
-				localCopy = cacheableSqmInterpretation;
-				if ( localCopy == null ) {
-					localCopy = buildCacheableSqmInterpretation( sqm, domainParameterXref, executionContext );
-					jdbcParameterBindings = localCopy.firstParameterBindings;
-					localCopy.firstParameterBindings = null;
-					cacheableSqmInterpretation = localCopy;
-				}
-			}
-		}
-		else {
-			// If the translation depends on parameter bindings, or it isn't compatible with the current query options,
-			// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
+		if ( localCopy != null ) {
+			// If the translation depends on parameter bindings, we have to rebuild the JdbcSelect,
+			// which is still better than having to translate from SQM to SQL AST again
 			if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
 				jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
 			}
-			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-			// We could avoid this by putting the lock options into the cache key
-			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
-				localCopy = buildCacheableSqmInterpretation( sqm, domainParameterXref, executionContext );
-				jdbcParameterBindings = localCopy.firstParameterBindings;
-				localCopy.firstParameterBindings = null;
-				cacheableSqmInterpretation = localCopy;
+			// The key only captures the shape of the limit, so a translation
+			// with the limit rendered as a literal might still be incompatible
+			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, queryOptions ) ) {
+				localCopy = null;
 			}
 		}
 
+		final boolean reused = localCopy != null;
+		if ( !reused ) {
+			// We don't hold a lock while translating: at worst, concurrent executions
+			// translate the same query, and the last translation is the one cached
+			localCopy = buildCacheableSqmInterpretation( sqm, domainParameterXref, executionContext );
+			jdbcParameterBindings = localCopy.firstParameterBindings;
+			localCopy.firstParameterBindings = null;
+			cacheInterpretation( key, localCopy );
+		}
+		statistics( executionContext ).queryTranslated( reused );
+
 		if ( jdbcParameterBindings == null ) {
 			jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
 		}
@@ -165,6 +184,32 @@ private <T, X> CompletionStage<T> withCacheableSqmInterpretation(DomainQueryExec
 		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings );
 	}
 
+	private void cacheInterpretation(InterpretationKey key, CacheableSqmInterpretation interpretation) {
+		// The bound is not strict under concurrent updates, but it doesn't need to be
+		if ( cacheableSqmInterpretations.size() >= MAX_CACHED_INTERPRETATIONS
+				&& !cacheableSqmInterpretations.containsKey( key ) ) {
+			final Iterator<InterpretationKey> keys = cacheableSqmInterpretations.keySet().iterator();
+			if ( keys.hasNext() ) {
+				keys.next();
+				keys.remove();
+			}
+		}
+		cacheableSqmInterpretations.put( key, interpretation );
+	}
+
+	private SqlExecutionStatisticsImplementor statistics(DomainQueryExecutionContext executionContext) {
+		SqlExecutionStatisticsImplementor localCopy = statistics;
+		if ( localCopy == null ) {
+			localCopy = executionContext.getSession().getFactory().getServiceRegistry()
+					.getService( SqlExecutionStatisticsImplementor.class );
+			if ( localCopy == null ) {
+				localCopy = SqlExecutionStatisticsImpl.DISABLED;
+			}
+			statistics = localCopy;
+		}
+		return localCopy;
+	}
+
 	private JdbcParameterBindings createJdbcParameterBindings(CacheableSqmInterpretation sqmInterpretation, DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		return SqmUtil.createJdbcParameterBindings(
@@ -246,6 +291,65 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 		);
 	}
 
+	/**
+	 * The query options which affect the translation of the query to SQL.
+	 */
+	private static final class InterpretationKey {
+		private final boolean hasFirstRow;
+		private final boolean hasMaxRows;
+		private final LockMode lockMode;
+		private final int lockTimeout;
+		private final PessimisticLockScope lockScope;
+		private final Boolean followOnLocking;
+		private final Map<String, LockMode> aliasLockModes;
+
+		InterpretationKey(QueryOptions queryOptions) {
+			final Limit limit = queryOptions.getLimit();
+			hasFirstRow = limit != null && limit.getFirstRow() != null;
+			hasMaxRows = limit != null && limit.getMaxRows() != null;
+			final LockOptions lockOptions = queryOptions.getLockOptions();
+			lockMode = lockOptions.getLockMode();
+			lockTimeout = lockOptions.getTimeOut();
+			lockScope = lockOptions.getLockScope();
+			followOnLocking = lockOptions.getFollowOnLocking();
+			aliasLockModes = aliasLockModes( lockOptions );
+		}
+
+		private static Map<String, LockMode> aliasLockModes(LockOptions lockOptions) {
+			if ( lockOptions.getAliasLockCount() == 0 ) {
+				return null;
+			}
+			final Map<String, LockMode> aliasLockModes = new HashMap<>();
+			for ( Map.Entry<String, LockMode> entry : lockOptions.getAliasSpecificLocks() ) {
+				aliasLockModes.put( entry.getKey(), entry.getValue() );
+			}
+			return aliasLockModes;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof InterpretationKey ) ) {
+				return false;
+			}
+			final InterpretationKey that = (InterpretationKey) o;
+			return hasFirstRow == that.hasFirstRow
+					&& hasMaxRows == that.hasMaxRows
+					&& lockTimeout == that.lockTimeout
+					&& lockMode == that.lockMode
+					&& lockScope == that.lockScope
+					&& Objects.equals( followOnLocking, that.followOnLocking )
+					&& Objects.equals( aliasLockModes, that.aliasLockModes );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( hasFirstRow, hasMaxRows, lockMode, lockTimeout, lockScope, followOnLocking, aliasLockModes );
+		}
+	}
+
 	private interface SqmInterpreter<T, X> {
 		CompletionStage<T> interpret(
 				X context,
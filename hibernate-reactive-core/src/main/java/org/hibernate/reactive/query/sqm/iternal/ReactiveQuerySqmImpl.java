@@ -70,6 +70,10 @@
 import jakarta.persistence.Parameter;
 import jakarta.persistence.TemporalType;
 
+import static org.hibernate.reactive.tracing.ReactiveTracer.SpanKind.QUERY;
+import static org.hibernate.reactive.tracing.impl.Tracing.trace;
+import static org.hibernate.reactive.tracing.impl.Tracing.tracer;
+
 /**
  * A reactive {@link QuerySqmImpl}
  */
@@ -283,7 +287,7 @@ public CompletionStage<Integer> executeReactiveUpdate() {
 		verifyUpdate();
 		getSession().checkTransactionNeededForUpdateOperation( "Executing an update/delete query" );
 		beforeQuery();
-		return doExecuteReactiveUpdate()
+		return trace( tracer( getSession().getFactory() ), QUERY, getQueryString(), this::doExecuteReactiveUpdate )
 				.handle( (count, error) -> {
 					handleException( error );
 					return count;
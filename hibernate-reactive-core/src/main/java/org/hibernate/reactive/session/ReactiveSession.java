@@ -50,12 +50,16 @@ public interface ReactiveSession extends ReactiveQueryProducer, ReactiveSharedSe
 
 	CompletionStage<Void> reactivePersist(Object entity);
 
+	CompletionStage<Void> reactivePersistAll(Object... entities);
+
 	CompletionStage<Void> reactivePersist(Object object, PersistContext copiedAlready);
 
 	CompletionStage<Void> reactivePersistOnFlush(Object entity, PersistContext copiedAlready);
 
 	CompletionStage<Void> reactiveRemove(Object entity);
 
+	CompletionStage<Void> reactiveRemoveAll(Object... entities);
+
 	CompletionStage<Void> reactiveRemove(String entityName, boolean isCascadeDeleteEnabled, DeleteContext transientObjects);
 
 	CompletionStage<Void> reactiveRemove(String entityName, Object child, boolean isCascadeDeleteEnabled, DeleteContext transientEntities);
@@ -76,6 +80,8 @@ public interface ReactiveSession extends ReactiveQueryProducer, ReactiveSharedSe
 
 	CompletionStage<Void> reactiveLock(Object entity, LockOptions lockMode);
 
+	CompletionStage<Void> reactiveLockAll(LockOptions lockOptions, Object... entities);
+
 	<T> CompletionStage<T> reactiveGet(Class<T> entityClass, Object id);
 
 	<T> CompletionStage<T> reactiveFind(Class<T> entityClass, Object id, LockOptions lockOptions, EntityGraph<T> fetchGraph);
@@ -48,6 +48,10 @@ public interface ReactiveStatelessSession extends ReactiveQueryProducer, Reactiv
 
 	CompletionStage<Void> reactiveInsertAll(int batchSize, Object... entities);
 
+	CompletionStage<Void> reactiveUpsert(Object entity);
+
+	CompletionStage<Void> reactiveUpsertAll(int batchSize, Object... entities);
+
 	CompletionStage<Void> reactiveUpdateAll(Object... entities);
 
 	CompletionStage<Void> reactiveUpdateAll(int batchSize, Object... entities);
@@ -0,0 +1,155 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.ObjectDeletedException;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
+import org.hibernate.reactive.session.ReactiveSession;
+
+import static org.hibernate.reactive.util.impl.CompletionStages.loop;
+import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+
+/**
+ * Obtains the same pessimistic lock on several managed entities using
+ * one {@code select ... for update} for each entity hierarchy, instead
+ * of one statement per entity.
+ * <p>
+ * If a statement locks fewer rows than expected, because a row was
+ * deleted or has a different version, the entities it was meant to lock
+ * are locked one at a time, so that the failure is reported exactly as
+ * it would be by {@link ReactiveSession#reactiveLock}.
+ */
+final class BatchLocking {
+
+	private static final int MAX_BATCH_SIZE = 100;
+
+	private BatchLocking() {
+	}
+
+	/**
+	 * Does the given lock mode obtain its lock using a {@code select}?
+	 */
+	static boolean isBatchable(LockMode lockMode) {
+		switch ( lockMode ) {
+			case PESSIMISTIC_READ:
+			case PESSIMISTIC_WRITE:
+			case UPGRADE_NOWAIT:
+			case UPGRADE_SKIPLOCKED:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	static CompletionStage<Void> lockAll(EventSource session, LockOptions lockOptions, Object[] entities) {
+		final ReactiveSession reactiveSession = session.unwrap( ReactiveSession.class );
+		final List<Object> managedEntities = new ArrayList<>( entities.length );
+		return loop( entities, entity -> {
+					if ( entity == null ) {
+						throw new NullPointerException( "attempted to lock null" );
+					}
+					if ( !session.contains( entity ) ) {
+						throw new IllegalArgumentException( "unmanaged instance passed to lockAll()" );
+					}
+					return reactiveSession.reactiveFetch( entity, true ).thenAccept( managedEntities::add );
+				} )
+				.thenCompose( v -> lockAll( session, lockOptions, managedEntities ) );
+	}
+
+	private static CompletionStage<Void> lockAll(EventSource session, LockOptions lockOptions, List<Object> entities) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final LockMode lockMode = lockOptions.getLockMode();
+		final Map<String, List<Object>> entitiesByRootEntityName = new LinkedHashMap<>();
+		final List<Object> cachedEntities = new ArrayList<>();
+		for ( Object entity : entities ) {
+			final EntityEntry entry = persistenceContext.getEntry( entity );
+			if ( lockMode.greaterThan( entry.getLockMode() ) ) {
+				if ( entry.getStatus() != Status.MANAGED ) {
+					throw new ObjectDeletedException(
+							"attempted to lock a deleted instance",
+							entry.getId(),
+							entry.getPersister().getEntityName()
+					);
+				}
+				if ( entry.getPersister().canWriteToCache() ) {
+					// the cache item must be soft-locked around the lock
+					cachedEntities.add( entity );
+				}
+				else {
+					entitiesByRootEntityName
+							.computeIfAbsent( entry.getPersister().getRootEntityName(), name -> new ArrayList<>() )
+							.add( entity );
+				}
+			}
+		}
+
+		final ReactiveSession reactiveSession = session.unwrap( ReactiveSession.class );
+		return loop( entitiesByRootEntityName.entrySet(), group -> lockHierarchy( session, lockOptions, group.getKey(), group.getValue() ) )
+				.thenCompose( v -> loop( cachedEntities, entity -> reactiveSession.reactiveLock( entity, lockOptions ) ) );
+	}
+
+	private static CompletionStage<Void> lockHierarchy(
+			EventSource session,
+			LockOptions lockOptions,
+			String rootEntityName,
+			List<Object> entities) {
+		final EntityPersister persister = session.getFactory().getMappingMetamodel()
+				.getEntityDescriptor( rootEntityName );
+		final int inListLimit = session.getJdbcServices().getDialect().getInExpressionCountLimit();
+		final int batchSize = inListLimit > 0 ? Math.min( inListLimit, MAX_BATCH_SIZE ) : MAX_BATCH_SIZE;
+		final int batchCount = ( entities.size() + batchSize - 1 ) / batchSize;
+		return loop( 0, batchCount, batch -> lockBatch(
+				session,
+				lockOptions,
+				(ReactiveEntityPersister) persister,
+				entities.subList( batch * batchSize, Math.min( entities.size(), ( batch + 1 ) * batchSize ) )
+		) );
+	}
+
+	private static CompletionStage<Void> lockBatch(
+			EventSource session,
+			LockOptions lockOptions,
+			ReactiveEntityPersister persister,
+			List<Object> entities) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final EntityEntry[] entries = new EntityEntry[entities.size()];
+		final Object[] ids = new Object[entities.size()];
+		final Object[] versions = new Object[entities.size()];
+		for ( int i = 0; i < entries.length; i++ ) {
+			entries[i] = persistenceContext.getEntry( entities.get( i ) );
+			ids[i] = entries[i].getId();
+			versions[i] = entries[i].getVersion();
+		}
+
+		return persister.reactiveLockAll( ids, versions, lockOptions, session )
+				.thenCompose( lockedRows -> {
+					if ( lockedRows == entries.length ) {
+						for ( EntityEntry entry : entries ) {
+							entry.setLockMode( lockOptions.getLockMode() );
+						}
+						return voidFuture();
+					}
+					// some row is missing, so find out which
+					return loop( 0, entries.length, i -> ( (ReactiveEntityPersister) entries[i].getPersister() )
+							.reactiveLock( ids[i], versions[i], entities.get( i ), lockOptions, session )
+							.thenAccept( v -> entries[i].setLockMode( lockOptions.getLockMode() ) )
+					);
+				} );
+	}
+}
@@ -13,23 +13,49 @@
 import org.hibernate.internal.SessionFactoryImpl;
 import org.hibernate.metamodel.spi.RuntimeMetamodelsImplementor;
 import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.reactive.blocking.Blocking;
+import org.hibernate.reactive.blocking.impl.BlockingSessionFactoryImpl;
 import org.hibernate.reactive.boot.spi.ReactiveMetadataImplementor;
+import org.hibernate.reactive.engine.impl.ForeignKeys.SnapshotBatch;
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.hibernate.reactive.mutiny.impl.MutinySessionFactoryImpl;
 import org.hibernate.reactive.stage.Stage;
 import org.hibernate.reactive.stage.impl.StageSessionFactoryImpl;
+import org.hibernate.reactive.tracing.ReactiveTracer;
 
 
 
 /**
  * A Hibernate {@link org.hibernate.SessionFactory} that can be
- * unwrapped to produce a {@link Stage.SessionFactory} or a
- * {@link Mutiny.SessionFactory}.
+ * unwrapped to produce a {@link Stage.SessionFactory}, a
+ * {@link Mutiny.SessionFactory}, or a {@link Blocking.SessionFactory}.
  */
 public class ReactiveSessionFactoryImpl extends SessionFactoryImpl {
 
+	private final ReactiveTracer tracer;
+	private final boolean snapshotCandidates;
+
 	public ReactiveSessionFactoryImpl(MetadataImplementor bootMetamodel, SessionFactoryOptions options, BootstrapContext bootstrapContext) {
 		super( new ReactiveMetadataImplementor( bootMetamodel ), options, bootstrapContext );
+		tracer = getServiceRegistry().getService( ReactiveTracer.class );
+		snapshotCandidates = getMappingMetamodel().streamEntityDescriptors().anyMatch( SnapshotBatch::isCandidate );
+	}
+
+	/**
+	 * The {@link ReactiveTracer} service, resolved once, since it's
+	 * needed by every find, query, and flush.
+	 */
+	public ReactiveTracer getReactiveTracer() {
+		return tracer;
+	}
+
+	/**
+	 * Does any entity type have an assigned identifier, so that a
+	 * {@link SnapshotBatch} could be needed to determine if one of
+	 * its instances is transient?
+	 */
+	public boolean hasSnapshotCandidates() {
+		return snapshotCandidates;
 	}
 
 	@Override
@@ -50,6 +76,9 @@ public <T> T unwrap(Class<T> type) {
 		if ( type.isAssignableFrom( Mutiny.SessionFactory.class ) ) {
 			return type.cast( new MutinySessionFactoryImpl( this ) );
 		}
+		if ( type.isAssignableFrom( Blocking.SessionFactory.class ) ) {
+			return type.cast( new BlockingSessionFactoryImpl( this ) );
+		}
 		return super.unwrap( type );
 	}
 }
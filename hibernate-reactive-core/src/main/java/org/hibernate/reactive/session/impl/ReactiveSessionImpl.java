@@ -6,6 +6,7 @@
 package org.hibernate.reactive.session.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -95,6 +96,8 @@
 import org.hibernate.reactive.common.InternalStateAssertions;
 import org.hibernate.reactive.common.ResultSetMapping;
 import org.hibernate.reactive.engine.ReactiveActionQueue;
+import org.hibernate.reactive.engine.impl.CascadingActions;
+import org.hibernate.reactive.engine.impl.ForeignKeys.SnapshotBatch;
 import org.hibernate.reactive.engine.impl.ReactivePersistenceContextAdapter;
 import org.hibernate.reactive.event.ReactiveDeleteEventListener;
 import org.hibernate.reactive.event.ReactiveFlushEventListener;
@@ -137,8 +140,14 @@
 import static org.hibernate.engine.spi.NaturalIdResolutions.INVALID_NATURAL_ID_REFERENCE;
 import static org.hibernate.internal.util.StringHelper.isEmpty;
 import static org.hibernate.reactive.common.InternalStateAssertions.assertUseOnEventLoop;
+import static org.hibernate.reactive.engine.impl.Cascade.batchFetchLazyAssociationsBeforeCascade;
 import static org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister.forceInitialize;
 import static org.hibernate.reactive.session.impl.SessionUtil.checkEntityFound;
+import static org.hibernate.reactive.tracing.ReactiveTracer.SpanKind.FIND;
+import static org.hibernate.reactive.tracing.ReactiveTracer.SpanKind.FLUSH;
+import static org.hibernate.reactive.tracing.impl.Tracing.trace;
+import static org.hibernate.reactive.tracing.impl.Tracing.tracer;
+import static org.hibernate.reactive.util.impl.CompletionStages.applyToAll;
 import static org.hibernate.reactive.util.impl.CompletionStages.completedFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.nullFuture;
 import static org.hibernate.reactive.util.impl.CompletionStages.rethrow;
@@ -155,11 +164,11 @@
 public class ReactiveSessionImpl extends SessionImpl implements ReactiveSession, EventSource {
 	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	private transient final ReactiveActionQueue reactiveActionQueue = new ReactiveActionQueue( this );
 	private ReactiveConnection reactiveConnection;
 	private final Thread associatedWorkThread;
 
 	//Lazily initialized
+	private transient ReactiveActionQueue reactiveActionQueue;
 	private transient ExceptionConverter exceptionConverter;
 
 	public ReactiveSessionImpl(
@@ -198,6 +207,10 @@ protected StatefulPersistenceContext createPersistenceContext() {
 	@Override
 	public ReactiveActionQueue getReactiveActionQueue() {
 		threadCheck();
+		if ( reactiveActionQueue == null ) {
+			// many sessions only read, and never need an action queue
+			reactiveActionQueue = new ReactiveActionQueue( this );
+		}
 		return reactiveActionQueue;
 	}
 
@@ -834,6 +847,17 @@ public CompletionStage<Void> reactivePersist(Object entity) {
 		return firePersist( new PersistEvent( null, entity, this ) );
 	}
 
+	@Override
+	public CompletionStage<Void> reactivePersistAll(Object... entities) {
+		checkOpen();
+		if ( entities.length < 2 ) {
+			return applyToAll( this::reactivePersist, entities );
+		}
+		// fetch the snapshots needed by the cascades of all the entities at once
+		return SnapshotBatch.prefetch( CascadingActions.PERSIST, Arrays.asList( entities ), this )
+				.thenCompose( v -> applyToAll( this::reactivePersist, entities ) );
+	}
+
 	@Override
 	public CompletionStage<Void> reactivePersist(Object object, PersistContext copiedAlready) {
 		checkOpenOrWaitingForAutoClose();
@@ -898,6 +922,17 @@ public CompletionStage<Void> reactiveRemove(Object entity) {
 		return fireRemove( new DeleteEvent( entity, this ) );
 	}
 
+	@Override
+	public CompletionStage<Void> reactiveRemoveAll(Object... entities) {
+		checkOpen();
+		if ( entities.length < 2 ) {
+			return applyToAll( this::reactiveRemove, entities );
+		}
+		// initialize what the cascades need for all the entities at once
+		return batchFetchLazyAssociationsBeforeCascade( CascadingActions.DELETE, Arrays.asList( entities ), this )
+				.thenCompose( v -> applyToAll( this::reactiveRemove, entities ) );
+	}
+
 	@Override
 	public CompletionStage<Void> reactiveRemove(
 			String entityName,
@@ -1100,8 +1135,8 @@ private CompletionStage<Void> doFlush() {
 			throw LOG.flushDuringCascadeIsDangerous();
 		}
 
-		return fastSessionServices.eventListenerGroup_FLUSH
-				.fireEventOnEachListener( new FlushEvent( this ), (ReactiveFlushEventListener l) -> l::reactiveOnFlush )
+		return trace( tracer( getFactory() ), FLUSH, null, () -> fastSessionServices.eventListenerGroup_FLUSH
+						.fireEventOnEachListener( new FlushEvent( this ), (ReactiveFlushEventListener l) -> l::reactiveOnFlush ) )
 				.handle( (v, e) -> {
 					delayedAfterCompletion();
 
@@ -1194,6 +1229,25 @@ public CompletionStage<Void> reactiveLock(Object object, LockOptions lockOptions
 		return fireLock( new LockEvent( object, lockOptions, this ) );
 	}
 
+	@Override
+	public CompletionStage<Void> reactiveLockAll(LockOptions lockOptions, Object... entities) {
+		checkOpen();
+		if ( entities.length < 2 || !BatchLocking.isBatchable( lockOptions.getLockMode() ) ) {
+			return applyToAll( entity -> reactiveLock( entity, lockOptions ), entities );
+		}
+
+		pulseTransactionCoordinator();
+		return BatchLocking.lockAll( this, lockOptions, entities )
+				.handle( (v, e) -> {
+					delayedAfterCompletion();
+
+					if ( e instanceof RuntimeException ) {
+						throw getExceptionConverter().convert( (RuntimeException) e );
+					}
+					return returnNullorRethrow( e );
+				} );
+	}
+
 	private CompletionStage<Void> fireLock(LockEvent event) {
 		pulseTransactionCoordinator();
 
@@ -1240,7 +1294,7 @@ public <T> CompletionStage<T> reactiveFind(
 						.with( determineAppropriateLocalCacheMode( null ) )
 						.with( lockOptions );
 
-		return loadAccess.load( id )
+		return trace( tracer( getFactory() ), FIND, entityClass.getName(), () -> loadAccess.load( id ) )
 				.handle( (result, e) -> {
 					if ( e instanceof EntityNotFoundException ) {
 						// DefaultLoadEventListener.returnNarrowedProxy may throw ENFE (see HHH-7861 for details),
@@ -1810,7 +1864,9 @@ public CompletionStage<Void> reactiveRemoveOrphanBeforeUpdates(String entityName
 	@Override
 	public void clear() {
 		super.clear();
-		this.reactiveActionQueue.clear();
+		if ( reactiveActionQueue != null ) {
+			reactiveActionQueue.clear();
+		}
 	}
 
 	private void logRemoveOrphanBeforeUpdates(
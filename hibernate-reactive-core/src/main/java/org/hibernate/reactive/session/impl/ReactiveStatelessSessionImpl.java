@@ -19,7 +19,12 @@
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.dialect.CockroachDialect;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.DialectDelegateWrapper;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -71,8 +76,12 @@
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.persister.collection.impl.ReactiveCollectionPersister;
 import org.hibernate.reactive.persister.entity.impl.ReactiveEntityPersister;
+import org.hibernate.reactive.persister.entity.impl.ReactiveSingleTableEntityPersister;
+import org.hibernate.reactive.persister.entity.mutation.ReactiveInsertStatement;
+import org.hibernate.reactive.persister.entity.mutation.ReactiveUpsertRewriter;
 import org.hibernate.reactive.pool.BatchingConnection;
 import org.hibernate.reactive.pool.ReactiveConnection;
+import org.hibernate.reactive.provider.Settings;
 import org.hibernate.reactive.query.ReactiveMutationQuery;
 import org.hibernate.reactive.query.ReactiveNativeQuery;
 import org.hibernate.reactive.query.ReactiveQuery;
@@ -118,15 +127,18 @@ public class ReactiveStatelessSessionImpl extends StatelessSessionImpl implement
 
 	private final ReactiveConnection reactiveConnection;
 
-	private final ReactiveStatelessSession batchingHelperSession;
+	private final ReactiveStatelessSessionImpl batchingHelperSession;
 
 	private final PersistenceContext persistenceContext;
 
+	private final boolean unnestInserts;
+
 	public ReactiveStatelessSessionImpl(SessionFactoryImpl factory, SessionCreationOptions options, ReactiveConnection connection) {
 		super( factory, options );
 		reactiveConnection = connection;
 		persistenceContext = new ReactivePersistenceContextAdapter( this );
-		batchingHelperSession = new ReactiveStatelessSessionImpl( factory, options, reactiveConnection, persistenceContext );
+		unnestInserts = isUnnestInsertEnabled( factory );
+		batchingHelperSession = new ReactiveStatelessSessionImpl( factory, options, reactiveConnection, persistenceContext, unnestInserts );
 	}
 
 	/**
@@ -136,16 +148,27 @@ private ReactiveStatelessSessionImpl(
 			SessionFactoryImpl factory,
 			SessionCreationOptions options,
 			ReactiveConnection connection,
-			PersistenceContext persistenceContext) {
+			PersistenceContext persistenceContext,
+			boolean unnestInserts) {
 		super( factory, options );
 		this.persistenceContext = persistenceContext;
+		this.unnestInserts = unnestInserts;
 		Integer batchSize = getConfiguredJdbcBatchSize();
-		reactiveConnection = batchSize == null || batchSize < 2
-				? connection
-				: new BatchingConnection( connection, batchSize );
+		// for upserts and unnest inserts, we need a BatchingConnection even if batching is disabled by default
+		reactiveConnection = new BatchingConnection( connection, batchSize == null || batchSize < 2 ? 0 : batchSize );
 		batchingHelperSession = this;
 	}
 
+	private static boolean isUnnestInsertEnabled(SessionFactoryImpl factory) {
+		final boolean enabled = factory.getServiceRegistry().getService( ConfigurationService.class )
+				.getSetting( Settings.UNNEST_INSERT_ALL, StandardConverters.BOOLEAN, false );
+		if ( !enabled ) {
+			return false;
+		}
+		final Dialect dialect = DialectDelegateWrapper.extractRealDialect( factory.getJdbcServices().getDialect() );
+		return dialect instanceof PostgreSQLDialect || dialect instanceof CockroachDialect;
+	}
+
 	private LockOptions getNullSafeLockOptions(LockMode lockMode) {
 		return new LockOptions( lockMode == null ? LockMode.NONE : lockMode );
 	}
@@ -367,10 +390,120 @@ public CompletionStage<Void> reactiveInsertAll(Object... entities) {
 	@Override
 	public CompletionStage<Void> reactiveInsertAll(int batchSize, Object... entities) {
 		final ReactiveConnection connection = batchingConnection( batchSize );
+		if ( unnestInserts && connection instanceof BatchingConnection && isSingleTableEntityType( entities ) ) {
+			final ReactiveInsertStatement insert =
+					( (ReactiveSingleTableEntityPersister) getEntityPersister( null, entities[0] ) ).getInsertStatement();
+			if ( insert != null ) {
+				return unnestInsertAll( (BatchingConnection) connection, insert, batchSize, entities );
+			}
+		}
 		return loop( entities, batchingHelperSession::reactiveInsert )
 				.thenCompose( v -> connection.executeBatch() );
 	}
 
+	private CompletionStage<Void> unnestInsertAll(
+			BatchingConnection connection,
+			ReactiveInsertStatement insert,
+			int batchSize,
+			Object[] entities) {
+		// the inserts must be batched even if batching is disabled by default
+		final Integer jdbcBatchSize = batchingHelperSession.getJdbcBatchSize();
+		batchingHelperSession.setJdbcBatchSize( batchSize );
+		connection.withUnnestInserts( insert );
+		return loop( entities, batchingHelperSession::reactiveInsert )
+				.thenCompose( v -> connection.executeBatch() )
+				.whenComplete( (v, e) -> {
+					connection.withUnnestInserts( null );
+					batchingHelperSession.setJdbcBatchSize( jdbcBatchSize );
+				} );
+	}
+
+	@Override
+	public CompletionStage<Void> reactiveUpsert(Object entity) {
+		return reactiveUpsertAll( 1, entity );
+	}
+
+	@Override
+	public CompletionStage<Void> reactiveUpsertAll(int batchSize, Object... entities) {
+		checkOpen();
+		final Dialect dialect = getDialect();
+		if ( !ReactiveUpsertRewriter.isSupported( dialect ) ) {
+			return failedFuture( LOG.upsertNotSupportedByDialect( DialectDelegateWrapper.extractRealDialect( dialect ).getClass().getName() ) );
+		}
+		final BatchingConnection connection = (BatchingConnection) batchingHelperSession.getReactiveConnection();
+		// the batch size only applies to this call
+		final int connectionBatchSize = connection.getBatchSize();
+		if ( batchSize > 1 ) {
+			connection.withBatchSize( batchSize );
+		}
+		// the upserts must be batched even if batching is disabled by default
+		final Integer jdbcBatchSize = batchingHelperSession.getJdbcBatchSize();
+		batchingHelperSession.setJdbcBatchSize( batchSize );
+		return loop( entities, batchingHelperSession::upsert )
+				.thenCompose( v -> connection.executeBatch() )
+				.whenComplete( (v, e) -> {
+					if ( e != null ) {
+						// the upserts left in the batch must not be executed later
+						connection.discardBatch();
+					}
+					connection.withUpserts( null );
+					connection.setBatchSize( connectionBatchSize );
+					batchingHelperSession.setJdbcBatchSize( jdbcBatchSize );
+				} );
+	}
+
+	/**
+	 * Execute the insert of the given entity as an upsert. The entity
+	 * must be mapped to a single table, with no version and no dynamic
+	 * insert, and its id must already be assigned.
+	 */
+	private CompletionStage<Void> upsert(Object entity) {
+		final ReactiveEntityPersister persister = getEntityPersister( null, entity );
+		final ReactiveUpsertRewriter upsertRewriter = upsertRewriter( persister );
+		if ( upsertRewriter == null ) {
+			return failedFuture( LOG.upsertNotSupported( persister.getEntityName() ) );
+		}
+		final Object id = persister.getIdentifier( entity, this );
+		if ( id == null ) {
+			return failedFuture( LOG.upsertWithNullIdentifier( persister.getEntityName() ) );
+		}
+		( (BatchingConnection) reactiveConnection ).withUpserts( upsertRewriter );
+		return persister.insertReactive( id, persister.getPropertyValues( entity ), entity, this );
+	}
+
+	private static ReactiveUpsertRewriter upsertRewriter(ReactiveEntityPersister persister) {
+		if ( !( persister instanceof ReactiveSingleTableEntityPersister )
+				|| ( (ReactiveSingleTableEntityPersister) persister ).getTableSpan() > 1
+				|| persister.isVersioned()
+				|| persister.getEntityMetamodel().isDynamicInsert()
+				|| persister.getGenerator().generatedOnExecution() ) {
+			return null;
+		}
+		// null if the insert can't be rewritten
+		return ( (ReactiveSingleTableEntityPersister) persister ).getUpsertRewriter();
+	}
+
+	/**
+	 * Are the given entities all of the same entity type, mapped to a
+	 * single table, so that each insert is a single statement?
+	 */
+	private boolean isSingleTableEntityType(Object[] entities) {
+		if ( entities.length < 2 ) {
+			return false;
+		}
+		final EntityPersister persister = getEntityPersister( null, entities[0] );
+		if ( !( persister instanceof ReactiveSingleTableEntityPersister )
+				|| ( (ReactiveSingleTableEntityPersister) persister ).getTableSpan() > 1 ) {
+			return false;
+		}
+		for ( int i = 1; i < entities.length; i++ ) {
+			if ( getEntityPersister( null, entities[i] ) != persister ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 	public CompletionStage<Void> reactiveUpdateAll(Object... entities) {
 		return loop( entities, batchingHelperSession::reactiveUpdate )
@@ -0,0 +1,210 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.session.impl;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Interceptor;
+import org.hibernate.SessionEventListener;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionOwner;
+import org.hibernate.internal.SessionCreationOptions;
+import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.resource.transaction.backend.jta.internal.synchronization.AfterCompletionAction;
+import org.hibernate.resource.transaction.backend.jta.internal.synchronization.ExceptionMapper;
+import org.hibernate.resource.transaction.backend.jta.internal.synchronization.ManagedFlushChecker;
+
+/**
+ * Supplies the {@link SessionCreationOptions} of new sessions.
+ * <p>
+ * The options are only read when a session is created, so unless the
+ * configuration calls for something different in each session, the
+ * options for the default tenant, and the options for each explicit
+ * tenant, are built once, and shared by every session.
+ * <p>
+ * The options are never shared when there's a
+ * {@link org.hibernate.context.spi.CurrentTenantIdentifierResolver},
+ * a session-scoped {@link org.hibernate.Interceptor}, or any baseline
+ * {@link org.hibernate.SessionEventListener}, since each of these is
+ * resolved or instantiated for every session.
+ * <p>
+ * Shared options are an immutable copy of the options built by a
+ * {@link SessionFactoryImpl.SessionBuilderImpl}, since the builder
+ * itself could be cast back and changed by any session it's passed to.
+ */
+public final class SessionCreationOptionsCache {
+
+	private final SessionFactoryImpl factory;
+	private final SessionCreationOptions defaultOptions;
+	private final ConcurrentMap<String, SessionCreationOptions> optionsByTenant;
+
+	public SessionCreationOptionsCache(SessionFactoryImpl factory) {
+		this.factory = factory;
+		final SessionFactoryOptions options = factory.getSessionFactoryOptions();
+		final boolean shareable = options.getStatelessInterceptorImplementorSupplier() == null
+				&& options.getBaselineSessionEventsListenerBuilder().buildBaselineList().isEmpty();
+		this.defaultOptions = shareable && options.getCurrentTenantIdentifierResolver() == null
+				? new SharedOptions( newOptions() )
+				: null;
+		this.optionsByTenant = shareable ? new ConcurrentHashMap<>() : null;
+	}
+
+	/**
+	 * The options of a session for the default tenant.
+	 */
+	public SessionCreationOptions options() {
+		return defaultOptions == null ? newOptions() : defaultOptions;
+	}
+
+	/**
+	 * The options of a session for the given tenant.
+	 */
+	public SessionCreationOptions options(String tenantIdentifier) {
+		if ( optionsByTenant == null ) {
+			return newOptions( tenantIdentifier );
+		}
+		final SessionCreationOptions options = optionsByTenant.get( tenantIdentifier );
+		if ( options != null ) {
+			return options;
+		}
+		final SessionCreationOptions newOptions = new SharedOptions( newOptions( tenantIdentifier ) );
+		final SessionCreationOptions existing = optionsByTenant.putIfAbsent( tenantIdentifier, newOptions );
+		return existing == null ? newOptions : existing;
+	}
+
+	private SessionCreationOptions newOptions() {
+		return new SessionFactoryImpl.SessionBuilderImpl( factory );
+	}
+
+	private SessionCreationOptions newOptions(String tenantIdentifier) {
+		return new SessionFactoryImpl.SessionBuilderImpl( factory )
+				.tenantIdentifier( tenantIdentifier );
+	}
+
+	/**
+	 * A copy of the options of a session, which can't be changed.
+	 */
+	private static final class SharedOptions implements SessionCreationOptions {
+		private final boolean autoJoinTransactions;
+		private final FlushMode initialSessionFlushMode;
+		private final boolean autoClose;
+		private final boolean autoClear;
+		private final Connection connection;
+		private final Interceptor interceptor;
+		private final StatementInspector statementInspector;
+		private final PhysicalConnectionHandlingMode physicalConnectionHandlingMode;
+		private final String tenantIdentifier;
+		private final TimeZone jdbcTimeZone;
+		private final List<SessionEventListener> customSessionEventListener;
+		private final SessionOwner sessionOwner;
+		private final ExceptionMapper exceptionMapper;
+		private final AfterCompletionAction afterCompletionAction;
+		private final ManagedFlushChecker managedFlushChecker;
+
+		private SharedOptions(SessionCreationOptions options) {
+			autoJoinTransactions = options.shouldAutoJoinTransactions();
+			initialSessionFlushMode = options.getInitialSessionFlushMode();
+			autoClose = options.shouldAutoClose();
+			autoClear = options.shouldAutoClear();
+			connection = options.getConnection();
+			interceptor = options.getInterceptor();
+			statementInspector = options.getStatementInspector();
+			physicalConnectionHandlingMode = options.getPhysicalConnectionHandlingMode();
+			tenantIdentifier = options.getTenantIdentifier();
+			jdbcTimeZone = options.getJdbcTimeZone();
+			customSessionEventListener = options.getCustomSessionEventListener() == null
+					? null
+					: List.copyOf( options.getCustomSessionEventListener() );
+			sessionOwner = options.getSessionOwner();
+			exceptionMapper = options.getExceptionMapper();
+			afterCompletionAction = options.getAfterCompletionAction();
+			managedFlushChecker = options.getManagedFlushChecker();
+		}
+
+		@Override
+		public boolean shouldAutoJoinTransactions() {
+			return autoJoinTransactions;
+		}
+
+		@Override
+		public FlushMode getInitialSessionFlushMode() {
+			return initialSessionFlushMode;
+		}
+
+		@Override
+		public boolean shouldAutoClose() {
+			return autoClose;
+		}
+
+		@Override
+		public boolean shouldAutoClear() {
+			return autoClear;
+		}
+
+		@Override
+		public Connection getConnection() {
+			return connection;
+		}
+
+		@Override
+		public Interceptor getInterceptor() {
+			return interceptor;
+		}
+
+		@Override
+		public StatementInspector getStatementInspector() {
+			return statementInspector;
+		}
+
+		@Override
+		public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
+			return physicalConnectionHandlingMode;
+		}
+
+		@Override
+		public String getTenantIdentifier() {
+			return tenantIdentifier;
+		}
+
+		@Override
+		public TimeZone getJdbcTimeZone() {
+			return jdbcTimeZone;
+		}
+
+		@Override
+		public List<SessionEventListener> getCustomSessionEventListener() {
+			return customSessionEventListener;
+		}
+
+		@Override
+		@SuppressWarnings("removal")
+		public SessionOwner getSessionOwner() {
+			return sessionOwner;
+		}
+
+		@Override
+		public ExceptionMapper getExceptionMapper() {
+			return exceptionMapper;
+		}
+
+		@Override
+		public AfterCompletionAction getAfterCompletionAction() {
+			return afterCompletionAction;
+		}
+
+		@Override
+		public ManagedFlushChecker getManagedFlushChecker() {
+			return managedFlushChecker;
+		}
+	}
+}
@@ -63,8 +63,7 @@ public CompletionStage<Integer> executeReactive(
 				.bind( statement -> prepareStatement( jdbcMutation, statement, jdbcParameterBindings, executionContext ) );
 
 		session.getEventListenerManager().jdbcExecuteStatementStart();
-		return connection( executionContext )
-				.update( finalSql, parameters )
+		return update( connection( executionContext ), finalSql, parameters, queryOptions )
 				.thenApply( result -> {
 					// FIXME: I don't have a preparedStatement
 //					expectationCheck.accept( result, preparedStatement );
@@ -74,6 +73,18 @@ public CompletionStage<Integer> executeReactive(
 				.whenComplete( (result, t) -> executionContext.afterStatement( logicalConnection ) );
 	}
 
+	private static CompletionStage<Integer> update(
+			ReactiveConnection connection,
+			String sql,
+			Object[] parameters,
+			QueryOptions queryOptions) {
+		// the timeout is specified in seconds
+		final Integer timeout = queryOptions.getTimeout();
+		return timeout == null
+				? connection.update( sql, parameters )
+				: connection.update( sql, parameters, timeout * 1000 );
+	}
+
 	private void prepareStatement(
 			JdbcOperationQueryMutation jdbcMutation,
 			PreparedStatement preparedStatement,
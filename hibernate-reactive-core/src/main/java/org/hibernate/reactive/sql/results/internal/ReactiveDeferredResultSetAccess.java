@@ -10,10 +10,12 @@
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
 import org.hibernate.HibernateException;
+import org.hibernate.QueryTimeoutException;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.engine.spi.SessionEventListenerManager;
@@ -157,8 +159,7 @@ private CompletionStage<ResultSet> executeQuery() {
 					final long executeStartNanos = executionStartNanos();
 
 					eventListenerManager.jdbcExecuteStatementStart();
-					return connection()
-							.selectJdbc( sql, parameters )
+					return selectJdbc( sql, parameters )
 							.whenComplete( (resultSet, throwable) -> {
 								// FIXME: I don't know if this event makes sense for Vert.x
 								eventListenerManager.jdbcExecuteStatementEnd();
@@ -170,6 +171,14 @@ private CompletionStage<ResultSet> executeQuery() {
 				.whenComplete( (o, throwable) -> logicalConnection.afterStatement() );
 	}
 
+	private CompletionStage<ResultSet> selectJdbc(String sql, Object[] parameters) {
+		// the timeout is specified in seconds
+		final Integer timeout = executionContext.getQueryOptions().getTimeout();
+		return timeout == null
+				? connection().selectJdbc( sql, parameters )
+				: connection().selectJdbc( sql, parameters, timeout * 1000 );
+	}
+
 	private ResultSet saveResultSet(ResultSet resultSet) {
 		this.resultSet = resultSet;
 		return saveColumnCount( resultSet );
@@ -193,6 +202,10 @@ private ResultSet convertException(ResultSet resultSet, Throwable throwable) {
 					// FIXME: Add this to the logger?
 					.convert( (SQLException) throwable, "Exception executing SQL [" + getFinalSql() + "]" );
 		}
+		if ( throwable instanceof CompletionException
+				&& throwable.getCause() instanceof QueryTimeoutException ) {
+			throw (QueryTimeoutException) throwable.getCause();
+		}
 		if ( throwable != null ) {
 			throw new HibernateException( throwable );
 		}
@@ -14,6 +14,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -49,6 +50,7 @@
 import org.hibernate.reactive.logging.impl.Log;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 import org.hibernate.reactive.session.impl.ReactiveQueryExecutorLookup;
+import org.hibernate.reactive.stat.SqlExecutionStatistics;
 import org.hibernate.reactive.util.impl.CompletionStages;
 import org.hibernate.stat.Statistics;
 import org.hibernate.type.BasicTypeReference;
@@ -1467,6 +1469,24 @@ default CompletionStage<Void> lock(Object entity, LockModeType lockModeType) {
 			return lock( entity, convertToLockMode(lockModeType) );
 		}
 
+		/**
+		 * Obtain the specified lock level upon several objects at once.
+		 * For {@link LockMode#PESSIMISTIC_READ}, {@link LockMode#PESSIMISTIC_WRITE},
+		 * {@link LockMode#UPGRADE_NOWAIT}, and {@link LockMode#UPGRADE_SKIPLOCKED},
+		 * the rows of instances of the same entity hierarchy are locked, and
+		 * their versions checked, using a single {@code select ... for update}
+		 * statement, instead of one statement per instance. Other lock modes
+		 * are obtained one instance at a time.
+		 *
+		 * @param lockMode the lock level
+		 * @param entities managed persistent instances
+		 *
+		 * @throws IllegalArgumentException if a given instance is not managed
+		 *
+		 * @see #lock(Object, LockMode)
+		 */
+		CompletionStage<Void> lockAll(LockMode lockMode, Object... entities);
+
 //		/**
 //		 * Obtain the specified lock level upon the given object, with the given
 //		 * {@link LockOptions}.
@@ -2239,6 +2259,45 @@ default <T> CompletionStage<T> get(Class<T> entityClass, Object id, LockModeType
 		 */
 		CompletionStage<Void> insert(int batchSize, Object... entities);
 
+		/**
+		 * Insert the rows of a stream of entities, consuming the stream in
+		 * chunks of the specified batch size and executing each chunk as a
+		 * single batch, so that only one chunk is held in memory at a time.
+		 * <p>
+		 * Nothing happens until the returned publisher is subscribed.
+		 * Entities are requested from the given publisher as each chunk
+		 * completes, and must be emitted on the thread of the session.
+		 *
+		 * @param batchSize the batch size, and the size of each chunk
+		 * @param entities a stream of new transient instances
+		 * @return a stream emitting the number of entities in each chunk,
+		 *         once the chunk has been executed
+		 *
+		 * @see org.hibernate.StatelessSession#insert(Object)
+		 */
+		Flow.Publisher<Integer> insert(int batchSize, Flow.Publisher<?> entities);
+
+		/**
+		 * Insert a row or, if there's already a row with the same primary
+		 * key, update it, using a single statement.
+		 * <p>
+		 * The entity must be mapped to a single table, must not have a
+		 * version, and its identifier must already be assigned.
+		 *
+		 * @param entity a new transient instance or a detached instance
+		 */
+		CompletionStage<Void> upsert(Object entity);
+
+		/**
+		 * Insert or update multiple rows using the specified batch size.
+		 *
+		 * @param batchSize the batch size
+		 * @param entities new transient instances or detached instances
+		 *
+		 * @see #upsert(Object)
+		 */
+		CompletionStage<Void> upsert(int batchSize, Object... entities);
+
 		/**
 		 * Delete a row.
 		 *
@@ -2267,6 +2326,24 @@ default <T> CompletionStage<T> get(Class<T> entityClass, Object id, LockModeType
 		 */
 		CompletionStage<Void> delete(int batchSize, Object... entities);
 
+		/**
+		 * Delete the rows of a stream of entities, consuming the stream in
+		 * chunks of the specified batch size and executing each chunk as a
+		 * single batch, so that only one chunk is held in memory at a time.
+		 * <p>
+		 * Nothing happens until the returned publisher is subscribed.
+		 * Entities are requested from the given publisher as each chunk
+		 * completes, and must be emitted on the thread of the session.
+		 *
+		 * @param batchSize the batch size, and the size of each chunk
+		 * @param entities a stream of detached entity instances
+		 * @return a stream emitting the number of entities in each chunk,
+		 *         once the chunk has been executed
+		 *
+		 * @see org.hibernate.StatelessSession#delete(Object)
+		 */
+		Flow.Publisher<Integer> delete(int batchSize, Flow.Publisher<?> entities);
+
 		/**
 		 * Update a row.
 		 *
@@ -2295,6 +2372,24 @@ default <T> CompletionStage<T> get(Class<T> entityClass, Object id, LockModeType
 		 */
 		CompletionStage<Void> update(int batchSize, Object... entities);
 
+		/**
+		 * Update the rows of a stream of entities, consuming the stream in
+		 * chunks of the specified batch size and executing each chunk as a
+		 * single batch, so that only one chunk is held in memory at a time.
+		 * <p>
+		 * Nothing happens until the returned publisher is subscribed.
+		 * Entities are requested from the given publisher as each chunk
+		 * completes, and must be emitted on the thread of the session.
+		 *
+		 * @param batchSize the batch size, and the size of each chunk
+		 * @param entities a stream of detached entity instances
+		 * @return a stream emitting the number of entities in each chunk,
+		 *         once the chunk has been executed
+		 *
+		 * @see org.hibernate.StatelessSession#update(Object)
+		 */
+		Flow.Publisher<Integer> update(int batchSize, Flow.Publisher<?> entities);
+
 		/**
 		 * Refresh the entity instance state from the database.
 		 *
@@ -2772,6 +2867,14 @@ default <T> CompletionStage<T> withStatelessTransaction(Function<StatelessSessio
 		 */
 		Statistics getStatistics();
 
+		/**
+		 * Obtain the {@link SqlExecutionStatistics} object exposing
+		 * timings and row counts of the SQL statements executed.
+		 *
+		 * @see org.hibernate.reactive.provider.Settings#SQL_STATISTICS
+		 */
+		SqlExecutionStatistics getSqlExecutionStatistics();
+
 		/**
 		 * Destroy the session factory and clean up its connection pool.
 		 */
@@ -15,6 +15,7 @@
 import jakarta.persistence.metamodel.Metamodel;
 
 import org.hibernate.Cache;
+import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.internal.SessionCreationOptions;
 import org.hibernate.internal.SessionFactoryImpl;
 import org.hibernate.reactive.common.spi.Implementor;
@@ -27,6 +28,9 @@
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
 import org.hibernate.reactive.session.impl.ReactiveSessionImpl;
 import org.hibernate.reactive.session.impl.ReactiveStatelessSessionImpl;
+import org.hibernate.reactive.session.impl.SessionCreationOptionsCache;
+import org.hibernate.reactive.stat.SqlExecutionStatistics;
+import org.hibernate.reactive.stat.spi.SqlExecutionStatisticsImplementor;
 import org.hibernate.reactive.stage.Stage;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.stat.Statistics;
@@ -47,6 +51,7 @@ public class StageSessionFactoryImpl implements Stage.SessionFactory, Implemento
 	private final SessionFactoryImpl delegate;
 	private final ReactiveConnectionPool connectionPool;
 	private final Context context;
+	private final SessionCreationOptionsCache sessionCreationOptions;
 	private final BaseKey<Stage.Session> contextKeyForSession;
 	private final BaseKey<Stage.StatelessSession> contextKeyForStatelessSession;
 
@@ -54,6 +59,7 @@ public StageSessionFactoryImpl(SessionFactoryImpl delegate) {
 		this.delegate = delegate;
 		context = delegate.getServiceRegistry().getService( Context.class );
 		connectionPool = delegate.getServiceRegistry().getService( ReactiveConnectionPool.class );
+		sessionCreationOptions = new SessionCreationOptionsCache( delegate );
 		contextKeyForSession = new BaseKey<>( Stage.Session.class, delegate.getUuid() );
 		contextKeyForStatelessSession = new BaseKey<>( Stage.StatelessSession.class, delegate.getUuid() );
 	}
@@ -124,15 +130,20 @@ private <S> CompletionStage<S> create(ReactiveConnection connection, Supplier<S>
 	}
 
 	private SessionCreationOptions options() {
-		return new SessionFactoryImpl.SessionBuilderImpl( delegate );
+		return sessionCreationOptions.options();
 	}
 
 	private SessionCreationOptions options(String tenantIdentifier) {
-		return new SessionFactoryImpl.SessionBuilderImpl( delegate )
-				.tenantIdentifier( tenantIdentifier );
+		return sessionCreationOptions.options( tenantIdentifier );
 	}
 
 	private CompletionStage<ReactiveConnection> connection(String tenantId) {
+		if ( connectionPool.getConnectionReleaseMode() != ConnectionReleaseMode.ON_CLOSE ) {
+			// the connection is obtained when needed, and released early
+			return completedFuture( tenantId == null
+					? connectionPool.getProxyConnection()
+					: connectionPool.getProxyConnection( tenantId ) );
+		}
 		return tenantId == null
 				? connectionPool.getConnection()
 				: connectionPool.getConnection( tenantId );
@@ -263,6 +274,11 @@ public Statistics getStatistics() {
 		return delegate.getStatistics();
 	}
 
+	@Override
+	public SqlExecutionStatistics getSqlExecutionStatistics() {
+		return delegate.getServiceRegistry().getService( SqlExecutionStatisticsImplementor.class );
+	}
+
 	@Override
 	public void close() {
 		delegate.close();
@@ -156,7 +156,7 @@ public CompletionStage<Void> persist(Object entity) {
 
 	@Override
 	public CompletionStage<Void> persist(Object... entity) {
-		return applyToAll( delegate::reactivePersist, entity );
+		return delegate.reactivePersistAll( entity );
 	}
 
 	@Override
@@ -166,7 +166,7 @@ public CompletionStage<Void> remove(Object entity) {
 
 	@Override
 	public CompletionStage<Void> remove(Object... entity) {
-		return applyToAll( delegate::reactiveRemove, entity );
+		return delegate.reactiveRemoveAll( entity );
 	}
 
 	@Override
@@ -209,6 +209,11 @@ public CompletionStage<Void> lock(Object entity, LockMode lockMode) {
 		return delegate.reactiveLock( entity, new LockOptions(lockMode) );
 	}
 
+	@Override
+	public CompletionStage<Void> lockAll(LockMode lockMode, Object... entities) {
+		return delegate.reactiveLockAll( new LockOptions( lockMode ), entities );
+	}
+
 	@Override
 	public CompletionStage<Void> lock(Object entity, LockModeType lockModeType) {
 		return Stage.Session.super.lock( entity, lockModeType );
@@ -7,15 +7,19 @@
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 import java.util.function.Function;
 
 import org.hibernate.LockMode;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.reactive.common.ResultSetMapping;
+import org.hibernate.reactive.context.Context;
 import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.session.ReactiveStatelessSession;
 import org.hibernate.reactive.stage.Stage;
 
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 import jakarta.persistence.EntityGraph;
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
@@ -31,9 +35,11 @@
 public class StageStatelessSessionImpl implements Stage.StatelessSession {
 
 	private final ReactiveStatelessSession delegate;
+	private final Context context;
 
 	public StageStatelessSessionImpl(ReactiveStatelessSession delegate) {
 		this.delegate = delegate;
+		this.context = delegate.getFactory().getServiceRegistry().getService( Context.class );
 	}
 
 	public ReactiveConnection getReactiveConnection() {
@@ -65,6 +71,21 @@ public CompletionStage<Void> insert(int batchSize, Object... entities) {
 		return delegate.reactiveInsertAll( batchSize, entities );
 	}
 
+	@Override
+	public CompletionStage<Void> upsert(Object entity) {
+		return delegate.reactiveUpsert( entity );
+	}
+
+	@Override
+	public CompletionStage<Void> upsert(int batchSize, Object... entities) {
+		return delegate.reactiveUpsertAll( batchSize, entities );
+	}
+
+	@Override
+	public Flow.Publisher<Integer> insert(int batchSize, Flow.Publisher<?> entities) {
+		return chunks( batchSize, entities, chunk -> delegate.reactiveInsertAll( batchSize, chunk ) );
+	}
+
 	@Override
 	public CompletionStage<Void> delete(Object entity) {
 		return delegate.reactiveDelete( entity );
@@ -80,6 +101,11 @@ public CompletionStage<Void> delete(int batchSize, Object... entities) {
 		return delegate.reactiveDeleteAll( batchSize, entities );
 	}
 
+	@Override
+	public Flow.Publisher<Integer> delete(int batchSize, Flow.Publisher<?> entities) {
+		return chunks( batchSize, entities, chunk -> delegate.reactiveDeleteAll( batchSize, chunk ) );
+	}
+
 	@Override
 	public CompletionStage<Void> update(Object entity) {
 		return delegate.reactiveUpdate( entity );
@@ -95,6 +121,33 @@ public CompletionStage<Void> update(int batchSize, Object... entities) {
 		return delegate.reactiveUpdateAll( batchSize, entities );
 	}
 
+	@Override
+	public Flow.Publisher<Integer> update(int batchSize, Flow.Publisher<?> entities) {
+		return chunks( batchSize, entities, chunk -> delegate.reactiveUpdateAll( batchSize, chunk ) );
+	}
+
+	/**
+	 * Split the given stream into chunks of the given size, and apply
+	 * the operation to each chunk in turn, emitting the chunk size.
+	 * <p>
+	 * The publisher may emit the entities on any thread, so the operation
+	 * is dispatched to the Vert.x context, like the operations of the
+	 * Mutiny session.
+	 */
+	private Flow.Publisher<Integer> chunks(
+			int batchSize,
+			Flow.Publisher<?> entities,
+			Function<Object[], CompletionStage<Void>> operation) {
+		return Multi.createFrom().<Object>publisher( entities )
+				.group().intoLists().of( batchSize )
+				.onItem().transformToUniAndConcatenate( chunk -> {
+					final Object[] array = chunk.toArray();
+					return Uni.createFrom().completionStage( () -> operation.apply( array ) )
+							.runSubscriptionOn( context )
+							.replaceWith( array.length );
+				} );
+	}
+
 	@Override
 	public CompletionStage<Void> refresh(Object entity) {
 		return delegate.reactiveRefresh( entity );
@@ -0,0 +1,69 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat;
+
+import org.hibernate.Incubating;
+
+/**
+ * Exposes the usage of the prepared statement cache of the Vert.x
+ * connections obtained from the built-in connection pool.
+ * <p>
+ * Every connection has its own cache, which Vert.x doesn't expose,
+ * so no hit ratio is reported. Instead, these statistics count the
+ * executions of prepared statements, the executions which can't be
+ * cached because the SQL is too long, and the statements prepared by
+ * new connections before their first use.
+ * <p>
+ * Usage is only tracked if {@link org.hibernate.reactive.provider.Settings#SQL_STATISTICS}
+ * or {@link org.hibernate.reactive.provider.Settings#PREPARED_STATEMENT_CACHE_PREPARE_ON_CONNECT}
+ * is enabled.
+ *
+ * @see SqlExecutionStatistics#getPreparedStatementCacheStatistics()
+ */
+@Incubating
+public interface PreparedStatementCacheStatistics {
+
+	/**
+	 * Is the usage of the cache being tracked?
+	 */
+	boolean isEnabled();
+
+	/**
+	 * The configured maximum number of statements in the cache of
+	 * each connection.
+	 */
+	int getMaxSize();
+
+	/**
+	 * The number of executions of prepared statements, on connections
+	 * held by a session, whose SQL is short enough to be cached.
+	 */
+	long getCacheableCount();
+
+	/**
+	 * The number of executions of prepared statements which could not
+	 * be cached, because the SQL is longer than the configured limit.
+	 */
+	long getUncacheableCount();
+
+	/**
+	 * The number of connections opened by the pool.
+	 */
+	long getConnectionCount();
+
+	/**
+	 * The number of statements prepared by connections as they were
+	 * opened.
+	 *
+	 * @see org.hibernate.reactive.provider.Settings#PREPARED_STATEMENT_CACHE_PREPARE_ON_CONNECT
+	 */
+	long getPreparedOnConnectCount();
+
+	/**
+	 * Reset all counters.
+	 */
+	void clear();
+}
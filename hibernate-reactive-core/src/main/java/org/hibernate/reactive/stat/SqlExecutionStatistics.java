@@ -0,0 +1,85 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat;
+
+import org.hibernate.Incubating;
+
+/**
+ * Exposes timings and row counts of the SQL statements executed
+ * by {@link org.hibernate.reactive.pool.ReactiveConnection reactive
+ * connections} obtained from the built-in connection pool.
+ * <p>
+ * Statistics are aggregated per SQL string, that is, per statement
+ * shape, since parameter values are never part of the SQL sent to
+ * the database.
+ * <p>
+ * Collection of statistics is disabled by default, and may be enabled
+ * by setting {@link org.hibernate.reactive.provider.Settings#SQL_STATISTICS}.
+ * Independently, statements which take longer than the threshold set via
+ * {@link org.hibernate.reactive.provider.Settings#LOG_SLOW_QUERY} are logged.
+ *
+ * @see org.hibernate.reactive.mutiny.Mutiny.SessionFactory#getSqlExecutionStatistics()
+ * @see org.hibernate.reactive.stage.Stage.SessionFactory#getSqlExecutionStatistics()
+ */
+@Incubating
+public interface SqlExecutionStatistics {
+
+	/**
+	 * Are statistics being collected?
+	 */
+	boolean isStatisticsEnabled();
+
+	/**
+	 * The total number of SQL statements executed.
+	 */
+	long getExecutionCount();
+
+	/**
+	 * The number of SQL statement executions which failed.
+	 */
+	long getExecutionFailureCount();
+
+	/**
+	 * The number of SQL statement executions which took longer
+	 * than the configured slow query threshold.
+	 */
+	long getSlowExecutionCount();
+
+	/**
+	 * The SQL strings of every statement for which statistics
+	 * have been collected.
+	 */
+	String[] getStatements();
+
+	/**
+	 * The statistics collected for the given SQL string, or
+	 * {@code null} if the statement has never been executed.
+	 */
+	SqlStatementStatistics getStatementStatistics(String sql);
+
+	/**
+	 * The number of times an HQL or criteria query was translated
+	 * to SQL, because no translation compatible with its limit,
+	 * offset, and lock options had been cached yet.
+	 */
+	long getQueryTranslationCount();
+
+	/**
+	 * The number of query executions which reused a cached
+	 * translation to SQL.
+	 */
+	long getQueryTranslationReuseCount();
+
+	/**
+	 * The usage of the prepared statement cache of the connections.
+	 */
+	PreparedStatementCacheStatistics getPreparedStatementCacheStatistics();
+
+	/**
+	 * Discard all statistics collected so far.
+	 */
+	void clear();
+}
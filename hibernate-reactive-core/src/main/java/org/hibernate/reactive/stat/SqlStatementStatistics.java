@@ -0,0 +1,77 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat;
+
+import org.hibernate.Incubating;
+
+/**
+ * Aggregated execution statistics for a single SQL statement.
+ * All durations are reported in microseconds.
+ *
+ * @see SqlExecutionStatistics#getStatementStatistics(String)
+ */
+@Incubating
+public interface SqlStatementStatistics {
+
+	/**
+	 * The SQL statement.
+	 */
+	String getSql();
+
+	/**
+	 * The number of times the statement was executed. A batch
+	 * counts as a single execution.
+	 */
+	long getExecutionCount();
+
+	/**
+	 * The number of executions which failed.
+	 */
+	long getExecutionFailureCount();
+
+	/**
+	 * The total number of rows returned by a query, or affected by
+	 * a mutation, over all executions.
+	 */
+	long getRowCount();
+
+	/**
+	 * The sum of the execution times of all executions.
+	 */
+	long getTotalExecutionTimeMicros();
+
+	/**
+	 * The execution time of the slowest execution.
+	 */
+	long getMaxExecutionTimeMicros();
+
+	/**
+	 * The execution time of the fastest execution.
+	 */
+	long getMinExecutionTimeMicros();
+
+	/**
+	 * An estimate of the given percentile of the execution times,
+	 * accurate to within 12.5%.
+	 *
+	 * @param percentile a value between 0 and 100
+	 */
+	long getExecutionTimePercentileMicros(double percentile);
+
+	/**
+	 * The median execution time.
+	 */
+	default long getMedianExecutionTimeMicros() {
+		return getExecutionTimePercentileMicros( 50 );
+	}
+
+	/**
+	 * The 99th percentile of the execution times.
+	 */
+	default long get99thPercentileExecutionTimeMicros() {
+		return getExecutionTimePercentileMicros( 99 );
+	}
+}
@@ -0,0 +1,121 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.reactive.stat.PreparedStatementCacheStatistics;
+
+/**
+ * Counts the executions of prepared statements, and the statements
+ * prepared by new connections.
+ */
+public class PreparedStatementCacheStatisticsImpl implements PreparedStatementCacheStatistics {
+
+	/**
+	 * The default maximum size of the Vert.x prepared statement cache
+	 *
+	 * @see io.vertx.sqlclient.SqlConnectOptions#DEFAULT_PREPARED_STATEMENT_CACHE_MAX_SIZE
+	 */
+	public static final int DEFAULT_MAX_SIZE = 256;
+
+	/**
+	 * The default maximum length of a cacheable SQL string
+	 *
+	 * @see io.vertx.sqlclient.SqlConnectOptions#DEFAULT_PREPARED_STATEMENT_CACHE_SQL_LIMIT
+	 */
+	public static final int DEFAULT_SQL_LIMIT = 2048;
+
+	private final boolean enabled;
+	private final int maxSize;
+	private final int sqlLimit;
+
+	private final LongAdder cacheableCount = new LongAdder();
+	private final LongAdder uncacheableCount = new LongAdder();
+	private final LongAdder connectionCount = new LongAdder();
+	private final LongAdder preparedOnConnectCount = new LongAdder();
+
+	public PreparedStatementCacheStatisticsImpl(boolean enabled, int maxSize, int sqlLimit) {
+		this.enabled = enabled && maxSize > 0;
+		this.maxSize = maxSize;
+		this.sqlLimit = sqlLimit;
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	@Override
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Report the execution of a prepared statement.
+	 */
+	public void statementPrepared(String sql) {
+		if ( enabled ) {
+			if ( sql.length() > sqlLimit ) {
+				uncacheableCount.increment();
+			}
+			else {
+				cacheableCount.increment();
+			}
+		}
+	}
+
+	/**
+	 * Report a new connection, on which the given number of statements
+	 * were prepared before its first use.
+	 */
+	public void connectionOpened(int preparedStatementCount) {
+		if ( enabled ) {
+			connectionCount.increment();
+			preparedOnConnectCount.add( preparedStatementCount );
+		}
+	}
+
+	@Override
+	public long getCacheableCount() {
+		return cacheableCount.sum();
+	}
+
+	@Override
+	public long getUncacheableCount() {
+		return uncacheableCount.sum();
+	}
+
+	@Override
+	public long getConnectionCount() {
+		return connectionCount.sum();
+	}
+
+	@Override
+	public long getPreparedOnConnectCount() {
+		return preparedOnConnectCount.sum();
+	}
+
+	@Override
+	public void clear() {
+		cacheableCount.reset();
+		uncacheableCount.reset();
+		connectionCount.reset();
+		preparedOnConnectCount.reset();
+	}
+
+	@Override
+	public String toString() {
+		return "PreparedStatementCacheStatistics"
+				+ "[enabled=" + enabled
+				+ ",maxSize=" + maxSize
+				+ ",cacheableCount=" + getCacheableCount()
+				+ ",uncacheableCount=" + getUncacheableCount()
+				+ ",connectionCount=" + getConnectionCount()
+				+ ",preparedOnConnectCount=" + getPreparedOnConnectCount()
+				+ "]";
+	}
+}
@@ -0,0 +1,220 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.reactive.logging.impl.Log;
+import org.hibernate.reactive.logging.impl.LoggerFactory;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stat.PreparedStatementCacheStatistics;
+import org.hibernate.reactive.stat.SqlStatementStatistics;
+import org.hibernate.reactive.stat.spi.SqlExecutionStatisticsImplementor;
+import org.hibernate.service.spi.Configurable;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
+
+/**
+ * The default implementation of {@link SqlExecutionStatisticsImplementor},
+ * configured via {@link Settings#SQL_STATISTICS} and
+ * {@link Settings#LOG_SLOW_QUERY}.
+ * <p>
+ * When neither statistics nor the slow query log are enabled,
+ * {@link #isRecording()} returns {@code false} and connections
+ * don't even read the clock.
+ */
+public class SqlExecutionStatisticsImpl implements SqlExecutionStatisticsImplementor, Configurable {
+
+	private static final Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * An instance which records nothing, for use by connection pools
+	 * which don't have access to the service registry.
+	 */
+	public static final SqlExecutionStatisticsImpl DISABLED = new SqlExecutionStatisticsImpl();
+
+	/**
+	 * The maximum number of distinct statements tracked, by default.
+	 * Statements beyond this limit only contribute to the global counters.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 5_000;
+
+	private final ConcurrentHashMap<String, SqlStatementStatisticsImpl> statements = new ConcurrentHashMap<>();
+	private final LongAdder executionCount = new LongAdder();
+	private final LongAdder failureCount = new LongAdder();
+	private final LongAdder slowCount = new LongAdder();
+	private final LongAdder translationCount = new LongAdder();
+	private final LongAdder translationReuseCount = new LongAdder();
+
+	private boolean enabled;
+	private long slowQueryThresholdNanos;
+	private int maxSize = DEFAULT_MAX_SIZE;
+	private PreparedStatementCacheStatisticsImpl preparedStatementCache =
+			new PreparedStatementCacheStatisticsImpl( false, 0, 0 );
+
+	@Override
+	public void configure(Map configuration) {
+		enabled = getBoolean( Settings.SQL_STATISTICS, configuration, false );
+		maxSize = getInt( Settings.SQL_STATISTICS_MAX_SIZE, configuration, DEFAULT_MAX_SIZE );
+		slowQueryThresholdNanos = MILLISECONDS.toNanos( getLong( Settings.LOG_SLOW_QUERY, configuration, 0 ) );
+		preparedStatementCache = new PreparedStatementCacheStatisticsImpl(
+				enabled || getBoolean( Settings.PREPARED_STATEMENT_CACHE_PREPARE_ON_CONNECT, configuration, false ),
+				getInt(
+						Settings.PREPARED_STATEMENT_CACHE_MAX_SIZE,
+						configuration,
+						PreparedStatementCacheStatisticsImpl.DEFAULT_MAX_SIZE
+				),
+				getInt(
+						Settings.PREPARED_STATEMENT_CACHE_SQL_LIMIT,
+						configuration,
+						PreparedStatementCacheStatisticsImpl.DEFAULT_SQL_LIMIT
+				)
+		);
+	}
+
+	@Override
+	public boolean isRecording() {
+		return enabled || slowQueryThresholdNanos > 0;
+	}
+
+	@Override
+	public boolean isStatisticsEnabled() {
+		return enabled;
+	}
+
+	@Override
+	public void statementExecuted(String sql, long startTimeNanos, long rowCount) {
+		final long elapsed = elapsed( sql, startTimeNanos );
+		if ( enabled ) {
+			executionCount.increment();
+			final SqlStatementStatisticsImpl statistics = statistics( sql );
+			if ( statistics != null ) {
+				statistics.executed( NANOSECONDS.toMicros( elapsed ), rowCount );
+			}
+		}
+	}
+
+	@Override
+	public void statementFailed(String sql, long startTimeNanos) {
+		final long elapsed = elapsed( sql, startTimeNanos );
+		if ( enabled ) {
+			executionCount.increment();
+			failureCount.increment();
+			final SqlStatementStatisticsImpl statistics = statistics( sql );
+			if ( statistics != null ) {
+				statistics.failed( NANOSECONDS.toMicros( elapsed ) );
+			}
+		}
+	}
+
+	@Override
+	public void statementPrepared(String sql) {
+		preparedStatementCache.statementPrepared( sql );
+	}
+
+	@Override
+	public void queryTranslated(boolean reused) {
+		if ( enabled ) {
+			( reused ? translationReuseCount : translationCount ).increment();
+		}
+	}
+
+	@Override
+	public void connectionOpened(int preparedStatementCount) {
+		preparedStatementCache.connectionOpened( preparedStatementCount );
+	}
+
+	private long elapsed(String sql, long startTimeNanos) {
+		final long elapsed = System.nanoTime() - startTimeNanos;
+		if ( slowQueryThresholdNanos > 0 && elapsed > slowQueryThresholdNanos ) {
+			slowCount.increment();
+			LOG.slowQuery( NANOSECONDS.toMillis( elapsed ), sql );
+		}
+		return elapsed;
+	}
+
+	private SqlStatementStatisticsImpl statistics(String sql) {
+		final SqlStatementStatisticsImpl existing = statements.get( sql );
+		if ( existing != null ) {
+			return existing;
+		}
+		// The bound is not strict under concurrent updates, but it doesn't need to be
+		return statements.size() < maxSize
+				? statements.computeIfAbsent( sql, SqlStatementStatisticsImpl::new )
+				: null;
+	}
+
+	@Override
+	public long getExecutionCount() {
+		return executionCount.sum();
+	}
+
+	@Override
+	public long getExecutionFailureCount() {
+		return failureCount.sum();
+	}
+
+	@Override
+	public long getSlowExecutionCount() {
+		return slowCount.sum();
+	}
+
+	@Override
+	public long getQueryTranslationCount() {
+		return translationCount.sum();
+	}
+
+	@Override
+	public long getQueryTranslationReuseCount() {
+		return translationReuseCount.sum();
+	}
+
+	@Override
+	public String[] getStatements() {
+		return statements.keySet().toArray( new String[0] );
+	}
+
+	@Override
+	public SqlStatementStatistics getStatementStatistics(String sql) {
+		return statements.get( sql );
+	}
+
+	@Override
+	public PreparedStatementCacheStatistics getPreparedStatementCacheStatistics() {
+		return preparedStatementCache;
+	}
+
+	@Override
+	public void clear() {
+		preparedStatementCache.clear();
+		statements.clear();
+		executionCount.reset();
+		failureCount.reset();
+		slowCount.reset();
+		translationCount.reset();
+		translationReuseCount.reset();
+	}
+
+	@Override
+	public String toString() {
+		return "SqlExecutionStatistics"
+				+ "[statisticsEnabled=" + enabled
+				+ ",executionCount=" + getExecutionCount()
+				+ ",executionFailureCount=" + getExecutionFailureCount()
+				+ ",slowExecutionCount=" + getSlowExecutionCount()
+				+ ",queryTranslationCount=" + getQueryTranslationCount()
+				+ ",queryTranslationReuseCount=" + getQueryTranslationReuseCount()
+				+ ",statements=" + statements.size()
+				+ "]";
+	}
+}
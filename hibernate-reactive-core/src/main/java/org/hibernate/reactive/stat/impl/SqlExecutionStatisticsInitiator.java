@@ -0,0 +1,33 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat.impl;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.reactive.stat.spi.SqlExecutionStatisticsImplementor;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * A Hibernate {@link StandardServiceInitiator service initiator} for
+ * the {@link SqlExecutionStatisticsImplementor} service.
+ *
+ * @see SqlExecutionStatisticsImpl
+ */
+public class SqlExecutionStatisticsInitiator implements StandardServiceInitiator<SqlExecutionStatisticsImplementor> {
+
+	public static final SqlExecutionStatisticsInitiator INSTANCE = new SqlExecutionStatisticsInitiator();
+
+	@Override
+	public SqlExecutionStatisticsImplementor initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		return new SqlExecutionStatisticsImpl();
+	}
+
+	@Override
+	public Class<SqlExecutionStatisticsImplementor> getServiceInitiated() {
+		return SqlExecutionStatisticsImplementor.class;
+	}
+}
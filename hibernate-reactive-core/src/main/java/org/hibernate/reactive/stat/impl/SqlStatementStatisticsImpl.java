@@ -0,0 +1,159 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat.impl;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.reactive.stat.SqlStatementStatistics;
+
+/**
+ * Lock-free statistics for a single SQL statement.
+ * <p>
+ * Execution times are recorded in a log-linear histogram: each
+ * power of two is split into eight sub-buckets, so that percentiles
+ * can be estimated with a relative error below 12.5% using a fixed
+ * amount of memory per statement.
+ */
+final class SqlStatementStatisticsImpl implements SqlStatementStatistics {
+
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	// About 19 hours, anything slower ends up in the last bucket
+	static final long MAX_TRACKABLE_MICROS = ( 1L << 36 ) - 1;
+	static final int BUCKET_COUNT = bucketIndex( MAX_TRACKABLE_MICROS ) + 1;
+
+	private final String sql;
+	private final LongAdder executionCount = new LongAdder();
+	private final LongAdder failureCount = new LongAdder();
+	private final LongAdder rowCount = new LongAdder();
+	private final LongAdder totalTime = new LongAdder();
+	private final LongAccumulator maxTime = new LongAccumulator( Long::max, 0L );
+	private final LongAccumulator minTime = new LongAccumulator( Long::min, Long.MAX_VALUE );
+	private final AtomicLongArray histogram = new AtomicLongArray( BUCKET_COUNT );
+
+	SqlStatementStatisticsImpl(String sql) {
+		this.sql = sql;
+	}
+
+	void executed(long micros, long rows) {
+		record( micros );
+		rowCount.add( rows );
+	}
+
+	void failed(long micros) {
+		record( micros );
+		failureCount.increment();
+	}
+
+	private void record(long micros) {
+		executionCount.increment();
+		totalTime.add( micros );
+		maxTime.accumulate( micros );
+		minTime.accumulate( micros );
+		histogram.incrementAndGet( bucketIndex( Math.min( micros, MAX_TRACKABLE_MICROS ) ) );
+	}
+
+	static int bucketIndex(long micros) {
+		if ( micros < SUB_BUCKETS ) {
+			return (int) micros;
+		}
+		final int exponent = 63 - Long.numberOfLeadingZeros( micros );
+		final int shift = exponent - SUB_BUCKET_BITS;
+		final int subBucket = (int) ( micros >>> shift ) & ( SUB_BUCKETS - 1 );
+		return ( shift + 1 ) * SUB_BUCKETS + subBucket;
+	}
+
+	/**
+	 * @return the highest value which falls in the given bucket
+	 */
+	static long bucketUpperBound(int index) {
+		if ( index < SUB_BUCKETS ) {
+			return index;
+		}
+		final int shift = index / SUB_BUCKETS - 1;
+		final long subBucket = index % SUB_BUCKETS;
+		final long lowerBound = ( SUB_BUCKETS + subBucket ) << shift;
+		return lowerBound + ( 1L << shift ) - 1;
+	}
+
+	@Override
+	public String getSql() {
+		return sql;
+	}
+
+	@Override
+	public long getExecutionCount() {
+		return executionCount.sum();
+	}
+
+	@Override
+	public long getExecutionFailureCount() {
+		return failureCount.sum();
+	}
+
+	@Override
+	public long getRowCount() {
+		return rowCount.sum();
+	}
+
+	@Override
+	public long getTotalExecutionTimeMicros() {
+		return totalTime.sum();
+	}
+
+	@Override
+	public long getMaxExecutionTimeMicros() {
+		return maxTime.get();
+	}
+
+	@Override
+	public long getMinExecutionTimeMicros() {
+		final long min = minTime.get();
+		return min == Long.MAX_VALUE ? 0 : min;
+	}
+
+	@Override
+	public long getExecutionTimePercentileMicros(double percentile) {
+		if ( percentile < 0 || percentile > 100 ) {
+			throw new IllegalArgumentException( "Percentile must be between 0 and 100: " + percentile );
+		}
+		final long[] counts = new long[BUCKET_COUNT];
+		long total = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			counts[i] = histogram.get( i );
+			total += counts[i];
+		}
+		if ( total == 0 ) {
+			return 0;
+		}
+		final long rank = Math.max( 1, (long) Math.ceil( percentile / 100 * total ) );
+		long cumulative = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			cumulative += counts[i];
+			if ( cumulative >= rank ) {
+				return Math.min( bucketUpperBound( i ), getMaxExecutionTimeMicros() );
+			}
+		}
+		return getMaxExecutionTimeMicros();
+	}
+
+	@Override
+	public String toString() {
+		return "SqlStatementStatistics"
+				+ "[sql=" + sql
+				+ ",executionCount=" + getExecutionCount()
+				+ ",executionFailureCount=" + getExecutionFailureCount()
+				+ ",rowCount=" + getRowCount()
+				+ ",totalExecutionTimeMicros=" + getTotalExecutionTimeMicros()
+				+ ",maxExecutionTimeMicros=" + getMaxExecutionTimeMicros()
+				+ ",medianExecutionTimeMicros=" + getMedianExecutionTimeMicros()
+				+ ",99thPercentileExecutionTimeMicros=" + get99thPercentileExecutionTimeMicros()
+				+ "]";
+	}
+}
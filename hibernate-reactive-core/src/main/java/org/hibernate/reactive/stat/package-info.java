@@ -0,0 +1,7 @@
+/**
+ * Runtime metrics about the SQL statements executed by Hibernate
+ * Reactive via the reactive connection pool.
+ *
+ * @see org.hibernate.reactive.stat.SqlExecutionStatistics
+ */
+package org.hibernate.reactive.stat;
@@ -0,0 +1,69 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.stat.spi;
+
+import org.hibernate.reactive.stat.SqlExecutionStatistics;
+import org.hibernate.service.Service;
+
+/**
+ * The contract used by reactive connections to report the
+ * execution of SQL statements.
+ * <p>
+ * A custom implementation may be contributed as a service, but
+ * must be cheap to call from the event loop.
+ */
+public interface SqlExecutionStatisticsImplementor extends SqlExecutionStatistics, Service {
+
+	/**
+	 * Is anything interested in the execution of SQL statements?
+	 * If not, connections skip timing statements altogether.
+	 */
+	boolean isRecording();
+
+	/**
+	 * Report the successful execution of a statement.
+	 *
+	 * @param sql the SQL statement
+	 * @param startTimeNanos the value of {@link System#nanoTime()}
+	 * when the statement was sent to the database
+	 * @param rowCount the number of rows returned or affected
+	 */
+	void statementExecuted(String sql, long startTimeNanos, long rowCount);
+
+	/**
+	 * Report the failed execution of a statement.
+	 *
+	 * @param sql the SQL statement
+	 * @param startTimeNanos the value of {@link System#nanoTime()}
+	 * when the statement was sent to the database
+	 */
+	void statementFailed(String sql, long startTimeNanos);
+
+	/**
+	 * Report that a statement is about to be executed as a prepared
+	 * statement on a connection held by a session, which might find
+	 * it in its prepared statement cache. Called whether or not
+	 * {@link #isRecording()}.
+	 *
+	 * @param sql the SQL statement
+	 */
+	void statementPrepared(String sql);
+
+	/**
+	 * Report the translation of an HQL or criteria query to SQL.
+	 *
+	 * @param reused {@code true} if a cached translation was reused
+	 */
+	void queryTranslated(boolean reused);
+
+	/**
+	 * Report that the pool opened a new connection.
+	 *
+	 * @param preparedStatementCount the number of statements prepared
+	 * on the connection before its first use
+	 */
+	void connectionOpened(int preparedStatementCount);
+}
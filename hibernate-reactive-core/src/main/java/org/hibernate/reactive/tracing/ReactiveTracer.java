@@ -0,0 +1,105 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.tracing;
+
+import org.hibernate.Incubating;
+import org.hibernate.service.Service;
+
+/**
+ * A service which is notified when Hibernate Reactive starts and
+ * finishes an observable unit of work: a {@code find()}, the
+ * execution of a query, the phases of a flush, the acquisition
+ * of a connection, or the execution of a single SQL statement.
+ * <p>
+ * Each unit of work is represented by a {@link Span}. The span
+ * which is currently open is associated with the Vert.x context
+ * of the reactive stream, and is passed as the parent of any
+ * span started while it remains open, so that, for example, the
+ * SQL statements executed by a flush are nested inside the span
+ * for the flush.
+ * <p>
+ * A custom implementation may be specified via
+ * {@link org.hibernate.reactive.provider.Settings#TRACER}. By
+ * default, a no-op implementation is used, and tracing has no
+ * measurable cost.
+ * <p>
+ * Implementations must be thread-safe, and must never block,
+ * since they're called from the event loop.
+ *
+ * @see org.hibernate.reactive.tracing.impl.RecordingTracer
+ */
+@Incubating
+public interface ReactiveTracer extends Service {
+
+	/**
+	 * The kinds of operation which are traced.
+	 */
+	enum SpanKind {
+		/**
+		 * Loading an entity by id.
+		 */
+		FIND,
+		/**
+		 * Executing a query, with its name being the query string.
+		 */
+		QUERY,
+		/**
+		 * Flushing a session.
+		 */
+		FLUSH,
+		/**
+		 * Determining the actions to be executed by a flush.
+		 */
+		FLUSH_PREPARE,
+		/**
+		 * Executing the actions scheduled by a flush.
+		 */
+		FLUSH_EXECUTE,
+		/**
+		 * Obtaining a connection from the pool, with its name being
+		 * the tenant id, or null if multitenancy is not in use.
+		 */
+		CONNECTION,
+		/**
+		 * Executing a SQL statement, with its name being the SQL.
+		 */
+		STATEMENT
+	}
+
+	/**
+	 * A unit of work which has been started.
+	 */
+	interface Span {
+		/**
+		 * Called exactly once, when the unit of work finishes.
+		 *
+		 * @param failure the exception which caused the unit of
+		 *                work to fail, or null if it succeeded
+		 */
+		void end(Throwable failure);
+	}
+
+	/**
+	 * Should spans be started at all? If this method returns
+	 * {@code false}, {@link #startSpan} is never called.
+	 */
+	default boolean isEnabled() {
+		return true;
+	}
+
+	/**
+	 * Called when a unit of work starts.
+	 *
+	 * @param kind the kind of work
+	 * @param name a description of the work, for example, an
+	 *             entity name, a query string, or a SQL statement,
+	 *             or null
+	 * @param parent the enclosing span, or null
+	 *
+	 * @return a {@link Span} which is ended when the work finishes
+	 */
+	Span startSpan(SpanKind kind, String name, Span parent);
+}
@@ -0,0 +1,31 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.tracing.impl;
+
+import org.hibernate.reactive.tracing.ReactiveTracer;
+
+/**
+ * The default {@link ReactiveTracer}, which doesn't trace anything.
+ */
+public final class NoopTracer implements ReactiveTracer {
+
+	public static final NoopTracer INSTANCE = new NoopTracer();
+
+	private static final Span NOOP_SPAN = failure -> {};
+
+	private NoopTracer() {
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return false;
+	}
+
+	@Override
+	public Span startSpan(SpanKind kind, String name, Span parent) {
+		return NOOP_SPAN;
+	}
+}
@@ -0,0 +1,70 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.tracing.impl;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.tracing.ReactiveTracer;
+import org.hibernate.service.spi.ServiceException;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * A Hibernate {@link StandardServiceInitiator service initiator} that
+ * integrates our {@link ReactiveTracer}. By default, the tracer is
+ * {@link NoopTracer}. A custom implementation may be specified via
+ * {@link Settings#TRACER}, either as an instance, a class, or the name
+ * of a class.
+ *
+ * @see ReactiveTracer
+ */
+public class ReactiveTracerInitiator implements StandardServiceInitiator<ReactiveTracer> {
+
+	public static final ReactiveTracerInitiator INSTANCE = new ReactiveTracerInitiator();
+
+	@Override
+	public ReactiveTracer initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		Object configValue = configurationValues.get( Settings.TRACER );
+		if ( configValue == null ) {
+			return NoopTracer.INSTANCE;
+		}
+
+		if ( configValue instanceof ReactiveTracer ) {
+			return (ReactiveTracer) configValue;
+		}
+		else {
+			final Class<ReactiveTracer> implClass;
+			if ( configValue instanceof Class ) {
+				implClass = (Class) configValue;
+			}
+			else {
+				final String className = configValue.toString();
+				final ClassLoaderService classLoaderService = registry.getService( ClassLoaderService.class );
+				try {
+					implClass = classLoaderService.classForName( className );
+				}
+				catch (ClassLoadingException cle) {
+					throw new ServiceException( "Unable to locate specified reactive tracer [" + className + "]" );
+				}
+			}
+
+			try {
+				return implClass.getDeclaredConstructor().newInstance();
+			}
+			catch (Exception e) {
+				throw new ServiceException( "Unable to instantiate specified reactive tracer [" + implClass.getName() + "]" );
+			}
+		}
+	}
+
+	@Override
+	public Class<ReactiveTracer> getServiceInitiated() {
+		return ReactiveTracer.class;
+	}
+}
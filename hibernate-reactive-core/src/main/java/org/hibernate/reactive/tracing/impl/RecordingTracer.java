@@ -0,0 +1,124 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.tracing.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.hibernate.reactive.tracing.ReactiveTracer;
+
+/**
+ * A {@link ReactiveTracer} which keeps every span in memory.
+ * Useful for tests, and for diagnosing the work done by a
+ * particular operation.
+ */
+public class RecordingTracer implements ReactiveTracer {
+
+	private final Queue<RecordedSpan> spans = new ConcurrentLinkedQueue<>();
+
+	@Override
+	public Span startSpan(SpanKind kind, String name, Span parent) {
+		// the parent may have been started by a different tracer
+		final RecordedSpan span = new RecordedSpan( kind, name, parent instanceof RecordedSpan ? (RecordedSpan) parent : null );
+		spans.add( span );
+		return span;
+	}
+
+	/**
+	 * @return all spans started so far, in the order they were started
+	 */
+	public List<RecordedSpan> getSpans() {
+		return new ArrayList<>( spans );
+	}
+
+	/**
+	 * @return the spans of the given kind started so far, in the order
+	 *         they were started
+	 */
+	public List<RecordedSpan> getSpans(SpanKind kind) {
+		final List<RecordedSpan> result = new ArrayList<>();
+		for ( RecordedSpan span : spans ) {
+			if ( span.getKind() == kind ) {
+				result.add( span );
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Forget all spans recorded so far.
+	 */
+	public void clear() {
+		spans.clear();
+	}
+
+	/**
+	 * A {@link Span} which remembers when it started and ended.
+	 */
+	public static final class RecordedSpan implements Span {
+		private final SpanKind kind;
+		private final String name;
+		private final RecordedSpan parent;
+		private final long startTimeNanos;
+		private volatile long endTimeNanos;
+		private volatile boolean ended;
+		private volatile Throwable failure;
+
+		private RecordedSpan(SpanKind kind, String name, RecordedSpan parent) {
+			this.kind = kind;
+			this.name = name;
+			this.parent = parent;
+			this.startTimeNanos = System.nanoTime();
+		}
+
+		@Override
+		public void end(Throwable failure) {
+			this.endTimeNanos = System.nanoTime();
+			this.failure = failure;
+			this.ended = true;
+		}
+
+		public SpanKind getKind() {
+			return kind;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return the enclosing span, or null
+		 */
+		public RecordedSpan getParent() {
+			return parent;
+		}
+
+		public boolean isEnded() {
+			return ended;
+		}
+
+		/**
+		 * @return the exception the span ended with, or null
+		 */
+		public Throwable getFailure() {
+			return failure;
+		}
+
+		/**
+		 * @return the duration of the span, or -1 if it hasn't ended
+		 */
+		public long getDurationNanos() {
+			return ended ? endTimeNanos - startTimeNanos : -1;
+		}
+
+		@Override
+		public String toString() {
+			return kind + "[" + name + "]";
+		}
+	}
+}
@@ -0,0 +1,93 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.tracing.impl;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.reactive.context.impl.BaseKey;
+import org.hibernate.reactive.session.impl.ReactiveSessionFactoryImpl;
+import org.hibernate.reactive.tracing.ReactiveTracer;
+import org.hibernate.reactive.tracing.ReactiveTracer.Span;
+import org.hibernate.reactive.tracing.ReactiveTracer.SpanKind;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Wraps asynchronous operations in {@link Span spans} of the
+ * {@link ReactiveTracer}, keeping track of the current span in
+ * the local Vert.x context.
+ * <p>
+ * The current span is the parent of every span started before
+ * it ends. Since several reactive streams may be interleaved on
+ * the same Vert.x context, spans belonging to concurrent streams
+ * may occasionally be attributed to the wrong parent.
+ */
+public final class Tracing {
+
+	private static final BaseKey<Span> CURRENT_SPAN = new BaseKey<>( Span.class, "hibernate.reactive.tracing.span" );
+
+	private Tracing() {
+	}
+
+	/**
+	 * @return the {@link ReactiveTracer} service of the given factory
+	 */
+	public static ReactiveTracer tracer(SessionFactoryImplementor factory) {
+		return factory instanceof ReactiveSessionFactoryImpl
+				? ( (ReactiveSessionFactoryImpl) factory ).getReactiveTracer()
+				: factory.getServiceRegistry().getService( ReactiveTracer.class );
+	}
+
+	/**
+	 * Run the given asynchronous operation inside a new span, if
+	 * the given tracer is {@link ReactiveTracer#isEnabled enabled}.
+	 */
+	public static <T> CompletionStage<T> trace(
+			ReactiveTracer tracer,
+			SpanKind kind,
+			String name,
+			Supplier<CompletionStage<T>> work) {
+		if ( !tracer.isEnabled() ) {
+			return work.get();
+		}
+
+		final Context context = Vertx.currentContext();
+		final Span parent = context == null ? null : context.getLocal( CURRENT_SPAN );
+		final Span span = tracer.startSpan( kind, name, parent );
+		if ( context != null ) {
+			context.putLocal( CURRENT_SPAN, span );
+		}
+
+		final CompletionStage<T> stage;
+		try {
+			stage = work.get();
+		}
+		catch (RuntimeException e) {
+			end( context, span, parent, e );
+			throw e;
+		}
+		return stage.whenComplete( (result, failure) -> end( context, span, parent, failure ) );
+	}
+
+	private static void end(Context context, Span span, Span parent, Throwable failure) {
+		// don't clobber a span started by some other stream in the meantime
+		if ( context != null && context.getLocal( CURRENT_SPAN ) == span ) {
+			if ( parent == null ) {
+				context.removeLocal( CURRENT_SPAN );
+			}
+			else {
+				context.putLocal( CURRENT_SPAN, parent );
+			}
+		}
+		span.end( failure instanceof CompletionException && failure.getCause() != null
+				? failure.getCause()
+				: failure );
+	}
+}
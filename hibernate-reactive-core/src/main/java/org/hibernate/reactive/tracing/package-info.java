@@ -0,0 +1,7 @@
+/**
+ * An SPI for observing the operations performed by Hibernate
+ * Reactive, for integration with tracing and metrics libraries.
+ *
+ * @see org.hibernate.reactive.tracing.ReactiveTracer
+ */
+package org.hibernate.reactive.tracing;
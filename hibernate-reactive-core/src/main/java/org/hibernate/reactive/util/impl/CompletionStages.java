@@ -22,8 +22,6 @@
 import org.hibernate.reactive.logging.impl.LogCategory;
 import org.hibernate.reactive.logging.impl.LoggerFactory;
 
-import static org.hibernate.reactive.util.async.impl.AsyncIterator.fromIterator;
-import static org.hibernate.reactive.util.async.impl.AsyncIterator.range;
 import static org.hibernate.reactive.util.async.impl.AsyncTrampoline.asyncWhile;
 
 public class  CompletionStages {
@@ -92,6 +90,30 @@ public static <T> CompletionStage<T> failedFuture(Throwable t) {
 		return ret;
 	}
 
+	/**
+	 * Is the given stage already completed normally, so that its result
+	 * may be obtained via {@link #getNow(CompletionStage)}?
+	 * <p>
+	 * Only instances of {@link CompletableFuture} itself are inspected,
+	 * since other implementations of {@code CompletionStage}, including
+	 * the minimal stages returned by {@link CompletableFuture#completedStage},
+	 * don't necessarily support it.
+	 */
+	private static boolean isCompletedNormally(CompletionStage<?> stage) {
+		if ( stage.getClass() == CompletableFuture.class ) {
+			final CompletableFuture<?> future = (CompletableFuture<?>) stage;
+			return future.isDone() && !future.isCompletedExceptionally();
+		}
+		return false;
+	}
+
+	/**
+	 * @return the result of a stage which {@link #isCompletedNormally is completed normally}
+	 */
+	private static <T> T getNow(CompletionStage<T> stage) {
+		return ( (CompletableFuture<T>) stage ).getNow( null );
+	}
+
 	public static <T extends Throwable, Ret> Ret rethrow(Throwable x) throws T {
 		throw (T) x;
 	}
@@ -133,9 +155,8 @@ public static void logSqlException(Throwable t, Supplier<String> message, String
 	 * </pre>
 	 */
 	public static CompletionStage<Integer> total(int start, int end, IntFunction<CompletionStage<Integer>> consumer) {
-		return range( start, end )
-				.thenCompose( i -> consumer.apply( i.intValue() ) )
-				.fold( 0, Integer::sum );
+		final Total total = new Total();
+		return total.of( loop( start, end, index -> total.add( consumer.apply( index ) ) ) );
 	}
 
 	/**
@@ -148,9 +169,29 @@ public static CompletionStage<Integer> total(int start, int end, IntFunction<Com
 	 * </pre>
 	 */
 	public static <T> CompletionStage<Integer> total(Iterator<T> iterator, Function<T,CompletionStage<Integer>> consumer) {
-		return fromIterator( iterator )
-				.thenCompose( consumer )
-				.fold( 0, Integer::sum );
+		final Total total = new Total();
+		return total.of( loop( iterator, (next, index) -> total.add( consumer.apply( next ) ) ) );
+	}
+
+	/**
+	 * The running sum of a {@code total()} loop.
+	 */
+	private static class Total {
+		private int sum;
+
+		CompletionStage<?> add(CompletionStage<Integer> stage) {
+			if ( isCompletedNormally( stage ) ) {
+				sum += getNow( stage );
+				return VOID;
+			}
+			return stage.thenAccept( value -> sum += value );
+		}
+
+		CompletionStage<Integer> of(CompletionStage<Void> loop) {
+			return loop == VOID
+					? completedFuture( sum )
+					: loop.thenApply( v -> sum );
+		}
 	}
 
 	/**
@@ -219,8 +260,7 @@ public static <T> CompletionStage<Void> loop(Iterator<T> iterator, IntBiFunction
 	 */
 	public static <T> CompletionStage<Void> loop(Iterator<T> iterator, IntBiPredicate<T> filter, IntBiFunction<T, CompletionStage<?>> consumer) {
 		if ( iterator.hasNext() ) {
-			final IndexedIteratorLoop<T> loop = new IndexedIteratorLoop<>( iterator, filter, consumer );
-			return asyncWhile( loop::next );
+			return new IndexedIteratorLoop<>( iterator, filter, consumer ).run();
 		}
 		return voidFuture();
 	}
@@ -252,7 +292,7 @@ public static <U> U nullFuture(Void unused) {
 	 * @see org.hibernate.reactive.util.async.impl.AsyncTrampoline
 	 * @param <T> the class of the elements in the iterator
 	 */
-	private static class IndexedIteratorLoop<T> {
+	private static class IndexedIteratorLoop<T> extends Loop {
 		private final IntBiPredicate<T> filter;
 		private final IntBiFunction<T, CompletionStage<?>> consumer;
 		private final Iterator<T> iterator;
@@ -265,12 +305,13 @@ public IndexedIteratorLoop(Iterator<T> iterator, IntBiPredicate<T> filter, IntBi
 			this.consumer = consumer;
 		}
 
-		public CompletionStage<Boolean> next() {
-			if ( hasNext() ) {
-				final T entry = currentEntry;
-				final int index = currentIndex;
-				return consumer.apply( entry, index )
-						.thenCompose( CompletionStages::alwaysContinue );
+		@Override
+		CompletionStage<Boolean> next() {
+			while ( hasNext() ) {
+				final CompletionStage<?> stage = consumer.apply( currentEntry, currentIndex );
+				if ( !isCompletedNormally( stage ) ) {
+					return stage.thenCompose( CompletionStages::alwaysContinue );
+				}
 			}
 			return FALSE;
 		}
@@ -351,8 +392,7 @@ public static <T> CompletionStage<Void> whileLoop(T[] array, Function<T, Complet
 
 	public static CompletionStage<Void> whileLoop(int start, int end, IntPredicate filter, IntFunction<CompletionStage<Boolean>> consumer) {
 		if ( start < end ) {
-			final ArrayLoop loop = new ArrayLoop( start, end, filter, consumer);
-			return asyncWhile( loop::next );
+			return new ArrayLoop( start, end, filter, consumer, true ).run();
 		}
 		return voidFuture();
 	}
@@ -369,26 +409,73 @@ public static CompletionStage<Void> whileLoop(int start, int end, IntPredicate f
 	 */
 	public static CompletionStage<Void> loop(int start, int end, IntPredicate filter, IntFunction<CompletionStage<?>> consumer) {
 		if ( start < end ) {
-			final ArrayLoop loop = new ArrayLoop( start, end, filter, index -> consumer
-					.apply( index ).thenCompose( CompletionStages::alwaysContinue ) );
-			return asyncWhile( loop::next );
+			return new ArrayLoop( start, end, filter, consumer, false ).run();
 		}
 		return voidFuture();
 	}
 
 	public static CompletionStage<Void> whileLoop(Supplier<CompletionStage<Boolean>> loopSupplier) {
-		return asyncWhile( loopSupplier::get );
+		return new Loop() {
+			@Override
+			CompletionStage<Boolean> next() {
+				while ( true ) {
+					final CompletionStage<Boolean> stage = loopSupplier.get();
+					if ( !isCompletedNormally( stage ) ) {
+						return stage;
+					}
+					if ( !getNow( stage ) ) {
+						return FALSE;
+					}
+				}
+			}
+		}.run();
 	}
 
 	public static CompletionStage<Void> whileLoop(Supplier<Boolean> whileCondition, Supplier<CompletionStage<?>> loopSupplier) {
 		if ( whileCondition.get() ) {
-			final WhileLoop whileLoop = new WhileLoop( whileCondition, loopSupplier );
-			return asyncWhile( whileLoop::next );
+			return new WhileLoop( whileCondition, loopSupplier ).run();
 		}
 		return voidFuture();
 	}
 
-	private static class WhileLoop {
+	/**
+	 * A loop which runs synchronously for as long as each iteration
+	 * returns a stage which is already completed, as is the case for
+	 * most cascades, flushes, and loads. Only when an iteration returns
+	 * a pending stage does the loop suspend, and resume via the stack-safe
+	 * {@link org.hibernate.reactive.util.async.impl.AsyncTrampoline}.
+	 * So iterations which complete synchronously cost neither a
+	 * {@code CompletableFuture} nor a stack frame.
+	 */
+	private abstract static class Loop {
+
+		/**
+		 * Run iterations until the loop terminates, or until an
+		 * iteration returns a stage which is not yet completed.
+		 *
+		 * @return {@link #FALSE} if the loop has terminated, or else a
+		 *         stage which completes with {@code true} if the loop
+		 *         should continue
+		 */
+		abstract CompletionStage<Boolean> next();
+
+		final CompletionStage<Void> run() {
+			final CompletionStage<Boolean> next;
+			try {
+				next = next();
+			}
+			catch (Throwable t) {
+				return failedFuture( t );
+			}
+			return next == FALSE ? VOID : next.thenCompose( this::resume );
+		}
+
+		private CompletionStage<Void> resume(boolean proceed) {
+			return proceed ? asyncWhile( this::next ) : VOID;
+		}
+	}
+
+	private static class WhileLoop extends Loop {
 
 		private final Supplier<CompletionStage<?>> loopSupplier;
 
@@ -399,9 +486,13 @@ public WhileLoop(Supplier<Boolean> whileCondition, Supplier<CompletionStage<?>>
 			this.whileCondition = whileCondition;
 		}
 
-		public CompletionStage<Boolean> next() {
-			if ( whileCondition.get() ) {
-				return loopSupplier.get().thenCompose( ignore -> TRUE );
+		@Override
+		CompletionStage<Boolean> next() {
+			while ( whileCondition.get() ) {
+				final CompletionStage<?> stage = loopSupplier.get();
+				if ( !isCompletedNormally( stage ) ) {
+					return stage.thenCompose( CompletionStages::alwaysContinue );
+				}
 			}
 			return FALSE;
 		}
@@ -413,6 +504,14 @@ public CompletionStage<Boolean> next() {
 	 * Equivalent to:
 	 * <pre>
 	 * for ( int i = start; i < end; i++ ) {
+	 *   if ( filter.test( i ) ) {
+	 *      consumer.apply( i );
+	 *   }
+	 * }
+	 * </pre>
+	 * or, if {@code breakOnFalse} is set, to:
+	 * <pre>
+	 * for ( int i = start; i < end; i++ ) {
 	 *   if ( filter.test( i ) ) && !consumer.apply( i ) {
 	 *      break;
 	 *   }
@@ -424,27 +523,40 @@ public CompletionStage<Boolean> next() {
 	 * use an {@code AsyncTrampoline#asyncWhile} via method reference.
 	 * </p>
 	 */
-	private static class ArrayLoop {
+	private static class ArrayLoop extends Loop {
 
 		private final IntPredicate filter;
 
-		private final IntFunction<CompletionStage<Boolean>> consumer;
+		private final IntFunction<? extends CompletionStage<?>> consumer;
+
+		// if true, the consumer returns a CompletionStage<Boolean>,
+		// and the loop terminates when it completes with false
+		private final boolean breakOnFalse;
 
 		private final int end;
 		private int current;
 
-		public ArrayLoop(int start, int end, IntPredicate filter, IntFunction<CompletionStage<Boolean>> consumer) {
+		public ArrayLoop(int start, int end, IntPredicate filter, IntFunction<? extends CompletionStage<?>> consumer, boolean breakOnFalse) {
 			this.end = end;
 			this.filter = filter;
 			this.consumer = consumer;
+			this.breakOnFalse = breakOnFalse;
 			this.current = start;
 		}
 
-		public CompletionStage<Boolean> next() {
-			current = next( current );
-			if ( current < end ) {
-				final int index = current++;
-				return consumer.apply( index );
+		@Override
+		@SuppressWarnings("unchecked")
+		CompletionStage<Boolean> next() {
+			while ( ( current = next( current ) ) < end ) {
+				final CompletionStage<?> stage = consumer.apply( current++ );
+				if ( !isCompletedNormally( stage ) ) {
+					return breakOnFalse
+							? (CompletionStage<Boolean>) stage
+							: stage.thenCompose( CompletionStages::alwaysContinue );
+				}
+				if ( breakOnFalse && !( (Boolean) getNow( stage ) ) ) {
+					return FALSE;
+				}
 			}
 			return FALSE;
 		}
@@ -0,0 +1,167 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.testing.DatabaseSelectionRule;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.ext.unit.TestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+import static org.hibernate.reactive.testing.DatabaseSelectionRule.runOnlyFor;
+
+/**
+ * Checks that, with {@link Settings#ARRAY_PARAMETER_IN_LIST}, batches
+ * of ids are bound as one array parameter, and so the SQL doesn't
+ * depend on the size of the batch.
+ */
+public class ArrayParameterInListTest extends BaseReactiveTest {
+
+	@Rule
+	public DatabaseSelectionRule rule = runOnlyFor( POSTGRESQL );
+
+	private static SqlStatementTracker sqlTracker;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Author.class, Book.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.ARRAY_PARAMETER_IN_LIST, "true" );
+		sqlTracker = new SqlStatementTracker( ArrayParameterInListTest::isSelect, configuration.getProperties() );
+		return configuration;
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
+	private static boolean isSelect(String sql) {
+		return sql.toLowerCase().startsWith( "select " );
+	}
+
+	private Uni<Void> populateDb() {
+		Author hemingway = new Author( 1, "Ernest Hemingway" );
+		Author fitzgerald = new Author( 2, "F. Scott Fitzgerald" );
+		Author steinbeck = new Author( 3, "John Steinbeck" );
+		return getMutinySessionFactory().withTransaction( s -> s.persistAll(
+				hemingway,
+				fitzgerald,
+				steinbeck,
+				new Book( 1, "The Sun Also Rises", hemingway ),
+				new Book( 2, "The Great Gatsby", fitzgerald ),
+				new Book( 3, "Tender Is the Night", fitzgerald ),
+				new Book( 4, "East of Eden", steinbeck )
+		) );
+	}
+
+	@Test
+	public void testFindMultipleIds(TestContext context) {
+		test(
+				context,
+				populateDb()
+						.invoke( () -> sqlTracker.clear() )
+						.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Author.class, 1, 2 ) ) )
+						.invoke( authors -> assertThat( authors ).hasSize( 2 ) )
+						.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Author.class, 1, 2, 3 ) ) )
+						.invoke( authors -> {
+							assertThat( authors ).extracting( author -> author.name )
+									.containsExactly( "Ernest Hemingway", "F. Scott Fitzgerald", "John Steinbeck" );
+							assertThat( sqlTracker.getLoggedQueries() ).hasSize( 2 );
+							assertThat( sqlTracker.getLoggedQueries().get( 0 ) )
+									.contains( "any(" )
+									.isEqualTo( sqlTracker.getLoggedQueries().get( 1 ) );
+						} )
+		);
+	}
+
+	@Test
+	public void testBatchFetchCollections(TestContext context) {
+		test(
+				context,
+				populateDb()
+						.chain( () -> getMutinySessionFactory().withSession( s -> s
+								.createQuery( "from Author order by id", Author.class ).getResultList()
+								.invoke( () -> sqlTracker.clear() )
+								.call( authors -> Mutiny.fetch( authors.get( 0 ).books ) )
+								.invoke( authors -> {
+									assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+									assertThat( sqlTracker.getLoggedQueries().get( 0 ) ).contains( "any(" );
+									for ( Author author : authors ) {
+										assertThat( Hibernate.isInitialized( author.books ) ).isTrue();
+									}
+									assertThat( authors.get( 1 ).books ).hasSize( 2 );
+								} )
+						) )
+		);
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "array_author")
+	static class Author {
+		@Id
+		Integer id;
+		String name;
+
+		@OneToMany(mappedBy = "author", fetch = FetchType.LAZY)
+		@BatchSize(size = 10)
+		List<Book> books = new ArrayList<>();
+
+		Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		Author() {
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "array_book")
+	static class Book {
+		@Id
+		Integer id;
+		String title;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Author author;
+
+		Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+			author.books.add( this );
+		}
+
+		Book() {
+		}
+	}
+}
@@ -17,6 +17,7 @@
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
 import org.hibernate.cfg.Configuration;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.reactive.blocking.Blocking;
 import org.hibernate.reactive.containers.DatabaseConfiguration;
 import org.hibernate.reactive.containers.DatabaseConfiguration.DBType;
 import org.hibernate.reactive.mutiny.Mutiny;
@@ -401,6 +402,10 @@ protected static Mutiny.SessionFactory getMutinySessionFactory() {
 		return factoryManager.getHibernateSessionFactory().unwrap( Mutiny.SessionFactory.class );
 	}
 
+	protected static Blocking.SessionFactory getBlockingSessionFactory() {
+		return factoryManager.getHibernateSessionFactory().unwrap( Blocking.SessionFactory.class );
+	}
+
 	private <T> T saveSession(T newSession) {
 		this.session = newSession;
 		return newSession;
@@ -0,0 +1,221 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.ext.unit.TestContext;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the snapshots needed to determine if detached entities
+ * with assigned ids are transient are fetched with a single query,
+ * even when they're referenced by many different entities.
+ */
+public class BatchedSnapshotTest extends BaseReactiveTest {
+
+	private static SqlStatementTracker sqlTracker;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Household.class, Owner.class, Pet.class );
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( Household.class, Owner.class, Pet.class ) );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		sqlTracker = new SqlStatementTracker( BatchedSnapshotTest::isSelect, configuration.getProperties() );
+		return configuration;
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
+	private static boolean isSelect(String sql) {
+		return sql.toLowerCase().startsWith( "select " );
+	}
+
+	@Test
+	public void testSnapshotsFetchedInOneQuery(TestContext context) {
+		test(
+				context,
+				getMutinySessionFactory()
+						.withTransaction( s -> s.persistAll( new Pet( 1, "Cat" ), new Pet( 2, "Dog" ), new Pet( 3, "Fish" ) ) )
+						.invoke( () -> sqlTracker.clear() )
+						.chain( () -> getMutinySessionFactory().withTransaction( s -> {
+							// detached instances, which aren't associated with the session
+							Owner owner = new Owner( 1, "Gavin" );
+							owner.cat = new Pet( 1, "Cat" );
+							owner.dog = new Pet( 2, "Dog" );
+							owner.fish = new Pet( 3, "Fish" );
+							return s.persist( owner );
+						} ) )
+						.invoke( () -> {
+							assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+							assertThat( sqlTracker.getLoggedQueries().get( 0 ).toLowerCase() ).contains( " in " );
+						} )
+						.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Owner.class, 1 ) ) )
+						.invoke( owner -> {
+							assertThat( owner.cat.name ).isEqualTo( "Cat" );
+							assertThat( owner.dog.name ).isEqualTo( "Dog" );
+							assertThat( owner.fish.name ).isEqualTo( "Fish" );
+						} )
+		);
+	}
+
+	@Test
+	public void testSingleSnapshotNotBatched(TestContext context) {
+		test(
+				context,
+				persistPets( 1 )
+						.chain( () -> getMutinySessionFactory().withTransaction( s -> {
+							Owner owner = new Owner( 1, "Gavin" );
+							owner.cat = new Pet( 1, "Pet 1" );
+							return s.persist( owner );
+						} ) )
+						.invoke( () -> {
+							// fetched once, by the check itself, not by the batch
+							assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+							assertThat( sqlTracker.getLoggedQueries().get( 0 ).toLowerCase() ).doesNotContain( " in " );
+						} )
+		);
+	}
+
+	@Test
+	public void testSnapshotsForManyEntitiesFetchedInOneQuery(TestContext context) {
+		test(
+				context,
+				persistPets( 10 )
+						.chain( () -> getMutinySessionFactory().withTransaction( s -> {
+							// each owner references one detached pet
+							List<Owner> owners = new ArrayList<>();
+							for ( int i = 1; i <= 10; i++ ) {
+								Owner owner = new Owner( i, "Owner " + i );
+								owner.cat = new Pet( i, "Pet " + i );
+								owners.add( owner );
+							}
+							return s.persistAll( owners.toArray() );
+						} ) )
+						.invoke( () -> assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 ) )
+						.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Owner.class, 10 ) ) )
+						.invoke( owner -> assertThat( owner.cat.name ).isEqualTo( "Pet 10" ) )
+		);
+	}
+
+	@Test
+	public void testSnapshotsForWholeCascadeFetchedInOneQuery(TestContext context) {
+		test(
+				context,
+				persistPets( 10 )
+						.chain( () -> getMutinySessionFactory().withTransaction( s -> {
+							// the owners are persisted by cascade, and each
+							// references one detached pet
+							Household household = new Household( 1 );
+							for ( int i = 1; i <= 10; i++ ) {
+								Owner owner = new Owner( i, "Owner " + i );
+								owner.cat = new Pet( i, "Pet " + i );
+								household.owners.add( owner );
+							}
+							return s.persist( household );
+						} ) )
+						.invoke( () -> assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 ) )
+						.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Owner.class, 10 ) ) )
+						.invoke( owner -> assertThat( owner.cat.name ).isEqualTo( "Pet 10" ) )
+		);
+	}
+
+	private static Uni<Void> persistPets(int count) {
+		final Pet[] pets = new Pet[count];
+		for ( int i = 0; i < count; i++ ) {
+			pets[i] = new Pet( i + 1, "Pet " + ( i + 1 ) );
+		}
+		return getMutinySessionFactory()
+				.withTransaction( s -> s.persistAll( (Object[]) pets ) )
+				.invoke( () -> sqlTracker.clear() );
+	}
+
+	@Entity(name = "Household")
+	@Table(name = "snapshot_household")
+	static class Household {
+		@Id
+		Integer id;
+
+		@OneToMany(cascade = CascadeType.PERSIST)
+		@JoinColumn(name = "household_id")
+		List<Owner> owners = new ArrayList<>();
+
+		Household(Integer id) {
+			this.id = id;
+		}
+
+		Household() {
+		}
+	}
+
+	@Entity(name = "Owner")
+	@Table(name = "snapshot_owner")
+	static class Owner {
+		@Id
+		Integer id;
+		String name;
+
+		@ManyToOne
+		Pet cat;
+		@ManyToOne
+		Pet dog;
+		@ManyToOne
+		Pet fish;
+
+		Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		Owner() {
+		}
+	}
+
+	@Entity(name = "Pet")
+	@Table(name = "snapshot_pet")
+	static class Pet {
+		@Id
+		Integer id;
+		String name;
+
+		Pet(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		Pet() {
+		}
+	}
+}
@@ -0,0 +1,175 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import org.hibernate.reactive.blocking.Blocking;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests the {@link Blocking} API. Blocking sessions are used from a
+ * thread of the common pool, since they may not be used from a thread
+ * with a Vert.x context.
+ */
+public class BlockingSessionTest extends BaseReactiveTest {
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( GuineaPig.class );
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( GuineaPig.class ) );
+	}
+
+	private static <T> CompletionStage<T> blocking(Supplier<T> work) {
+		return CompletableFuture.supplyAsync( work );
+	}
+
+	@Test
+	public void testPersistAndFind(TestContext context) {
+		test( context, blocking( () -> {
+			final Blocking.SessionFactory factory = getBlockingSessionFactory();
+			factory.withTransaction( session -> {
+				session.persist( new GuineaPig( 1, "Aloi" ) );
+				return null;
+			} );
+			return factory.withSession( session -> session.find( GuineaPig.class, 1 ) );
+		} ).thenAccept( pig -> assertThat( pig ).isEqualTo( new GuineaPig( 1, "Aloi" ) ) ) );
+	}
+
+	@Test
+	public void testQueries(TestContext context) {
+		test( context, blocking( () -> {
+			final Blocking.SessionFactory factory = getBlockingSessionFactory();
+			factory.withStatelessTransaction( session -> {
+				session.insert( 2, new GuineaPig( 1, "Aloi" ), new GuineaPig( 2, "Bibi" ) );
+				return null;
+			} );
+			final int updated = factory.withTransaction( session -> session
+					.createQuery( "update GuineaPig set name = upper(name)" )
+					.executeUpdate() );
+			assertThat( updated ).isEqualTo( 2 );
+			return factory.withSession( session -> session
+					.createQuery( "from GuineaPig where id > :id order by id", GuineaPig.class )
+					.setParameter( "id", 0 )
+					.getResultList() );
+		} ).thenAccept( pigs -> assertThat( pigs )
+				.containsExactly( new GuineaPig( 1, "ALOI" ), new GuineaPig( 2, "BIBI" ) ) ) );
+	}
+
+	@Test
+	public void testRollbackOnException(TestContext context) {
+		test( context, blocking( () -> {
+			final Blocking.SessionFactory factory = getBlockingSessionFactory();
+			assertThatThrownBy( () -> factory.withTransaction( session -> {
+				session.persist( new GuineaPig( 1, "Aloi" ) );
+				throw new IllegalArgumentException( "rollback" );
+			} ) ).isInstanceOf( IllegalArgumentException.class );
+			return factory.withSession( session -> session.find( GuineaPig.class, 1 ) );
+		} ).thenAccept( pig -> assertThat( pig ).isNull() ) );
+	}
+
+	@Test
+	public void testMarkForRollback(TestContext context) {
+		test( context, blocking( () -> {
+			final Blocking.SessionFactory factory = getBlockingSessionFactory();
+			factory.withTransaction( (session, transaction) -> {
+				session.persist( new GuineaPig( 1, "Aloi" ) );
+				transaction.markForRollback();
+				return null;
+			} );
+			return factory.withSession( session -> session.find( GuineaPig.class, 1 ) );
+		} ).thenAccept( pig -> assertThat( pig ).isNull() ) );
+	}
+
+	@Test
+	public void testUseOnEventLoopFails(TestContext context) {
+		test( context, getSessionFactory().withSession( session -> {
+			assertThatThrownBy( () -> getBlockingSessionFactory().openSession() )
+					.isInstanceOf( IllegalStateException.class )
+					.hasMessageContaining( "HR000088" );
+			return CompletableFuture.completedFuture( null );
+		} ) );
+	}
+
+	@Test
+	public void testUseOnWorkerThreadFails(TestContext context) {
+		final CompletableFuture<Void> future = new CompletableFuture<>();
+		vertxContextRule.vertx().executeBlocking(
+				promise -> {
+					assertThatThrownBy( () -> getBlockingSessionFactory().openSession() )
+							.isInstanceOf( IllegalStateException.class )
+							.hasMessageContaining( "HR000088" );
+					promise.complete();
+				},
+				event -> {
+					if ( event.succeeded() ) {
+						future.complete( null );
+					}
+					else {
+						future.completeExceptionally( event.cause() );
+					}
+				}
+		);
+		test( context, future );
+	}
+
+	@Entity(name = "GuineaPig")
+	@Table(name = "BST_Pig")
+	public static class GuineaPig {
+		@Id
+		private Integer id;
+		private String name;
+
+		public GuineaPig() {
+		}
+
+		public GuineaPig(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			GuineaPig guineaPig = (GuineaPig) o;
+			return Objects.equals( id, guineaPig.id ) && Objects.equals( name, guineaPig.name );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( id, name );
+		}
+
+		@Override
+		public String toString() {
+			return id + ":" + name;
+		}
+	}
+}
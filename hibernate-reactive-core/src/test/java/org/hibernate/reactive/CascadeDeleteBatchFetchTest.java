@@ -0,0 +1,160 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+
+import org.junit.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.ext.unit.TestContext;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the lazy collections of all the entities removed by
+ * {@code removeAll()} are fetched with a single query before the
+ * cascade, instead of one query for each entity.
+ */
+public class CascadeDeleteBatchFetchTest extends BaseReactiveTest {
+
+	private static SqlStatementTracker sqlTracker;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Parent.class, Child.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		sqlTracker = new SqlStatementTracker( CascadeDeleteBatchFetchTest::isSelect, configuration.getProperties() );
+		return configuration;
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
+	private static boolean isSelect(String sql) {
+		return sql.toLowerCase().startsWith( "select " );
+	}
+
+	@Test
+	public void testRemoveAllFetchesCollectionsInOneQuery(TestContext context) {
+		List<Object> parents = new ArrayList<>();
+		for ( int i = 1; i <= 3; i++ ) {
+			Parent parent = new Parent( i, "parent" + i );
+			parent.children.add( new Child( i * 10 + 1, parent ) );
+			parent.children.add( new Child( i * 10 + 2, parent ) );
+			parents.add( parent );
+		}
+
+		test(
+				context,
+				getMutinySessionFactory()
+						.withTransaction( s -> s.persistAll( parents.toArray() ) )
+						.chain( () -> getMutinySessionFactory().withTransaction( s -> s
+								.createQuery( "from Parent", Parent.class ).getResultList()
+								.invoke( () -> sqlTracker.clear() )
+								.chain( list -> s.removeAll( list.toArray() ) )
+						) )
+						.invoke( () -> assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 ) )
+						.chain( () -> getMutinySessionFactory().withSession( s -> s
+								.createQuery( "select count(*) from Child", Long.class ).getSingleResult()
+						) )
+						.invoke( count -> assertThat( count ).isEqualTo( 0L ) )
+		);
+	}
+
+	@Test
+	public void testBatchesOfSimilarSizeReuseTheSameQuery(TestContext context) {
+		List<Object> parents = new ArrayList<>();
+		for ( int i = 1; i <= 7; i++ ) {
+			Parent parent = new Parent( i, "parent" + i );
+			parent.children.add( new Child( i * 10 + 1, parent ) );
+			parents.add( parent );
+		}
+
+		test(
+				context,
+				getMutinySessionFactory()
+						.withTransaction( s -> s.persistAll( parents.toArray() ) )
+						.invoke( () -> sqlTracker.clear() )
+						// three collections, and then four, are loaded by the same select
+						.chain( () -> removeParents( 1, 3 ) )
+						.chain( () -> removeParents( 4, 7 ) )
+						.invoke( () -> {
+							List<String> childQueries = sqlTracker.getLoggedQueries().stream()
+									.filter( sql -> sql.contains( "batch_delete_child" ) )
+									.collect( toList() );
+							assertThat( childQueries ).hasSize( 2 );
+							assertThat( childQueries.get( 1 ) ).isEqualTo( childQueries.get( 0 ) );
+						} )
+		);
+	}
+
+	private static Uni<Void> removeParents(int first, int last) {
+		return getMutinySessionFactory().withTransaction( s -> s
+				.createQuery( "from Parent where id between :first and :last", Parent.class )
+				.setParameter( "first", first )
+				.setParameter( "last", last )
+				.getResultList()
+				.chain( list -> s.removeAll( list.toArray() ) )
+		);
+	}
+
+	@Entity(name = "Parent")
+	@Table(name = "batch_delete_parent")
+	static class Parent {
+		@Id
+		Integer id;
+		String name;
+
+		@OneToMany(mappedBy = "parent", cascade = CascadeType.ALL)
+		List<Child> children = new ArrayList<>();
+
+		Parent(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		Parent() {
+		}
+	}
+
+	@Entity(name = "Child")
+	@Table(name = "batch_delete_child")
+	static class Child {
+		@Id
+		Integer id;
+
+		@ManyToOne
+		Parent parent;
+
+		Child(Integer id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+
+		Child() {
+		}
+	}
+}
@@ -12,6 +12,7 @@
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.stream.IntStream;
 
@@ -28,6 +29,7 @@
 import static org.hibernate.reactive.util.impl.CompletionStages.loop;
 import static org.hibernate.reactive.util.impl.CompletionStages.total;
 import static org.hibernate.reactive.util.impl.CompletionStages.voidFuture;
+import static org.hibernate.reactive.util.impl.CompletionStages.whileLoop;
 
 /**
  * Tests the utility methods in {@link org.hibernate.reactive.util.impl.CompletionStages}
@@ -179,6 +181,54 @@ public void testLoopOnCollectionWithFilter(TestContext context) {
 		).thenAccept( v -> assertThat( looped ).containsExactly( "c" ) ) );
 	}
 
+	@Test
+	public void testLoopWithPendingStages(TestContext context) {
+		test( context, loop( 0, entries.length, index -> index % 2 == 0
+				? CompletableFuture.runAsync( () -> looped.add( entries[index] ) )
+				: completedFuture( looped.add( entries[index] ) ) )
+				.thenAccept( v -> assertThat( looped ).containsExactly( entries ) ) );
+	}
+
+	@Test
+	public void testTotalWithPendingStages(TestContext context) {
+		test( context, total( 0, entries.length, index -> index % 2 == 0
+				? CompletableFuture.supplyAsync( () -> index )
+				: completedFuture( index ) )
+				.thenAccept( total -> assertThat( total ).isEqualTo( IntStream.range( 0, entries.length ).sum() ) ) );
+	}
+
+	@Test
+	public void testLoopIsStackSafe(TestContext context) {
+		final int iterations = 100_000;
+		final int[] count = { 0, 0 };
+		test( context, loop( 0, iterations, index -> completedFuture( count[0]++ ) )
+				// minimal stages can't be inspected, so these iterations go via the trampoline
+				.thenCompose( v -> loop( 0, iterations, index -> CompletableFuture.completedStage( count[1]++ ) ) )
+				.thenAccept( v -> assertThat( count ).containsExactly( iterations, iterations ) ) );
+	}
+
+	@Test
+	public void testLoopWithException(TestContext context) {
+		final CompletionStage<Void> loop = loop( 0, entries.length, index -> {
+			if ( index == 2 ) {
+				throw new IllegalStateException( "failed at index " + index );
+			}
+			return completedFuture( looped.add( entries[index] ) );
+		} );
+		test( context, loop.handle( (v, e) -> {
+			assertThat( e ).isInstanceOf( IllegalStateException.class );
+			assertThat( looped ).containsExactly( "a", "b" );
+			return null;
+		} ) );
+	}
+
+	@Test
+	public void testWhileLoopBreaksOnFalse(TestContext context) {
+		test( context, whileLoop( 0, entries.length, index -> true,
+				index -> completedFuture( looped.add( entries[index] ) && index < 2 ) )
+				.thenAccept( v -> assertThat( looped ).containsExactly( "a", "b", "c" ) ) );
+	}
+
 	private static Iterator<Object> iterator(Object[] entries) {
 		return asList( entries ).iterator();
 	}
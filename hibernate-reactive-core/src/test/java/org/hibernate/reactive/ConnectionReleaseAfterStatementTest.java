@@ -0,0 +1,140 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test that, with {@code DELAYED_ACQUISITION_AND_RELEASE_AFTER_STATEMENT},
+ * a session only holds a connection while it executes a statement, or
+ * while a transaction is in progress, so that several sessions can share
+ * a pool with a single connection.
+ */
+public class ConnectionReleaseAfterStatementTest extends BaseReactiveTest {
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Hobbit.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.POOL_SIZE, "1" );
+		configuration.setProperty( AvailableSettings.CONNECTION_HANDLING, "DELAYED_ACQUISITION_AND_RELEASE_AFTER_STATEMENT" );
+		return configuration;
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( Hobbit.class ) );
+	}
+
+	@Test
+	public void testSessionsShareTheConnection(TestContext context) {
+		final Hobbit frodo = new Hobbit( 1, "Frodo" );
+		final Hobbit sam = new Hobbit( 2, "Sam" );
+		test( context, getSessionFactory().withTransaction( session -> session.persist( frodo, sam ) )
+				.thenCompose( v -> getSessionFactory().openSession() )
+				.thenCompose( first -> getSessionFactory().openSession()
+						.thenCompose( second -> first.find( Hobbit.class, frodo.id )
+								.thenAccept( result -> assertThat( result ).isEqualTo( frodo ) )
+								// with the connection held by the first session, this would wait forever
+								.thenCompose( v -> second.find( Hobbit.class, sam.id ) )
+								.thenAccept( result -> assertThat( result ).isEqualTo( sam ) )
+								.thenCompose( v -> first.createQuery( "from Hobbit order by id", Hobbit.class )
+										.getResultList() )
+								.thenAccept( results -> assertThat( results ).containsExactly( frodo, sam ) )
+								.thenCompose( v -> second.close() ) )
+						.thenCompose( v -> first.close() ) )
+		);
+	}
+
+	@Test
+	public void testTransactionKeepsTheConnection(TestContext context) {
+		final Hobbit frodo = new Hobbit( 1, "Frodo" );
+		test( context, getSessionFactory().openSession()
+				.thenCompose( session -> session
+						.withTransaction( tx -> session.persist( frodo )
+								.thenCompose( v -> session.flush() )
+								// the row is only visible to the connection of the transaction
+								.thenCompose( v -> session.createQuery( "select count(*) from Hobbit", Long.class )
+										.getSingleResult() )
+								.thenAccept( count -> assertThat( count ).isEqualTo( 1L ) ) )
+						.thenCompose( v -> getSessionFactory().withSession( other -> other.find( Hobbit.class, frodo.id ) ) )
+						.thenAccept( result -> assertThat( result ).isEqualTo( frodo ) )
+						.thenCompose( v -> session.close() ) )
+		);
+	}
+
+	@Test
+	public void testStatelessSessionsShareTheConnection(TestContext context) {
+		final Hobbit frodo = new Hobbit( 1, "Frodo" );
+		test( context, getSessionFactory().withStatelessTransaction( session -> session.insert( frodo ) )
+				.thenCompose( v -> getSessionFactory().openStatelessSession() )
+				.thenCompose( first -> getSessionFactory().withStatelessSession( second -> first
+								.get( Hobbit.class, frodo.id )
+								.thenCompose( result -> second.get( Hobbit.class, result.id ) ) )
+						.thenAccept( result -> assertThat( result ).isEqualTo( frodo ) )
+						.thenCompose( v -> first.close() ) )
+		);
+	}
+
+	@Entity(name = "Hobbit")
+	@Table(name = "Hobbit")
+	public static class Hobbit {
+		@Id
+		Integer id;
+
+		String name;
+
+		public Hobbit() {
+		}
+
+		public Hobbit(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			Hobbit hobbit = (Hobbit) o;
+			return Objects.equals( name, hobbit.name );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( name );
+		}
+
+		@Override
+		public String toString() {
+			return id + ":" + name;
+		}
+	}
+}
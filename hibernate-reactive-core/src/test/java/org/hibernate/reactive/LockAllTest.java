@@ -0,0 +1,114 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.LockMode;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that {@code lockAll()} locks several entities with a single
+ * statement.
+ */
+public class LockAllTest extends BaseReactiveTest {
+
+	private static SqlStatementTracker sqlTracker;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Item.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		sqlTracker = new SqlStatementTracker( LockAllTest::isSelect, configuration.getProperties() );
+		return configuration;
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
+	private static boolean isSelect(String sql) {
+		return sql.toLowerCase().startsWith( "select " );
+	}
+
+	@Test
+	public void testLockAllWithMutiny(TestContext context) {
+		test(
+				context,
+				getMutinySessionFactory()
+						.withTransaction( s -> s.persistAll( new Item( 1, "pen" ), new Item( 2, "ink" ), new Item( 3, "pad" ) ) )
+						.chain( () -> getMutinySessionFactory().withTransaction( s -> s
+								.createQuery( "from Item order by id", Item.class ).getResultList()
+								.invoke( () -> sqlTracker.clear() )
+								.call( items -> s.lockAll( LockMode.PESSIMISTIC_WRITE, items.toArray() ) )
+								.invoke( items -> {
+									assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+									for ( Item item : items ) {
+										assertThat( s.getLockMode( item ) ).isEqualTo( LockMode.PESSIMISTIC_WRITE );
+									}
+								} )
+						) )
+		);
+	}
+
+	@Test
+	public void testLockAllWithStage(TestContext context) {
+		test(
+				context,
+				getSessionFactory()
+						.withTransaction( s -> s.persist( new Item( 4, "cup" ), new Item( 5, "mug" ) ) )
+						.thenCompose( v -> getSessionFactory().withTransaction( s -> s
+								.createQuery( "from Item order by id", Item.class ).getResultList()
+								.thenCompose( items -> {
+									sqlTracker.clear();
+									return s.lockAll( LockMode.PESSIMISTIC_READ, items.toArray() )
+											.thenAccept( vv -> {
+												assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+												for ( Item item : items ) {
+													assertThat( s.getLockMode( item ) ).isEqualTo( LockMode.PESSIMISTIC_READ );
+												}
+											} );
+								} )
+						) )
+		);
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "lock_all_item")
+	static class Item {
+		@Id
+		Integer id;
+		String name;
+		@Version
+		Integer version;
+
+		Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		Item() {
+		}
+	}
+}
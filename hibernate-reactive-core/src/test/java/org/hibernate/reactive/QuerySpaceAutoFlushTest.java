@@ -0,0 +1,165 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test that, with {@link Settings#QUERY_SPACE_AUTO_FLUSH} enabled, a query
+ * only triggers the auto-flush when the managed entities might write to
+ * the tables it reads.
+ */
+public class QuerySpaceAutoFlushTest extends BaseReactiveTest {
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Author.class, Book.class, Fan.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.QUERY_SPACE_AUTO_FLUSH, "true" );
+		return configuration;
+	}
+
+	@Before
+	public void populateDb(TestContext context) {
+		test( context, getSessionFactory()
+				.withTransaction( session -> session.persist( new Author( 1, "Tolkien" ), new Fan( 1, "Sam" ) ) ) );
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( Book.class, Author.class, Fan.class ) );
+	}
+
+	@Test
+	public void testUnrelatedQueryDoesNotFlush(TestContext context) {
+		test( context, getSessionFactory().openSession()
+				.thenCompose( session -> session.find( Author.class, 1 )
+						.thenAccept( author -> author.name = "J.R.R. Tolkien" )
+						.thenCompose( v -> session.createQuery( "from Fan", Fan.class ).getResultList() )
+						.thenAccept( fans -> assertThat( fans ).hasSize( 1 ) )
+						.thenCompose( v -> authorName() )
+						.thenAccept( name -> assertThat( name ).isEqualTo( "Tolkien" ) )
+						.thenCompose( v -> session.createQuery( "from Author", Author.class ).getResultList() )
+						.thenAccept( authors -> assertThat( authors ).hasSize( 1 ) )
+						.thenCompose( v -> authorName() )
+						.thenAccept( name -> assertThat( name ).isEqualTo( "J.R.R. Tolkien" ) )
+						.thenCompose( v -> session.close() ) )
+		);
+	}
+
+	@Test
+	public void testQueryFlushesEntityManagedAtLastFlush(TestContext context) {
+		test( context, getSessionFactory().openSession()
+				.thenCompose( session -> session.find( Author.class, 1 )
+						.thenCompose( author -> session.flush()
+								.thenAccept( v -> author.name = "J.R.R. Tolkien" ) )
+						.thenCompose( v -> session.createQuery( "from Author", Author.class ).getResultList() )
+						.thenAccept( authors -> assertThat( authors ).hasSize( 1 ) )
+						.thenCompose( v -> authorName() )
+						.thenAccept( name -> assertThat( name ).isEqualTo( "J.R.R. Tolkien" ) )
+						.thenCompose( v -> session.close() ) )
+		);
+	}
+
+	@Test
+	public void testQueryFlushesCascadedEntities(TestContext context) {
+		test( context, getSessionFactory().openSession()
+				.thenCompose( session -> session.find( Author.class, 1 )
+						.thenCompose( author -> session.fetch( author.books )
+								.thenAccept( books -> books.add( new Book( 1, "The Hobbit", author ) ) ) )
+						.thenCompose( v -> session.createQuery( "from Book", Book.class ).getResultList() )
+						.thenAccept( books -> assertThat( books ).hasSize( 1 ) )
+						.thenCompose( v -> session.close() ) )
+		);
+	}
+
+	private CompletionStage<String> authorName() {
+		return getSessionFactory().withSession( session -> session.find( Author.class, 1 ) )
+				.thenApply( author -> author.name );
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "QSAF_Author")
+	public static class Author {
+		@Id
+		Integer id;
+
+		String name;
+
+		@OneToMany(mappedBy = "author", cascade = CascadeType.PERSIST)
+		List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "QSAF_Book")
+	public static class Book {
+		@Id
+		Integer id;
+
+		String title;
+
+		@ManyToOne
+		Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Fan")
+	@Table(name = "QSAF_Fan")
+	public static class Fan {
+		@Id
+		Integer id;
+
+		String name;
+
+		public Fan() {
+		}
+
+		public Fan(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
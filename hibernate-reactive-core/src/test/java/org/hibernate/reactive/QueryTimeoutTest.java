@@ -0,0 +1,80 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.testing.DatabaseSelectionRule;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+import jakarta.persistence.QueryTimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.MARIA;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.MYSQL;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.dbType;
+import static org.hibernate.reactive.testing.DatabaseSelectionRule.runOnlyFor;
+import static org.hibernate.reactive.testing.ReactiveAssertions.assertThrown;
+
+/**
+ * Statements which run past their timeout are cancelled on the server,
+ * using a cancel request on PostgreSQL, and {@code KILL QUERY} on MySQL
+ * and MariaDB, leaving the connection usable.
+ */
+public class QueryTimeoutTest extends BaseReactiveTest {
+
+	@Rule
+	public DatabaseSelectionRule rule = runOnlyFor( POSTGRESQL, MYSQL, MARIA );
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.DEFAULT_QUERY_TIMEOUT, "5000" );
+		return configuration;
+	}
+
+	private static String sleep(int seconds) {
+		return dbType() == POSTGRESQL
+				? "select pg_sleep(" + seconds + ")"
+				: "select sleep(" + seconds + ")";
+	}
+
+	@Test
+	public void testQueryTimeout(TestContext context) {
+		final long start = System.nanoTime();
+		test(
+				context,
+				getSessionFactory().withSession( s -> assertThrown(
+								QueryTimeoutException.class,
+								s.createNativeQuery( sleep( 30 ) ).setTimeout( 1 ).getSingleResult()
+						)
+						// the statement was cancelled, so the connection is free
+						.thenCompose( e -> s.createNativeQuery( "select 1", Integer.class ).getSingleResult() )
+						.thenAccept( one -> {
+							assertThat( one ).isEqualTo( 1 );
+							assertThat( System.nanoTime() - start ).isLessThan( TimeUnit.SECONDS.toNanos( 10 ) );
+						} )
+				)
+		);
+	}
+
+	@Test
+	public void testDefaultQueryTimeout(TestContext context) {
+		test(
+				context,
+				getMutinySessionFactory().withSession( s -> assertThrown(
+						QueryTimeoutException.class,
+						s.createNativeQuery( sleep( 30 ) ).getSingleResult()
+				) )
+		);
+	}
+}
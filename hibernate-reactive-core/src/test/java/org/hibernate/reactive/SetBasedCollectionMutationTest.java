@@ -0,0 +1,127 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.testing.DatabaseSelectionRule;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.ORACLE;
+import static org.hibernate.reactive.testing.DatabaseSelectionRule.skipTestsFor;
+
+/**
+ * Checks that, with {@link Settings#SET_BASED_COLLECTION_MUTATIONS},
+ * the rows of an element collection are inserted and deleted using
+ * one statement each.
+ * <p>
+ * The element column has a quoted name, and SQL comments are enabled,
+ * to check that neither affects the set-based statements.
+ */
+public class SetBasedCollectionMutationTest extends BaseReactiveTest {
+
+	// Oracle doesn't support multi-row inserts with a values list
+	@Rule
+	public DatabaseSelectionRule rule = skipTestsFor( ORACLE );
+
+	private static SqlStatementTracker sqlTracker;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Post.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.SET_BASED_COLLECTION_MUTATIONS, "true" );
+		configuration.setProperty( AvailableSettings.USE_SQL_COMMENTS, "true" );
+		sqlTracker = new SqlStatementTracker( SetBasedCollectionMutationTest::isTagMutation, configuration.getProperties() );
+		return configuration;
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
+	private static boolean isTagMutation(String sql) {
+		String lowerCase = sql.toLowerCase();
+		return ( lowerCase.contains( "insert into" ) || lowerCase.contains( "delete from" ) ) && lowerCase.contains( "post_tags" );
+	}
+
+	@Test
+	public void testInsertAndDeleteRows(TestContext context) {
+		Post post = new Post( 1, "Hibernate Reactive" );
+		post.tags.addAll( Set.of( "java", "hibernate", "reactive", "vertx" ) );
+
+		test(
+				context,
+				getMutinySessionFactory()
+						.withTransaction( s -> s.persist( post ) )
+						.invoke( () -> {
+							assertThat( sqlTracker.getLoggedQueries() ).hasSize( 1 );
+							assertThat( sqlTracker.getLoggedQueries().get( 0 ) ).containsPattern( "\\),\\s*\\(" );
+							sqlTracker.clear();
+						} )
+						.chain( () -> getMutinySessionFactory().withTransaction( s -> s
+								.find( Post.class, 1 )
+								.invoke( found -> {
+									found.tags.removeAll( Set.of( "java", "hibernate", "vertx" ) );
+									found.tags.addAll( Set.of( "quarkus", "mutiny" ) );
+								} )
+						) )
+						.invoke( () -> {
+							assertThat( sqlTracker.getLoggedQueries() ).hasSize( 2 );
+							assertThat( sqlTracker.getLoggedQueries() )
+									.anyMatch( sql -> sql.toLowerCase().contains( "delete from" ) && sql.toLowerCase().contains( " in (" ) );
+						} )
+						.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Post.class, 1 ) ) )
+						.invoke( found -> assertThat( found.tags ).containsExactlyInAnyOrder( "reactive", "quarkus", "mutiny" ) )
+		);
+	}
+
+	@Entity(name = "Post")
+	@Table(name = "set_based_post")
+	static class Post {
+		@Id
+		Integer id;
+		String title;
+
+		@ElementCollection(fetch = FetchType.EAGER)
+		@CollectionTable(name = "post_tags")
+		@Column(name = "`tag`")
+		Set<String> tags = new HashSet<>();
+
+		Post(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		Post() {
+		}
+	}
+}
@@ -0,0 +1,150 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stat.PreparedStatementCacheStatistics;
+import org.hibernate.reactive.stat.SqlExecutionStatistics;
+import org.hibernate.reactive.stat.SqlStatementStatistics;
+
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlExecutionStatisticsTest extends BaseReactiveTest {
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Named.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.SQL_STATISTICS, "true" );
+		return configuration;
+	}
+
+	@Test
+	public void testStatementStatistics(TestContext context) {
+		SqlExecutionStatistics statistics = getMutinySessionFactory().getSqlExecutionStatistics();
+		test(
+				context,
+				getMutinySessionFactory()
+						.withTransaction( s -> s.persistAll( new Named( 1, "foo" ), new Named( 2, "bar" ), new Named( 3, "baz" ) ) )
+						.invoke( statistics::clear )
+						.chain( () -> getMutinySessionFactory()
+								.withSession( s -> s.createQuery( "from Named", Named.class ).getResultList() ) )
+						.chain( () -> getMutinySessionFactory()
+								.withSession( s -> s.createQuery( "from Named", Named.class ).getResultList() ) )
+						.invoke( () -> {
+							assertThat( statistics.isStatisticsEnabled() ).isTrue();
+							assertThat( statistics.getExecutionCount() ).isEqualTo( 2L );
+							assertThat( statistics.getExecutionFailureCount() ).isEqualTo( 0L );
+
+							String sql = Stream.of( statistics.getStatements() )
+									.filter( statement -> statement.toLowerCase().contains( "named_thing" ) )
+									.findFirst()
+									.orElseThrow();
+							SqlStatementStatistics statementStatistics = statistics.getStatementStatistics( sql );
+							assertThat( statementStatistics.getExecutionCount() ).isEqualTo( 2L );
+							assertThat( statementStatistics.getRowCount() ).isEqualTo( 6L );
+							assertThat( statementStatistics.getMaxExecutionTimeMicros() )
+									.isGreaterThanOrEqualTo( statementStatistics.get99thPercentileExecutionTimeMicros() );
+							assertThat( statementStatistics.get99thPercentileExecutionTimeMicros() )
+									.isGreaterThanOrEqualTo( statementStatistics.getMedianExecutionTimeMicros() );
+							assertThat( statementStatistics.getTotalExecutionTimeMicros() )
+									.isGreaterThanOrEqualTo( statementStatistics.getMaxExecutionTimeMicros() );
+						} )
+		);
+	}
+
+	@Test
+	public void testPreparedStatementCacheStatistics(TestContext context) {
+		PreparedStatementCacheStatistics statistics = getMutinySessionFactory().getSqlExecutionStatistics()
+				.getPreparedStatementCacheStatistics();
+		test(
+				context,
+				getMutinySessionFactory()
+						.withTransaction( s -> s.persist( new Named( 4, "qux" ) ) )
+						.invoke( statistics::clear )
+						.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Named.class, 4 ) ) )
+						.chain( () -> getMutinySessionFactory().withSession( s -> s.find( Named.class, 4 ) ) )
+						.invoke( () -> {
+							assertThat( statistics.isEnabled() ).isTrue();
+							assertThat( statistics.getCacheableCount() ).isEqualTo( 2L );
+							assertThat( statistics.getUncacheableCount() ).isEqualTo( 0L );
+						} )
+		);
+	}
+
+	@Test
+	public void testQueryTranslationStatistics(TestContext context) {
+		SqlExecutionStatistics statistics = getMutinySessionFactory().getSqlExecutionStatistics();
+		String hql = "from Named n order by n.id";
+		test(
+				context,
+				getMutinySessionFactory()
+						.withTransaction( s -> s.persistAll( new Named( 5, "quux" ), new Named( 6, "corge" ) ) )
+						.invoke( statistics::clear )
+						// alternate between two translations of the same query
+						.chain( () -> getMutinySessionFactory().withSession( s -> s.createQuery( hql, Named.class )
+								.setMaxResults( 1 ).getResultList() ) )
+						.chain( () -> getMutinySessionFactory().withSession( s -> s.createQuery( hql, Named.class )
+								.setFirstResult( 1 ).setMaxResults( 1 ).getResultList() ) )
+						.chain( () -> getMutinySessionFactory().withSession( s -> s.createQuery( hql, Named.class )
+								.setMaxResults( 1 ).getResultList() ) )
+						.chain( () -> getMutinySessionFactory().withSession( s -> s.createQuery( hql, Named.class )
+								.setFirstResult( 1 ).setMaxResults( 1 ).getResultList() ) )
+						.invoke( () -> {
+							assertThat( statistics.getQueryTranslationCount() ).isEqualTo( 2L );
+							assertThat( statistics.getQueryTranslationReuseCount() ).isEqualTo( 2L );
+						} )
+		);
+	}
+
+	@Test
+	public void testFailedStatementStatistics(TestContext context) {
+		SqlExecutionStatistics statistics = getSessionFactory().getSqlExecutionStatistics();
+		statistics.clear();
+		test(
+				context,
+				getSessionFactory()
+						.withSession( s -> s.createNativeQuery( "select * from not_a_table" ).getResultList() )
+						.handle( (result, throwable) -> {
+							context.assertNotNull( throwable );
+							assertThat( statistics.getExecutionFailureCount() ).isEqualTo( 1L );
+							return null;
+						} )
+		);
+	}
+
+	@Entity(name = "Named")
+	@Table(name = "named_thing")
+	static class Named {
+		@Id
+		Integer id;
+		String name;
+
+		public Named(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Named() {
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.ext.unit.TestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test that a stateless session can insert, update, and delete a stream
+ * of entities, one chunk of the stream at a time.
+ */
+public class StatelessSessionStreamingTest extends BaseReactiveTest {
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Hobbit.class );
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( Hobbit.class ) );
+	}
+
+	@Test
+	public void testMutinyStreaming(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withStatelessTransaction( session -> session
+						.insertAll( 2, Multi.createFrom().range( 1, 6 ).map( id -> new Hobbit( id, "Hobbit " + id ) ) )
+						.collect().asList() )
+				.invoke( chunks -> assertThat( chunks ).containsExactly( 2, 2, 1 ) )
+				.chain( () -> getMutinySessionFactory()
+						.withStatelessTransaction( session -> session
+								.updateAll( 2, Multi.createFrom().range( 1, 4 ).map( id -> new Hobbit( id, "Baggins " + id ) ) )
+								.collect().asList() ) )
+				.invoke( chunks -> assertThat( chunks ).containsExactly( 2, 1 ) )
+				.chain( () -> getMutinySessionFactory()
+						.withStatelessTransaction( session -> session
+								.deleteAll( 2, Multi.createFrom().range( 4, 6 ).map( id -> new Hobbit( id, "Hobbit " + id ) ) )
+								.collect().asList() ) )
+				.invoke( chunks -> assertThat( chunks ).containsExactly( 2 ) )
+				.chain( () -> getMutinySessionFactory()
+						.withStatelessSession( session -> session
+								.createQuery( "from Hobbit order by id", Hobbit.class )
+								.getResultList() ) )
+				.invoke( hobbits -> assertThat( hobbits ).containsExactly(
+						new Hobbit( 1, "Baggins 1" ),
+						new Hobbit( 2, "Baggins 2" ),
+						new Hobbit( 3, "Baggins 3" )
+				) )
+		);
+	}
+
+	@Test
+	public void testStageStreaming(TestContext context) {
+		test( context, getSessionFactory()
+				.withStatelessTransaction( session -> Multi.createFrom()
+						.publisher( session.insert( 3, Multi.createFrom().range( 1, 8 ).map( id -> new Hobbit( id, "Hobbit " + id ) ) ) )
+						.collect().asList()
+						.subscribeAsCompletionStage() )
+				.thenAccept( chunks -> assertThat( chunks ).containsExactly( 3, 3, 1 ) )
+				.thenCompose( v -> getSessionFactory()
+						.withStatelessSession( session -> session
+								.createQuery( "select count(*) from Hobbit", Long.class )
+								.getSingleResult() ) )
+				.thenAccept( count -> assertThat( count ).isEqualTo( 7L ) )
+		);
+	}
+
+	@Test
+	public void testStageStreamingFromAnotherThread(TestContext context) {
+		test( context, getSessionFactory()
+				.withStatelessTransaction( session -> Multi.createFrom()
+						.publisher( session.insert( 2, Multi.createFrom().range( 1, 6 )
+								.emitOn( Infrastructure.getDefaultWorkerPool() )
+								.map( id -> new Hobbit( id, "Hobbit " + id ) ) ) )
+						.collect().asList()
+						.subscribeAsCompletionStage() )
+				.thenAccept( chunks -> assertThat( chunks ).containsExactly( 2, 2, 1 ) )
+				.thenCompose( v -> getSessionFactory()
+						.withStatelessSession( session -> session
+								.createQuery( "select count(*) from Hobbit", Long.class )
+								.getSingleResult() ) )
+				.thenAccept( count -> assertThat( count ).isEqualTo( 5L ) )
+		);
+	}
+
+	@Entity(name = "Hobbit")
+	@Table(name = "SSST_Hobbit")
+	public static class Hobbit {
+		@Id
+		Integer id;
+
+		String name;
+
+		public Hobbit() {
+		}
+
+		public Hobbit(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			Hobbit hobbit = (Hobbit) o;
+			return Objects.equals( id, hobbit.id )
+					&& Objects.equals( name, hobbit.name );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( id, name );
+		}
+
+		@Override
+		public String toString() {
+			return id + ":" + name;
+		}
+	}
+}
@@ -0,0 +1,185 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.HibernateException;
+import org.hibernate.reactive.testing.DatabaseSelectionRule;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.DB2;
+import static org.hibernate.reactive.testing.DatabaseSelectionRule.skipTestsFor;
+import static org.hibernate.reactive.testing.ReactiveAssertions.assertThrown;
+
+/**
+ * Tests {@code upsert()} and {@code upsertAll()} of stateless sessions.
+ */
+public class StatelessSessionUpsertTest extends BaseReactiveTest {
+
+	@Rule
+	public DatabaseSelectionRule rule = skipTestsFor( DB2 );
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Hobbit.class, Ledger.class );
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( Hobbit.class, Ledger.class ) );
+	}
+
+	@Test
+	public void testUpsertInsertsThenUpdates(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withStatelessTransaction( session -> session.upsert( new Hobbit( 1, "Frodo", "Bag End" ) ) )
+				.chain( () -> getMutinySessionFactory()
+						.withStatelessTransaction( session -> session.get( Hobbit.class, 1 ) ) )
+				.invoke( hobbit -> assertThat( hobbit ).isEqualTo( new Hobbit( 1, "Frodo", "Bag End" ) ) )
+				.chain( () -> getMutinySessionFactory()
+						.withStatelessTransaction( session -> session.upsert( new Hobbit( 1, "Frodo", "Rivendell" ) ) ) )
+				.chain( () -> getMutinySessionFactory()
+						.withStatelessTransaction( session -> session.get( Hobbit.class, 1 ) ) )
+				.invoke( hobbit -> assertThat( hobbit ).isEqualTo( new Hobbit( 1, "Frodo", "Rivendell" ) ) )
+		);
+	}
+
+	@Test
+	public void testUpsertAll(TestContext context) {
+		test( context, getSessionFactory()
+				.withStatelessTransaction( session -> session
+						.insert( 2, new Hobbit( 1, "Frodo", "Bag End" ), new Hobbit( 2, "Sam", "Bagshot Row" ) ) )
+				.thenCompose( v -> getSessionFactory()
+						.withStatelessTransaction( session -> session.upsert(
+								2,
+								new Hobbit( 1, "Frodo", "Rivendell" ),
+								new Hobbit( 2, "Sam", "Bagshot Row" ),
+								new Hobbit( 3, "Merry", "Buckland" )
+						) ) )
+				.thenCompose( v -> getSessionFactory()
+						.withStatelessSession( session -> session
+								.createQuery( "from Hobbit order by id", Hobbit.class )
+								.getResultList() ) )
+				.thenAccept( hobbits -> assertThat( hobbits ).containsExactly(
+						new Hobbit( 1, "Frodo", "Rivendell" ),
+						new Hobbit( 2, "Sam", "Bagshot Row" ),
+						new Hobbit( 3, "Merry", "Buckland" )
+				) )
+		);
+	}
+
+	@Test
+	public void testUpsertVersionedEntityFails(TestContext context) {
+		test( context, assertThrown( HibernateException.class, getMutinySessionFactory()
+				.withStatelessTransaction( session -> session.upsert( new Ledger( 1, "Ring" ) ) ) )
+				.invoke( e -> assertThat( e.getMessage() ).contains( "HR000085" ) )
+		);
+	}
+
+	@Test
+	public void testUpsertWithNullIdFails(TestContext context) {
+		test( context, assertThrown( HibernateException.class, getMutinySessionFactory()
+				.withStatelessTransaction( session -> session.upsert( new Hobbit( null, "Pippin", "Tuckborough" ) ) ) )
+				.invoke( e -> assertThat( e.getMessage() ).contains( "HR000087" ) )
+		);
+	}
+
+	@Test
+	public void testFailedUpsertAllDiscardsBatch(TestContext context) {
+		test( context, getMutinySessionFactory()
+				.withStatelessSession( session -> assertThrown( HibernateException.class, session.upsertAll(
+								3,
+								new Hobbit( 1, "Frodo", "Bag End" ),
+								new Hobbit( null, "Pippin", "Tuckborough" )
+						) )
+						.invoke( e -> assertThat( e.getMessage() ).contains( "HR000087" ) )
+						// executes any batch left by the failed upserts
+						.chain( () -> session.insertAll( new Hobbit( 2, "Sam", "Bagshot Row" ) ) ) )
+				.chain( () -> getMutinySessionFactory()
+						.withStatelessSession( session -> session
+								.createQuery( "from Hobbit order by id", Hobbit.class )
+								.getResultList() ) )
+				.invoke( hobbits -> assertThat( hobbits ).containsExactly( new Hobbit( 2, "Sam", "Bagshot Row" ) ) )
+		);
+	}
+
+	@Entity(name = "Hobbit")
+	@Table(name = "SSUT_Hobbit")
+	public static class Hobbit {
+		@Id
+		Integer id;
+
+		String name;
+
+		String home;
+
+		public Hobbit() {
+		}
+
+		public Hobbit(Integer id, String name, String home) {
+			this.id = id;
+			this.name = name;
+			this.home = home;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			Hobbit hobbit = (Hobbit) o;
+			return Objects.equals( id, hobbit.id )
+					&& Objects.equals( name, hobbit.name )
+					&& Objects.equals( home, hobbit.home );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( id, name );
+		}
+
+		@Override
+		public String toString() {
+			return id + ":" + name + ":" + home;
+		}
+	}
+
+	@Entity(name = "Ledger")
+	@Table(name = "SSUT_Ledger")
+	public static class Ledger {
+		@Id
+		Integer id;
+
+		@Version
+		Integer version;
+
+		String title;
+
+		public Ledger() {
+		}
+
+		public Ledger(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.MyCurrentTenantIdentifierResolver.Tenant;
+import org.hibernate.reactive.pool.impl.TenantConnectOptionsResolver;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stage.Stage;
+import org.hibernate.reactive.testing.DatabaseSelectionRule;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.MyCurrentTenantIdentifierResolver.Tenant.TENANT_1;
+import static org.hibernate.reactive.MyCurrentTenantIdentifierResolver.Tenant.TENANT_2;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+import static org.hibernate.reactive.testing.ReactiveAssertions.assertThrown;
+
+/**
+ * Test multitenancy with the built-in pool and a {@link TenantConnectOptionsResolver},
+ * allowing one tenant pool at a time.
+ *
+ * @see ReactiveMultitenantNoResolverTest
+ */
+public class TenantConnectOptionsResolverTest extends BaseReactiveTest {
+
+	// To check if we are using the right database we run native queries for PostgreSQL
+	@Rule
+	public DatabaseSelectionRule selectionRule = DatabaseSelectionRule.runOnlyFor( POSTGRESQL );
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( AvailableSettings.MULTI_TENANT_CONNECTION_PROVIDER, "anything" );
+		// Contains the SQL scripts for the creation of the additional databases
+		configuration.setProperty( Settings.HBM2DDL_IMPORT_FILES, "/multitenancy-test.sql" );
+		TenantConnectOptionsResolver resolver = (tenantId, connectOptions) -> connectOptions
+				.setDatabase( Tenant.valueOf( tenantId ).getDbName() );
+		configuration.getProperties().put( Settings.POOL_TENANT_CONNECT_OPTIONS_RESOLVER, resolver );
+		configuration.setProperty( Settings.POOL_TENANT_POOL_SIZE, "1" );
+		configuration.setProperty( Settings.POOL_TENANT_MAX_CONNECTIONS, "1" );
+		return configuration;
+	}
+
+	@Test
+	public void testIdleTenantPoolIsClosed(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( TENANT_1.name(), session -> selectCurrentDB( session )
+						.thenAccept( result -> assertThat( result ).isEqualTo( TENANT_1.getDbName() ) ) )
+				.thenCompose( v -> getSessionFactory()
+						.withSession( TENANT_2.name(), session -> selectCurrentDB( session )
+								.thenAccept( result -> assertThat( result ).isEqualTo( TENANT_2.getDbName() ) ) ) )
+				.thenCompose( v -> getSessionFactory()
+						.withSession( TENANT_1.name(), session -> selectCurrentDB( session )
+								.thenAccept( result -> assertThat( result ).isEqualTo( TENANT_1.getDbName() ) ) ) )
+		);
+	}
+
+	@Test
+	public void testTenantPoolInUseIsNotClosed(TestContext context) {
+		test( context, getSessionFactory()
+				.withSession( TENANT_1.name(), session -> selectCurrentDB( session )
+						.thenCompose( v -> assertThrown( HibernateException.class, getSessionFactory()
+								.withSession( TENANT_2.name(), this::selectCurrentDB ) ) )
+						.thenAccept( e -> assertThat( e.getMessage() ).contains( "HR000084" ) )
+				)
+		);
+	}
+
+	private CompletionStage<Object> selectCurrentDB(Stage.Session session) {
+		return session
+				.createNativeQuery( "select current_database()" )
+				.getSingleResult();
+	}
+}
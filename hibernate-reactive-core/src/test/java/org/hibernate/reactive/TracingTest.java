@@ -0,0 +1,145 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.common.spi.Implementor;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.tracing.ReactiveTracer;
+import org.hibernate.reactive.tracing.impl.RecordingTracer;
+import org.hibernate.reactive.tracing.impl.RecordingTracer.RecordedSpan;
+
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.tracing.ReactiveTracer.SpanKind.CONNECTION;
+import static org.hibernate.reactive.tracing.ReactiveTracer.SpanKind.FIND;
+import static org.hibernate.reactive.tracing.ReactiveTracer.SpanKind.FLUSH;
+import static org.hibernate.reactive.tracing.ReactiveTracer.SpanKind.FLUSH_EXECUTE;
+import static org.hibernate.reactive.tracing.ReactiveTracer.SpanKind.FLUSH_PREPARE;
+import static org.hibernate.reactive.tracing.ReactiveTracer.SpanKind.QUERY;
+import static org.hibernate.reactive.tracing.ReactiveTracer.SpanKind.STATEMENT;
+
+public class TracingTest extends BaseReactiveTest {
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Traced.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.TRACER, RecordingTracer.class.getName() );
+		return configuration;
+	}
+
+	private static RecordingTracer tracer() {
+		return (RecordingTracer) ( (Implementor) getSessionFactory() ).getServiceRegistry()
+				.getService( ReactiveTracer.class );
+	}
+
+	@Test
+	public void testFlushSpans(TestContext context) {
+		test(
+				context,
+				getMutinySessionFactory()
+						.withTransaction( s -> {
+							tracer().clear();
+							return s.persist( new Traced( 1, "foo" ) );
+						} )
+						.invoke( () -> {
+							RecordedSpan flush = tracer().getSpans( FLUSH ).get( 0 );
+							assertThat( flush.isEnded() ).isTrue();
+							assertThat( flush.getFailure() ).isNull();
+
+							RecordedSpan prepare = tracer().getSpans( FLUSH_PREPARE ).get( 0 );
+							RecordedSpan execute = tracer().getSpans( FLUSH_EXECUTE ).get( 0 );
+							assertThat( prepare.getParent() ).isSameAs( flush );
+							assertThat( execute.getParent() ).isSameAs( flush );
+
+							assertThat( tracer().getSpans( STATEMENT ) )
+									.filteredOn( statement -> statement.getName().toLowerCase().startsWith( "insert" ) )
+									.hasSize( 1 )
+									.allMatch( statement -> statement.getParent() == execute );
+						} )
+		);
+	}
+
+	@Test
+	public void testFindAndQuerySpans(TestContext context) {
+		test(
+				context,
+				getMutinySessionFactory()
+						.withTransaction( s -> s.persist( new Traced( 2, "bar" ) ) )
+						.invoke( () -> tracer().clear() )
+						.chain( () -> getMutinySessionFactory().withSession( s -> s
+								.find( Traced.class, 2 )
+								.chain( () -> s.createQuery( "from Traced", Traced.class ).getResultList() )
+						) )
+						.invoke( list -> {
+							assertThat( list ).hasSize( 1 );
+							assertThat( tracer().getSpans( CONNECTION ) ).hasSize( 1 );
+
+							RecordedSpan find = tracer().getSpans( FIND ).get( 0 );
+							assertThat( find.getName() ).isEqualTo( Traced.class.getName() );
+							assertThat( find.getDurationNanos() ).isGreaterThanOrEqualTo( 0L );
+
+							RecordedSpan query = tracer().getSpans( QUERY ).get( 0 );
+							assertThat( query.getName() ).isEqualTo( "from Traced" );
+
+							assertThat( tracer().getSpans( STATEMENT ) )
+									.hasSize( 2 )
+									.allMatch( RecordedSpan::isEnded )
+									.anyMatch( statement -> statement.getParent() == find )
+									.anyMatch( statement -> statement.getParent() == query );
+						} )
+		);
+	}
+
+	@Test
+	public void testFailedStatementSpan(TestContext context) {
+		test(
+				context,
+				getSessionFactory()
+						.withSession( s -> {
+							tracer().clear();
+							return s.createNativeQuery( "select * from not_a_table" ).getResultList();
+						} )
+						.handle( (result, throwable) -> {
+							context.assertNotNull( throwable );
+							RecordedSpan statement = tracer().getSpans( STATEMENT ).get( 0 );
+							assertThat( statement.getFailure() ).isNotNull();
+							assertThat( statement.getParent().getKind() ).isEqualTo( QUERY );
+							return null;
+						} )
+		);
+	}
+
+	@Entity(name = "Traced")
+	@Table(name = "traced_thing")
+	static class Traced {
+		@Id
+		Integer id;
+		String name;
+
+		public Traced(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Traced() {
+		}
+	}
+}
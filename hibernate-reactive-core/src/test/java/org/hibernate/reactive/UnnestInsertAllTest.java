@@ -0,0 +1,230 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.testing.DatabaseSelectionRule;
+import org.hibernate.reactive.testing.SqlStatementTracker;
+import org.hibernate.reactive.types.StringToJsonConverter;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.TestContext;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
+import static org.hibernate.reactive.testing.DatabaseSelectionRule.runOnlyFor;
+
+/**
+ * Checks that, with {@link Settings#UNNEST_INSERT_ALL}, {@code insertAll()}
+ * of a stateless session writes each batch with a single insert, unless
+ * a column has a SQL type that can't be bound as an array.
+ */
+public class UnnestInsertAllTest extends BaseReactiveTest {
+
+	@Rule
+	public DatabaseSelectionRule rule = runOnlyFor( POSTGRESQL );
+
+	private static SqlStatementTracker sqlTracker;
+
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Book.class, Document.class );
+	}
+
+	@Override
+	protected Configuration constructConfiguration() {
+		Configuration configuration = super.constructConfiguration();
+		configuration.setProperty( Settings.UNNEST_INSERT_ALL, "true" );
+		sqlTracker = new SqlStatementTracker( UnnestInsertAllTest::isInsert, configuration.getProperties() );
+		return configuration;
+	}
+
+	@Override
+	protected void addServices(StandardServiceRegistryBuilder builder) {
+		sqlTracker.registerService( builder );
+	}
+
+	private static boolean isInsert(String sql) {
+		return sql.toLowerCase().startsWith( "insert " );
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		sqlTracker.clear();
+		test( context, deleteEntities( Book.class, Document.class ) );
+	}
+
+	@Test
+	public void testInsertAll(TestContext context) {
+		final Book[] books = {
+				new Book( 1, "The Hobbit", LocalDate.of( 1937, 9, 21 ), "Allen & Unwin" ),
+				new Book( 2, "The Fellowship of the Ring", LocalDate.of( 1954, 7, 29 ), null ),
+				new Book( 3, "The Two Towers", null, "Allen & Unwin" ),
+				new Book( 4, "The Return of the King", null, null ),
+				new Book( 5, "The Silmarillion", LocalDate.of( 1977, 9, 15 ), "Allen & Unwin" )
+		};
+		test( context, getMutinySessionFactory()
+				.withStatelessTransaction( session -> session.insertAll( 3, (Object[]) books ) )
+				.invoke( () -> {
+					// one insert per batch
+					assertThat( sqlTracker.getLoggedQueries() ).hasSize( 2 );
+					assertThat( sqlTracker.getLoggedQueries() ).allMatch( sql -> sql.contains( "unnest(" ) );
+				} )
+				.chain( () -> getMutinySessionFactory()
+						.withStatelessSession( session -> session
+								.createQuery( "from Book order by id", Book.class )
+								.getResultList() ) )
+				.invoke( results -> assertThat( results ).containsExactly( books ) )
+		);
+	}
+
+	@Test
+	public void testInsertAllWithoutBatchSize(TestContext context) {
+		// without a batch size, the inserts are only batched if batching is enabled globally
+		final Book[] books = {
+				new Book( 1, "The Hobbit", LocalDate.of( 1937, 9, 21 ), "Allen & Unwin" ),
+				new Book( 2, "The Fellowship of the Ring", LocalDate.of( 1954, 7, 29 ), null ),
+		};
+		test( context, getMutinySessionFactory()
+				.withStatelessTransaction( session -> session.insertAll( (Object[]) books ) )
+				.invoke( () -> assertThat( sqlTracker.getLoggedQueries() ).noneMatch( sql -> sql.contains( "unnest(" ) ) )
+				.chain( () -> getMutinySessionFactory()
+						.withStatelessSession( session -> session
+								.createQuery( "from Book order by id", Book.class )
+								.getResultList() ) )
+				.invoke( results -> assertThat( results ).containsExactly( books ) )
+		);
+	}
+
+	@Test
+	public void testInsertAllWithColumnDefinition(TestContext context) {
+		// the jsonb column can't be bound as an array of strings
+		final Document[] documents = {
+				new Document( 1, "Contract", new JsonObject().put( "pages", 12 ).encodePrettily() ),
+				new Document( 2, "Invoice", null ),
+				new Document( 3, "Receipt", new JsonObject().put( "total", 42 ).encodePrettily() )
+		};
+		test( context, getMutinySessionFactory()
+				.withStatelessTransaction( session -> session.insertAll( 3, (Object[]) documents ) )
+				.invoke( () -> assertThat( sqlTracker.getLoggedQueries() ).noneMatch( sql -> sql.contains( "unnest(" ) ) )
+				.chain( () -> getMutinySessionFactory()
+						.withStatelessSession( session -> session
+								.createQuery( "from Document order by id", Document.class )
+								.getResultList() ) )
+				.invoke( results -> assertThat( results ).containsExactly( documents ) )
+		);
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "UIAT_Book")
+	public static class Book {
+		@Id
+		Integer id;
+
+		String title;
+
+		LocalDate published;
+
+		String publisher;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, LocalDate published, String publisher) {
+			this.id = id;
+			this.title = title;
+			this.published = published;
+			this.publisher = publisher;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			Book book = (Book) o;
+			return Objects.equals( id, book.id )
+					&& Objects.equals( title, book.title )
+					&& Objects.equals( published, book.published )
+					&& Objects.equals( publisher, book.publisher );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( id, title );
+		}
+
+		@Override
+		public String toString() {
+			return id + ":" + title;
+		}
+	}
+
+	@Entity(name = "Document")
+	@Table(name = "UIAT_Document")
+	public static class Document {
+		@Id
+		Integer id;
+
+		String title;
+
+		@Column(columnDefinition = "jsonb")
+		@Convert(converter = StringToJsonConverter.class)
+		String metadata;
+
+		public Document() {
+		}
+
+		public Document(Integer id, String title, String metadata) {
+			this.id = id;
+			this.title = title;
+			this.metadata = metadata;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			Document document = (Document) o;
+			return Objects.equals( id, document.id )
+					&& Objects.equals( title, document.title )
+					&& Objects.equals( metadata, document.metadata );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( id, title );
+		}
+
+		@Override
+		public String toString() {
+			return id + ":" + title;
+		}
+	}
+}
@@ -5,19 +5,27 @@
  */
 package org.hibernate.reactive.configuration;
 
+import java.sql.SQLException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.engine.jdbc.internal.JdbcServicesImpl;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.reactive.containers.DatabaseConfiguration;
+import org.hibernate.reactive.pool.ReactiveConnection;
 import org.hibernate.reactive.pool.ReactiveConnectionPool;
 import org.hibernate.reactive.pool.impl.DefaultSqlClientPoolConfiguration;
 import org.hibernate.reactive.pool.impl.DefaultSqlClientPool;
 import org.hibernate.reactive.pool.impl.SqlClientPoolConfiguration;
 import org.hibernate.reactive.provider.Settings;
+import org.hibernate.reactive.stat.impl.SqlExecutionStatisticsImpl;
+import org.hibernate.reactive.stat.spi.SqlExecutionStatisticsImplementor;
 import org.hibernate.reactive.testing.DatabaseSelectionRule;
 import org.hibernate.reactive.testing.TestingRegistryRule;
 
@@ -33,6 +41,7 @@
 import io.vertx.pgclient.PgException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hibernate.reactive.containers.DatabaseConfiguration.DBType.POSTGRESQL;
 import static org.hibernate.reactive.testing.ReactiveAssertions.assertThrown;
 
@@ -121,6 +130,212 @@ public void configureWithWrongCredentials(TestContext context) {
 		);
 	}
 
+	@Test
+	public void readRowsInPlace(TestContext context) {
+		String url = DatabaseConfiguration.getJdbcUrl();
+		Map<String,Object> config = new HashMap<>();
+		config.put( Settings.URL, url );
+		ReactiveConnectionPool reactivePool = configureAndStartPool( config );
+		test( context, reactivePool.getConnection().thenCompose(
+				connection -> connection.select( "select 42::int8, 7, 2.5::float8, true, 'Frodo', null::text union all select 43::int8, 8, 3.5::float8, false, 'Sam', 'Bag End'" )
+						.thenApply( ReactiveConnection.Result::cursor )
+						.thenAccept( rows -> {
+							assertThat( rows.nextRow() ).isTrue();
+							assertThat( rows.getColumnCount() ).isEqualTo( 6 );
+							assertThat( rows.getLong( 0 ) ).isEqualTo( 42L );
+							assertThat( rows.getInteger( 1 ) ).isEqualTo( 7 );
+							assertThat( rows.getDouble( 2 ) ).isEqualTo( 2.5 );
+							assertThat( rows.getBoolean( 3 ) ).isTrue();
+							assertThat( rows.getString( 4 ) ).isEqualTo( "Frodo" );
+							assertThat( rows.getValue( 5 ) ).isNull();
+							assertThat( rows.nextRow() ).isTrue();
+							assertThat( rows.get( Long.class, 0 ) ).isEqualTo( 43L );
+							assertThat( rows.getValue( 4 ) ).isEqualTo( "Sam" );
+							assertThat( rows.getString( 5 ) ).isEqualTo( "Bag End" );
+							assertThat( rows.nextRow() ).isFalse();
+						} )
+						.thenCompose( v -> connection.close() )
+		) );
+	}
+
+	@Test
+	public void findColumnsOfJdbcResultSet(TestContext context) {
+		String url = DatabaseConfiguration.getJdbcUrl();
+		Map<String,Object> config = new HashMap<>();
+		config.put( Settings.URL, url );
+		ReactiveConnectionPool reactivePool = configureAndStartPool( config );
+		test( context, reactivePool.getConnection().thenCompose(
+				connection -> connection.selectJdbc( "select 1 as id, 2 as \"ID\", 3 as \"Name\", 4 as \"Name\"", new Object[0] )
+						.thenAccept( resultSet -> {
+							try {
+								assertThat( resultSet.next() ).isTrue();
+								// an exact match wins over a case-insensitive one
+								assertThat( resultSet.findColumn( "id" ) ).isEqualTo( 1 );
+								assertThat( resultSet.findColumn( "ID" ) ).isEqualTo( 2 );
+								assertThat( resultSet.getInt( "ID" ) ).isEqualTo( 2 );
+								// the first of the duplicate labels
+								assertThat( resultSet.findColumn( "Name" ) ).isEqualTo( 3 );
+								assertThat( resultSet.findColumn( "NAME" ) ).isEqualTo( 3 );
+								assertThat( resultSet.getInt( "name" ) ).isEqualTo( 3 );
+								assertThat( resultSet.findColumn( "missing" ) ).isEqualTo( 0 );
+								assertThatThrownBy( () -> resultSet.getInt( "missing" ) )
+										.isInstanceOf( NoSuchElementException.class );
+								// labels already resolved are found again on the next call
+								assertThat( resultSet.findColumn( "ID" ) ).isEqualTo( 2 );
+								assertThat( resultSet.next() ).isFalse();
+							}
+							catch (SQLException e) {
+								throw new AssertionError( e );
+							}
+						} )
+						.thenCompose( v -> connection.close() )
+		) );
+	}
+
+	@Test
+	public void readArrayRowsInPlace() {
+		ReactiveConnection.Cursor rows = ReactiveConnection.Result
+				.cursor( List.of( new Object[] { 42L, "Frodo" }, new Object[] { 43L, null } ).iterator() );
+		assertThat( rows.nextRow() ).isTrue();
+		assertThat( rows.getColumnCount() ).isEqualTo( 2 );
+		assertThat( rows.getLong( 0 ) ).isEqualTo( 42L );
+		assertThat( rows.getString( 1 ) ).isEqualTo( "Frodo" );
+		assertThat( rows.nextRow() ).isTrue();
+		assertThat( rows.get( Long.class, 0 ) ).isEqualTo( 43L );
+		assertThat( rows.getValue( 1 ) ).isNull();
+		assertThat( rows.nextRow() ).isFalse();
+	}
+
+	@Test
+	public void configureWithWarmUp(TestContext context) {
+		String url = DatabaseConfiguration.getJdbcUrl();
+		Map<String,Object> config = new HashMap<>();
+		config.put( Settings.URL, url );
+		config.put( Settings.POOL_SIZE, "3" );
+		config.put( Settings.POOL_WARM_UP_SIZE, "3" );
+		config.put( Settings.POOL_MIN_IDLE, "3" );
+		ReactiveConnectionPool reactivePool = configureAndStartPool( config );
+		// the warm-up holds every connection until all are open, so
+		// this connection is obtained once the pool is warm
+		test( context, reactivePool.getConnection().thenCompose(
+				connection -> connection.select( "select count(*) from pg_stat_activity where datname = current_database()" )
+						.thenAccept( rows -> assertThat( (Long) rows.next()[0] ).isGreaterThanOrEqualTo( 3L ) )
+						.thenCompose( v -> connection.close() )
+		) );
+	}
+
+	@Test
+	public void configureWithMinIdle(TestContext context) {
+		String url = DatabaseConfiguration.getJdbcUrl();
+		Map<String,Object> config = new HashMap<>();
+		config.put( Settings.URL, url );
+		config.put( Settings.POOL_SIZE, "3" );
+		config.put( Settings.POOL_MIN_IDLE, "3" );
+		config.put( Settings.POOL_CLEANER_PERIOD, "100" );
+		config.put( Settings.SQL_STATISTICS, "true" );
+		// counts the connections opened by the pool
+		SqlExecutionStatisticsImpl statistics = new SqlExecutionStatisticsImpl();
+		statistics.configure( config );
+		registryRule.addService( SqlExecutionStatisticsImplementor.class, statistics );
+		ReactiveConnectionPool reactivePool = configureAndStartPool( config );
+
+		ReactiveConnection[] connections = new ReactiveConnection[3];
+		Object[] pids = new Object[3];
+		test( context, CompletableFuture
+				.allOf(
+						backendPid( reactivePool, connections, pids, 0 ),
+						backendPid( reactivePool, connections, pids, 1 ),
+						backendPid( reactivePool, connections, pids, 2 )
+				)
+				.thenCompose( v -> connections[1].close() )
+				.thenCompose( v -> connections[2].close() )
+				// close two of the connections, leaving a single idle one
+				.thenCompose( v -> connections[0].select(
+						"select pg_terminate_backend(" + pids[1] + "), pg_terminate_backend(" + pids[2] + ")"
+				) )
+				.thenCompose( v -> connections[0].close() )
+				.thenCompose( v -> CompletableFuture.runAsync( () -> {}, CompletableFuture.delayedExecutor( 1, TimeUnit.SECONDS ) ) )
+				// the pool must have replaced both closed connections
+				.thenAccept( v -> assertThat( statistics.getPreparedStatementCacheStatistics().getConnectionCount() )
+						.isEqualTo( 5L ) )
+		);
+	}
+
+	private static CompletableFuture<Void> backendPid(
+			ReactiveConnectionPool reactivePool,
+			ReactiveConnection[] connections,
+			Object[] pids,
+			int index) {
+		return reactivePool.getConnection()
+				.thenCompose( connection -> {
+					connections[index] = connection;
+					return connection.select( "select pg_backend_pid()" );
+				} )
+				.thenAccept( rows -> pids[index] = rows.next()[0] )
+				.toCompletableFuture();
+	}
+
+	@Test
+	public void configureWithEventLoopShards(TestContext context) {
+		String url = DatabaseConfiguration.getJdbcUrl();
+		Map<String,Object> config = new HashMap<>();
+		config.put( Settings.URL, url );
+		config.put( Settings.POOL_SIZE, "2" );
+		config.put( Settings.POOL_EVENT_LOOP_SHARDS, "2" );
+		ReactiveConnectionPool reactivePool = configureAndStartPool( config );
+		// the local shard holds one connection, so the second one must
+		// be borrowed from the other shard
+		test( context, reactivePool.getConnection().thenCompose(
+				first -> verifyConnectivity( context, reactivePool )
+						.thenCompose( v -> first.close() )
+		) );
+	}
+
+	@Test
+	public void configureWithEventLoopShardsOfUnevenSize(TestContext context) {
+		String url = DatabaseConfiguration.getJdbcUrl();
+		Map<String,Object> config = new HashMap<>();
+		config.put( Settings.URL, url );
+		config.put( Settings.POOL_SIZE, "5" );
+		config.put( Settings.POOL_EVENT_LOOP_SHARDS, "3" );
+		config.put( Settings.POOL_WARM_UP_SIZE, "5" );
+		config.put( Settings.SQL_STATISTICS, "true" );
+		// counts the connections opened by the pool
+		SqlExecutionStatisticsImpl statistics = new SqlExecutionStatisticsImpl();
+		statistics.configure( config );
+		registryRule.addService( SqlExecutionStatisticsImplementor.class, statistics );
+		configureAndStartPool( config );
+		// the shards hold two, two, and one connections, all opened
+		// by the warm-up
+		test( context, CompletableFuture
+				.runAsync( () -> {}, CompletableFuture.delayedExecutor( 1, TimeUnit.SECONDS ) )
+				.thenAccept( v -> assertThat( statistics.getPreparedStatementCacheStatistics().getConnectionCount() )
+						.isEqualTo( 5L ) )
+		);
+	}
+
+	@Test
+	public void configureWithMoreEventLoopShardsThanConnections(TestContext context) {
+		String url = DatabaseConfiguration.getJdbcUrl();
+		Map<String,Object> config = new HashMap<>();
+		config.put( Settings.URL, url );
+		config.put( Settings.POOL_SIZE, "2" );
+		config.put( Settings.POOL_EVENT_LOOP_SHARDS, "4" );
+		config.put( Settings.POOL_WARM_UP_SIZE, "2" );
+		config.put( Settings.SQL_STATISTICS, "true" );
+		SqlExecutionStatisticsImpl statistics = new SqlExecutionStatisticsImpl();
+		statistics.configure( config );
+		registryRule.addService( SqlExecutionStatisticsImplementor.class, statistics );
+		ReactiveConnectionPool reactivePool = configureAndStartPool( config );
+		// only two shards, of one connection each
+		test( context, CompletableFuture
+				.runAsync( () -> {}, CompletableFuture.delayedExecutor( 1, TimeUnit.SECONDS ) )
+				.thenAccept( v -> assertThat( statistics.getPreparedStatementCacheStatistics().getConnectionCount() )
+						.isEqualTo( 2L ) )
+				.thenCompose( v -> verifyConnectivity( context, reactivePool ) )
+		);
+	}
+
 	private CompletionStage<Void> verifyConnectivity(TestContext context, ReactiveConnectionPool reactivePool) {
 		return reactivePool.getConnection().thenCompose(
 				connection -> connection.select( "SELECT 1" )
@@ -18,6 +18,10 @@
 import org.hibernate.engine.jdbc.env.spi.NameQualifierSupport;
 import org.hibernate.engine.jdbc.env.spi.QualifiedObjectNameFormatter;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.reactive.stat.impl.SqlExecutionStatisticsImpl;
+import org.hibernate.reactive.stat.spi.SqlExecutionStatisticsImplementor;
+import org.hibernate.reactive.tracing.ReactiveTracer;
+import org.hibernate.reactive.tracing.impl.NoopTracer;
 import org.hibernate.reactive.vertx.VertxInstance;
 import org.hibernate.reactive.vertx.impl.ProvidedVertxInstance;
 import org.hibernate.service.Service;
@@ -64,6 +68,8 @@ private static class Registry implements ServiceRegistryImplementor {
 
 		public Registry(Vertx vertx) {
 			add( VertxInstance.class, new ProvidedVertxInstance( vertx ) );
+			add( SqlExecutionStatisticsImplementor.class, SqlExecutionStatisticsImpl.DISABLED );
+			add( ReactiveTracer.class, NoopTracer.INSTANCE );
 			add( JdbcEnvironment.class, new JdbcEnvironment() {
 
 				@Override
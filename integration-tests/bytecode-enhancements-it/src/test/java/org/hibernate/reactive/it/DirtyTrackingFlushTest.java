@@ -0,0 +1,84 @@
+/* Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright: Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.reactive.it;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.ext.unit.TestContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test that a flush only writes the entities which bytecode-enhanced
+ * dirty tracking reports as dirty, without losing unfetched lazy fields.
+ */
+public class DirtyTrackingFlushTest extends BaseReactiveIT {
+	@Override
+	protected Collection<Class<?>> annotatedEntities() {
+		return List.of( Crew.class );
+	}
+
+	@After
+	public void cleanDb(TestContext context) {
+		test( context, deleteEntities( Crew.class ) );
+	}
+
+	@Test
+	public void testFlushDirtyEntity(TestContext context) {
+		final Crew emily = crew( 31L, "Emily Jackson", "Passenger", "Unknown" );
+		final Crew bob = crew( 32L, "Bob Jackson", "Passenger", "Unknown" );
+
+		test( context, getMutinySessionFactory()
+				.withTransaction( session -> session.persistAll( emily, bob ) )
+				.chain( () -> getMutinySessionFactory()
+						.withTransaction( session -> session
+								.createQuery( "from Crew order by id", Crew.class )
+								.getResultList()
+								// the lazy fields are never fetched
+								.invoke( crews -> crews.get( 0 ).setName( "Emily Smith" ) ) ) )
+				.chain( () -> getMutinySessionFactory()
+						.withSession( session -> session
+								.createQuery( "select c.name, c.role, c.fate from Crew c order by c.id", Object[].class )
+								.getResultList() ) )
+				.invoke( rows -> {
+					assertThat( rows.get( 0 ) ).containsExactly( "Emily Smith", "Passenger", "Unknown" );
+					assertThat( rows.get( 1 ) ).containsExactly( "Bob Jackson", "Passenger", "Unknown" );
+				} )
+		);
+	}
+
+	@Test
+	public void testFlushDirtyLazyField(TestContext context) {
+		final Crew emily = crew( 33L, "Emily Jackson", "Passenger", "Unknown" );
+
+		test( context, getMutinySessionFactory()
+				.withTransaction( session -> session.persist( emily ) )
+				.chain( () -> getMutinySessionFactory()
+						.withTransaction( session -> session
+								.find( Crew.class, emily.getId() )
+								// set the lazy field without fetching it
+								.invoke( crew -> crew.setFate( "Saved" ) ) ) )
+				.chain( () -> getMutinySessionFactory()
+						.withSession( session -> session
+								.createQuery( "select c.name, c.role, c.fate from Crew c", Object[].class )
+								.getSingleResult() ) )
+				.invoke( row -> assertThat( row ).containsExactly( "Emily Jackson", "Passenger", "Saved" ) )
+		);
+	}
+
+	private static Crew crew(Long id, String name, String role, String fate) {
+		final Crew crew = new Crew();
+		crew.setId( id );
+		crew.setName( name );
+		crew.setRole( role );
+		crew.setFate( fate );
+		return crew;
+	}
+}